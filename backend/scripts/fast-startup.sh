@@ -0,0 +1,169 @@
+#!/bin/bash
+# 빠른 시작 모드 빌드/실행/측정
+#
+#   scripts/fast-startup.sh build            AOT 빌드(-Paot, target/aot) 후 CDS 아카이브 생성 (target/fast-startup)
+#   scripts/fast-startup.sh run [args...]    CDS + AOT + 지연 초기화(fast-startup 프로필)로 실행
+#   scripts/fast-startup.sh benchmark [N]    일반 실행(java -jar)과 빠른 시작 모드의 시작 시간을 N회씩 측정 (기본 5회)
+#
+# AOT 빈 정의는 prod 프로필 기준으로 생성하므로(pom.xml aot 프로필) 실행 프로필에 prod가 있어야 합니다. (기본값 prod)
+# 학습 실행과 측정은 같은 빈 구성을 만들도록 prod 프로필로 시작하고, 외부 DB 없이 실행되도록 DB 설정만 내장 H2로 바꿉니다.
+# CDS 아카이브는 학습 실행(컨텍스트 초기화 직후 종료)에서 읽은 클래스로 만들며,
+# 실행할 때의 JDK와 클래스패스(jar 파일)가 학습 때와 같아야 사용됩니다. 빌드할 때마다 다시 생성하세요.
+# 일반 실행과 같은 jar를 사용하므로(-Dspring.aot.enabled를 주지 않으면 AOT 코드를 사용하지 않음) 두 모드를 같은 빌드로 비교합니다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/aot/dsflow-1.0.0.jar
+OUT=target/fast-startup
+MAIN=com.datasolution.dsflow.DsflowApplication
+JAVA=${JAVA:-java}
+MVN=${MVN:-mvn}
+# 측정 시 두 모드에 똑같이 적용하는 설정 (로그 출력량이 시작 시간에 영향을 주지 않도록)
+COMMON_ARGS=(--server.port=0 --logging.level.root=WARN --logging.level.com.datasolution.dsflow=INFO
+             --logging.level.org.hibernate.SQL=WARN --logging.level.org.springframework.batch=WARN
+             --logging.level.org.springframework.boot.web.embedded.tomcat=INFO --spring.jpa.show-sql=false)
+# 학습 실행/측정용 DB 설정 (prod 프로필의 PostgreSQL 대신 내장 H2)
+EMBEDDED_DB_ARGS=(--spring.datasource.url="jdbc:h2:mem:dsflow;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+                  --spring.datasource.driver-class-name=org.h2.Driver --spring.datasource.username=sa
+                  --spring.datasource.password= --spring.jpa.database-platform=org.hibernate.dialect.H2Dialect)
+# 측정 시 등록된 빈 목록을 비교하기 위해 beans 엔드포인트를 추가로 노출
+MEASURE_ARGS=("${COMMON_ARGS[@]}" "${EMBEDDED_DB_ARGS[@]}" --management.endpoints.web.exposure.include=health,info,metrics,beans)
+PROFILES=${SPRING_PROFILES_ACTIVE:-prod}
+
+fast_java_opts() {
+    echo "-XX:SharedArchiveFile=$OUT/app.jsa -Xshare:auto -Dspring.aot.enabled=true"
+}
+
+with_fast_profile() {
+    echo "--spring.profiles.active=${PROFILES},fast-startup"
+}
+
+require_prod_profile() {
+    [[ ",${PROFILES}," == *,prod,* ]] || {
+        echo "AOT 빈 정의는 prod 프로필 기준입니다. SPRING_PROFILES_ACTIVE에 prod를 포함하세요. (현재: ${PROFILES})"; exit 1; }
+}
+
+build() {
+    require_prod_profile
+    $MVN -B -q -Paot package -DskipTests
+
+    # 중첩 jar는 CDS 대상이 아니므로 풀어서 일반 클래스패스(application.jar + lib/*.jar)로 실행
+    rm -rf "$OUT" && mkdir -p "$OUT/extracted" "$OUT/lib"
+    (cd "$OUT/extracted" && jar xf "../../../$JAR")
+    jar cf "$OUT/application.jar" -C "$OUT/extracted/BOOT-INF/classes" .
+    cp "$OUT"/extracted/BOOT-INF/lib/*.jar "$OUT/lib/"
+    # 클래스패스 순서는 jar의 classpath.idx를 따름 (학습/실행 때 같은 순서여야 아카이브를 사용)
+    {
+        printf '%s' "$OUT/application.jar"
+        sed -e 's/^- "BOOT-INF\/lib\//:'"${OUT//\//\\/}"'\/lib\//' -e 's/"$//' "$OUT/extracted/BOOT-INF/classpath.idx" | tr -d '\n'
+    } > "$OUT/classpath"
+    rm -rf "$OUT/extracted"
+
+    echo "CDS 학습 실행..."
+    "$JAVA" -XX:ArchiveClassesAtExit="$OUT/app.jsa" -Xlog:cds=error -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+        -cp "$(cat "$OUT/classpath")" "$MAIN" "$(with_fast_profile)" "${COMMON_ARGS[@]}" "${EMBEDDED_DB_ARGS[@]}" > "$OUT/training.log" 2>&1 || {
+        echo "학습 실행 실패: $OUT/training.log"; exit 1; }
+    echo "생성 완료: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f1))"
+}
+
+run() {
+    require_prod_profile
+    [ -f "$OUT/app.jsa" ] || { echo "먼저 'scripts/fast-startup.sh build'를 실행하세요."; exit 1; }
+    # shellcheck disable=SC2046
+    exec "$JAVA" $(fast_java_opts) ${JAVA_OPTS:-} -cp "$(cat "$OUT/classpath")" "$MAIN" "$(with_fast_profile)" "$@"
+}
+
+# 한 번 시작하여 "process running for" 시간(JVM 시작부터 준비 완료까지, 초)과 등록된 스케줄러 지표 목록을 출력
+# 등록된 빈 이름 목록은 beans 파일에 저장 (지연 초기화 대상 중 아직 생성되지 않은 빈은 목록에 없음)
+measure_once() {
+    local log=$1 beans=$2; shift 2
+    "$@" > "$log" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1 300); do
+        grep -q "Started DsflowApplication\|APPLICATION FAILED" "$log" && break
+        sleep 0.2
+    done
+    local seconds port metrics=""
+    seconds=$(grep -o "process running for [0-9.]*" "$log" | awk '{print $4}')
+    port=$(grep -o "Tomcat started on port [0-9]*" "$log" | awk '{print $5}')
+    if [ -n "$port" ]; then
+        metrics=$(curl -s "localhost:$port/api/actuator/metrics" | grep -o '"dsflow\.scheduler[^"]*"' | sort | tr -d '"' | tr '\n' ' ')
+        curl -s "localhost:$port/api/actuator/beans" | grep -o '"[^"]*":{"aliases"' | sed 's/":{"aliases"$//; s/^"//' | sort > "$beans"
+    else
+        : > "$beans"
+    fi
+    kill "$pid" 2>/dev/null; wait "$pid" 2>/dev/null || true
+    echo "${seconds:-FAILED}|${metrics}"
+}
+
+benchmark() {
+    local runs=${1:-5}
+    [ -f "$OUT/app.jsa" ] || build
+    require_prod_profile
+    local log="$OUT/benchmark.log"
+    declare -A times schedulers
+    for mode in default fast-startup; do
+        times[$mode]=""
+        for i in $(seq 1 "$runs"); do
+            local result
+            if [ "$mode" = default ]; then
+                result=$(measure_once "$log" "$OUT/beans-$mode.txt" "$JAVA" -jar "$JAR" \
+                    "--spring.profiles.active=${PROFILES}" "${MEASURE_ARGS[@]}")
+            else
+                # shellcheck disable=SC2046
+                result=$(measure_once "$log" /dev/null "$JAVA" $(fast_java_opts) -cp "$(cat "$OUT/classpath")" "$MAIN" \
+                    "$(with_fast_profile)" "${MEASURE_ARGS[@]}")
+            fi
+            times[$mode]+="${result%%|*} "
+            schedulers[$mode]=${result#*|}
+            echo "$mode #$i: ${result%%|*}s"
+        done
+    done
+
+    echo
+    printf '%-14s %10s %10s   %s\n' "mode" "median(s)" "min(s)" "runs"
+    for mode in default fast-startup; do
+        # shellcheck disable=SC2086
+        printf '%-14s %10s %10s   %s\n' "$mode" \
+            "$(printf '%s\n' ${times[$mode]} | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')" \
+            "$(printf '%s\n' ${times[$mode]} | sort -n | head -1)" "${times[$mode]}"
+    done
+    echo
+    local failed=0
+    # AOT 빈 정의가 실행 시 평가한 빈 구성과 같은지 확인 (AOT 빌드와 실행 프로필의 조건 평가가 다르면 빈이 빠지거나 더해짐)
+    # 지연 초기화하면 생성되지 않은 빈이 목록에 나오지 않으므로 AOT만 적용하여 한 번 더 시작해 비교
+    # shellcheck disable=SC2046
+    measure_once "$log" "$OUT/beans-aot.txt" "$JAVA" $(fast_java_opts) -cp "$(cat "$OUT/classpath")" "$MAIN" \
+        "--spring.profiles.active=${PROFILES}" "${MEASURE_ARGS[@]}" > /dev/null
+    # 클래스 스캔용 빈(internalCachingMetadataReaderFactory)은 AOT 실행에서 필요 없으므로 제외
+    local only_default only_aot
+    only_default=$(comm -23 "$OUT/beans-default.txt" "$OUT/beans-aot.txt" | grep -v 'internalCachingMetadataReaderFactory$' || true)
+    only_aot=$(comm -13 "$OUT/beans-default.txt" "$OUT/beans-aot.txt")
+    if [ ! -s "$OUT/beans-default.txt" ] || [ ! -s "$OUT/beans-aot.txt" ]; then
+        echo "빈 목록 조회 실패: $log"; failed=1
+    elif [ -z "$only_default$only_aot" ]; then
+        echo "빈 구성 일치: $(wc -l < "$OUT/beans-default.txt")개"
+    else
+        echo "빈 구성 불일치"
+        [ -n "$only_default" ] && printf '  default에만 있음: %s\n' $only_default
+        [ -n "$only_aot" ] && printf '  AOT에만 있음:     %s\n' $only_aot
+        failed=1
+    fi
+    # 스케줄러 빈이 시작 시 생성되었는지 확인 (지연 초기화 대상이면 지표가 등록되지 않음)
+    if [ "${schedulers[default]}" = "${schedulers[fast-startup]}" ] && [ -n "${schedulers[default]}" ]; then
+        echo "스케줄러 지표 일치: ${schedulers[default]}"
+    else
+        echo "스케줄러 지표 불일치"
+        echo "  default:      ${schedulers[default]}"
+        echo "  fast-startup: ${schedulers[fast-startup]}"
+        failed=1
+    fi
+    [ "$failed" = 0 ] || exit 1
+}
+
+case "${1:-}" in
+    build) build ;;
+    run) shift; run "$@" ;;
+    benchmark) shift; benchmark "$@" ;;
+    *) sed -n '2,11p' "$0" | sed 's/^# \{0,1\}//'; exit 1 ;;
+esac
@@ -0,0 +1,139 @@
+package com.datasolution.dsflow.execution.sink;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 적재 방식 처리량 비교
+ *
+ * 같은 행 데이터를 행 단위 INSERT, JDBC 배치 INSERT(BATCH), COPY 방식으로 적재합니다. 모든 방식은 batchSize 행마다 커밋합니다.
+ * 기본은 H2 메모리 DB이며, PostgreSQL에서 측정하려면 접속 정보를 파라미터로 지정합니다. (H2에서는 COPY 대신 BATCH)
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ResultSinkBenchmark -p jdbcUrl=jdbc:postgresql://localhost:5432/dsflow?reWriteBatchedInserts=true -p username=dsflow -p password=..."
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultSinkBenchmark {
+
+    private static final String TABLE = "sink_benchmark_rows";
+    private static final List<String> COLUMNS = List.of("call_ordinal", "region_code", "item_name", "amount", "deal_date");
+
+    @Param("jdbc:h2:mem:sink_benchmark;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    @Param("20000")
+    public int rows;
+
+    @Param("1000")
+    public int batchSize;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private BulkLoader bulkLoader;
+    private List<Object[]> data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl, username, password);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        bulkLoader = new BulkLoader(jdbcTemplate, transactionManager, dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "call_ordinal BIGINT NOT NULL, region_code VARCHAR(20), item_name VARCHAR(200), "
+                + "amount NUMERIC(18, 2), deal_date DATE)");
+        data = generateRows(rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("DELETE FROM " + TABLE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+        if (count == null || count != rows) {
+            throw new IllegalStateException(String.format("적재 건수 불일치: %d / %d", count, rows));
+        }
+        jdbcTemplate.execute("DROP TABLE " + TABLE);
+    }
+
+    /**
+     * 행마다 INSERT 문을 실행 (batchSize 행마다 커밋)
+     */
+    @Benchmark
+    public void rowByRow() {
+        String sql = "INSERT INTO " + TABLE + " (" + String.join(", ", COLUMNS) + ") VALUES (?, ?, ?, ?, ?)";
+        for (int from = 0; from < data.size(); from += batchSize) {
+            List<Object[]> chunk = data.subList(from, Math.min(from + batchSize, data.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(row -> jdbcTemplate.update(sql, row)));
+        }
+    }
+
+    @Benchmark
+    public void batch() {
+        loadInChunks(BulkLoader.Mode.BATCH);
+    }
+
+    @Benchmark
+    public void copy() {
+        loadInChunks(BulkLoader.Mode.COPY);
+    }
+
+    private void loadInChunks(BulkLoader.Mode mode) {
+        for (int from = 0; from < data.size(); from += batchSize) {
+            bulkLoader.load(TABLE, COLUMNS, data.subList(from, Math.min(from + batchSize, data.size())), mode);
+        }
+    }
+
+    private static List<Object[]> generateRows(int rows) {
+        List<Object[]> data = new ArrayList<>(rows);
+        LocalDate baseDate = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            data.add(new Object[]{
+                    (long) i,
+                    String.format("%05d", 11110 + (i % 250) * 10),
+                    "아파트 \"" + (i % 997) + "단지\", 101동",
+                    BigDecimal.valueOf(50_000 + (i * 37L) % 150_000, 0),
+                    baseDate.plusDays(i % 365)
+            });
+        }
+        return data;
+    }
+}
@@ -0,0 +1,100 @@
+package com.datasolution.dsflow.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * cron 실행 시각 계산 성능
+ *
+ * 자주 쓰는 형태의 표현식마다 CompiledCron의 다음/이전 실행 시각 계산을 연속으로 반복하여(직전 결과에서 다시 계산)
+ * 1회당 소요 시간을 측정합니다. 비교를 위해 같은 표현식을 Spring CronExpression으로 계산한 시간도 함께 측정합니다.
+ * (Spring이 지원하지 않는 표현식은 springNext를 건너뜀)
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CompiledCronBenchmark"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledCronBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZONE);
+
+    @Param({
+            "0 0 2 * * ?",
+            "0 */15 9-18 ? * MON-FRI",
+            "30 10 6 1,15 * ?",
+            "0 0 12 L * ?",
+            "0 0 9 LW * ?",
+            "0 0 9 15W * ?",
+            "0 30 8 ? * FRI#3"})
+    public String expression;
+
+    private CompiledCron cron;
+    private CronExpression spring;
+    private ZonedDateTime next;
+    private ZonedDateTime previous;
+    private ZonedDateTime springNext;
+
+    @Setup
+    public void setUp() {
+        cron = CompiledCron.compile(expression);
+        spring = parseSpring(expression);
+        next = START;
+        previous = START;
+        springNext = START;
+    }
+
+    @Benchmark
+    public ZonedDateTime next() {
+        ZonedDateTime result = cron.nextFireTime(next);
+        next = result == null ? START : result;
+        return result;
+    }
+
+    @Benchmark
+    public ZonedDateTime previous() {
+        ZonedDateTime result = cron.previousFireTime(previous);
+        previous = result == null ? START : result;
+        return result;
+    }
+
+    @Benchmark
+    public ZonedDateTime springNext() {
+        if (spring == null) {
+            return null;
+        }
+        ZonedDateTime result = spring.next(springNext);
+        springNext = result == null ? START : result;
+        return result;
+    }
+
+    /**
+     * Quartz 형식 표현식을 Spring 형식으로 읽습니다. 측정용 표현식은 요일을 이름으로만 쓰므로 두 형식의 의미가 같습니다.
+     */
+    private static CronExpression parseSpring(String expression) {
+        try {
+            return CronExpression.parse(expression);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
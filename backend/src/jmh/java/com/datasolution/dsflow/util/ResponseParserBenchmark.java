@@ -0,0 +1,162 @@
+package com.datasolution.dsflow.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 파싱 방식 처리량 비교
+ *
+ * 같은 내용의 공공데이터 형식 응답(response.body.items.item)을 JSON 트리 파싱과 XML 스트리밍(StAX) 파싱으로 읽어
+ * 레코드마다 적재 설정에 매핑된 필드 값을 꺼냅니다. (XML은 레코드 객체를 만드는 방식과 값 배열에 바로 담는 방식) 결과는 응답 1건 처리 시간이며, 레코드당 할당량은 -prof gc로 확인합니다.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ResponseParserBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParserBenchmark {
+
+    private static final String ITEM_PATH = "response.body.items.item";
+    private static final List<String> FIELDS = List.of("거래금액", "건축년도", "년", "법정동", "아파트", "월", "일", "전용면적", "지번", "지역코드", "층");
+
+    /** 응답당 레코드 수 (numOfRows) */
+    @Param("1000")
+    public int records;
+
+    /** 레코드에서 꺼낼 필드 수 (적재 설정에 매핑된 필드 수) */
+    @Param({"11", "3"})
+    public int fields;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] json;
+    private byte[] xml;
+    private RecordPath itemPath;
+    private List<RecordPath> fieldPaths;
+    private XmlRecordReader xmlReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = generateJson(records);
+        xml = generateXml(records);
+        itemPath = RecordPath.of(ITEM_PATH);
+        fieldPaths = FIELDS.subList(0, fields).stream().map(RecordPath::of).toList();
+        xmlReader = new XmlRecordReader(itemPath, fieldPaths);
+    }
+
+    /**
+     * JSON 응답: 트리로 파싱한 뒤 레코드마다 필드 경로로 값을 꺼냄
+     */
+    @Benchmark
+    public int jsonTree(Blackhole blackhole) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(json)) {
+            List<JsonNode> nodes = itemPath.records(objectMapper.readTree(in));
+            for (JsonNode record : nodes) {
+                for (RecordPath field : fieldPaths) {
+                    blackhole.consume(field.value(record));
+                }
+            }
+            return nodes.size();
+        }
+    }
+
+    /**
+     * XML 응답: 레코드마다 매핑된 필드만 JsonNode로 만든 뒤 필드 경로로 값을 꺼냄
+     */
+    @Benchmark
+    public int xmlRecords(Blackhole blackhole) throws Exception {
+        try (InputStream in = new ByteArrayInputStream(xml)) {
+            return xmlReader.forEach(in, record -> {
+                for (RecordPath field : fieldPaths) {
+                    blackhole.consume(field.value(record));
+                }
+            });
+        }
+    }
+
+    /**
+     * XML 응답: 레코드 객체 없이 매핑된 필드 값을 배열에 바로 담음 (DB 적재 경로)
+     */
+    @Benchmark
+    public int xmlRows(Blackhole blackhole) throws Exception {
+        try (InputStream in = new ByteArrayInputStream(xml)) {
+            return xmlReader.forEachRow(in, values -> {
+                for (Object value : values) {
+                    blackhole.consume(value);
+                }
+            });
+        }
+    }
+
+    private byte[] generateJson(int count) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        ObjectNode header = response.putObject("header");
+        header.put("resultCode", "00");
+        header.put("resultMsg", "NORMAL SERVICE.");
+        ObjectNode body = response.putObject("body");
+        ArrayNode items = body.putObject("items").putArray("item");
+        for (int i = 0; i < count; i++) {
+            ObjectNode item = items.addObject();
+            String[] values = values(i);
+            for (int f = 0; f < FIELDS.size(); f++) {
+                item.put(FIELDS.get(f), values[f]);
+            }
+        }
+        body.put("numOfRows", count);
+        body.put("pageNo", 1);
+        body.put("totalCount", count);
+        return objectMapper.writeValueAsBytes(root);
+    }
+
+    private static byte[] generateXml(int count) {
+        StringBuilder xml = new StringBuilder(count * 400);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+                .append("<body><items>");
+        for (int i = 0; i < count; i++) {
+            String[] values = values(i);
+            xml.append("<item>");
+            for (int f = 0; f < FIELDS.size(); f++) {
+                xml.append('<').append(FIELDS.get(f)).append('>').append(values[f])
+                        .append("</").append(FIELDS.get(f)).append('>');
+            }
+            xml.append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(count).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(count).append("</totalCount></body></response>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String[] values(int i) {
+        return new String[]{
+                String.format("%,10d", 50_000 + (i * 37) % 150_000), String.valueOf(1990 + i % 34), "2024",
+                " 역삼동", "래미안" + (i % 97) + "차", String.valueOf(1 + i % 12), String.valueOf(1 + i % 28),
+                String.format("%.2f", 59 + (i % 60) * 0.5), String.valueOf(100 + i % 900), "11680", String.valueOf(1 + i % 30)
+        };
+    }
+}
@@ -2,26 +2,15 @@ package com.datasolution.dsflow;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableScheduling
 public class DsflowApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(DsflowApplication.class, args);
     }
-
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
-    }
-
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
 } 
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.datasolution.dsflow.batch.config;
 
-import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
@@ -8,8 +7,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+/**
+ * Spring Batch 설정
+ *
+ * @EnableBatchProcessing을 사용하면 Spring Boot의 Batch 자동 구성(메타데이터 테이블 초기화 포함)이 비활성화되므로
+ * 자동 구성을 그대로 사용하고, 요청 스레드를 막지 않는 비동기 JobLauncher만 추가로 등록합니다.
+ */
 @Configuration
-@EnableBatchProcessing
 public class BatchConfig {
 
     @Bean
@@ -0,0 +1,40 @@
+package com.datasolution.dsflow.batch.job;
+
+import com.datasolution.dsflow.batch.listener.ApiCallJobListener;
+import com.datasolution.dsflow.batch.tasklet.ApiCallTasklet;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API 호출 Job 구성
+ *
+ * Step은 리액티브 파이프라인을 구동하는 Tasklet 하나로 구성됩니다.
+ * 호출 결과 저장은 파이프라인 안에서 별도 트랜잭션으로 처리하므로 Step 자체는 트랜잭션을 사용하지 않습니다.
+ */
+@Configuration
+public class ApiCallJobConfig {
+
+    public static final String JOB_NAME = "apiCallJob";
+    public static final String STEP_NAME = "apiCallStep";
+
+    @Bean
+    public Job apiCallJob(JobRepository jobRepository, Step apiCallStep, ApiCallJobListener apiCallJobListener) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(apiCallJobListener)
+                .start(apiCallStep)
+                .build();
+    }
+
+    @Bean
+    public Step apiCallStep(JobRepository jobRepository, ApiCallTasklet apiCallTasklet) {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .tasklet(apiCallTasklet, new ResourcelessTransactionManager())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.datasolution.dsflow.batch.listener;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.execution.ExecutionControl;
+import com.datasolution.dsflow.execution.ExecutionLogWriter;
+import com.datasolution.dsflow.execution.ExecutionProgress;
+import com.datasolution.dsflow.execution.ExecutionRegistry;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.service.ApiQuotaService;
+import com.datasolution.dsflow.service.JobStatisticsService;
+import com.datasolution.dsflow.service.SimulationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * API 호출 Job 실행 로그 관리
+ *
+ * Job 시작 시 실행 로그를 생성(조정 노드는 이 노드)하고 실행 목록에 등록하며,
+ * 종료 시 최종 상태와 처리 건수(시뮬레이션이면 시뮬레이션 결과도)를 기록하고 사용하지 않은 호출 한도 예약을 해제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiCallJobListener implements JobExecutionListener {
+
+    public static final String LAUNCH_ID = "launchId";
+
+    private final ExecutionRegistry registry;
+    private final JobExecutionLogRepository logRepository;
+    private final ExecutionLogWriter logWriter;
+    private final ApiQuotaService quotaService;
+    private final SimulationService simulationService;
+    private final JobStatisticsService statisticsService;
+    private final ClusterProperties clusterProperties;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String launchId = jobExecution.getJobParameters().getString(LAUNCH_ID);
+        ExecutionRegistry.PendingLaunch pending = registry.takePending(launchId)
+                .orElseThrow(() -> new IllegalStateException("실행 요청 정보를 찾을 수 없습니다: " + launchId));
+
+        try {
+            JobExecutionLog executionLog = logRepository.save(JobExecutionLog.builder()
+                    .jobDefinition(pending.jobDefinition())
+                    .batchJobInstanceId(jobExecution.getJobInstance().getInstanceId())
+                    .batchJobExecutionId(jobExecution.getId())
+                    .baseDate(pending.baseDate())
+                    .status(ExecutionStatus.STARTED)
+                    .priority(pending.priority())
+                    .parameters(pending.jobDefinition().getParameters())
+                    .ownerNode(clusterProperties.getNodeId())
+                    .heartbeatAt(LocalDateTime.now())
+                    .build());
+            statisticsService.recordStart(executionLog);
+
+            ExecutionContext context = new ExecutionContext(executionLog.getId(), jobExecution.getId(),
+                    pending.jobDefinition(), pending.baseDate(), pending.admission(), pending.priority(),
+                    new ExecutionControl(), new ExecutionProgress());
+            registry.start(context, pending.completion());
+            simulationService.start(context);
+            log.info("Job {} 실행 시작 (실행 ID: {}, 기준일: {}, 우선순위: {})",
+                    pending.jobDefinition().getJobCode(), jobExecution.getId(), pending.baseDate(), pending.priority());
+        } catch (RuntimeException e) {
+            // 실행 목록에 등록되지 않으면 afterJob에서 정리할 수 없으므로 여기서 정리
+            if (pending.admission() != null) {
+                quotaService.release(pending.admission().reservation());
+            }
+            pending.completion().complete(ExecutionStatus.FAILED);
+            throw e;
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        registry.finish(jobExecution.getId()).ifPresent(running -> {
+            ExecutionContext context = running.getContext();
+            ExecutionProgress progress = context.progress();
+            ExecutionStatus status = resolveStatus(jobExecution, running, progress);
+            Optional<String> simulationReport = simulationService.finish(context, status);
+            logWriter.complete(context.logId());
+
+            logRepository.findById(context.logId()).ifPresent(executionLog -> {
+                simulationReport.ifPresent(executionLog::setSimulationReport);
+                executionLog.updateCounts(toInt(progress.getProcessed()), toInt(progress.getSuccess()), toInt(progress.getFail()));
+                if (status == ExecutionStatus.COMPLETED) {
+                    executionLog.markAsCompleted();
+                } else if (status == ExecutionStatus.STOPPED) {
+                    executionLog.markAsStopped();
+                } else {
+                    executionLog.markAsFailed(failureMessage(jobExecution, progress));
+                }
+                logRepository.save(executionLog);
+                statisticsService.recordFinish(executionLog);
+            });
+
+            if (context.admission() != null) {
+                quotaService.release(context.admission().reservation());
+            }
+            running.getCompletion().complete(status);
+            log.info("Job {} 실행 종료: {} (처리 {}건, 성공 {}건, 실패 {}건)", context.jobCode(), status,
+                    progress.getProcessed(), progress.getSuccess(), progress.getFail());
+        });
+    }
+
+    private ExecutionStatus resolveStatus(JobExecution jobExecution, ExecutionRegistry.RunningExecution running,
+                                          ExecutionProgress progress) {
+        if (running.isCancelRequested() || jobExecution.getStatus() == BatchStatus.STOPPED) {
+            return ExecutionStatus.STOPPED;
+        }
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return ExecutionStatus.FAILED;
+        }
+        // 모든 호출이 실패한 경우 실패로 처리
+        if (progress.getProcessed() > 0 && progress.getSuccess() == 0) {
+            return ExecutionStatus.FAILED;
+        }
+        return ExecutionStatus.COMPLETED;
+    }
+
+    private String failureMessage(JobExecution jobExecution, ExecutionProgress progress) {
+        if (!jobExecution.getAllFailureExceptions().isEmpty()) {
+            return jobExecution.getAllFailureExceptions().stream()
+                    .map(Throwable::getMessage)
+                    .collect(Collectors.joining("\n"));
+        }
+        return String.format("모든 API 호출이 실패했습니다. (%d건)", progress.getFail());
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, value);
+    }
+}
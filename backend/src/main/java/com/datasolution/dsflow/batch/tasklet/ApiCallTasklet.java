@@ -0,0 +1,57 @@
+package com.datasolution.dsflow.batch.tasklet;
+
+import com.datasolution.dsflow.execution.ChunkCoordinator;
+import com.datasolution.dsflow.execution.ExecutionProgress;
+import com.datasolution.dsflow.execution.ExecutionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 리액티브 파이프라인을 구독하고 끝날 때까지 대기하는 Tasklet
+ *
+ * 실제 API 호출은 Netty 이벤트 루프에서 비동기로 수행되며, 이 스레드는 완료/취소 신호만 기다립니다.
+ * 작업 분할이 켜져 있으면 여러 노드가 구간을 나누어 처리하고, 이 스레드는 모든 구간이 끝날 때까지 기다립니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiCallTasklet implements Tasklet {
+
+    private final ChunkCoordinator coordinator;
+    private final ExecutionRegistry registry;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+        ExecutionRegistry.RunningExecution running = registry.find(jobExecutionId)
+                .orElseThrow(() -> new IllegalStateException("실행 정보를 찾을 수 없습니다: " + jobExecutionId));
+
+        CompletableFuture<ExecutionProgress> done = new CompletableFuture<>();
+        running.attach(coordinator.execute(running.getContext())
+                .doOnCancel(() -> done.cancel(false))
+                .subscribe(done::complete, done::completeExceptionally, () -> done.complete(running.getContext().progress())));
+
+        try {
+            ExecutionProgress progress = done.get();
+            log.info("Job {} 호출 완료: 성공 {}건, 실패 {}건",
+                    running.getContext().jobCode(), progress.getSuccess(), progress.getFail());
+        } catch (CancellationException e) {
+            log.info("Job {} 실행이 취소되었습니다.", running.getContext().jobCode());
+            stepExecution.setTerminateOnly();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,32 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기간 일괄 실행(백필) 설정 (dsflow.backfill)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.backfill")
+public class BackfillProperties {
+
+    /**
+     * 요청에 동시 실행 수가 없을 때 함께 실행할 기준일 수
+     */
+    private int parallelism = 3;
+
+    /**
+     * 요청할 수 있는 최대 동시 실행 수
+     */
+    private int maxParallelism = 16;
+
+    /**
+     * 한 번에 요청할 수 있는 최대 기간 (일)
+     */
+    private int maxDays = 1100;
+
+    /**
+     * 종료된 백필 결과를 조회용으로 보관하는 개수 (이 노드 메모리)
+     */
+    private int keepFinished = 50;
+}
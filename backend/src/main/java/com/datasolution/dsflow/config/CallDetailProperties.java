@@ -0,0 +1,57 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 호출별 실행 상세 기록 설정 (dsflow.call-detail)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.call-detail")
+public class CallDetailProperties {
+
+    public enum PartitionUnit {
+        DAY,
+        MONTH
+    }
+
+    /**
+     * 조합별 호출 결과(순번, 상태, 응답 시간, 크기, 오류 종류) 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 파티션 단위 (바꾸면 새로 만드는 파티션부터 적용)
+     */
+    private PartitionUnit partitionUnit = PartitionUnit.DAY;
+
+    /**
+     * 보관 기간 (일). 모든 행이 보관 기간을 지난 파티션을 통째로 삭제
+     */
+    private int retentionDays = 14;
+
+    /**
+     * 파티션 생성/삭제 주기 (cron)
+     */
+    private String maintenanceCron = "0 10 0 * * ?";
+
+    /**
+     * 미리 만들어 둘 다음 파티션 수
+     */
+    private int precreatePartitions = 2;
+
+    /**
+     * 모아 둔 호출 결과를 적재하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * 모인 호출 결과가 이 수에 이르면 주기를 기다리지 않고 적재
+     */
+    private int flushBatchSize = 5000;
+
+    /**
+     * 적재 대기 최대 건수. 넘으면 새 호출 결과는 기록하지 않음 (호출 스레드가 기다리지 않도록)
+     */
+    private int maxPending = 200_000;
+}
@@ -0,0 +1,83 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+
+/**
+ * 여러 노드의 실행 분담 설정 (dsflow.cluster)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.cluster")
+public class ClusterProperties {
+
+    /**
+     * 노드 ID. 비어 있으면 "호스트명-PID"
+     */
+    private String nodeId;
+
+    /**
+     * @ClusterLocked 스케줄 작업을 노드 간 잠금으로 1곳에서만 실행할지 여부 (단일 노드면 꺼도 됨)
+     */
+    private boolean schedulerLock = true;
+
+    /**
+     * 조합이 많은 실행을 구간으로 나누어 여러 노드가 함께 처리할지 여부
+     */
+    private boolean workSharing = false;
+
+    /**
+     * 구간 1개의 조합 수. 이보다 조합이 적은 실행은 나누지 않음
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 임대 유지 시간 (초). 이 시간 동안 갱신이 없으면 다른 노드가 구간을 가져감
+     */
+    private int leaseSeconds = 60;
+
+    /**
+     * 임대 연장 주기 (밀리초). leaseSeconds보다 충분히 짧게 설정
+     */
+    private long heartbeatIntervalMs = 10_000;
+
+    /**
+     * 대기 중인 구간 확인 주기 (밀리초)
+     */
+    private long pollIntervalMs = 5_000;
+
+    /**
+     * 노드당 동시에 처리할 최대 구간 수
+     */
+    private int maxConcurrentChunks = 2;
+
+    /**
+     * 구간당 최대 임대 횟수. 초과하면 구간을 실패 처리
+     */
+    private int maxChunkAttempts = 3;
+
+    /**
+     * 처리 자리가 없을 때 더 급한 우선순위의 구간이 대기 중이면, 덜 급한 구간 1개를 체크포인트에서 멈추고 자리를 양보할지 여부
+     */
+    private boolean preemption = true;
+
+    public String getNodeId() {
+        return nodeId != null && !nodeId.isBlank() ? nodeId : DefaultNodeId.VALUE;
+    }
+
+    private static final class DefaultNodeId {
+        private static final String VALUE = resolve();
+
+        private static String resolve() {
+            String host;
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                host = "unknown";
+            }
+            return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.datasolution.dsflow.config;
+
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Job 실행 파이프라인 설정 (dsflow.execution)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.execution")
+public class ExecutionProperties {
+
+    /**
+     * 결과 저장 단계가 미리 받아 둘 수 있는 최대 호출 결과 수 (초과 시 API 호출 단계가 대기)
+     */
+    private int sinkPrefetch = 32;
+
+    /**
+     * 일시정지/취소 시 진행 중인 호출을 마칠 때까지 기다리는 최대 시간 (밀리초)
+     * 넘기면 진행 중인 호출을 취소합니다. (일시정지는 재개 후 다시 호출, 취소는 즉시 중단)
+     */
+    private long drainTimeoutMs = 10_000;
+
+    /**
+     * 실행 로그의 처리 건수/상태 변경을 모아 반영하는 주기 (밀리초)
+     */
+    private long progressFlushIntervalMs = 2000;
+
+    /**
+     * 반영 대기 중인 실행 로그가 이 수에 이르면 주기를 기다리지 않고 반영
+     */
+    private int progressFlushBatchSize = 500;
+
+    /**
+     * 실행 로그 resultData 컬럼에 저장할 최대 문자 수
+     */
+    private int resultDataMaxChars = 1_000_000;
+
+    /**
+     * 호출 결과 저장 방식
+     */
+    private ResultSinkType resultSink = ResultSinkType.FILE;
+
+    /**
+     * 결과 파일 저장 경로 ({resultDir}/{jobCode}/{baseDate}/{실행 로그 ID}/)
+     */
+    private String resultDir = "./data/results";
+
+    /**
+     * 결과 파일 1개에 담을 최대 크기 (압축 전, MB). 초과하면 다음 파일로 넘어감
+     */
+    private int chunkMaxSizeMb = 64;
+
+    /**
+     * 결과 파일 1개에 담을 최대 결과 수
+     */
+    private int chunkMaxRecords = 50_000;
+}
@@ -0,0 +1,89 @@
+package com.datasolution.dsflow.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정
+ *
+ * 모든 Job 실행과 코드 동기화 작업이 하나의 커넥션 풀을 공유합니다.
+ * 커넥션 풀은 호스트(원격 주소)별로 분리되며, 연결을 재사용하여 매 요청마다 TCP/TLS 핸드셰이크를 하지 않습니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final String POOL_NAME = "dsflow-external-api";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalApiConnectionProvider(HttpClientProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(properties.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(properties.getEvictIntervalMs()))
+                .metrics(properties.isMetrics());
+
+        properties.getHostMaxConnections().forEach((host, maxConnections) -> {
+            for (InetSocketAddress address : remoteAddresses(host)) {
+                builder.forRemoteHost(address, spec -> spec.maxConnections(maxConnections));
+            }
+        });
+        return builder.build();
+    }
+
+    @Bean
+    public HttpClient externalApiHttpClient(ConnectionProvider externalApiConnectionProvider,
+                                            HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(externalApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(properties.getResponseTimeoutSeconds()))
+                .compress(properties.isCompression());
+
+        if (properties.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        if (properties.isMetrics()) {
+            // 쿼리 문자열(서비스키, 파라미터 값)이 지표 태그에 들어가지 않도록 경로만 사용
+            httpClient = httpClient.metrics(true, HttpClientConfig::stripQuery);
+        }
+        return httpClient;
+    }
+
+    @Bean
+    public WebClient webClient(HttpClient externalApiHttpClient, HttpClientProperties properties) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(externalApiHttpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getMaxInMemorySizeMb() * 1024 * 1024))
+                .build();
+    }
+
+    /**
+     * "host" 또는 "host:port" 형식의 설정을 원격 주소로 변환합니다. 포트가 없으면 80/443 모두 적용합니다.
+     */
+    private static InetSocketAddress[] remoteAddresses(String host) {
+        int colon = host.lastIndexOf(':');
+        if (colon > 0) {
+            return new InetSocketAddress[]{
+                    InetSocketAddress.createUnresolved(host.substring(0, colon), Integer.parseInt(host.substring(colon + 1)))};
+        }
+        return new InetSocketAddress[]{
+                InetSocketAddress.createUnresolved(host, 80),
+                InetSocketAddress.createUnresolved(host, 443)};
+    }
+
+    private static String stripQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+}
@@ -0,0 +1,80 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정 (dsflow.http-client)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.http-client")
+public class HttpClientProperties {
+
+    /**
+     * 호스트별 커넥션 풀의 최대 연결 수
+     */
+    private int maxConnections = 200;
+
+    /**
+     * 연결을 얻기 위해 대기할 수 있는 최대 시간 (밀리초)
+     */
+    private long pendingAcquireTimeoutMs = 45_000;
+
+    /**
+     * 유휴 연결 유지 시간 (밀리초). 제공기관의 keep-alive 시간보다 짧게 설정
+     */
+    private long maxIdleTimeMs = 20_000;
+
+    /**
+     * 연결 최대 수명 (밀리초)
+     */
+    private long maxLifeTimeMs = 300_000;
+
+    /**
+     * 유휴/만료 연결 정리 주기 (밀리초)
+     */
+    private long evictIntervalMs = 30_000;
+
+    /**
+     * TCP 연결 대기 시간 (밀리초)
+     */
+    private int connectTimeoutMs = 5_000;
+
+    /**
+     * 응답 대기 시간 (초). Job/동기화 작업에 timeoutSeconds가 없으면 사용
+     */
+    private int responseTimeoutSeconds = 30;
+
+    /**
+     * gzip 응답 압축 요청 여부
+     */
+    private boolean compression = true;
+
+    /**
+     * HTTPS 호출 시 HTTP/2 사용 여부 (ALPN으로 협상하며, 지원하지 않는 서버는 HTTP/1.1 사용)
+     */
+    private boolean http2 = true;
+
+    /**
+     * 커넥션 풀/요청 지표 수집 여부 (/actuator/metrics 의 reactor.netty.*)
+     */
+    private boolean metrics = true;
+
+    /**
+     * 진행 중인 동일 요청(같은 URL/파라미터) 합치기 여부
+     */
+    private boolean coalescing = true;
+
+    /**
+     * 메모리에 읽어 들일 수 있는 응답 본문 최대 크기 (MB)
+     */
+    private int maxInMemorySizeMb = 16;
+
+    /**
+     * 호스트별 최대 연결 수 ("host" 또는 "host:port")
+     */
+    private Map<String, Integer> hostMaxConnections = new HashMap<>();
+}
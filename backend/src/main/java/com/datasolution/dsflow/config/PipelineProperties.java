@@ -0,0 +1,42 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 선행 작업이 있는 Job의 야간 파이프라인 설정 (dsflow.pipeline)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.pipeline")
+public class PipelineProperties {
+
+    /**
+     * 파이프라인 정기 실행 cron 표현식 (Quartz 형식, dsflow.scheduler.zone 기준).
+     * 비어 있으면 정기 실행하지 않으며, 의존 관계가 있는 Job도 각자의 cron 표현식으로 실행합니다.
+     */
+    private String cron = "";
+
+    /**
+     * 함께 실행할 작업(Job/코드 동기화) 수
+     */
+    private int parallelism = 4;
+
+    /**
+     * 실행 이력이 없는 작업의 예상 소요 시간 (초)
+     */
+    private long defaultDurationSeconds = 60;
+
+    /**
+     * 예상 소요 시간 계산에 사용할 최근 성공 실행 수
+     */
+    private int historySize = 10;
+
+    /**
+     * 종료된 파이프라인 실행 결과를 조회용으로 보관하는 개수 (이 노드 메모리)
+     */
+    private int keepFinished = 20;
+
+    public boolean isScheduled() {
+        return cron != null && !cron.isBlank();
+    }
+}
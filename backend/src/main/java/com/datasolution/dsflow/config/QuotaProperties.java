@@ -0,0 +1,37 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서비스키별 일일 호출 한도 설정 (dsflow.quota)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.quota")
+public class QuotaProperties {
+
+    /**
+     * 별도 설정이 없는 서비스키의 일일 호출 한도 (0 이하이면 제한 없음)
+     */
+    private long defaultDailyLimit = 10000;
+
+    /**
+     * 서비스키별 일일 호출 한도
+     * 키는 서비스키 원문(URL 인코딩 여부 무관) 또는 그 SHA-256 해시(64자리 16진수)로 지정합니다.
+     * 특수문자('+', '/', '=' 등)가 있는 원문 키는 설정 바인딩에서 지워지지 않도록 "[...]"로 감싸거나 해시를 사용합니다.
+     */
+    private Map<String, Long> limits = new HashMap<>();
+
+    /**
+     * 한도 초기화 기준 시간대
+     */
+    private String zone = "Asia/Seoul";
+
+    /**
+     * 남은 한도가 이 값보다 작으면 분할 실행하지 않고 다음 날로 연기
+     */
+    private long minSplitCalls = 100;
+}
@@ -0,0 +1,42 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 속도 제한 설정 (dsflow.rate-limit)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Job에 지연 시간이 설정되지 않은 경우 사용하는 초당 호출 수
+     */
+    private double defaultPermitsPerSecond = 10;
+
+    /**
+     * Job에 지연 시간이 설정되지 않은 경우 사용하는 최대 버스트 크기
+     */
+    private int defaultBurst = 10;
+
+    /**
+     * 이 시간(밀리초) 동안 호출되지 않은 Job의 호출 속도는 버킷 한도 계산에서 제외
+     * (느린 Job이 끝나면 같은 호스트의 다른 Job 호출 속도가 다시 올라감)
+     */
+    private long pacingIdleMs = 60_000;
+
+    /**
+     * 호스트별 고정 한도 (제공기관이 공지한 한도가 있는 경우 Job 설정보다 우선)
+     */
+    private Map<String, Limit> hosts = new HashMap<>();
+
+    @Data
+    public static class Limit {
+        private double permitsPerSecond;
+        private int burst = 1;
+    }
+}
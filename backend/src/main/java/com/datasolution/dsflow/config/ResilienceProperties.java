@@ -0,0 +1,68 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 호출 재시도 / 서킷 브레이커 설정 (dsflow.resilience)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.resilience")
+public class ResilienceProperties {
+
+    private Retry retry = new Retry();
+    private Breaker circuitBreaker = new Breaker();
+
+    @Data
+    public static class Retry {
+        /**
+         * Job/동기화 작업에 retryCount가 없을 때의 재시도 횟수
+         */
+        private int defaultRetryCount = 3;
+
+        /**
+         * 첫 재시도 대기 시간 (밀리초). 이후 2배씩 증가
+         */
+        private long initialBackoffMs = 500;
+
+        /**
+         * 재시도 대기 시간 상한 (밀리초)
+         */
+        private long maxBackoffMs = 10_000;
+
+        /**
+         * 대기 시간 무작위 편차 비율 (0 ~ 1). 여러 호출이 동시에 재시도하지 않도록 분산
+         */
+        private double jitter = 0.5;
+    }
+
+    @Data
+    public static class Breaker {
+        private boolean enabled = true;
+
+        /**
+         * 실패율을 계산할 최근 호출 수
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * 실패율을 판단하기 위한 최소 호출 수
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * 호출을 차단할 실패율 (%)
+         */
+        private double failureRateThreshold = 50;
+
+        /**
+         * 호출 차단 유지 시간 (밀리초)
+         */
+        private long openDurationMs = 30_000;
+
+        /**
+         * 차단 해제 전 허용할 시험 호출 수
+         */
+        private int halfOpenPermittedCalls = 3;
+    }
+}
@@ -0,0 +1,27 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 지난 기간 조합의 응답 캐시 설정 (dsflow.response-cache)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * 응답 캐시 사용 여부 (false이면 Job의 cacheConfig를 무시)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 파일 저장 경로 ({dir}/{jobCode}/{키 앞 2자리}/{키}.bin)
+     */
+    private String dir = "./data/response-cache";
+
+    /**
+     * 전체 캐시 최대 크기 (압축 후, MB). 초과하면 오래 사용하지 않은 응답부터 삭제
+     */
+    private long maxSizeMb = 1024;
+}
@@ -0,0 +1,37 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Job/코드 동기화 작업 정기 실행 설정 (dsflow.scheduler)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.scheduler")
+public class SchedulerProperties {
+
+    /**
+     * JobDefinition.cronExpression, CodeSyncJob.cronExpression에 따라 Job/코드 동기화 작업을 실행할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실행 시각이 된 Job의 실행 요청(호출 한도 승인, 조합 수 계산 포함)을 처리하는 스레드 수
+     */
+    private int poolSize = 5;
+
+    /**
+     * 실행 시각이 된 코드 동기화 작업을 처리하는 스레드 수
+     */
+    private int codeSyncPoolSize = 2;
+
+    /**
+     * cron 표현식을 해석하는 시간대 (실행 기준일도 이 시간대의 날짜)
+     */
+    private String zone = "Asia/Seoul";
+
+    /**
+     * 재시도 시각이 지나도 실행되지 않은 재시도(예약한 노드 중단 등)를 찾아 이 노드에서 실행하는 주기
+     */
+    private long retryRecoveryIntervalMs = 60_000;
+}
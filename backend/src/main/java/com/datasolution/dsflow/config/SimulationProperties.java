@@ -0,0 +1,82 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 시뮬레이션 설정 (dsflow.simulation)
+ *
+ * Job에 시뮬레이션 프로필을 지정하면 실제 API 대신 내장 모의 API 서버를 호출합니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.simulation")
+public class SimulationProperties {
+
+    /**
+     * 모의 API 서버 사용 여부 (false이면 시뮬레이션 프로필이 지정된 Job을 실행하지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 모의 API 서버 주소 (처음 사용할 때 시작)
+     */
+    private String host = "127.0.0.1";
+
+    /**
+     * 모의 API 서버 포트 (0이면 빈 포트)
+     */
+    private int port = 0;
+
+    /**
+     * 프로필 이름별 응답 특성
+     */
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    public enum Distribution {
+        CONSTANT,       // 항상 중앙값
+        UNIFORM,        // 균등 분포
+        EXPONENTIAL,    // 지수 분포 (중앙값만큼 이동)
+        LOG_NORMAL      // 로그 정규 분포 (긴 꼬리)
+    }
+
+    @Data
+    public static class Profile {
+
+        /**
+         * 응답 지연 분포. 중앙값과 99백분위 값이 설정값이 되도록 모수를 정함
+         */
+        private Distribution latency = Distribution.LOG_NORMAL;
+
+        private long latencyMedianMs = 100;
+
+        private long latencyP99Ms = 1000;
+
+        /**
+         * 서버 오류(HTTP 500) 응답 비율 (0-1)
+         */
+        private double errorRate = 0;
+
+        /**
+         * 호출 제한(HTTP 429) 응답 비율 (0-1)
+         */
+        private double throttleRate = 0;
+
+        /**
+         * 동시 처리 한도. 초과한 요청은 즉시 HTTP 429 응답 (0 이하이면 제한 없음)
+         */
+        private int concurrencyLimit = 0;
+
+        /**
+         * 응답 본문 크기 (bytes, 대략값)
+         */
+        private int payloadBytes = 4096;
+
+        /**
+         * 응답의 전체 건수 (totalCount, 페이지 조회 시뮬레이션용. 0이면 응답 레코드 수)
+         */
+        private long totalCount = 0;
+    }
+}
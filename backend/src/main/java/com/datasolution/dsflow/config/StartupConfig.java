@@ -0,0 +1,41 @@
+package com.datasolution.dsflow.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 빠른 시작 모드(fast-startup 프로필, spring.main.lazy-initialization=true) 설정
+ *
+ * 지연 초기화 중에도 정기 실행/분할 실행 조정은 시작 직후부터 동작해야 하므로 다음 빈은 바로 생성합니다.
+ * - scheduling 패키지의 빈 (정기 실행 스케줄러, 클러스터 잠금)
+ * - @EventListener(@TransactionalEventListener 포함) 메소드가 있는 빈 (ApplicationReadyEvent에서 시작하는 작업 등)
+ * - @Scheduled 메소드가 있는 빈은 Spring Boot가 이미 제외함 (ScheduledBeanLazyInitializationExcludeFilter)
+ * 그 밖의 빈(Swagger, 컨트롤러, 벤치마크 서비스 등)은 처음 사용할 때 생성합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    private static final String BASE_PACKAGE = "com.datasolution.dsflow.";
+    private static final String SCHEDULING_PACKAGE = BASE_PACKAGE + "scheduling";
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerSchedulingBeans() {
+        return (beanName, beanDefinition, beanType) -> {
+            Class<?> type = ClassUtils.getUserClass(beanType);
+            return type.getPackageName().startsWith(SCHEDULING_PACKAGE) || hasEventListener(type);
+        };
+    }
+
+    private static boolean hasEventListener(Class<?> type) {
+        if (!type.getName().startsWith(BASE_PACKAGE)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(type, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, EventListener.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
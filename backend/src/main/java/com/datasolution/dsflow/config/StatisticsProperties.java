@@ -0,0 +1,22 @@
+package com.datasolution.dsflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 실행 통계 집계 설정 (dsflow.statistics)
+ */
+@Data
+@ConfigurationProperties(prefix = "dsflow.statistics")
+public class StatisticsProperties {
+
+    /**
+     * 집계를 실행 로그와 다시 맞추는 주기 (cron)
+     */
+    private String reconcileCron = "0 20 * * * ?";
+
+    /**
+     * 다시 맞출 기간 (일). 오늘을 포함하여 최근 며칠 동안 시작한 실행의 시간별/일별 집계를 다시 계산
+     */
+    private int reconcileDays = 7;
+}
@@ -0,0 +1,44 @@
+package com.datasolution.dsflow.controller;
+
+import com.datasolution.dsflow.entity.ApiQuotaUsage;
+import com.datasolution.dsflow.service.ApiQuotaService;
+import com.datasolution.dsflow.service.JobAdmissionService;
+import com.datasolution.dsflow.service.JobDefinitionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/quotas")
+@RequiredArgsConstructor
+@Tag(name = "API Quota", description = "서비스키별 일일 호출 한도 API")
+public class ApiQuotaController {
+
+    private final ApiQuotaService quotaService;
+    private final JobAdmissionService admissionService;
+    private final JobDefinitionService jobDefinitionService;
+
+    @GetMapping("/today")
+    @Operation(summary = "오늘 호출 사용량 조회", description = "서비스키별 오늘 호출 수를 조회합니다.")
+    public ResponseEntity<List<ApiQuotaUsage>> getTodayUsages() {
+        return ResponseEntity.ok(quotaService.getTodayUsages());
+    }
+
+    @GetMapping("/jobs/{jobCode}/admission")
+    @Operation(summary = "Job 실행 승인 미리보기", description = "예상 호출 수와 잔여 한도를 비교한 실행 승인 결과를 조회합니다. (한도는 예약하지 않음)")
+    public ResponseEntity<JobAdmissionService.Admission> previewAdmission(
+            @Parameter(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE")
+            @PathVariable String jobCode,
+            @Parameter(description = "기준일 (기본값: 오늘)", example = "2023-12-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate baseDate) {
+        return ResponseEntity.ok(admissionService.preview(jobDefinitionService.findByJobCode(jobCode),
+                baseDate != null ? baseDate : LocalDate.now()));
+    }
+}
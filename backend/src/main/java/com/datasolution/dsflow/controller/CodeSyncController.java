@@ -26,7 +26,7 @@ public class CodeSyncController {
         log.info("전체 코드 동기화 요청");
         
         try {
-            codeDataSyncService.scheduledCodeSync();
+            codeDataSyncService.syncAllCodes();
             return ResponseEntity.ok("전체 코드 동기화가 시작되었습니다.");
         } catch (Exception e) {
             log.error("전체 코드 동기화 실패", e);
@@ -1,7 +1,10 @@
 package com.datasolution.dsflow.controller;
 
+import com.datasolution.dsflow.dto.CronScheduleDto;
 import com.datasolution.dsflow.dto.JobDefinitionDto;
+import com.datasolution.dsflow.dto.JobDependencyDto;
 import com.datasolution.dsflow.service.JobDefinitionService;
+import com.datasolution.dsflow.service.JobDependencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/jobs")
@@ -22,6 +26,7 @@ import java.util.List;
 public class JobDefinitionController {
 
     private final JobDefinitionService jobDefinitionService;
+    private final JobDependencyService jobDependencyService;
 
     /***
      *  Job 목록 조회
@@ -41,6 +46,16 @@ public class JobDefinitionController {
         return ResponseEntity.ok(jobDefinitionService.getActiveJobs());
     }
 
+    @GetMapping("/cron/next-fire-times")
+    @Operation(summary = "Cron 실행 시각 미리보기", description = "Cron 표현식(Quartz 형식)으로 이전 실행 시각과 다음 실행 시각 목록을 계산합니다.")
+    public ResponseEntity<CronScheduleDto> previewCronSchedule(
+            @Parameter(description = "Cron 표현식", example = "0 0 2 * * ?")
+            @RequestParam String expression,
+            @Parameter(description = "조회할 실행 시각 수", example = "5")
+            @RequestParam(defaultValue = "5") int count) {
+        return ResponseEntity.ok(jobDefinitionService.previewCronSchedule(expression, count));
+    }
+
     @GetMapping("/{jobCode}")
     @Operation(summary = "Job 상세 조회", description = "Job 코드로 특정 Job의 상세 정보를 조회합니다.")
     public ResponseEntity<JobDefinitionDto> getJobByCode(
@@ -82,4 +97,39 @@ public class JobDefinitionController {
         jobDefinitionService.toggleJobStatus(jobCode);
         return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+
+    @DeleteMapping("/{jobCode}/response-cache")
+    @Operation(summary = "Job 응답 캐시 삭제", description = "지난 기간 조합의 응답 캐시를 모두 삭제합니다. 다음 실행부터 다시 외부 API를 호출합니다.")
+    public ResponseEntity<Map<String, Integer>> evictResponseCache(
+            @Parameter(description = "Job 코드", example = "WEATHER_API_JOB")
+            @PathVariable String jobCode) {
+        return ResponseEntity.ok(Map.of("evicted", jobDefinitionService.evictResponseCache(jobCode)));
+    }
+
+    @GetMapping("/{jobCode}/next-fire-times")
+    @Operation(summary = "Job 실행 일정 조회", description = "Job의 Cron 표현식으로 이전 실행 시각과 다음 실행 시각 목록을 계산합니다.")
+    public ResponseEntity<CronScheduleDto> getCronSchedule(
+            @Parameter(description = "Job 코드", example = "WEATHER_API_JOB")
+            @PathVariable String jobCode,
+            @Parameter(description = "조회할 실행 시각 수", example = "5")
+            @RequestParam(defaultValue = "5") int count) {
+        return ResponseEntity.ok(jobDefinitionService.getCronSchedule(jobCode, count));
+    }
+
+    @GetMapping("/{jobCode}/dependencies")
+    @Operation(summary = "Job 선행 작업 조회", description = "Job이 실행 전에 완료되어야 하는 선행 Job/코드 동기화 작업 목록을 조회합니다.")
+    public ResponseEntity<List<JobDependencyDto>> getDependencies(
+            @Parameter(description = "Job 코드", example = "WEATHER_API_JOB")
+            @PathVariable String jobCode) {
+        return ResponseEntity.ok(jobDependencyService.getDependencies(jobCode));
+    }
+
+    @PutMapping("/{jobCode}/dependencies")
+    @Operation(summary = "Job 선행 작업 변경", description = "Job의 선행 작업 목록을 교체합니다. 의존 관계에 순환이 생기면 거부합니다.")
+    public ResponseEntity<List<JobDependencyDto>> replaceDependencies(
+            @Parameter(description = "Job 코드", example = "WEATHER_API_JOB")
+            @PathVariable String jobCode,
+            @RequestBody List<JobDependencyDto> dependencies) {
+        return ResponseEntity.ok(jobDependencyService.replaceDependencies(jobCode, dependencies));
+    }
+}
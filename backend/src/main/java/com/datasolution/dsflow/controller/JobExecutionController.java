@@ -0,0 +1,108 @@
+package com.datasolution.dsflow.controller;
+
+import com.datasolution.dsflow.dto.CallDetailDto;
+import com.datasolution.dsflow.dto.JobBackfillDto;
+import com.datasolution.dsflow.dto.JobBackfillRequestDto;
+import com.datasolution.dsflow.dto.JobExecutionRequestDto;
+import com.datasolution.dsflow.dto.JobLaunchResponseDto;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.service.CallDetailService;
+import com.datasolution.dsflow.service.JobBackfillService;
+import com.datasolution.dsflow.service.JobExecutionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Job Execution", description = "Job 실행 API")
+public class JobExecutionController {
+
+    private final JobExecutionService jobExecutionService;
+    private final JobBackfillService jobBackfillService;
+    private final CallDetailService callDetailService;
+
+    @PostMapping("/jobs/execute")
+    @Operation(summary = "Job 실행", description = "Job을 비동기로 실행합니다. 호출 한도가 부족하면 연기 결과를 반환합니다.")
+    public ResponseEntity<JobLaunchResponseDto> execute(
+            @Valid @RequestBody JobExecutionRequestDto request) {
+        return ResponseEntity.ok(jobExecutionService.launch(request.getJobCode(), request.getBaseDate(),
+                request.getPriority() != null ? request.getPriority() : ExecutionPriority.INTERACTIVE));
+    }
+
+    @PostMapping("/executions/{jobExecutionId}/cancel")
+    @Operation(summary = "Job 실행 취소", description = "새 조합은 호출하지 않고 진행 중인 API 호출을 마친 뒤 중단합니다. 정리 기한을 넘기면 진행 중인 호출도 취소합니다.")
+    public ResponseEntity<Void> cancel(
+            @Parameter(description = "Batch Job Execution ID", example = "1")
+            @PathVariable Long jobExecutionId) {
+        jobExecutionService.cancel(jobExecutionId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/executions/{jobExecutionId}/pause")
+    @Operation(summary = "Job 실행 일시정지", description = "새 조합은 호출하지 않고 진행 중인 API 호출을 마친 뒤 저장 내용을 반영합니다. 정리 기한을 넘긴 호출은 취소하고 재개 후 다시 호출합니다.")
+    public ResponseEntity<Void> pause(
+            @Parameter(description = "Batch Job Execution ID", example = "1")
+            @PathVariable Long jobExecutionId) {
+        jobExecutionService.pause(jobExecutionId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/executions/{jobExecutionId}/resume")
+    @Operation(summary = "Job 실행 재개", description = "일시정지한 Job을 이어서 실행합니다.")
+    public ResponseEntity<Void> resume(
+            @Parameter(description = "Batch Job Execution ID", example = "1")
+            @PathVariable Long jobExecutionId) {
+        jobExecutionService.resume(jobExecutionId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/executions/{jobExecutionId}/calls")
+    @Operation(summary = "호출 상세 조회", description = "실행의 조합별 호출 결과(상태 코드, 응답 시간, 응답 크기, 오류 종류)를 조합 순번 순으로 조회합니다. 보관 기간이 지난 기록은 조회되지 않습니다.")
+    public ResponseEntity<Page<CallDetailDto>> getCalls(
+            @Parameter(description = "Batch Job Execution ID", example = "1")
+            @PathVariable Long jobExecutionId,
+            @Parameter(description = "실패한 호출만 조회")
+            @RequestParam(defaultValue = "false") boolean failedOnly,
+            @PageableDefault(size = 100) Pageable pageable) {
+        return ResponseEntity.ok(callDetailService.getCalls(jobExecutionId, failedOnly, pageable));
+    }
+
+    @PostMapping("/jobs/backfill")
+    @Operation(summary = "기간 일괄 실행(백필)", description = "기간 내 기준일 중 성공한 실행이 없는 날짜만 지정한 수만큼 동시에 실행합니다.")
+    public ResponseEntity<JobBackfillDto> backfill(
+            @Valid @RequestBody JobBackfillRequestDto request) {
+        return ResponseEntity.accepted().body(jobBackfillService.start(request));
+    }
+
+    @GetMapping("/jobs/backfill")
+    @Operation(summary = "백필 목록 조회", description = "이 노드에서 실행 중이거나 최근 종료된 백필 목록을 최신순으로 조회합니다.")
+    public ResponseEntity<List<JobBackfillDto>> getBackfills() {
+        return ResponseEntity.ok(jobBackfillService.getBackfills());
+    }
+
+    @GetMapping("/jobs/backfill/{backfillId}")
+    @Operation(summary = "백필 진행 상황 조회", description = "기준일별 실행 상태와 전체 진행률을 조회합니다.")
+    public ResponseEntity<JobBackfillDto> getBackfill(
+            @Parameter(description = "백필 ID", example = "3f2a9c1e")
+            @PathVariable String backfillId) {
+        return ResponseEntity.ok(jobBackfillService.getBackfill(backfillId));
+    }
+
+    @PostMapping("/jobs/backfill/{backfillId}/cancel")
+    @Operation(summary = "백필 취소", description = "아직 시작하지 않은 기준일은 실행하지 않고, 실행 중인 기준일은 취소합니다.")
+    public ResponseEntity<JobBackfillDto> cancelBackfill(
+            @Parameter(description = "백필 ID", example = "3f2a9c1e")
+            @PathVariable String backfillId) {
+        return ResponseEntity.accepted().body(jobBackfillService.cancel(backfillId));
+    }
+}
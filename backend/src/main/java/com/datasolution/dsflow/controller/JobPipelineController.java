@@ -0,0 +1,59 @@
+package com.datasolution.dsflow.controller;
+
+import com.datasolution.dsflow.dto.JobPipelineDto;
+import com.datasolution.dsflow.dto.JobPipelineRequestDto;
+import com.datasolution.dsflow.service.JobPipelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/pipelines")
+@RequiredArgsConstructor
+@Tag(name = "Job Pipeline", description = "의존 관계에 따른 Job 파이프라인 실행 API")
+public class JobPipelineController {
+
+    private final JobPipelineService jobPipelineService;
+
+    @GetMapping("/plan")
+    @Operation(summary = "파이프라인 실행 계획 조회", description = "실행할 작업과 의존 관계, 작업별 예상 소요 시간과 실행 우선순위(남은 의존 경로)를 조회합니다.")
+    public ResponseEntity<JobPipelineDto> getPlan(
+            @Parameter(description = "실행할 Job 코드 (선행 작업 포함, 미입력 시 의존 관계가 있는 모든 활성 Job)")
+            @RequestParam(required = false) List<String> jobCodes) {
+        return ResponseEntity.ok(jobPipelineService.getPlan(jobCodes));
+    }
+
+    @PostMapping("/runs")
+    @Operation(summary = "파이프라인 실행", description = "선행 작업이 끝난 작업부터 남은 의존 경로가 긴 순으로 함께 실행합니다.")
+    public ResponseEntity<JobPipelineDto> run(
+            @RequestBody(required = false) JobPipelineRequestDto request) {
+        return ResponseEntity.accepted().body(jobPipelineService.start(request));
+    }
+
+    @GetMapping("/runs")
+    @Operation(summary = "파이프라인 실행 목록 조회", description = "이 노드에서 실행 중이거나 최근 종료된 파이프라인 실행 목록을 최신순으로 조회합니다.")
+    public ResponseEntity<List<JobPipelineDto>> getRuns() {
+        return ResponseEntity.ok(jobPipelineService.getRuns());
+    }
+
+    @GetMapping("/runs/{runId}")
+    @Operation(summary = "파이프라인 진행 상황 조회", description = "작업별 실행 상태와 전체 진행 상황을 조회합니다.")
+    public ResponseEntity<JobPipelineDto> getRun(
+            @Parameter(description = "파이프라인 실행 ID", example = "7b1d04aa")
+            @PathVariable String runId) {
+        return ResponseEntity.ok(jobPipelineService.getRun(runId));
+    }
+
+    @PostMapping("/runs/{runId}/cancel")
+    @Operation(summary = "파이프라인 취소", description = "아직 시작하지 않은 작업은 실행하지 않고, 실행 중인 Job은 취소합니다.")
+    public ResponseEntity<JobPipelineDto> cancel(
+            @Parameter(description = "파이프라인 실행 ID", example = "7b1d04aa")
+            @PathVariable String runId) {
+        return ResponseEntity.accepted().body(jobPipelineService.cancel(runId));
+    }
+}
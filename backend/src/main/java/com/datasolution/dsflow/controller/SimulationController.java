@@ -0,0 +1,36 @@
+package com.datasolution.dsflow.controller;
+
+import com.datasolution.dsflow.config.SimulationProperties;
+import com.datasolution.dsflow.dto.SimulationReportDto;
+import com.datasolution.dsflow.service.SimulationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/simulations")
+@RequiredArgsConstructor
+@Tag(name = "Simulation", description = "부하 시뮬레이션 API")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    @GetMapping("/profiles")
+    @Operation(summary = "시뮬레이션 프로필 목록", description = "모의 API 서버의 프로필별 응답 지연 분포, 오류/호출 제한 비율, 응답 크기를 조회합니다. Job의 simulationProfile에 프로필 이름을 지정하면 실제 API 대신 모의 API 서버를 호출합니다.")
+    public ResponseEntity<Map<String, SimulationProperties.Profile>> getProfiles() {
+        return ResponseEntity.ok(simulationService.getProfiles());
+    }
+
+    @GetMapping("/executions/{executionId}")
+    @Operation(summary = "시뮬레이션 결과 조회", description = "시뮬레이션 실행의 처리량, 응답 시간 백분위, 자원 사용량을 조회합니다. 실행 중이면 지금까지의 결과를 반환합니다.")
+    public ResponseEntity<SimulationReportDto> getReport(
+            @Parameter(description = "실행 로그 ID", example = "1")
+            @PathVariable Long executionId) {
+        return ResponseEntity.ok(simulationService.getReport(executionId));
+    }
+}
@@ -0,0 +1,42 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "조합별 호출 상세 DTO")
+public class CallDetailDto {
+
+    @Schema(description = "조합 순번 (페이지 조회는 페이지마다 같은 순번으로 1건씩)", example = "42")
+    private Long ordinal;
+
+    @Schema(description = "호출 파라미터 (조합 순번으로 다시 계산, 조합 공간이 없으면 null)")
+    private Map<String, Object> parameters;
+
+    @Schema(description = "호출 시각", example = "2026-10-19T03:00:12.345")
+    private LocalDateTime calledAt;
+
+    @Schema(description = "HTTP 상태 코드 (응답을 받지 못했으면 0)", example = "200")
+    private Integer statusCode;
+
+    @Schema(description = "성공 여부", example = "true")
+    private Boolean success;
+
+    @Schema(description = "응답 시간 (ms)", example = "152.3")
+    private Double latencyMillis;
+
+    @Schema(description = "응답 크기 (bytes)", example = "8192")
+    private Integer responseBytes;
+
+    @Schema(description = "오류 종류 (예외 클래스 이름)", example = "TimeoutException")
+    private String errorClass;
+}
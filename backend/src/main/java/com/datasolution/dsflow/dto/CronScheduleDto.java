@@ -0,0 +1,30 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cron 실행 일정 DTO")
+public class CronScheduleDto {
+
+    @Schema(description = "Cron 표현식", example = "0 0 2 * * ?")
+    private String cronExpression;
+
+    @Schema(description = "실행 시각을 계산한 시간대", example = "Asia/Seoul")
+    private String zone;
+
+    @Schema(description = "이전 실행 시각 (없으면 null)", example = "2023-12-01T02:00:00")
+    private LocalDateTime previousFireTime;
+
+    @Schema(description = "다음 실행 시각 목록", example = "[\"2023-12-02T02:00:00\", \"2023-12-03T02:00:00\"]")
+    private List<LocalDateTime> nextFireTimes;
+}
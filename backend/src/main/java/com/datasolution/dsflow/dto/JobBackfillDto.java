@@ -0,0 +1,108 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "기간 일괄 실행(백필) 진행 상황 DTO")
+public class JobBackfillDto {
+
+    @Schema(description = "백필 ID", example = "3f2a9c1e")
+    private String backfillId;
+
+    @Schema(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE")
+    private String jobCode;
+
+    @Schema(description = "시작 기준일", example = "2023-11-01")
+    private LocalDate fromDate;
+
+    @Schema(description = "종료 기준일", example = "2023-11-30")
+    private LocalDate toDate;
+
+    @Schema(description = "함께 실행하는 기준일 수", example = "4")
+    private int parallelism;
+
+    @Schema(description = "백필 상태 (RUNNING, COMPLETED, CANCELLED)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "기간 내 전체 기준일 수", example = "30")
+    private int totalDates;
+
+    @Schema(description = "이미 성공한 실행이 있어 건너뛴 기준일 수", example = "12")
+    private int skippedDates;
+
+    @Schema(description = "실행 대기 중인 기준일 수", example = "10")
+    private int pendingDates;
+
+    @Schema(description = "호출 한도 초기화를 기다리는 기준일 수", example = "0")
+    private int waitingDates;
+
+    @Schema(description = "실행 중인 기준일 수", example = "4")
+    private int runningDates;
+
+    @Schema(description = "실행 완료한 기준일 수", example = "3")
+    private int completedDates;
+
+    @Schema(description = "실행 실패한 기준일 수", example = "1")
+    private int failedDates;
+
+    @Schema(description = "진행률 (끝난 기준일 / 전체 기준일, %)", example = "50.0")
+    private double progressPercent;
+
+    @Schema(description = "실행한 기준일의 처리 건수 합계", example = "5400")
+    private long processedCalls;
+
+    @Schema(description = "실행한 기준일의 성공 건수 합계", example = "5390")
+    private long successCalls;
+
+    @Schema(description = "실행한 기준일의 실패 건수 합계", example = "10")
+    private long failCalls;
+
+    @Schema(description = "시작 시각", example = "2023-12-01T10:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각", example = "2023-12-01T13:20:00")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "기준일별 상태 (건너뛴 기준일 제외)")
+    private List<DateProgress> dates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "기준일별 실행 상태")
+    public static class DateProgress {
+
+        @Schema(description = "기준일", example = "2023-11-02")
+        private LocalDate baseDate;
+
+        @Schema(description = "상태 (PENDING, WAITING, RUNNING, COMPLETED, PARTIAL, FAILED, SKIPPED, CANCELLED)", example = "RUNNING")
+        private String status;
+
+        @Schema(description = "Batch Job Execution ID", example = "12")
+        private Long jobExecutionId;
+
+        @Schema(description = "처리 건수", example = "180")
+        private long processed;
+
+        @Schema(description = "성공 건수", example = "180")
+        private long success;
+
+        @Schema(description = "실패 건수", example = "0")
+        private long fail;
+
+        @Schema(description = "메시지")
+        private String message;
+    }
+}
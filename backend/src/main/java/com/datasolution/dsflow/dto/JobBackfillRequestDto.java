@@ -0,0 +1,34 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "기간 일괄 실행(백필) 요청 DTO")
+public class JobBackfillRequestDto {
+
+    @NotBlank(message = "Job 코드는 필수입니다.")
+    @Schema(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE", required = true)
+    private String jobCode;
+
+    @NotNull(message = "시작 기준일은 필수입니다.")
+    @Schema(description = "시작 기준일 (포함)", example = "2023-11-01", required = true)
+    private LocalDate fromDate;
+
+    @NotNull(message = "종료 기준일은 필수입니다.")
+    @Schema(description = "종료 기준일 (포함)", example = "2023-11-30", required = true)
+    private LocalDate toDate;
+
+    @Schema(description = "함께 실행할 기준일 수 (미입력 시 dsflow.backfill.parallelism)", example = "4")
+    private Integer parallelism;
+}
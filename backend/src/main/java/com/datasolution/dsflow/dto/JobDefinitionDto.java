@@ -3,6 +3,7 @@ package com.datasolution.dsflow.dto;
 import com.datasolution.dsflow.entity.enums.JobParameterType;
 import com.datasolution.dsflow.entity.enums.JobStatus;
 import com.datasolution.dsflow.entity.enums.MethodType;
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -71,6 +72,27 @@ public class JobDefinitionDto {
     @Schema(description = "API 호출 간 지연 시간 (초)", example = "1")
     private Integer delaySeconds;
 
+    @Schema(description = "API 응답 대기 시간 (초, 미입력 시 기본값)", example = "30")
+    private Integer timeoutSeconds;
+
+    @Schema(description = "API 호출 실패 시 재시도 횟수", example = "3")
+    private Integer retryCount;
+
+    @Schema(description = "호출 결과 저장 방식 (미입력 시 기본값)", example = "DATABASE")
+    private ResultSinkType sinkType;
+
+    @Schema(description = "저장 방식별 설정 (JSON)", example = "{\"table\":\"apt_trade\",\"mode\":\"COPY\",\"itemPath\":\"response.body.items.item\",\"columns\":{\"deal_amount\":\"dealAmount\"}}")
+    private String sinkConfig;
+
+    @Schema(description = "페이지 단위 조회 설정 (JSON, 미입력 시 1회 호출)", example = "{\"pageParam\":\"pageNo\",\"sizeParam\":\"numOfRows\",\"pageSize\":1000,\"totalCountPath\":\"response.body.totalCount\"}")
+    private String paginationConfig;
+
+    @Schema(description = "지난 기간 조합의 응답 캐시 설정 (JSON, 미입력 시 캐시 안 함)", example = "{\"rules\":[{\"parameter\":\"DEAL_YMD\",\"format\":\"yyyyMM\",\"olderThanMonths\":3}],\"resultCodePath\":\"response.header.resultCode\",\"successCodes\":[\"00\",\"000\"]}")
+    private String cacheConfig;
+
+    @Schema(description = "부하 시뮬레이션 프로필 (지정하면 실제 API 대신 내장 모의 API 서버를 호출, 미입력 시 실제 API)", example = "gov-api")
+    private String simulationProfile;
+
     @Schema(description = "생성일시")
     private LocalDateTime createdAt;
 
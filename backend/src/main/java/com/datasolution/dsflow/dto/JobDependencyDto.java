@@ -0,0 +1,26 @@
+package com.datasolution.dsflow.dto;
+
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Job 선행 작업 DTO")
+public class JobDependencyDto {
+
+    @NotNull(message = "선행 작업 종류는 필수입니다.")
+    @Schema(description = "선행 작업 종류 (JOB, CODE_SYNC)", example = "CODE_SYNC", required = true)
+    private DependencyType upstreamType;
+
+    @NotBlank(message = "선행 작업 코드는 필수입니다.")
+    @Schema(description = "선행 Job 코드 또는 코드 동기화 작업 코드", example = "SYNC_LAWD_CD", required = true)
+    private String upstreamCode;
+}
@@ -50,6 +50,9 @@ public class JobExecutionLogDto {
     @Schema(description = "결과 데이터")
     private String resultData;
 
+    @Schema(description = "결과 파일 목록(manifest) 경로", example = "./data/results/WEATHER_API_JOB/2023-12-01/1/manifest.json")
+    private String resultManifestPath;
+
     @Schema(description = "처리된 건수", example = "100")
     private Integer processedCount;
 
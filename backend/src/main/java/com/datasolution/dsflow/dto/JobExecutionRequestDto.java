@@ -0,0 +1,29 @@
+package com.datasolution.dsflow.dto;
+
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Job 실행 요청 DTO")
+public class JobExecutionRequestDto {
+
+    @NotBlank(message = "Job 코드는 필수입니다.")
+    @Schema(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE", required = true)
+    private String jobCode;
+
+    @Schema(description = "기준일 (미입력 시 오늘)", example = "2023-12-01")
+    private LocalDate baseDate;
+
+    @Schema(description = "실행 우선순위 (미입력 시 INTERACTIVE)", example = "INTERACTIVE")
+    private ExecutionPriority priority;
+}
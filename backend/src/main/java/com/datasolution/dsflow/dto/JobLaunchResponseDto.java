@@ -0,0 +1,46 @@
+package com.datasolution.dsflow.dto;
+
+import com.datasolution.dsflow.service.JobAdmissionService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Job 실행 요청 결과 DTO")
+public class JobLaunchResponseDto {
+
+    @Schema(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE")
+    private String jobCode;
+
+    @Schema(description = "Batch Job Execution ID (연기된 경우 없음)", example = "1")
+    private Long jobExecutionId;
+
+    @Schema(description = "기준일", example = "2023-12-01")
+    private LocalDate baseDate;
+
+    @Schema(description = "실행 승인 결과", example = "ADMIT")
+    private JobAdmissionService.Decision decision;
+
+    @Schema(description = "예상 호출 수", example = "180")
+    private Long estimatedCalls;
+
+    @Schema(description = "이번 실행에서 호출할 최대 수", example = "180")
+    private Long admittedCalls;
+
+    @Schema(description = "호출을 시작할 조합 순번 (같은 기준일의 앞선 분할 실행이 호출하지 않은 조합부터)", example = "0")
+    private Long startOrdinal;
+
+    @Schema(description = "연기된 경우 다시 실행할 수 있는 시각", example = "2023-12-02T00:00:00")
+    private LocalDateTime notBefore;
+
+    @Schema(description = "메시지")
+    private String message;
+}
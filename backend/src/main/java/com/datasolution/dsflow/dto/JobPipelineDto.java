@@ -0,0 +1,99 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "파이프라인 실행 계획/진행 상황 DTO")
+public class JobPipelineDto {
+
+    @Schema(description = "파이프라인 실행 ID (실행 계획 조회 시 null)", example = "7b1d04aa")
+    private String runId;
+
+    @Schema(description = "기준일", example = "2023-12-01")
+    private LocalDate baseDate;
+
+    @Schema(description = "상태 (PLANNED, RUNNING, COMPLETED, FAILED, CANCELLED)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "함께 실행하는 작업 수", example = "4")
+    private int parallelism;
+
+    @Schema(description = "예상 소요 시간 (가장 긴 의존 경로, 초)", example = "5400")
+    private long criticalPathSeconds;
+
+    @Schema(description = "전체 작업 수", example = "12")
+    private int totalNodes;
+
+    @Schema(description = "실행 중인 작업 수", example = "4")
+    private int runningNodes;
+
+    @Schema(description = "성공한 작업 수", example = "6")
+    private int completedNodes;
+
+    @Schema(description = "실패한 작업 수", example = "0")
+    private int failedNodes;
+
+    @Schema(description = "분할 실행(SPLIT)으로 일부 조합만 호출하고 끝난 작업 수 (후행 작업은 실행하지 않음)", example = "0")
+    private int partialNodes;
+
+    @Schema(description = "선행 작업 실패/분할 실행/취소로 실행하지 않은 작업 수", example = "0")
+    private int skippedNodes;
+
+    @Schema(description = "시작 시각", example = "2023-12-01T01:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각", example = "2023-12-01T02:30:00")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "작업별 상태 (남은 의존 경로가 긴 순)")
+    private List<NodeProgress> nodes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "파이프라인 작업별 상태")
+    public static class NodeProgress {
+
+        @Schema(description = "작업 종류 (JOB, CODE_SYNC)", example = "JOB")
+        private String type;
+
+        @Schema(description = "Job 코드 또는 코드 동기화 작업 코드", example = "REAL_ESTATE_APARTMENT_TRADE")
+        private String code;
+
+        @Schema(description = "상태 (PENDING, WAITING, RUNNING, COMPLETED, PARTIAL, FAILED, SKIPPED, CANCELLED)", example = "RUNNING")
+        private String status;
+
+        @Schema(description = "선행 작업 (종류:코드)", example = "[\"CODE_SYNC:SYNC_LAWD_CD\"]")
+        private List<String> upstreams;
+
+        @Schema(description = "예상 소요 시간 (최근 성공 실행 평균, 초)", example = "1200")
+        private long estimatedSeconds;
+
+        @Schema(description = "이 작업부터 파이프라인 끝까지 가장 긴 의존 경로의 예상 소요 시간 (초, 실행 우선순위)", example = "3600")
+        private long criticalPathSeconds;
+
+        @Schema(description = "Batch Job Execution ID (Job인 경우)", example = "12")
+        private Long jobExecutionId;
+
+        @Schema(description = "시작 시각", example = "2023-12-01T01:00:00")
+        private LocalDateTime startedAt;
+
+        @Schema(description = "종료 시각", example = "2023-12-01T01:20:00")
+        private LocalDateTime finishedAt;
+
+        @Schema(description = "메시지")
+        private String message;
+    }
+}
@@ -0,0 +1,27 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "파이프라인 실행 요청 DTO")
+public class JobPipelineRequestDto {
+
+    @Schema(description = "기준일 (미입력 시 오늘)", example = "2023-12-01")
+    private LocalDate baseDate;
+
+    @Schema(description = "실행할 Job 코드 (선행 작업 포함, 미입력 시 의존 관계가 있는 모든 활성 Job)", example = "[\"REAL_ESTATE_APARTMENT_TRADE\"]")
+    private List<String> jobCodes;
+
+    @Schema(description = "함께 실행할 작업 수 (미입력 시 dsflow.pipeline.parallelism)", example = "4")
+    private Integer parallelism;
+}
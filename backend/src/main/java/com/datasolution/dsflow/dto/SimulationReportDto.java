@@ -0,0 +1,98 @@
+package com.datasolution.dsflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "부하 시뮬레이션 실행 결과 DTO (이 노드에서 호출한 건 기준)")
+public class SimulationReportDto {
+
+    @Schema(description = "실행 로그 ID", example = "1")
+    private Long executionId;
+
+    @Schema(description = "Job 코드", example = "REAL_ESTATE_APARTMENT_TRADE")
+    private String jobCode;
+
+    @Schema(description = "시뮬레이션 프로필", example = "gov-api")
+    private String profile;
+
+    @Schema(description = "실행 상태 (실행 중이면 RUNNING)", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "동시 호출 수 (batchSize)", example = "10")
+    private Integer concurrency;
+
+    @Schema(description = "경과 시간 (ms)", example = "12500")
+    private long elapsedMillis;
+
+    @Schema(description = "처리한 호출 수", example = "1000")
+    private long calls;
+
+    @Schema(description = "성공 건수", example = "990")
+    private long successCount;
+
+    @Schema(description = "실패 건수 (재시도 후 최종 실패)", example = "10")
+    private long failCount;
+
+    @Schema(description = "초당 처리 호출 수", example = "80.0")
+    private double callsPerSecond;
+
+    @Schema(description = "평균 응답 시간 (ms, 재시도/속도 제한 대기 포함)", example = "120.5")
+    private double latencyMeanMillis;
+
+    @Schema(description = "응답 시간 중앙값 (ms)", example = "100.2")
+    private double latencyP50Millis;
+
+    @Schema(description = "응답 시간 90백분위 (ms)", example = "450.0")
+    private double latencyP90Millis;
+
+    @Schema(description = "응답 시간 99백분위 (ms)", example = "1020.0")
+    private double latencyP99Millis;
+
+    @Schema(description = "응답 시간 99.9백분위 (ms)", example = "2100.0")
+    private double latencyP999Millis;
+
+    @Schema(description = "최대 응답 시간 (ms)", example = "3500.0")
+    private double latencyMaxMillis;
+
+    @Schema(description = "최종 HTTP 상태 코드별 건수 (0은 연결 실패/시간 초과)")
+    private Map<Integer, Long> statusCodes;
+
+    @Schema(description = "모의 API 서버가 받은 요청 수 (재시도 포함, 같은 프로필의 다른 실행 포함)", example = "1030")
+    private long upstreamRequests;
+
+    @Schema(description = "모의 API 서버의 호출 제한(429) 응답 수", example = "25")
+    private long upstreamThrottled;
+
+    @Schema(description = "모의 API 서버의 서버 오류(500) 응답 수", example = "10")
+    private long upstreamErrors;
+
+    @Schema(description = "모의 API 서버의 응답 본문 크기 합계 (bytes)", example = "4096000")
+    private long upstreamBytes;
+
+    @Schema(description = "프로세스 CPU 사용 시간 (ms, 모의 API 서버 포함)", example = "3200")
+    private long cpuTimeMillis;
+
+    @Schema(description = "프로세스 CPU 사용률 (전체 코어 대비 %)", example = "6.4")
+    private double cpuUsagePercent;
+
+    @Schema(description = "GC 횟수", example = "12")
+    private long gcCount;
+
+    @Schema(description = "GC 소요 시간 (ms)", example = "85")
+    private long gcTimeMillis;
+
+    @Schema(description = "최대 힙 사용량 (MB, 프로세스 전체)", example = "310.5")
+    private double heapPeakMb;
+
+    @Schema(description = "최대 스레드 수 (프로세스 전체)", example = "64")
+    private int peakThreads;
+}
@@ -0,0 +1,53 @@
+package com.datasolution.dsflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 서비스키별 일일 API 호출 수
+ * 공공데이터 API의 일일 호출 한도를 노드 재시작과 무관하게 추적하기 위해 저장합니다.
+ * 한도 예약도 이 행에서 조건부 UPDATE로 가산하므로 여러 노드가 같은 잔여 한도를 중복으로 예약하지 않습니다.
+ */
+@Entity
+@Table(name = "api_quota_usages",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"serviceKeyHash", "usageDate"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiQuotaUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String serviceKeyHash; // 서비스키 SHA-256 해시 (원문은 저장하지 않음)
+
+    @Column(length = 100)
+    private String serviceKeyLabel; // 화면 표시용 마스킹된 키 (호스트#앞4자리****)
+
+    @Column(nullable = false)
+    private LocalDate usageDate; // 사용일 (한도 기준 시간대)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long callCount = 0L; // 호출 수
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long reservedCount = 0L; // 실행 중인 Job들이 예약했지만 아직 호출 수에 반영되지 않은 호출 수 (모든 노드 합계)
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -93,6 +93,9 @@ public class CodeSyncJob {
     @Column
     private Integer lastSyncCount; // 마지막 동기화된 코드 수
 
+    @Column
+    private Long lastSyncDurationMs; // 마지막 동기화 소요 시간 (ms, 파이프라인 예상 소요 시간 계산용)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,95 @@
+package com.datasolution.dsflow.entity;
+
+import com.datasolution.dsflow.entity.enums.ChunkStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할 실행의 조합 구간 [startOrdinal, endOrdinal)
+ *
+ * 여러 노드가 SELECT ... FOR UPDATE SKIP LOCKED 로 구간을 하나씩 임대(lease)하여 처리합니다.
+ * 임대는 처리 중에 주기적으로 연장하며, 노드가 멈춰 임대가 만료되면 다른 노드가 nextOrdinal부터 이어서 처리합니다.
+ * leaseToken은 임대할 때마다 증가하므로, 임대를 잃은 노드의 늦은 갱신/완료 처리는 반영되지 않습니다.
+ */
+@Entity
+@Table(name = "execution_chunks", indexes = {
+        @Index(name = "idx_execution_chunks_log", columnList = "executionLogId"),
+        @Index(name = "idx_execution_chunks_claim", columnList = "status, leaseExpiresAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long executionLogId; // 실행 로그 ID
+
+    @Column(nullable = false, length = 100)
+    private String jobCode;
+
+    @Column(nullable = false)
+    private Long startOrdinal; // 구간 시작 조합 순번 (포함)
+
+    @Column(nullable = false)
+    private Long endOrdinal; // 구간 끝 조합 순번 (제외)
+
+    @Column(nullable = false)
+    private Long nextOrdinal; // 이 순번 이전의 조합은 모두 저장 완료 (체크포인트)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChunkStatus status;
+
+    private Integer priority; // 실행 우선순위 (ExecutionPriority 선언 순서, 작을수록 먼저 임대)
+
+    @Column(length = 100)
+    private String leaseOwner; // 임대한 노드 ID
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long leaseToken = 0L; // 임대 번호 (임대할 때마다 증가)
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 임대 횟수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long successCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long failCount = 0L;
+
+    @Column(columnDefinition = "TEXT")
+    private String resultLocation; // 구간 결과 저장 위치 (임대마다 한 줄씩, 파일 경로 등)
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -3,6 +3,7 @@ package com.datasolution.dsflow.entity;
 import com.datasolution.dsflow.entity.enums.JobParameterType;
 import com.datasolution.dsflow.entity.enums.JobStatus;
 import com.datasolution.dsflow.entity.enums.MethodType;
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -69,6 +70,29 @@ public class JobDefinition {
     @Builder.Default
     private Integer delaySeconds = 0;
 
+    @Column(name = "timeout_seconds")
+    private Integer timeoutSeconds;
+
+    @Column(name = "retry_count")
+    @Builder.Default
+    private Integer retryCount = 3;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sink_type")
+    private ResultSinkType sinkType;
+
+    @Column(name = "sink_config", columnDefinition = "TEXT")
+    private String sinkConfig;
+
+    @Column(name = "pagination_config", columnDefinition = "TEXT")
+    private String paginationConfig;
+
+    @Column(name = "cache_config", columnDefinition = "TEXT")
+    private String cacheConfig;
+
+    @Column(name = "simulation_profile", length = 50)
+    private String simulationProfile; // 부하 시뮬레이션 프로필 (지정하면 실제 API 대신 모의 API 서버 호출)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
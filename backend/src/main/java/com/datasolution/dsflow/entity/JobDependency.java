@@ -0,0 +1,45 @@
+package com.datasolution.dsflow.entity;
+
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job 선행 작업 (Job 1개가 선행 작업 1개에 의존)
+ *
+ * 선행 작업은 다른 Job 또는 코드 동기화 작업이며, 야간 파이프라인에서 선행 작업이 모두 성공한 뒤에 Job을 실행합니다.
+ */
+@Entity
+@Table(name = "job_dependencies", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_dependencies", columnNames = {"jobDefinitionId", "upstreamType", "upstreamCode"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobDefinitionId; // 후행 Job ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DependencyType upstreamType; // 선행 작업 종류
+
+    @Column(nullable = false, length = 100)
+    private String upstreamCode; // 선행 Job 코드 또는 동기화 작업 코드
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
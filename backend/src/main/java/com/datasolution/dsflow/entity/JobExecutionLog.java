@@ -1,5 +1,6 @@
 package com.datasolution.dsflow.entity;
 
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
 import com.datasolution.dsflow.entity.enums.ExecutionStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -19,8 +20,10 @@ import java.time.LocalDateTime;
 @Builder
 public class JobExecutionLog {
 
+    // 시퀀스 값을 50개씩 미리 받아 두고 INSERT마다 시퀀스를 조회하지 않음 (IDENTITY는 INSERT 배치가 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_execution_log_seq")
+    @SequenceGenerator(name = "job_execution_log_seq", sequenceName = "job_execution_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +55,9 @@ public class JobExecutionLog {
     @Column(columnDefinition = "TEXT")
     private String resultData;
 
+    @Column(length = 500)
+    private String resultManifestPath;
+
     @Column(nullable = false)
     @Builder.Default
     private Integer processedCount = 0;
@@ -67,6 +73,27 @@ public class JobExecutionLog {
     @Column(columnDefinition = "TEXT")
     private String parameters;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ExecutionPriority priority; // 실행 우선순위
+
+    @Column(columnDefinition = "TEXT")
+    private String combinationSpace; // 분할 실행 시 노드들이 공유하는 조합 공간 (JSON)
+
+    @Column(columnDefinition = "TEXT")
+    private String simulationReport; // 부하 시뮬레이션 결과 (JSON)
+
+    private Long startOrdinal; // 이번 실행이 호출한 조합 구간의 시작 순번
+
+    private Long endOrdinal; // 이번 실행이 호출한 조합 구간의 끝 순번 (제외)
+
+    private Long combinationCount; // 실행 시점의 전체 조합 수
+
+    @Column(length = 100)
+    private String ownerNode; // 실행을 조정하는 노드 ID (시작한 노드, 중단되면 이어받은 노드)
+
+    private LocalDateTime heartbeatAt; // 조정 노드가 마지막으로 실행을 갱신한 시각 (lease-seconds보다 오래되면 다른 노드가 이어받음)
+
     public void markAsCompleted() {
         this.status = ExecutionStatus.COMPLETED;
         this.endTime = LocalDateTime.now();
@@ -78,6 +105,18 @@ public class JobExecutionLog {
         this.errorMessage = errorMessage;
     }
 
+    public void markAsStopped() {
+        this.status = ExecutionStatus.STOPPED;
+        this.endTime = LocalDateTime.now();
+    }
+
+    /**
+     * 분할 실행(SPLIT)으로 호출하지 않은 조합이 남았는지 여부 (다음 실행이 endOrdinal부터 이어서 호출)
+     */
+    public boolean isPartial() {
+        return endOrdinal != null && combinationCount != null && endOrdinal < combinationCount;
+    }
+
     public void updateCounts(int processed, int success, int fail) {
         this.processedCount = processed;
         this.successCount = success;
@@ -0,0 +1,53 @@
+package com.datasolution.dsflow.entity;
+
+import com.datasolution.dsflow.entity.enums.RollupPeriod;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job별 실행 통계 집계 (시간별/일별/전체)
+ * 실행 시작 시각(startTime)이 속한 구간에 실행 수를 더하고, 종료 시 결과(성공/실패)와 마지막 종료 시각을 반영합니다.
+ */
+@Entity
+@Table(name = "job_statistics_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_statistics_rollups", columnNames = {"job_definition_id", "period", "bucketStart"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobStatisticsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_definition_id", nullable = false)
+    private JobDefinition jobDefinition;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupPeriod period;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart; // 구간 시작 시각 (전체 집계는 고정값)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long totalExecutions = 0L; // 구간에 시작한 실행 수 (실행 중 포함)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long successfulExecutions = 0L; // COMPLETED로 끝난 실행 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long failedExecutions = 0L; // FAILED로 끝난 실행 수
+
+    private LocalDateTime lastExecutionTime; // 구간에 시작한 실행의 마지막 종료 시각
+}
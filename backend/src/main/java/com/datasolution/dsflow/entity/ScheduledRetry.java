@@ -0,0 +1,45 @@
+package com.datasolution.dsflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정기 실행의 재시도 예정 (Job/기준일당 1행)
+ *
+ * 호출 한도 부족으로 연기(DEFER)되었거나 분할 실행(SPLIT)으로 남은 조합이 있는 기준일을 notBefore에 다시 실행합니다.
+ * 재시도를 실행하는 노드는 행을 삭제하면서 가져가므로, 여러 노드가 같은 재시도를 알고 있어도 1곳에서만 실행합니다.
+ */
+@Entity
+@Table(name = "scheduled_retries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_scheduled_retries", columnNames = {"jobCode", "baseDate"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledRetry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String jobCode;
+
+    @Column(nullable = false)
+    private LocalDate baseDate; // 재시도가 처리할 기준일 (원래 실행의 기준일)
+
+    @Column(nullable = false)
+    private LocalDateTime notBefore; // 재시도 시각 (dsflow.scheduler.zone 기준)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.datasolution.dsflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 잠금 (작업 이름당 1행)
+ *
+ * 잠금은 lockedUntil까지 유효한 임대이며, 만료된 잠금만 조건부 UPDATE로 가져갈 수 있습니다.
+ * fencingToken은 잠금을 가져갈 때마다 증가하므로, 잠금을 잃은 노드의 연장/해제는 반영되지 않습니다.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 200)
+    private String name; // 스케줄 작업 이름 (Job 정기 실행은 job-trigger:{jobCode}:{실행 시각})
+
+    @Column(length = 100)
+    private String lockedBy; // 잠금을 가진 노드 ID
+
+    private LocalDateTime lockedAt; // 잠금 획득 시각
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil; // 잠금 만료 시각
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long fencingToken = 0L; // 잠금 획득 시마다 증가
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
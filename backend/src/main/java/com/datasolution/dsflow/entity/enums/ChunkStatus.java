@@ -0,0 +1,20 @@
+package com.datasolution.dsflow.entity.enums;
+
+public enum ChunkStatus {
+    PENDING("대기"),
+    LEASED("처리 중"),
+    PAUSED("일시정지"),
+    COMPLETED("완료"),
+    FAILED("실패"),
+    CANCELLED("취소됨");
+
+    private final String description;
+
+    ChunkStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
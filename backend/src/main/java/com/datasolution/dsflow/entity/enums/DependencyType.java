@@ -0,0 +1,6 @@
+package com.datasolution.dsflow.entity.enums;
+
+public enum DependencyType {
+    JOB,        // 다른 JobDefinition 실행 완료 후 실행
+    CODE_SYNC   // 코드 동기화 작업(CodeSyncJob) 완료 후 실행 (CODE_CATEGORY: 파라미터 값 갱신)
+}
@@ -0,0 +1,10 @@
+package com.datasolution.dsflow.entity.enums;
+
+/**
+ * 실행 우선순위 (선언 순서가 처리 순서: 앞의 실행이 분할 실행 구간 처리 자리를 먼저 차지)
+ */
+public enum ExecutionPriority {
+    INTERACTIVE,    // 운영자가 직접 요청한 실행
+    SCHEDULED,      // 정기 실행, 파이프라인
+    BACKFILL        // 기간 일괄 실행
+}
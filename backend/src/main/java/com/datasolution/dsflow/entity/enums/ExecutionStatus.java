@@ -3,6 +3,7 @@ package com.datasolution.dsflow.entity.enums;
 public enum ExecutionStatus {
     STARTED("시작됨"),
     RUNNING("실행 중"),
+    PAUSED("일시정지"),
     COMPLETED("완료"),
     FAILED("실패"),
     STOPPED("중단됨");
@@ -0,0 +1,17 @@
+package com.datasolution.dsflow.entity.enums;
+
+public enum ResultSinkType {
+    LOG("실행 로그"),
+    FILE("압축 파일"),
+    DATABASE("DB 테이블");
+
+    private final String description;
+
+    ResultSinkType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,34 @@
+package com.datasolution.dsflow.entity.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupPeriod {
+    HOUR("시간별"),
+    DAY("일별"),
+    TOTAL("전체");
+
+    /** 전체 집계 행의 구간 시작 시각 (구간이 하나뿐이므로 고정값) */
+    private static final LocalDateTime TOTAL_BUCKET = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final String description;
+
+    RollupPeriod(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case TOTAL -> TOTAL_BUCKET;
+        };
+    }
+}
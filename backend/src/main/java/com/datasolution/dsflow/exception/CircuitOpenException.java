@@ -0,0 +1,13 @@
+package com.datasolution.dsflow.exception;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출하지 않고 즉시 실패한 경우
+ */
+public class CircuitOpenException extends ExternalApiException {
+
+    public CircuitOpenException(String host, Duration remaining) {
+        super(String.format("호출 차단 중인 호스트입니다: %s (%d초 후 재시도)", host, Math.max(1, remaining.toSeconds())), 0, false);
+    }
+}
@@ -0,0 +1,26 @@
+package com.datasolution.dsflow.exception;
+
+/**
+ * 외부 API 호출 실패
+ *
+ * 재시도 가능 여부(retryable)에 따라 재시도 및 서킷 브레이커 실패 집계 대상이 결정됩니다.
+ */
+public class ExternalApiException extends RuntimeException {
+
+    private final int statusCode;
+    private final boolean retryable;
+
+    public ExternalApiException(String message, int statusCode, boolean retryable) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryable = retryable;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,11 @@
+package com.datasolution.dsflow.exception;
+
+/**
+ * 스케줄 작업 실행 중 잠금이 만료되어 다른 노드가 가져간 경우 (작업 중단)
+ */
+public class SchedulerLockLostException extends BusinessException {
+
+    public SchedulerLockLostException(String name, long token) {
+        super("스케줄 작업 잠금을 잃어 중단합니다: " + name + " (토큰 " + token + ")");
+    }
+}
@@ -0,0 +1,54 @@
+package com.datasolution.dsflow.execution;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.util.Map;
+
+/**
+ * 파라미터 조합 1건에 대한 API 호출 결과
+ *
+ * 응답 본문은 네트워크 버퍼(DataBuffer) 그대로 전달되며, 결과 저장 단계에서 사용한 뒤 반드시 release 해야 합니다.
+ */
+public record CallResult(long ordinal,
+                         Map<String, Object> parameters,
+                         int statusCode,
+                         DataBuffer body,
+                         long latencyNanos,
+                         Throwable error) {
+
+    public static CallResult of(long ordinal, Map<String, Object> parameters, int statusCode,
+                                DataBuffer body, long latencyNanos) {
+        return new CallResult(ordinal, parameters, statusCode, body, latencyNanos, null);
+    }
+
+    public static CallResult failed(long ordinal, Map<String, Object> parameters, Throwable error, long latencyNanos) {
+        return new CallResult(ordinal, parameters, 0, null, latencyNanos, error);
+    }
+
+    public static CallResult failed(long ordinal, Map<String, Object> parameters, int statusCode,
+                                    Throwable error, long latencyNanos) {
+        return new CallResult(ordinal, parameters, statusCode, null, latencyNanos, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null && statusCode >= 200 && statusCode < 300;
+    }
+
+    public int bodySize() {
+        return body != null ? body.readableByteCount() : 0;
+    }
+
+    public String errorMessage() {
+        if (error != null) {
+            return error.getClass().getSimpleName() + ": " + error.getMessage();
+        }
+        return isSuccess() ? null : "HTTP " + statusCode;
+    }
+
+    public void release() {
+        if (body != null) {
+            DataBufferUtils.release(body);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.entity.ExecutionChunk;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.enums.ChunkStatus;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
+import com.datasolution.dsflow.execution.detail.CallDetailWriter;
+import com.datasolution.dsflow.execution.sink.ResultSinkFactory;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.service.ExecutionChunkService;
+import com.datasolution.dsflow.service.JobStatisticsService;
+import com.datasolution.dsflow.util.CombinationSpace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 실행 분할 조정 (실행을 시작한 노드에서 동작, 그 노드가 중단되면 이어받은 노드에서 동작)
+ *
+ * 작업 분할(dsflow.cluster.work-sharing)이 켜져 있고 조합 수가 구간 크기보다 크면, 조합 공간을 실행 로그에 저장하고
+ * [시작 순번, 끝 순번) 구간 행으로 나누어 등록합니다. 구간은 모든 노드의 ChunkWorker가 임대하여 처리하며,
+ * 이 노드는 구간 상태를 주기적으로 집계하여 실행 로그의 처리 건수를 갱신하고 모든 구간이 끝나면 결과 목록을 만듭니다.
+ * 그 외에는 기존처럼 이 노드에서 전체 조합을 호출합니다.
+ *
+ * 실행을 일시정지하면 대기 구간을 일시정지 상태로 바꾸고, 재개하면 다시 대기 상태로 돌립니다.
+ * 취소하면 대기 구간을 취소하고 처리 중인 구간은 진행 중인 호출을 마친 뒤 반납하며, 처리한 구간까지 결과 목록을 만듭니다.
+ * 구간 상태는 집계 주기마다 실행의 일시정지 여부에 맞춰 다시 맞춥니다. (반납과 재개가 겹친 경우)
+ *
+ * 조정 노드가 중단되면(ExecutionLease 임대 만료) 다른 노드가 adopt()로 이어받아 구간 집계, 결과 목록, 종료 상태 기록을 마칩니다.
+ * 이어받은 실행은 이 노드의 실행 목록에 없으므로 화면에서 일시정지/재개/취소할 수 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkCoordinator {
+
+    private final ReactiveJobExecutor executor;
+    private final ChunkWorker worker;
+    private final ExecutionChunkService chunkService;
+    private final ResultSinkFactory sinkFactory;
+    private final JobExecutionLogRepository logRepository;
+    private final ExecutionLogWriter logWriter;
+    private final CallDetailWriter callDetailWriter;
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ExecutionLease lease;
+    private final JobStatisticsService statisticsService;
+
+    /**
+     * 실행을 구성하는 리액티브 파이프라인을 생성합니다. 구독 시점에 실행이 시작됩니다.
+     */
+    public Mono<ExecutionProgress> execute(ExecutionContext context) {
+        return executor.buildSpace(context).flatMap(space -> {
+            long from = context.fromOrdinal(space.size());
+            long to = context.toOrdinal(space.size());
+            boolean partitioned = shouldPartition(context, to - from);
+            // 분할 승인(SPLIT)이면 같은 기준일의 다음 실행이 끝 순번부터 이어서 호출하도록 호출할 구간을 남김
+            Mono<Integer> prepare = Mono.fromCallable(() -> {
+                logRepository.updateOrdinalRange(context.logId(), from, to, space.size());
+                if (!partitioned && callDetailWriter.isEnabled()) {
+                    // 호출 상세는 조합 순번만 저장하므로 조회 시 파라미터를 다시 계산할 조합 공간을 남김
+                    logRepository.updateCombinationSpace(context.logId(), objectMapper.writeValueAsString(space.snapshot()));
+                }
+                return 0;
+            });
+            return prepare.then(Mono.defer(() -> partitioned
+                    ? executePartitioned(context, space, from, to)
+                    : executor.execute(context, space).map(progress -> {
+                        recordTruncation(context);
+                        return progress;
+                    })));
+        });
+    }
+
+    private boolean shouldPartition(ExecutionContext context, long limit) {
+        return properties.isWorkSharing()
+                && limit > properties.getChunkSize()
+                && sinkFactory.sinkType(context) != ResultSinkType.LOG;
+    }
+
+    private Mono<ExecutionProgress> executePartitioned(ExecutionContext context, CombinationSpace space,
+                                                       long fromOrdinal, long toOrdinal) {
+        ExecutionProgress progress = context.progress();
+        Duration interval = Duration.ofMillis(Math.max(100, properties.getPollIntervalMs()));
+
+        Mono<Integer> prepare = Mono.fromCallable(() -> {
+            logRepository.updateCombinationSpace(context.logId(), objectMapper.writeValueAsString(space.snapshot()));
+            int chunks = chunkService.createChunks(context.logId(), context.jobCode(), fromOrdinal, toOrdinal,
+                    context.priority());
+            logWriter.status(context.logId(), ExecutionStatus.RUNNING);
+            progress.setTotal(toOrdinal - fromOrdinal);
+            log.info("Job {} 분할 실행 시작: {}건 호출, 구간 {}개 ({}건 단위, 노드 {})",
+                    context.jobCode(), toOrdinal - fromOrdinal, chunks, properties.getChunkSize(), properties.getNodeId());
+            // 이 노드도 다음 주기를 기다리지 않고 바로 처리 시작
+            worker.poll();
+            return chunks;
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return prepare
+                .thenMany(Flux.interval(interval, Schedulers.boundedElastic())
+                        .map(tick -> summarize(context))
+                        .takeUntil(ExecutionChunkService.ChunkSummary::isFinished))
+                .last()
+                .map(summary -> finish(context, summary))
+                .doOnCancel(() -> {
+                    int cancelled = chunkService.cancel(context.logId());
+                    worker.stopExecution(context.logId());
+                    log.info("Job {} 분할 실행 취소: 남은 구간 {}개 취소", context.jobCode(), cancelled);
+                });
+    }
+
+    /**
+     * 조정 노드가 중단된 분할 실행을 이어받아 모든 구간이 끝날 때까지 집계하고 종료 상태를 기록합니다.
+     * (ExecutionLease.takeOver로 조정 임대를 가져온 뒤 호출) 구간은 각 노드의 ChunkWorker가 만료된 임대를 다시 가져가 처리합니다.
+     * 일시정지 중이던 실행은 재개할 수 있는 노드가 없으므로 남은 구간을 취소하고 처리한 구간까지로 중단합니다.
+     */
+    public void adopt(JobExecutionLog executionLog) {
+        ExecutionContext context = new ExecutionContext(executionLog.getId(), executionLog.getBatchJobExecutionId(),
+                executionLog.getJobDefinition(), executionLog.getBaseDate(), null, executionLog.getPriority(),
+                new ExecutionControl(), new ExecutionProgress());
+        if (executionLog.getStartOrdinal() != null && executionLog.getEndOrdinal() != null) {
+            context.progress().setTotal(executionLog.getEndOrdinal() - executionLog.getStartOrdinal());
+        }
+        if (executionLog.getStatus() == ExecutionStatus.PAUSED) {
+            context.control().stop();
+        }
+
+        Duration interval = Duration.ofMillis(Math.max(100, properties.getPollIntervalMs()));
+        Flux.interval(Duration.ZERO, interval, Schedulers.boundedElastic())
+                .map(tick -> summarize(context))
+                .takeUntil(ExecutionChunkService.ChunkSummary::isFinished)
+                .last()
+                .map(summary -> finish(context, summary))
+                .subscribe(progress -> completeAdopted(context, null), error -> completeAdopted(context, error));
+    }
+
+    /**
+     * 이어받은 실행의 종료 상태를 기록합니다. (이 노드에서 시작한 실행은 ApiCallJobListener가 기록)
+     */
+    private void completeAdopted(ExecutionContext context, Throwable error) {
+        ExecutionProgress progress = context.progress();
+        try {
+            logWriter.complete(context.logId());
+            logRepository.findWithJobDefinitionById(context.logId())
+                    .filter(executionLog -> executionLog.getEndTime() == null)
+                    .ifPresent(executionLog -> {
+                        executionLog.updateCounts(toInt(progress.getProcessed()), toInt(progress.getSuccess()), toInt(progress.getFail()));
+                        if (error != null) {
+                            executionLog.markAsFailed(error.getMessage());
+                        } else if (context.control().isStopping()) {
+                            executionLog.markAsStopped();
+                        } else if (progress.getProcessed() > 0 && progress.getSuccess() == 0) {
+                            executionLog.markAsFailed(String.format("모든 API 호출이 실패했습니다. (%d건)", progress.getFail()));
+                        } else {
+                            executionLog.markAsCompleted();
+                        }
+                        logRepository.save(executionLog);
+                        statisticsService.recordFinish(executionLog);
+                        log.info("Job {} 이어받은 분할 실행 종료: {} (처리 {}건, 성공 {}건, 실패 {}건)", context.jobCode(),
+                                executionLog.getStatus(), progress.getProcessed(), progress.getSuccess(), progress.getFail());
+                    });
+        } catch (Exception e) {
+            // 임대를 놓으면 다른 노드가 다시 이어받아 마무리
+            log.error("Job {} 이어받은 분할 실행(실행 로그 {}) 종료 기록 실패", context.jobCode(), context.logId(), e);
+        } finally {
+            lease.release(context.logId());
+        }
+    }
+
+    /**
+     * 분할 실행 일시정지. 대기 구간은 임대하지 않고, 이 노드에서 처리 중인 구간은 진행 중인 호출을 마친 뒤 반납합니다.
+     * 다른 노드의 구간은 각 노드의 다음 임대 연장 주기에 멈춥니다.
+     */
+    public void pause(ExecutionContext context) {
+        if (!properties.isWorkSharing()) {
+            return;
+        }
+        int paused = chunkService.pause(context.logId());
+        worker.drainExecution(context.logId(), ChunkStatus.PAUSED);
+        if (paused > 0) {
+            log.info("Job {} 분할 실행 일시정지: 대기 구간 {}개", context.jobCode(), paused);
+        }
+    }
+
+    public void resume(ExecutionContext context) {
+        if (!properties.isWorkSharing()) {
+            return;
+        }
+        worker.resumeExecution(context.logId());
+        int resumed = chunkService.resume(context.logId());
+        if (resumed > 0) {
+            log.info("Job {} 분할 실행 재개: 구간 {}개", context.jobCode(), resumed);
+        }
+        worker.poll();
+    }
+
+    /**
+     * 분할 실행 취소. 대기 구간은 취소하고, 처리 중인 구간은 진행 중인 호출을 마친 뒤 취소 상태로 반납합니다.
+     */
+    public void cancel(ExecutionContext context) {
+        if (!properties.isWorkSharing()) {
+            return;
+        }
+        int cancelled = chunkService.cancelPending(context.logId());
+        worker.drainExecution(context.logId(), ChunkStatus.CANCELLED);
+        if (cancelled > 0) {
+            log.info("Job {} 분할 실행 취소: 대기 구간 {}개 취소, 처리 중인 구간은 호출을 마친 뒤 중단", context.jobCode(), cancelled);
+        }
+    }
+
+    private ExecutionChunkService.ChunkSummary summarize(ExecutionContext context) {
+        ExecutionChunkService.ChunkSummary summary = chunkService.summarize(context.logId());
+        ExecutionControl control = context.control();
+        if (control.isStopping() && summary.count(ChunkStatus.PENDING) + summary.count(ChunkStatus.PAUSED) > 0) {
+            chunkService.cancelPending(context.logId());
+            summary = chunkService.summarize(context.logId());
+        } else if (control.isPaused() && summary.count(ChunkStatus.PENDING) > 0) {
+            chunkService.pause(context.logId());
+        } else if (control.state() == ExecutionControl.State.RUNNING && summary.count(ChunkStatus.PAUSED) > 0) {
+            chunkService.resume(context.logId());
+        }
+        context.progress().setCounts(summary.processed(), summary.success(), summary.fail());
+        logWriter.counts(context.logId(), context.progress());
+        return summary;
+    }
+
+    private ExecutionProgress finish(ExecutionContext context, ExecutionChunkService.ChunkSummary summary) {
+        int failed = summary.count(ChunkStatus.FAILED);
+        if (failed > 0) {
+            throw new IllegalStateException("분할 실행 구간 " + failed + "개가 최대 임대 횟수 안에 처리되지 않았습니다.");
+        }
+        int cancelled = summary.count(ChunkStatus.CANCELLED);
+        if (cancelled > 0 && !context.control().isStopping()) {
+            throw new IllegalStateException("분할 실행 구간 " + cancelled + "개가 취소되었습니다.");
+        }
+        // 호출 한도 부족으로 끝까지 받지 못한 조합이 있는 구간 (완료 시 체크포인트가 구간 끝보다 작음)
+        chunkService.getChunks(context.logId()).stream()
+                .filter(chunk -> chunk.getStatus() == ChunkStatus.COMPLETED && chunk.getNextOrdinal() < chunk.getEndOrdinal())
+                .forEach(chunk -> context.progress().truncate(chunk.getNextOrdinal()));
+        recordTruncation(context);
+        // 취소 요청으로 멈춘 경우에도 처리한 구간까지 결과 목록을 남김
+        try {
+            writeManifest(context);
+        } catch (Exception e) {
+            throw new IllegalStateException("분할 실행 결과 목록 저장 실패", e);
+        }
+        log.info("Job {} 분할 실행 {}: 구간 {}개, 성공 {}건, 실패 {}건", context.jobCode(),
+                context.control().isStopping() ? "중단" : "완료",
+                summary.count(ChunkStatus.COMPLETED), summary.success(), summary.fail());
+        return context.progress();
+    }
+
+    /**
+     * 호출 한도 부족으로 끝까지 받지 못한 조합이 있으면 실행이 호출한 구간의 끝을 그 조합으로 줄입니다.
+     * 실행은 분할 실행(SPLIT)처럼 남은 조합이 있는 완료로 끝나고, 같은 기준일의 다음 실행이 그 조합부터 이어서 호출합니다.
+     * (그 뒤의 조합 중 이번 실행에서 저장한 조합은 한 번 더 저장될 수 있음)
+     */
+    private void recordTruncation(ExecutionContext context) {
+        context.progress().truncatedOrdinal().ifPresent(ordinal -> {
+            logRepository.truncateEndOrdinal(context.logId(), ordinal);
+            log.warn("Job {} 호출 한도 부족으로 조합 #{}부터는 같은 기준일의 다음 실행이 이어서 호출합니다.",
+                    context.jobCode(), ordinal);
+        });
+    }
+
+    /**
+     * 구간별 결과 위치 목록을 만듭니다. 파일 저장이면 실행 경로의 manifest.json에, 그 외에는 실행 로그 resultData에 저장합니다.
+     */
+    private void writeManifest(ExecutionContext context) throws Exception {
+        ObjectNode manifest = objectMapper.createObjectNode();
+        manifest.put("logId", context.logId());
+        manifest.put("format", "parts");
+        ArrayNode parts = manifest.putArray("parts");
+        for (ExecutionChunk chunk : chunkService.getChunks(context.logId())) {
+            ObjectNode part = parts.addObject();
+            part.put("chunkId", chunk.getId());
+            part.put("startOrdinal", chunk.getStartOrdinal());
+            part.put("endOrdinal", chunk.getEndOrdinal());
+            part.put("node", chunk.getLeaseOwner());
+            part.put("attempts", chunk.getAttempts());
+            part.put("processed", chunk.getProcessedCount());
+            ArrayNode locations = part.putArray("locations");
+            ExecutionChunkService.locations(chunk).forEach(locations::add);
+        }
+
+        if (sinkFactory.sinkType(context) == ResultSinkType.FILE) {
+            Path directory = sinkFactory.executionDirectory(context);
+            Files.createDirectories(directory);
+            Path manifestPath = directory.resolve("manifest.json");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifestPath.toFile(), manifest);
+            logRepository.updateResultManifestPath(context.logId(), manifestPath.toString());
+        } else {
+            logRepository.updateResultData(context.logId(), objectMapper.writeValueAsString(manifest));
+        }
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, value);
+    }
+}
@@ -0,0 +1,439 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.config.ExecutionProperties;
+import com.datasolution.dsflow.entity.ExecutionChunk;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.enums.ChunkStatus;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.execution.sink.ResultSink;
+import com.datasolution.dsflow.execution.sink.ResultSinkFactory;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.service.ExecutionChunkService;
+import com.datasolution.dsflow.service.JobAdmissionService;
+import com.datasolution.dsflow.util.CombinationSpace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 분할 실행 구간 처리기 (모든 노드에서 동작)
+ *
+ * 주기적으로 대기 중인 구간을 임대하여 처리하고, 처리 중인 구간은 임대를 연장합니다.
+ * 임대 연장에 실패하면(임대 만료 후 다른 노드가 가져감, 실행 취소) 해당 구간의 처리를 즉시 중단합니다.
+ * 처리에 실패하면 저장소를 닫아 저장 내용을 확정한 뒤, 저장이 끝난 조합 경계(OrdinalWatermark)를 체크포인트로 기록하여
+ * 다음 임대에서 이어서 처리합니다. 노드가 중단되어 임대가 만료된 구간은 마지막 체크포인트부터 다시 처리합니다.
+ * 처리 건수도 체크포인트 앞의 조합까지만 기록하여, 다음 임대가 다시 처리하는 조합을 두 번 집계하지 않습니다.
+ * 조합 공간은 실행 로그에 저장된 것을 사용하므로 모든 노드가 같은 순번에 같은 조합을 호출합니다.
+ *
+ * 구간은 실행 우선순위(INTERACTIVE → SCHEDULED → BACKFILL) 순으로 임대합니다. 처리 자리가 모두 찬 상태에서 더 급한 구간이
+ * 대기 중이면 가장 덜 급한 구간 1개에 양보를 요청합니다. 양보하는 구간은 새 조합을 꺼내지 않고 진행 중인 호출만 마친 뒤
+ * 체크포인트를 기록하여 대기 상태로 돌아가며(임대 횟수에 포함하지 않음), 자리가 나면 바로 급한 구간을 임대합니다.
+ *
+ * 실행을 일시정지/취소하면 같은 방식으로 처리 중인 구간을 멈춰 일시정지(PAUSED)/취소(CANCELLED) 상태로 반납합니다.
+ * 다른 노드에서 일시정지/취소된 실행은 임대 연장 주기에 확인합니다. 정리 기한(dsflow.execution.drain-timeout-ms) 안에
+ * 진행 중인 호출이 끝나지 않으면 구독을 해제하여 호출을 취소하고, 그때까지 저장한 조합 경계를 체크포인트로 반납합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkWorker {
+
+    private final ExecutionChunkService chunkService;
+    private final ReactiveJobExecutor executor;
+    private final ResultSinkFactory sinkFactory;
+    private final JobExecutionLogRepository logRepository;
+    private final ExecutionRegistry registry;
+    private final ClusterProperties properties;
+    private final ExecutionProperties executionProperties;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Long, RunningChunk> running = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드에서 처리 중인 구간
+     */
+    private static final class RunningChunk {
+        private final ExecutionChunk chunk;
+        private final ExecutionContext context;
+        private final OrdinalWatermark watermark;
+        private volatile Disposable subscription;
+        private volatile ResultSink sink;
+        private volatile boolean stopped;
+        private volatile boolean yielding;
+        /** 양보/일시정지/취소 후 반납할 상태 */
+        private volatile ChunkStatus releaseTo = ChunkStatus.PENDING;
+        /** 저장 내용 확정(저장소 종료)에 실패했는지. 이후 종료가 오류 없이 끝나도 저장되었다고 보지 않음 */
+        private volatile boolean closeFailed;
+
+        RunningChunk(ExecutionChunk chunk, ExecutionContext context, OrdinalWatermark watermark) {
+            this.chunk = chunk;
+            this.context = context;
+            this.watermark = watermark;
+        }
+
+        void stop() {
+            stopped = true;
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+
+        /**
+         * 새 조합을 꺼내지 않고 진행 중인 호출을 마친 뒤 status로 반납하도록 합니다.
+         */
+        void yieldTo(ChunkStatus status) {
+            releaseTo = status;
+            yielding = true;
+        }
+    }
+
+    /**
+     * 처리할 수 있는 만큼 구간을 임대하여 시작합니다.
+     */
+    @Scheduled(fixedDelayString = "${dsflow.cluster.poll-interval-ms:5000}")
+    public synchronized void poll() {
+        if (!properties.isWorkSharing()) {
+            return;
+        }
+        int capacity = properties.getMaxConcurrentChunks() - running.size();
+        if (capacity <= 0) {
+            if (properties.isPreemption()) {
+                preempt();
+            }
+            return;
+        }
+        List<ExecutionChunk> claimed;
+        try {
+            claimed = chunkService.claim(capacity);
+        } catch (Exception e) {
+            log.warn("구간 임대 실패: {}", e.getMessage());
+            return;
+        }
+        for (ExecutionChunk chunk : claimed) {
+            try {
+                start(chunk);
+            } catch (Exception e) {
+                log.error("구간 {} 처리 시작 실패", chunk.getId(), e);
+                chunkService.fail(chunk, chunk.getNextOrdinal(), progressOf(chunk), e, null);
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 구간의 임대를 연장하고 체크포인트를 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${dsflow.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        for (RunningChunk chunk : running.values()) {
+            boolean renewed;
+            try {
+                renewed = chunkService.renew(chunk.chunk);
+            } catch (Exception e) {
+                // DB 일시 장애. 임대 만료 전까지 다음 주기에 다시 시도
+                log.warn("구간 {} 임대 연장 실패: {}", chunk.chunk.getId(), e.getMessage());
+                continue;
+            }
+            if (!renewed) {
+                log.warn("구간 {} 임대를 잃어 처리를 중단합니다. (Job {}, 실행 로그 {})",
+                        chunk.chunk.getId(), chunk.chunk.getJobCode(), chunk.chunk.getExecutionLogId());
+                chunk.stop();
+            }
+        }
+        holdStoppedExecutions();
+    }
+
+    /**
+     * 다른 노드에서 일시정지/취소된 실행의 구간을 멈춥니다.
+     */
+    private void holdStoppedExecutions() {
+        Set<Long> executionLogIds = running.values().stream()
+                .filter(chunk -> !chunk.yielding && !chunk.stopped)
+                .map(chunk -> chunk.chunk.getExecutionLogId())
+                .collect(Collectors.toSet());
+        if (executionLogIds.isEmpty()) {
+            return;
+        }
+        try {
+            chunkService.findHeldExecutions(executionLogIds).forEach(this::drainExecution);
+        } catch (Exception e) {
+            log.warn("일시정지/취소된 실행 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실행의 구간 중 이 노드에서 처리 중인 구간이 진행 중인 호출을 마친 뒤 status(PAUSED/CANCELLED)로 반납하도록 합니다.
+     * 정리 기한 안에 끝나지 않으면 진행 중인 호출을 취소하고 체크포인트까지 반납합니다.
+     */
+    public void drainExecution(Long executionLogId, ChunkStatus status) {
+        Duration timeout = Duration.ofMillis(Math.max(0, executionProperties.getDrainTimeoutMs()));
+        running.values().stream()
+                .filter(chunk -> chunk.chunk.getExecutionLogId().equals(executionLogId) && !chunk.stopped)
+                .forEach(chunk -> {
+                    // 양보 중인 구간은 정리 기한이 없으므로 새로 예약
+                    boolean scheduled = chunk.yielding && chunk.releaseTo != ChunkStatus.PENDING;
+                    chunk.yieldTo(status);
+                    log.info("구간 {} 정리 시작: 진행 중인 호출을 마친 뒤 {} 상태로 반납합니다.", chunk.chunk.getId(), status);
+                    if (!scheduled) {
+                        Schedulers.parallel().schedule(() -> abandon(chunk), timeout.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                });
+    }
+
+    /**
+     * 일시정지 중 반납을 기다리는 구간은 대기 상태로 반납하도록 되돌립니다. (실행 재개)
+     */
+    public void resumeExecution(Long executionLogId) {
+        running.values().stream()
+                .filter(chunk -> chunk.chunk.getExecutionLogId().equals(executionLogId)
+                        && chunk.releaseTo == ChunkStatus.PAUSED)
+                .forEach(chunk -> chunk.releaseTo = ChunkStatus.PENDING);
+    }
+
+    /**
+     * 정리 기한 안에 반납하지 못한 구간의 진행 중인 호출을 취소하고, 저장이 끝난 조합 경계까지 반납합니다.
+     */
+    private void abandon(RunningChunk chunk) {
+        if (running.get(chunk.chunk.getId()) != chunk || chunk.stopped || !chunk.yielding) {
+            return;
+        }
+        log.warn("구간 {} 진행 중인 호출이 정리 기한 안에 끝나지 않아 취소합니다.", chunk.chunk.getId());
+        chunk.stop();
+        ResultSink sink = chunk.sink;
+        String location = null;
+        long nextOrdinal = chunk.chunk.getNextOrdinal();
+        ExecutionProgress progress = progressOf(chunk.chunk);
+        if (chunk.closeFailed) {
+            log.warn("구간 {} 결과 저장소 종료에 실패했으므로 임대 시작 위치부터 다시 처리합니다.", chunk.chunk.getId());
+        } else {
+            try {
+                if (sink != null) {
+                    synchronized (sink) {
+                        sink.close();
+                    }
+                    location = sink.location();
+                }
+                nextOrdinal = chunk.watermark.next();
+                progress = checkpointOf(chunk);
+            } catch (Exception e) {
+                chunk.closeFailed = true;
+                log.warn("구간 {} 결과 저장소 종료 실패, 임대 시작 위치부터 다시 처리합니다.", chunk.chunk.getId(), e);
+            }
+        }
+        try {
+            if (chunkService.release(chunk.chunk, chunk.releaseTo, nextOrdinal, progress, location)) {
+                log.info("구간 {} 반납 완료: {} (체크포인트 {})", chunk.chunk.getId(), chunk.releaseTo, nextOrdinal);
+            }
+        } catch (Exception e) {
+            log.warn("구간 {} 반납 실패: {} (임대 만료 후 다시 처리)", chunk.chunk.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 실행의 구간 중 이 노드에서 처리 중인 구간을 중단합니다. (실행 취소)
+     */
+    public void stopExecution(Long executionLogId) {
+        running.values().stream()
+                .filter(chunk -> chunk.chunk.getExecutionLogId().equals(executionLogId))
+                .forEach(RunningChunk::stop);
+    }
+
+    /**
+     * 처리 자리가 모두 찬 상태에서 더 급한 구간이 대기 중이면, 가장 덜 급한 구간 1개에 양보를 요청합니다.
+     * 한 번에 1개씩만 양보시켜 처리량 감소를 최소화합니다.
+     */
+    private void preempt() {
+        if (running.values().stream().anyMatch(chunk -> chunk.yielding)) {
+            return;
+        }
+        Integer urgent;
+        try {
+            urgent = chunkService.mostUrgentClaimablePriority();
+        } catch (Exception e) {
+            log.warn("대기 중인 구간 우선순위 확인 실패: {}", e.getMessage());
+            return;
+        }
+        if (urgent == null) {
+            return;
+        }
+        running.values().stream()
+                .filter(chunk -> !chunk.stopped && ExecutionChunkService.rank(chunk.chunk) > urgent)
+                .max(Comparator.comparingInt((RunningChunk chunk) -> ExecutionChunkService.rank(chunk.chunk))
+                        .thenComparing(chunk -> chunk.chunk.getId()))
+                .ifPresent(victim -> {
+                    log.info("구간 {} ({}) 처리 자리를 우선순위 {} 구간에 양보합니다. 진행 중인 호출을 마친 뒤 체크포인트부터 다시 대기합니다.",
+                            victim.chunk.getId(), victim.context.priority(), ExecutionPriority.values()[urgent]);
+                    victim.yieldTo(ChunkStatus.PENDING);
+                });
+    }
+
+    public int runningCount() {
+        return running.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리 중인 구간은 임대 만료 후 다른 노드가 체크포인트부터 이어서 처리
+        running.values().forEach(RunningChunk::stop);
+    }
+
+    private void start(ExecutionChunk chunk) throws Exception {
+        JobExecutionLog executionLog = logRepository.findWithJobDefinitionById(chunk.getExecutionLogId())
+                .orElseThrow(() -> new IllegalStateException("실행 로그를 찾을 수 없습니다: " + chunk.getExecutionLogId()));
+        if (executionLog.getCombinationSpace() == null) {
+            throw new IllegalStateException("실행 로그에 조합 공간이 없습니다: " + chunk.getExecutionLogId());
+        }
+        CombinationSpace space = CombinationSpace.of(
+                objectMapper.readValue(executionLog.getCombinationSpace(), CombinationSpace.Snapshot.class));
+
+        // 실행을 시작한 노드이면 그 실행의 호출 한도 예약을 함께 사용
+        JobAdmissionService.Admission admission = registry.find(executionLog.getBatchJobExecutionId())
+                .map(execution -> execution.getContext().admission())
+                .orElse(null);
+        ExecutionContext context = new ExecutionContext(executionLog.getId(), executionLog.getBatchJobExecutionId(),
+                executionLog.getJobDefinition(), executionLog.getBaseDate(), admission,
+                executionLog.getPriority() != null ? executionLog.getPriority() : ExecutionPriority.SCHEDULED,
+                new ExecutionControl(), progressOf(chunk));
+        OrdinalWatermark watermark = new OrdinalWatermark(chunk.getNextOrdinal());
+        RunningChunk runningChunk = new RunningChunk(chunk, context, watermark);
+        running.put(chunk.getId(), runningChunk);
+
+        log.info("구간 {} 처리 시작: Job {} 조합 {}~{} (체크포인트 {}, {}번째 임대, {})", chunk.getId(), chunk.getJobCode(),
+                chunk.getStartOrdinal(), chunk.getEndOrdinal() - 1, chunk.getNextOrdinal(), chunk.getAttempts(),
+                context.priority());
+
+        // 임대마다 별도 경로에 저장하여 이전 임대에서 저장한 결과를 덮어쓰지 않음
+        String partName = String.format("part-%06d-%02d", chunk.getId(), chunk.getLeaseToken());
+        runningChunk.subscription = Mono.using(
+                        () -> runningChunk.sink = sinkFactory.openPart(context, partName,
+                                chunk.getNextOrdinal(), chunk.getEndOrdinal()),
+                        sink -> executor.executeRange(context, space,
+                                        chunk.getNextOrdinal(), chunk.getEndOrdinal(), sink, watermark,
+                                        () -> runningChunk.yielding)
+                                .map(progress -> {
+                                    // 저장 내용을 확정한 뒤 완료(양보/일시정지/취소한 경우 반납) 처리
+                                    closeOrThrow(runningChunk, sink);
+                                    long nextOrdinal = watermark.next();
+                                    ExecutionProgress checkpoint = checkpointOf(runningChunk);
+                                    if (runningChunk.yielding && nextOrdinal < chunk.getEndOrdinal()) {
+                                        ChunkStatus status = runningChunk.releaseTo;
+                                        if (chunkService.release(chunk, status, nextOrdinal, checkpoint, sink.location())) {
+                                            log.info("구간 {} 반납 완료: {} (체크포인트 {})", chunk.getId(), status, nextOrdinal);
+                                        } else {
+                                            log.warn("구간 {} 임대를 잃어 반납하지 못했습니다. (다른 노드가 다시 처리)", chunk.getId());
+                                        }
+                                    } else if (!chunkService.complete(chunk,
+                                            // 호출 한도 부족으로 끝까지 받지 못한 조합이 있으면 그 앞까지만 완료
+                                            progress.isTruncated() ? nextOrdinal : chunk.getEndOrdinal(),
+                                            checkpoint, sink.location())) {
+                                        log.warn("구간 {} 임대를 잃어 완료 처리하지 못했습니다. (다른 노드가 다시 처리)", chunk.getId());
+                                    }
+                                    return progress;
+                                })
+                                .doOnError(error -> failed(runningChunk, sink, error)),
+                        ChunkWorker::close)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> {
+                    running.remove(chunk.getId());
+                    if (runningChunk.yielding) {
+                        // 다음 주기를 기다리지 않고 급한 구간을 바로 임대
+                        Schedulers.boundedElastic().schedule(this::poll);
+                    }
+                })
+                .subscribe(
+                        progress -> log.info("구간 {} 처리 {}: 성공 {}건, 실패 {}건", chunk.getId(),
+                                watermark.next() < chunk.getEndOrdinal() ? "중단" : "완료", progress.getSuccess(), progress.getFail()),
+                        error -> {
+                            // 실패 기록은 저장소를 닫기 전에 failed()에서 처리
+                        });
+        if (runningChunk.stopped) {
+            runningChunk.subscription.dispose();
+        }
+    }
+
+    private void failed(RunningChunk chunk, ResultSink sink, Throwable error) {
+        long nextOrdinal = chunk.chunk.getNextOrdinal();
+        ExecutionProgress progress = progressOf(chunk.chunk);
+        String location = null;
+        if (chunk.closeFailed) {
+            // 저장 내용을 확정하지 못했으므로 임대 시작 위치부터 다시 처리
+            log.error("구간 {} 처리 실패 (결과 저장소 종료 실패, 체크포인트 {})", chunk.chunk.getId(), nextOrdinal, error);
+            recordFailure(chunk, nextOrdinal, progress, error, null);
+            return;
+        }
+        try {
+            sink.close();
+            // 저장 내용이 확정되었으므로 저장이 끝난 조합까지 체크포인트로 기록
+            nextOrdinal = chunk.watermark.next();
+            progress = checkpointOf(chunk);
+            location = sink.location();
+        } catch (Exception e) {
+            chunk.closeFailed = true;
+            log.warn("구간 {} 결과 저장소 종료 실패, 임대 시작 위치부터 다시 처리합니다.", chunk.chunk.getId(), e);
+        }
+        log.error("구간 {} 처리 실패 (체크포인트 {})", chunk.chunk.getId(), nextOrdinal, error);
+        recordFailure(chunk, nextOrdinal, progress, error, location);
+    }
+
+    private void recordFailure(RunningChunk chunk, long nextOrdinal, ExecutionProgress progress,
+                               Throwable error, String location) {
+        try {
+            chunkService.fail(chunk.chunk, nextOrdinal, progress, error, location);
+        } catch (Exception e) {
+            log.warn("구간 {} 실패 기록 실패: {} (임대 만료 후 다시 처리)", chunk.chunk.getId(), e.getMessage());
+        }
+    }
+
+    private static ExecutionProgress progressOf(ExecutionChunk chunk) {
+        ExecutionProgress progress = new ExecutionProgress();
+        progress.setTotal(chunk.getEndOrdinal() - chunk.getStartOrdinal());
+        progress.setCounts(chunk.getProcessedCount(), chunk.getSuccessCount(), chunk.getFailCount());
+        return progress;
+    }
+
+    /**
+     * 체크포인트와 함께 기록할 처리 건수. 이전 임대까지의 건수에 이번 임대에서 체크포인트 앞의 조합으로 저장한 결과만 더합니다.
+     * (체크포인트 뒤의 조합은 다음 임대가 다시 처리하므로 포함하면 두 번 집계됨)
+     */
+    private static ExecutionProgress checkpointOf(RunningChunk chunk) {
+        ExecutionProgress progress = progressOf(chunk.chunk);
+        OrdinalWatermark watermark = chunk.watermark;
+        progress.setCounts(progress.getProcessed() + watermark.processed(),
+                progress.getSuccess() + watermark.success(),
+                progress.getFail() + watermark.fail());
+        return progress;
+    }
+
+    private static void closeOrThrow(RunningChunk chunk, ResultSink sink) {
+        try {
+            sink.close();
+        } catch (Exception e) {
+            chunk.closeFailed = true;
+            throw new IllegalStateException("구간 결과 저장소 종료 실패", e);
+        }
+    }
+
+    private static void close(ResultSink sink) {
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.error("구간 결과 저장소 종료 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.service.JobAdmissionService;
+
+import java.time.LocalDate;
+
+/**
+ * 실행 1건의 정보 (실행 로그, Spring Batch 실행 ID, 실행 승인 결과, 우선순위, 일시정지/중단 제어)
+ */
+public record ExecutionContext(Long logId,
+                               Long jobExecutionId,
+                               JobDefinition jobDefinition,
+                               LocalDate baseDate,
+                               JobAdmissionService.Admission admission,
+                               ExecutionPriority priority,
+                               ExecutionControl control,
+                               ExecutionProgress progress) {
+
+    /**
+     * 이번 실행에서 호출할 수 있는 최대 조합 수 (분할 실행인 경우 승인된 수만큼)
+     */
+    public long admittedCalls() {
+        return admission != null ? admission.admittedCalls() : Long.MAX_VALUE;
+    }
+
+    /**
+     * 이번 실행이 호출할 조합 구간의 시작 순번 (앞선 분할 실행의 남은 조합을 이어서 호출하면 0보다 큼)
+     */
+    public long fromOrdinal(long size) {
+        return Math.min(size, admission != null ? admission.startOrdinal() : 0);
+    }
+
+    /**
+     * 이번 실행이 호출할 조합 구간의 끝 순번 (제외)
+     */
+    public long toOrdinal(long size) {
+        long from = fromOrdinal(size);
+        return from + Math.min(size - from, admittedCalls());
+    }
+
+    public String jobCode() {
+        return jobDefinition.getJobCode();
+    }
+}
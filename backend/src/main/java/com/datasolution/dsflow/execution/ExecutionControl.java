@@ -0,0 +1,154 @@
+package com.datasolution.dsflow.execution;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 1건의 일시정지/재개/중단 제어 (이 노드의 실행 파이프라인)
+ *
+ * 일시정지/중단을 요청하면 즉시 새 조합을 꺼내지 않고, 진행 중인 호출은 끝날 때까지 기다립니다. (drain)
+ * 진행 중인 호출이 모두 끝나면 drained 신호를 보내며, 기한 안에 끝나지 않은 호출은 interrupt로 취소합니다.
+ * 일시정지 중 취소된 호출의 조합은 재개 후 다시 호출합니다.
+ */
+public class ExecutionControl {
+
+    public enum State {
+        RUNNING,    // 실행 중
+        PAUSED,     // 일시정지 (새 조합을 꺼내지 않음)
+        STOPPING    // 중단 중 (남은 조합을 호출하지 않고 종료)
+    }
+
+    private volatile State state = State.RUNNING;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Runnable> drainListeners = new CopyOnWriteArrayList<>();
+
+    /** 일시정지 해제(재개/중단) 신호. 일시정지할 때마다 새로 만듦 */
+    private Sinks.Empty<Void> released = Sinks.empty();
+    /** 진행 중인 호출 취소 신호. 재개할 때마다 새로 만듦 */
+    private Sinks.One<Boolean> interruption = Sinks.one();
+    /** 일시정지/중단 후 진행 중인 호출이 모두 끝났다는 신호 */
+    private Sinks.Empty<Void> drained = Sinks.empty();
+
+    public State state() {
+        return state;
+    }
+
+    public boolean isPaused() {
+        return state == State.PAUSED;
+    }
+
+    public boolean isStopping() {
+        return state == State.STOPPING;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return 실행 중이 아니어서 일시정지하지 못했으면 false
+     */
+    public synchronized boolean pause() {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        state = State.PAUSED;
+        released = Sinks.empty();
+        drained = Sinks.empty();
+        checkDrained();
+        return true;
+    }
+
+    /**
+     * @return 일시정지 상태가 아니어서 재개하지 못했으면 false
+     */
+    public synchronized boolean resume() {
+        if (state != State.PAUSED) {
+            return false;
+        }
+        state = State.RUNNING;
+        interruption = Sinks.one();
+        released.tryEmitEmpty();
+        return true;
+    }
+
+    /**
+     * 남은 조합을 호출하지 않고 진행 중인 호출만 마친 뒤 끝내도록 합니다.
+     */
+    public synchronized void stop() {
+        if (state == State.STOPPING) {
+            return;
+        }
+        if (state == State.RUNNING) {
+            drained = Sinks.empty();
+        }
+        state = State.STOPPING;
+        released.tryEmitEmpty();
+        checkDrained();
+    }
+
+    /**
+     * 진행 중인 호출을 취소합니다. (일시정지 기한 초과) 취소된 조합은 재개 후 다시 호출합니다.
+     */
+    public synchronized void interrupt() {
+        interruption.tryEmitValue(Boolean.TRUE);
+    }
+
+    /**
+     * 새 조합을 꺼내도 될 때 완료되는 Mono (일시정지 중이면 재개/중단까지 대기)
+     */
+    public Mono<Void> whenAdmitting() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                return state == State.PAUSED ? released.asMono() : Mono.<Void>empty();
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 호출 취소 신호 (호출 시작 시점의 신호를 구독)
+     */
+    public synchronized Mono<Boolean> interruption() {
+        return interruption.asMono();
+    }
+
+    /**
+     * 일시정지/중단 후 진행 중인 호출이 모두 끝나면 완료되는 Mono
+     */
+    public synchronized Mono<Void> drained() {
+        return drained.asMono();
+    }
+
+    /**
+     * 일시정지 후 진행 중인 호출이 모두 끝날 때마다 호출됩니다. (별도 스레드)
+     */
+    public void onDrained(Runnable listener) {
+        drainListeners.add(listener);
+    }
+
+    void callStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void callFinished() {
+        if (inFlight.decrementAndGet() == 0 && state != State.RUNNING) {
+            synchronized (this) {
+                checkDrained();
+            }
+        }
+    }
+
+    private void checkDrained() {
+        if (state == State.RUNNING || inFlight.get() > 0) {
+            return;
+        }
+        if (drained.tryEmitEmpty() == Sinks.EmitResult.OK && state == State.PAUSED) {
+            drainListeners.forEach(listener -> Schedulers.boundedElastic().schedule(listener));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 시작된 실행의 식별자와 종료 시점에 완료되는 Future
+ */
+public record ExecutionHandle(Long jobExecutionId, CompletableFuture<ExecutionStatus> completion) {
+}
@@ -0,0 +1,89 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 조정 임대 (실행 로그의 ownerNode, heartbeatAt)
+ *
+ * 실행을 조정하는 노드(시작한 노드, 조정 노드가 중단되어 이어받은 노드)는 heartbeat-interval-ms마다 실행 로그의 갱신 시각을 기록합니다.
+ * 갱신 시각이 lease-seconds보다 오래된 진행 중인 실행은 조정 노드가 중단된 것으로 보고 다른 노드가 조건부 UPDATE로 이어받습니다.
+ * DB 장애 등으로 lease-seconds 동안 갱신하지 못하면 노드가 살아 있어도 다른 노드가 이어받을 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionLease {
+
+    private final ExecutionRegistry registry;
+    private final JobExecutionLogRepository logRepository;
+    private final ClusterProperties properties;
+
+    /** 이 노드가 이어받아 조정 중인 실행 로그 ID (이 노드에서 시작한 실행은 실행 목록에 있음) */
+    private final Set<Long> adopted = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelayString = "${dsflow.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        Set<Long> logIds = new HashSet<>(adopted);
+        registry.getRunningExecutions().forEach(execution -> logIds.add(execution.getContext().logId()));
+        if (logIds.isEmpty()) {
+            return;
+        }
+        try {
+            int updated = logRepository.heartbeat(logIds, properties.getNodeId(), LocalDateTime.now());
+            if (updated < logIds.size()) {
+                log.debug("실행 {}건 중 {}건만 조정 임대를 갱신했습니다. (종료되었거나 다른 노드가 이어받음)", logIds.size(), updated);
+            }
+        } catch (Exception e) {
+            // 임대 만료 전까지 다음 주기에 다시 시도
+            log.warn("실행 조정 임대 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 시각 이전에 갱신이 끊긴 실행은 조정 노드가 중단된 것으로 봄
+     */
+    public LocalDateTime expiredBefore() {
+        return LocalDateTime.now().minusSeconds(properties.getLeaseSeconds());
+    }
+
+    /**
+     * 실행을 조정하는 노드가 살아 있는지 (이 노드의 실행 목록에 있거나 임대 기간 안에 갱신됨)
+     */
+    public boolean isLive(JobExecutionLog executionLog) {
+        if (registry.find(executionLog.getBatchJobExecutionId()).isPresent() || adopted.contains(executionLog.getId())) {
+            return true;
+        }
+        return executionLog.getHeartbeatAt() != null && !executionLog.getHeartbeatAt().isBefore(expiredBefore());
+    }
+
+    /**
+     * 조정 노드가 중단된 실행을 이 노드가 이어받습니다.
+     *
+     * @return 다른 노드가 먼저 이어받았거나 조정 노드가 다시 갱신했으면 false
+     */
+    public boolean takeOver(Long logId) {
+        if (logRepository.takeOver(logId, properties.getNodeId(), LocalDateTime.now(), expiredBefore()) == 0) {
+            return false;
+        }
+        adopted.add(logId);
+        return true;
+    }
+
+    /**
+     * 이어받은 실행을 마쳤으면 갱신을 멈춥니다.
+     */
+    public void release(Long logId) {
+        adopted.remove(logId);
+    }
+}
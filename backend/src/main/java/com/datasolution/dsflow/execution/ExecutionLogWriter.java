@@ -0,0 +1,217 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ExecutionProperties;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.util.DatabasePlatform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실행 로그 비동기 기록기
+ *
+ * 실행 중 처리 건수와 상태 변경을 실행 로그 ID별로 메모리에 모아 두고(같은 실행의 변경은 마지막 값만 남김),
+ * 전용 스레드가 주기(progressFlushIntervalMs)마다 또는 모인 실행 수가 progressFlushBatchSize에 이르면 JDBC 배치 UPDATE로 반영합니다.
+ * 기록 요청은 대기하지 않으므로 Job 실행 스레드가 실행 로그 I/O를 기다리지 않습니다.
+ * 상태 변경(실행 중/일시정지)은 드물고 화면에 바로 보여야 하므로 다음 주기를 기다리지 않고 곧바로 반영을 요청합니다.
+ *
+ * 종료 상태는 ApiCallJobListener가 직접 저장하며, 그 전에 complete()로 남은 변경을 버립니다.
+ * 이미 종료된 실행 로그(end_time 있음)는 갱신하지 않으므로 반영 중이던 배치가 종료 상태를 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class ExecutionLogWriter {
+
+    private static final String UPDATE_COUNTS = "UPDATE job_execution_logs SET processed_count = ?, success_count = ?, fail_count = ? "
+            + "WHERE id = ? AND end_time IS NULL";
+    private static final String UPDATE_STATUS = "UPDATE job_execution_logs SET status = ? WHERE id = ? AND end_time IS NULL";
+    // 기존 IDENTITY 컬럼 값 이후부터 시퀀스를 사용하도록 맞춤 (ddl-auto: update로 시퀀스가 새로 만들어진 경우)
+    private static final String ALIGN_SEQUENCE = "SELECT setval('job_execution_logs_seq', GREATEST("
+            + "(SELECT COALESCE(MAX(id), 1) FROM job_execution_logs), (SELECT last_value FROM job_execution_logs_seq)))";
+
+    /**
+     * 반영 대기 중인 변경 (null인 항목은 변경 없음)
+     */
+    private record Pending(Integer processed, Integer success, Integer fail, ExecutionStatus status) {
+
+        /** 나중 변경의 값이 우선 */
+        Pending merge(Pending newer) {
+            boolean counts = newer.processed != null;
+            return new Pending(counts ? newer.processed : processed, counts ? newer.success : success,
+                    counts ? newer.fail : fail, newer.status != null ? newer.status : status);
+        }
+    }
+
+    private final ExecutionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final Counter flushedRows;
+
+    public ExecutionLogWriter(ExecutionProperties properties, JdbcTemplate jdbcTemplate, DataSource dataSource,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, properties.getProgressFlushIntervalMs());
+        executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        this.flushedRows = Counter.builder("dsflow.execution.log-writer.flushed")
+                .description("실행 로그 기록기가 반영한 UPDATE 수").register(meterRegistry);
+        Gauge.builder("dsflow.execution.log-writer.pending", pending, Map::size)
+                .description("반영 대기 중인 실행 로그 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignSequence() {
+        if (DatabasePlatform.detect(dataSource) != DatabasePlatform.POSTGRESQL) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForObject(ALIGN_SEQUENCE, Long.class);
+        } catch (Exception e) {
+            log.warn("실행 로그 ID 시퀀스 정렬 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 건수를 기록합니다.
+     */
+    public void counts(long logId, ExecutionProgress progress) {
+        enqueue(logId, new Pending(toInt(progress.getProcessed()), toInt(progress.getSuccess()), toInt(progress.getFail()), null));
+    }
+
+    /**
+     * 실행 상태를 기록하고 곧바로 반영을 요청합니다.
+     */
+    public void status(long logId, ExecutionStatus status) {
+        enqueue(logId, new Pending(null, null, null, status));
+        requestFlush();
+    }
+
+    /**
+     * 종료된 실행의 남은 변경을 버립니다. (종료 상태와 최종 건수는 호출한 쪽에서 저장)
+     */
+    public void complete(long logId) {
+        pending.remove(logId);
+    }
+
+    /**
+     * 모인 변경을 반영합니다. 실패하면 그 사이 들어온 변경과 합쳐 다음 반영 때 다시 시도합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            if (pending.isEmpty()) {
+                return;
+            }
+            Map<Long, Pending> batch = new HashMap<>();
+            for (Long logId : List.copyOf(pending.keySet())) {
+                Pending value = pending.remove(logId);
+                if (value != null) {
+                    batch.put(logId, value);
+                }
+            }
+            try {
+                write(batch);
+            } catch (Exception e) {
+                batch.forEach((logId, value) -> pending.merge(logId, value, (newer, older) -> older.merge(newer)));
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private void enqueue(long logId, Pending value) {
+        pending.merge(logId, value, Pending::merge);
+        if (pending.size() >= properties.getProgressFlushBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("실행 로그 반영 실패 (다음 주기에 다시 시도, 대기 {}건): {}", pending.size(), e.getMessage());
+        }
+    }
+
+    private void write(Map<Long, Pending> batch) {
+        List<Object[]> counts = new ArrayList<>();
+        List<Object[]> statuses = new ArrayList<>();
+        batch.forEach((logId, value) -> {
+            if (value.processed() != null) {
+                counts.add(new Object[]{value.processed(), value.success(), value.fail(), logId});
+            }
+            if (value.status() != null) {
+                statuses.add(new Object[]{value.status().name(), logId});
+            }
+        });
+        if (!counts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_COUNTS, counts);
+        }
+        if (!statuses.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATUS, statuses);
+        }
+        flushedRows.increment(counts.size() + statuses.size());
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+}
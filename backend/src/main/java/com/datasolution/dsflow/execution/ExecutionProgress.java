@@ -0,0 +1,87 @@
+package com.datasolution.dsflow.execution;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 Job의 처리 건수
+ */
+public class ExecutionProgress {
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong success = new AtomicLong();
+    private final AtomicLong fail = new AtomicLong();
+    private final AtomicLong truncated = new AtomicLong(Long.MAX_VALUE);
+
+    public void setTotal(long total) {
+        this.total.set(total);
+    }
+
+    /**
+     * 실행 중에 늘어난 호출 수(나머지 페이지)를 더합니다.
+     */
+    public void addTotal(long delta) {
+        total.addAndGet(delta);
+    }
+
+    /**
+     * 처리 건수를 지정한 값으로 바꿉니다. (체크포인트에서 이어서 처리하거나 구간별 건수를 합산할 때)
+     */
+    public void setCounts(long processed, long success, long fail) {
+        this.processed.set(processed);
+        this.success.set(success);
+        this.fail.set(fail);
+    }
+
+    public void record(CallResult result) {
+        processed.incrementAndGet();
+        if (result.isSuccess()) {
+            success.incrementAndGet();
+        } else {
+            fail.incrementAndGet();
+        }
+    }
+
+    /**
+     * 호출 한도가 부족해 나머지 페이지를 받지 못한 조합을 기록합니다. 이 조합부터는 같은 기준일의 다음 실행이 이어서 호출합니다.
+     */
+    public void truncate(long ordinal) {
+        truncated.accumulateAndGet(ordinal, Math::min);
+    }
+
+    /**
+     * 나머지 페이지를 받지 못한 첫 조합 순번 (없으면 empty)
+     */
+    public OptionalLong truncatedOrdinal() {
+        long ordinal = truncated.get();
+        return ordinal == Long.MAX_VALUE ? OptionalLong.empty() : OptionalLong.of(ordinal);
+    }
+
+    /**
+     * 조합을 끝까지 받지 못한 것으로 봐야 하는지 (나머지 페이지를 받지 못한 첫 조합과 그 뒤의 조합)
+     */
+    public boolean isTruncated(long ordinal) {
+        return ordinal >= truncated.get();
+    }
+
+    public boolean isTruncated() {
+        return truncated.get() != Long.MAX_VALUE;
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getSuccess() {
+        return success.get();
+    }
+
+    public long getFail() {
+        return fail.get();
+    }
+}
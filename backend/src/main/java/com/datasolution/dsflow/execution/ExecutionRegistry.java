@@ -0,0 +1,134 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.service.JobAdmissionService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이 노드에서 실행 중인 Job 목록
+ *
+ * 실행 요청 시점(launchId)부터 Spring Batch Job이 끝날 때까지의 상태를 보관합니다.
+ * 실행 중단은 새 조합 호출을 멈추고 진행 중인 호출을 마치게 하며(ExecutionControl),
+ * 기한 안에 끝나지 않으면 리액티브 파이프라인의 구독(Disposable)을 해제하여 진행 중인 호출까지 취소합니다.
+ */
+@Component
+@Slf4j
+public class ExecutionRegistry {
+
+    private final ConcurrentMap<String, PendingLaunch> pendingLaunches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, RunningExecution> runningExecutions = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 요청 후 Spring Batch Job이 시작되기 전까지의 정보
+     */
+    public record PendingLaunch(JobDefinition jobDefinition,
+                                LocalDate baseDate,
+                                JobAdmissionService.Admission admission,
+                                ExecutionPriority priority,
+                                CompletableFuture<ExecutionStatus> completion) {
+    }
+
+    /**
+     * 실행 중인 Job
+     */
+    @Getter
+    public static class RunningExecution {
+        private final ExecutionContext context;
+        private final CompletableFuture<ExecutionStatus> completion;
+        private volatile Disposable subscription;
+        private volatile boolean cancelRequested;
+        private volatile boolean aborted;
+
+        RunningExecution(ExecutionContext context, CompletableFuture<ExecutionStatus> completion) {
+            this.context = context;
+            this.completion = completion;
+        }
+
+        public void attach(Disposable subscription) {
+            this.subscription = subscription;
+            if (aborted) {
+                subscription.dispose();
+            }
+        }
+
+        void cancel() {
+            cancelRequested = true;
+            context.control().stop();
+        }
+
+        void abort() {
+            cancelRequested = true;
+            aborted = true;
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+
+    public void registerPending(String launchId, PendingLaunch pendingLaunch) {
+        pendingLaunches.put(launchId, pendingLaunch);
+    }
+
+    public Optional<PendingLaunch> takePending(String launchId) {
+        return Optional.ofNullable(pendingLaunches.remove(launchId));
+    }
+
+    public RunningExecution start(ExecutionContext context, CompletableFuture<ExecutionStatus> completion) {
+        RunningExecution running = new RunningExecution(context, completion);
+        runningExecutions.put(context.jobExecutionId(), running);
+        return running;
+    }
+
+    public Optional<RunningExecution> find(Long jobExecutionId) {
+        return Optional.ofNullable(runningExecutions.get(jobExecutionId));
+    }
+
+    public Collection<RunningExecution> getRunningExecutions() {
+        return runningExecutions.values();
+    }
+
+    /**
+     * 실행을 취소합니다. 새 조합은 호출하지 않고, 진행 중인 API 호출을 마친 뒤 중단합니다.
+     */
+    public boolean cancel(Long jobExecutionId) {
+        RunningExecution running = runningExecutions.get(jobExecutionId);
+        if (running == null) {
+            return false;
+        }
+        log.info("실행 취소 요청: {} (Job {}, 진행 중인 호출 {}건)", jobExecutionId, running.getContext().jobCode(),
+                running.getContext().control().inFlight());
+        running.cancel();
+        return true;
+    }
+
+    /**
+     * 실행을 즉시 취소합니다. 진행 중인 API 호출도 함께 취소됩니다.
+     */
+    public boolean abort(Long jobExecutionId) {
+        RunningExecution running = runningExecutions.get(jobExecutionId);
+        if (running == null) {
+            return false;
+        }
+        log.warn("실행 강제 취소: {} (Job {}, 진행 중인 호출 {}건)", jobExecutionId, running.getContext().jobCode(),
+                running.getContext().control().inFlight());
+        running.abort();
+        return true;
+    }
+
+    public Optional<RunningExecution> finish(Long jobExecutionId) {
+        return Optional.ofNullable(runningExecutions.remove(jobExecutionId));
+    }
+}
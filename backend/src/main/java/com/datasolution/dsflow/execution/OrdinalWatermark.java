@@ -0,0 +1,84 @@
+package com.datasolution.dsflow.execution;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 저장이 끝난 조합 순번의 경계 (체크포인트)
+ *
+ * 조합은 동시에 호출되어 순서 없이 저장되므로, 앞에서부터 빠짐없이 저장이 끝난 구간의 끝(next)만 체크포인트로 사용합니다.
+ * 페이지 조회는 조합 1건이 결과 여러 건이 되므로, 조합의 결과 수(expect)와 저장된 결과 수가 같아지면 완료로 봅니다.
+ * 중단 후 next부터 다시 처리하면 그 뒤에서 이미 저장된 조합은 한 번 더 저장될 수 있습니다. (최소 1회 저장)
+ * 처리 건수도 조합별로 모아 두고 next 앞의 조합만 합산하므로, 체크포인트와 함께 기록한 건수는 다시 처리할 조합을 포함하지 않습니다.
+ */
+public class OrdinalWatermark {
+
+    private final Map<Long, Counts> pending = new HashMap<>();
+    private long next;
+    private long processed;
+    private long success;
+
+    public OrdinalWatermark(long start) {
+        this.next = start;
+    }
+
+    /**
+     * 조합의 호출이 끝나 결과 수가 확정됨
+     */
+    public synchronized void expect(long ordinal, int results) {
+        counts(ordinal).expected = results;
+        advance();
+    }
+
+    /**
+     * 조합의 결과 1건 저장 완료
+     */
+    public synchronized void persisted(long ordinal, boolean succeeded) {
+        Counts counts = counts(ordinal);
+        counts.persisted++;
+        if (succeeded) {
+            counts.success++;
+        }
+        advance();
+    }
+
+    public synchronized long next() {
+        return next;
+    }
+
+    /**
+     * next 앞의 조합에서 저장된 결과 수
+     */
+    public synchronized long processed() {
+        return processed;
+    }
+
+    public synchronized long success() {
+        return success;
+    }
+
+    public synchronized long fail() {
+        return processed - success;
+    }
+
+    private Counts counts(long ordinal) {
+        return pending.computeIfAbsent(ordinal, k -> new Counts());
+    }
+
+    private void advance() {
+        Counts counts;
+        while ((counts = pending.get(next)) != null && counts.expected >= 0 && counts.persisted >= counts.expected) {
+            pending.remove(next);
+            processed += counts.persisted;
+            success += counts.success;
+            next++;
+        }
+    }
+
+    /** 조합 1건의 저장된 결과 수와 전체 결과 수 (미확정이면 -1) */
+    private static final class Counts {
+        private int persisted;
+        private int success;
+        private int expected = -1;
+    }
+}
@@ -0,0 +1,121 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.util.RecordPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 페이지 단위 조회 설정 (JobDefinition.paginationConfig)
+ *
+ * 파라미터 조합마다 첫 페이지를 호출해 전체 건수(totalCount)를 읽고, 나머지 페이지를 각각 별도 호출로 만들어 동시에 호출합니다.
+ * 모든 항목은 생략할 수 있으며, 기본값은 공공데이터포털 API 규칙입니다.
+ *
+ * <pre>
+ * {
+ *   "pageParam": "pageNo",                         // 페이지 번호 파라미터
+ *   "sizeParam": "numOfRows",                      // 페이지 크기 파라미터
+ *   "pageSize": 1000,                              // 생략 시 Job 파라미터의 sizeParam 값, 그것도 없으면 10
+ *   "totalCountPath": "response.body.totalCount",  // 응답에서 전체 건수 위치 (JSON/XML 공통)
+ *   "firstPage": 1,                                // 첫 페이지 번호
+ *   "maxPages": 1000                               // 조합당 최대 페이지 수
+ * }
+ * </pre>
+ */
+public record PaginationConfig(String pageParam,
+                               String sizeParam,
+                               Integer pageSize,
+                               String totalCountPath,
+                               int firstPage,
+                               int maxPages) {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int DEFAULT_MAX_PAGES = 1000;
+
+    /**
+     * 설정 JSON을 읽습니다. 비어 있으면 null(페이지 조회 안 함), 형식이 잘못되면 IllegalArgumentException을 던집니다.
+     */
+    public static PaginationConfig parse(ObjectMapper objectMapper, String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("페이지 조회 설정 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("페이지 조회 설정은 JSON 객체여야 합니다.");
+        }
+
+        Integer pageSize = node.hasNonNull("pageSize") ? node.get("pageSize").asInt() : null;
+        if (pageSize != null && pageSize < 1) {
+            throw new IllegalArgumentException("pageSize는 1 이상이어야 합니다: " + pageSize);
+        }
+        int maxPages = node.path("maxPages").asInt(DEFAULT_MAX_PAGES);
+        if (maxPages < 1) {
+            throw new IllegalArgumentException("maxPages는 1 이상이어야 합니다: " + maxPages);
+        }
+        return new PaginationConfig(
+                node.path("pageParam").asText("pageNo"),
+                node.path("sizeParam").asText("numOfRows"),
+                pageSize,
+                node.path("totalCountPath").asText("response.body.totalCount"),
+                node.path("firstPage").asInt(1),
+                maxPages);
+    }
+
+    /**
+     * 조합의 페이지 크기 (설정값 → 조합의 sizeParam 값 → 기본값)
+     */
+    public int pageSizeFor(Map<String, Object> parameters) {
+        if (pageSize != null) {
+            return pageSize;
+        }
+        Object value = parameters.get(sizeParam);
+        if (value != null) {
+            try {
+                int size = Integer.parseInt(value.toString().trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException ignored) {
+                // 기본값 사용
+            }
+        }
+        return DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * 전체 건수로 필요한 페이지 수 (최소 1, 최대 maxPages)
+     */
+    public int pageCount(long totalCount, int pageSize) {
+        long pages = Math.max(1, (totalCount + pageSize - 1) / pageSize);
+        return (int) Math.min(pages, maxPages);
+    }
+
+    /**
+     * 응답에서 전체 건수를 읽습니다. 본문의 읽기 위치는 원래대로 되돌립니다.
+     */
+    public OptionalLong readTotalCount(ObjectMapper objectMapper, DataBuffer body) {
+        return toLong(ResponseValues.read(objectMapper, RecordPath.of(totalCountPath), body));
+    }
+
+    private static OptionalLong toLong(JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode() || value.isContainerNode()) {
+            return OptionalLong.empty();
+        }
+        if (value.isNumber()) {
+            return OptionalLong.of(value.asLong());
+        }
+        String digits = value.asText().replaceAll("[^0-9]", "");
+        if (digits.isEmpty() || digits.length() > 18) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Long.parseLong(digits));
+    }
+}
@@ -0,0 +1,529 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ExecutionProperties;
+import com.datasolution.dsflow.config.ResponseCacheProperties;
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.MethodType;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.exception.ExternalApiException;
+import com.datasolution.dsflow.execution.detail.CallDetailWriter;
+import com.datasolution.dsflow.execution.sink.ResultSink;
+import com.datasolution.dsflow.execution.sink.ResultSinkFactory;
+import com.datasolution.dsflow.service.ApiQuotaService;
+import com.datasolution.dsflow.service.ApiRateLimiter;
+import com.datasolution.dsflow.service.ApiResilienceService;
+import com.datasolution.dsflow.service.ExternalApiClient;
+import com.datasolution.dsflow.service.ParameterCombinationService;
+import com.datasolution.dsflow.service.RequestCoalescer;
+import com.datasolution.dsflow.simulation.SimulatedUpstream;
+import com.datasolution.dsflow.simulation.SimulationRecorder;
+import com.datasolution.dsflow.util.AsyncSemaphore;
+import com.datasolution.dsflow.util.CombinationSpace;
+import com.datasolution.dsflow.util.RequestKey;
+import com.datasolution.dsflow.util.UpstreamKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 리액티브 Job 실행기
+ *
+ * 파라미터 조합을 필요한 만큼만 생성하여 WebClient로 비동기 호출하고, 결과를 저장 단계로 넘깁니다.
+ * - 동시 호출 수: JobDefinition.batchSize
+ * - 호출 속도: 호스트/서비스키별 공유 토큰 버킷 (스레드를 점유하지 않고 지연)
+ * - 일시적 실패는 retryCount 만큼 재시도하며, 호스트 장애 시 서킷 브레이커로 즉시 실패
+ * - 동일 요청 합치기: 다른 Job에서 같은 요청이 진행 중이면 호출하지 않고 응답을 공유
+ * - 응답 캐시: cacheConfig 규칙상 지난 기간 조합은 디스크에 보관한 응답을 사용 (호출 한도/속도 제한 미적용)
+ * - 페이지 조회: 첫 페이지의 전체 건수로 나머지 페이지를 각각 호출 (전체 동시 호출 수는 batchSize로 유지)
+ * - 호출 한도가 부족해 나머지 페이지를 받지 못하면 그 조합부터는 호출하지 않고, 같은 기준일의 다음 실행이 이어서 호출 (ExecutionProgress.truncate)
+ * - 배압: 저장 단계가 밀리면 새 조합을 꺼내지 않음
+ * - 분할 실행: 조합 구간 단위로 호출하고, 저장이 끝난 조합 경계를 체크포인트로 기록 (executeRange)
+ * - 양보: 분할 실행 구간은 양보 요청 시 새 조합을 꺼내지 않고, 진행 중인 호출만 마친 뒤 끝남
+ * - 일시정지/중단: 새 조합을 꺼내지 않고 진행 중인 호출을 마침 (ExecutionControl). 일시정지 후 호출이 모두 끝나면 저장 내용을 반영
+ * - 시뮬레이션: Job에 시뮬레이션 프로필이 있으면 모의 API 서버를 호출 (호출 한도 미기록), 결과마다 응답 시간 집계
+ * - 취소: 구독을 해제하면 진행 중인 HTTP 요청까지 함께 취소됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveJobExecutor {
+
+    private final ExternalApiClient apiClient;
+    private final ParameterCombinationService combinationService;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiQuotaService quotaService;
+    private final ApiResilienceService resilienceService;
+    private final ResultSinkFactory sinkFactory;
+    private final RequestCoalescer coalescer;
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties cacheProperties;
+    private final SchedulerProperties schedulerProperties;
+    private final ExecutionLogWriter logWriter;
+    private final ExecutionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SimulatedUpstream simulatedUpstream;
+    private final SimulationRecorder simulationRecorder;
+    private final CallDetailWriter callDetailWriter;
+
+    /**
+     * 실행 1건의 호출 설정
+     *
+     * @param url       호출 URL (시뮬레이션이면 모의 API 서버 URL)
+     * @param simulated 시뮬레이션 여부 (호출 한도를 기록하지 않음)
+     * @param gate      페이지 조회 시 조합/페이지 전체의 동시 호출 수 제한 (페이지 조회가 아니면 null)
+     * @param cache     응답 캐시 규칙 (캐시하지 않으면 null)
+     * @param cacheDate 지난 기간 여부를 판단하는 기준일 (스케줄러 시간대 기준 실행 시작일)
+     */
+    private record CallPlan(ExecutionContext context,
+                            String url,
+                            boolean simulated,
+                            UpstreamKey upstreamKey,
+                            ApiRateLimiter.Pacing pacing,
+                            int concurrency,
+                            PaginationConfig pagination,
+                            AsyncSemaphore gate,
+                            ResponseCacheConfig cache,
+                            LocalDate cacheDate) {
+    }
+
+    /**
+     * 실행을 구성하는 리액티브 파이프라인을 생성합니다. 구독 시점에 실행이 시작됩니다.
+     */
+    public Mono<ExecutionProgress> execute(ExecutionContext context) {
+        return buildSpace(context).flatMap(space -> execute(context, space));
+    }
+
+    /**
+     * 파라미터 조합 공간을 만듭니다.
+     * 파라미터 값 생성은 DB/외부 API를 블로킹 호출하므로 별도 스레드에서 수행합니다.
+     */
+    public Mono<CombinationSpace> buildSpace(ExecutionContext context) {
+        return Mono.fromCallable(() -> combinationService.buildCombinationSpace(context.jobDefinition()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 승인된 조합 구간(분할 실행이면 이어서 호출할 순번부터 승인된 호출 수까지)을 이 노드에서 호출하고 실행 로그의 저장소에 저장합니다.
+     */
+    public Mono<ExecutionProgress> execute(ExecutionContext context, CombinationSpace space) {
+        JobDefinition job = context.jobDefinition();
+        ExecutionProgress progress = context.progress();
+        long from = context.fromOrdinal(space.size());
+        long to = context.toOrdinal(space.size());
+        progress.setTotal(to - from);
+
+        CallPlan plan = plan(context, space);
+        log.info("Job {} 실행 시작: {}건 호출{}{} (동시 {}건, {}건/초)", job.getJobCode(), to - from,
+                from > 0 ? " (조합 #" + from + "부터)" : "",
+                plan.pagination() != null ? " + 나머지 페이지" : "", plan.concurrency(), plan.pacing().permitsPerSecond());
+        logWriter.status(context.logId(), ExecutionStatus.RUNNING);
+
+        ResultSink sink = sinkFactory.open(context);
+        context.control().onDrained(() -> {
+            flushSink(context, sink);
+            flushProgress(context);
+            log.info("Job {} 일시정지: 진행 중인 호출을 모두 마치고 저장 내용을 반영했습니다. (처리 {}건)",
+                    job.getJobCode(), progress.getProcessed());
+        });
+        return results(plan, space, from, to, null, null, context.control())
+                .publishOn(Schedulers.boundedElastic(), properties.getSinkPrefetch())
+                .doOnNext(result -> persist(context, sink, result))
+                .doOnDiscard(CallResult.class, CallResult::release)
+                .then(Mono.fromCallable(() -> {
+                    // 마지막 반영이 실패하면 저장되지 않은 결과가 남으므로 실행을 실패로 처리 (doFinally는 오류/취소 시 정리용)
+                    sink.close();
+                    flushProgress(context);
+                    return progress;
+                }))
+                .doFinally(signal -> closeSink(context, sink));
+    }
+
+    /**
+     * 분할 실행의 구간 [fromOrdinal, toOrdinal)을 호출하고 주어진 저장소에 저장합니다.
+     * 실행 로그는 갱신하지 않으며, 저장이 끝난 조합은 watermark에 기록합니다. 저장소는 호출한 쪽에서 닫습니다.
+     * yieldRequested가 true가 되면 새 조합을 꺼내지 않고 진행 중인 호출을 마친 뒤 완료합니다. (남은 조합은 watermark 이후)
+     */
+    public Mono<ExecutionProgress> executeRange(ExecutionContext context, CombinationSpace space,
+                                                long fromOrdinal, long toOrdinal,
+                                                ResultSink sink, OrdinalWatermark watermark,
+                                                BooleanSupplier yieldRequested) {
+        return Mono.defer(() -> results(plan(context, space), space, fromOrdinal, toOrdinal, watermark, yieldRequested, null)
+                .publishOn(Schedulers.boundedElastic(), properties.getSinkPrefetch())
+                .doOnNext(result -> {
+                    boolean success = result.isSuccess();
+                    write(context, sink, result);
+                    watermark.persisted(result.ordinal(), success);
+                })
+                .doOnDiscard(CallResult.class, CallResult::release)
+                .then(Mono.fromSupplier(context::progress)));
+    }
+
+    private CallPlan plan(ExecutionContext context, CombinationSpace space) {
+        JobDefinition job = context.jobDefinition();
+        String url = simulatedUpstream.targetUrl(job);
+        UpstreamKey upstreamKey = UpstreamKey.of(url, space.getBaseParameters());
+        ApiRateLimiter.Pacing pacing = rateLimiter.pacingFor(job);
+        int concurrency = Math.max(1, job.getBatchSize() != null ? job.getBatchSize() : 1);
+        PaginationConfig pagination = PaginationConfig.parse(objectMapper, job.getPaginationConfig());
+        ResponseCacheConfig cache = cacheProperties.isEnabled()
+                ? ResponseCacheConfig.parse(objectMapper, job.getCacheConfig()) : null;
+        return new CallPlan(context, url, simulatedUpstream.isSimulated(job), upstreamKey, pacing, concurrency,
+                pagination,
+                pagination != null ? new AsyncSemaphore(concurrency) : null, cache,
+                LocalDate.now(ZoneId.of(schedulerProperties.getZone())));
+    }
+
+    /**
+     * 구간의 조합을 동시에 호출하여 결과를 도착 순서대로 내보냅니다.
+     * watermark가 있으면 조합별 결과 수(페이지 수)를 기록합니다.
+     * control이 있으면 일시정지 중에는 새 조합을 꺼내지 않고, 중단 요청 후에는 남은 조합을 호출하지 않습니다.
+     */
+    private Flux<CallResult> results(CallPlan plan, CombinationSpace space, long fromOrdinal, long toOrdinal,
+                                     OrdinalWatermark watermark, BooleanSupplier yieldRequested,
+                                     ExecutionControl control) {
+        Flux<CombinationSpace.Combination> combinations = space.range(fromOrdinal, toOrdinal);
+        if (yieldRequested != null) {
+            combinations = combinations.takeWhile(combination -> !yieldRequested.getAsBoolean());
+        }
+        if (control != null) {
+            combinations = combinations
+                    .delayUntil(combination -> control.whenAdmitting())
+                    .takeWhile(combination -> !control.isStopping());
+        }
+        if (plan.pagination() != null) {
+            // 나머지 페이지를 받지 못한 조합이 생기면 새 조합을 꺼내지 않음 (남은 조합은 다음 실행이 이어서 호출)
+            ExecutionProgress progress = plan.context().progress();
+            combinations = combinations.takeWhile(combination -> !progress.isTruncated());
+        }
+        return combinations
+                .flatMap(combination -> {
+                    PageProgress pages = plan.pagination() != null ? new PageProgress(plan.pagination().pageParam()) : null;
+                    Supplier<Flux<CallResult>> call = () -> pages != null
+                            ? callPages(plan, combination, pages)
+                            : call(plan, combination).flux();
+                    Flux<CallResult> results = control != null ? controlled(control, call, pages) : call.get();
+                    return watermark != null
+                            ? track(watermark, plan.context().progress(), combination.ordinal(), results)
+                            : results;
+                }, plan.concurrency(), 1);
+    }
+
+    /**
+     * 진행 중인 호출 수를 집계합니다. 일시정지 기한을 넘겨 취소된 호출은 재개 후 다시 호출합니다.
+     * 페이지 조회는 중단 전에 저장 단계로 넘긴 페이지를 pages에 기록해 두고, 다시 호출할 때 그 페이지는 건너뜁니다.
+     */
+    private static Flux<CallResult> controlled(ExecutionControl control, Supplier<Flux<CallResult>> call,
+                                               PageProgress pages) {
+        return Flux.defer(() -> {
+            AtomicBoolean interrupted = new AtomicBoolean();
+            control.callStarted();
+            Flux<CallResult> results = call.get()
+                    .takeUntilOther(control.interruption().doOnNext(value -> interrupted.set(true)));
+            if (pages != null) {
+                // 중단 신호와 겹쳐 버려진 페이지는 기록하지 않도록 takeUntilOther 다음에 기록
+                results = results.doOnNext(pages::delivered);
+            }
+            return results
+                    .doFinally(signal -> control.callFinished())
+                    .concatWith(Flux.defer(() -> interrupted.get()
+                            ? control.whenAdmitting().thenMany(Flux.defer(() -> control.isStopping()
+                                    ? Flux.<CallResult>empty() : controlled(control, call, pages)))
+                            : Flux.empty()));
+        });
+    }
+
+    /**
+     * 조합의 결과 수를 watermark에 기록합니다. 나머지 페이지를 받지 못한 조합은 기록하지 않아 체크포인트가 그 조합을 넘지 않습니다.
+     */
+    private static Flux<CallResult> track(OrdinalWatermark watermark, ExecutionProgress progress, long ordinal,
+                                          Flux<CallResult> results) {
+        return Flux.defer(() -> {
+            AtomicInteger count = new AtomicInteger();
+            return results.doOnNext(result -> count.incrementAndGet())
+                    .doOnComplete(() -> {
+                        if (!progress.isTruncated(ordinal)) {
+                            watermark.expect(ordinal, count.get());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 페이지 조회. 첫 페이지의 전체 건수로 나머지 페이지 수를 정하고, 페이지마다 별도 호출(재시도 단위)로 만들어
+     * 도착하는 순서대로 저장 단계에 넘깁니다.
+     * 중단 후 다시 호출하면 정해 둔 페이지 중 저장 단계로 넘기지 못한 페이지만 호출합니다.
+     */
+    private Flux<CallResult> callPages(CallPlan plan, CombinationSpace.Combination combination, PageProgress progress) {
+        PaginationConfig pagination = plan.pagination();
+        int pageSize = pagination.pageSizeFor(combination.parameters());
+        int firstPage = pagination.firstPage();
+        CompletableFuture<Integer> granted = progress.granted;
+        if (granted != null) {
+            return Mono.fromFuture(granted, true)
+                    .flatMapMany(pages -> Flux.range(firstPage, pages + 1))
+                    .filter(pageNo -> !progress.isDelivered(pageNo))
+                    .flatMap(pageNo -> call(plan, page(pagination, combination, pageNo, pageSize)),
+                            plan.concurrency(), 1);
+        }
+        if (progress.isDelivered(firstPage)) {
+            // 실패한 첫 페이지를 이미 넘김
+            return Flux.empty();
+        }
+        return call(plan, page(pagination, combination, firstPage, pageSize))
+                .flatMapMany(first -> {
+                    int remaining = remainingPages(plan, combination, first, pageSize);
+                    if (first.isSuccess()) {
+                        // 한도 예약은 중단과 관계없이 한 번만 늘림
+                        progress.granted = remaining == 0
+                                ? CompletableFuture.completedFuture(0)
+                                : grantPages(plan, combination, remaining).toFuture();
+                    }
+                    if (remaining == 0) {
+                        return Flux.just(first);
+                    }
+                    // 첫 페이지는 한도 확인을 기다리지 않고 바로 저장 단계로 넘김
+                    return Flux.just(first).concatWith(Mono.fromFuture(progress.granted, true)
+                            .flatMapMany(pages -> Flux.range(firstPage + 1, pages))
+                            .flatMap(pageNo -> call(plan, page(pagination, combination, pageNo, pageSize)),
+                                    plan.concurrency(), 1));
+                });
+    }
+
+    /**
+     * 첫 페이지 응답으로 더 호출할 페이지 수를 계산합니다.
+     */
+    private int remainingPages(CallPlan plan, CombinationSpace.Combination combination, CallResult first, int pageSize) {
+        if (!first.isSuccess()) {
+            return 0;
+        }
+        ExecutionContext context = plan.context();
+        PaginationConfig pagination = plan.pagination();
+        OptionalLong totalCount = pagination.readTotalCount(objectMapper, first.body());
+        if (totalCount.isEmpty()) {
+            log.warn("Job {} 조합 #{} 전체 건수({})를 찾을 수 없어 첫 페이지만 수집합니다.",
+                    context.jobCode(), combination.ordinal(), pagination.totalCountPath());
+            return 0;
+        }
+        int pages = pagination.pageCount(totalCount.getAsLong(), pageSize);
+        if ((long) pages * pageSize < totalCount.getAsLong()) {
+            log.warn("Job {} 조합 #{} 전체 {}건 중 최대 페이지 수({})까지만 수집합니다.",
+                    context.jobCode(), combination.ordinal(), totalCount.getAsLong(), pagination.maxPages());
+        }
+        return pages - 1;
+    }
+
+    /**
+     * 나머지 페이지만큼 호출 한도 예약을 늘리고, 받은 페이지 수를 전체 건수에 반영합니다.
+     * 나머지 페이지를 모두 받을 한도가 없으면 조합을 끝까지 받지 못한 것으로 기록하고 나머지 페이지는 호출하지 않습니다.
+     * (조합 전체를 다음 실행이 다시 호출하므로 일부 페이지만 받아 두지 않음)
+     * 한도 집계는 잠금과 DB 조회를 거치므로 이벤트 루프가 아닌 boundedElastic 스레드에서 처리합니다.
+     */
+    private Mono<Integer> grantPages(CallPlan plan, CombinationSpace.Combination combination, int remaining) {
+        ExecutionContext context = plan.context();
+        ApiQuotaService.Reservation reservation = context.admission() != null ? context.admission().reservation() : null;
+        if (reservation == null) {
+            return Mono.fromSupplier(() -> {
+                context.progress().addTotal(remaining);
+                return remaining;
+            });
+        }
+        return Mono.fromCallable(() -> {
+                    long granted = quotaService.extend(reservation, remaining);
+                    if (granted < remaining) {
+                        // 늘린 예약분은 실행이 끝날 때 반환됨
+                        context.progress().truncate(combination.ordinal());
+                        log.warn("Job {} 조합 #{} 호출 한도 부족으로 나머지 {}페이지 중 {}페이지만 받을 수 있어 "
+                                        + "이 조합부터는 같은 기준일의 다음 실행이 이어서 호출합니다.",
+                                context.jobCode(), combination.ordinal(), remaining, granted);
+                        return 0;
+                    }
+                    context.progress().addTotal(remaining);
+                    return remaining;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 조합 1건의 페이지 조회 진행 상태 (저장 단계로 넘긴 페이지 번호와 호출할 나머지 페이지 수)
+     */
+    private static final class PageProgress {
+        private final String pageParam;
+        private final Set<Integer> delivered = ConcurrentHashMap.newKeySet();
+        private volatile CompletableFuture<Integer> granted;
+
+        PageProgress(String pageParam) {
+            this.pageParam = pageParam;
+        }
+
+        void delivered(CallResult result) {
+            Object pageNo = result.parameters().get(pageParam);
+            if (pageNo != null) {
+                delivered.add(Integer.valueOf(pageNo.toString()));
+            }
+        }
+
+        boolean isDelivered(int pageNo) {
+            return delivered.contains(pageNo);
+        }
+    }
+
+    private static CombinationSpace.Combination page(PaginationConfig pagination, CombinationSpace.Combination combination,
+                                                     int pageNo, int pageSize) {
+        Map<String, Object> parameters = new LinkedHashMap<>(combination.parameters());
+        parameters.put(pagination.pageParam(), String.valueOf(pageNo));
+        parameters.put(pagination.sizeParam(), String.valueOf(pageSize));
+        return new CombinationSpace.Combination(combination.ordinal(), parameters);
+    }
+
+    /**
+     * 조합(또는 페이지) 1건 호출. 다른 실행에서 같은 요청이 진행 중이면 그 응답을 함께 받고,
+     * 지난 기간 조합이면 캐시된 응답을 사용합니다.
+     * 최종 실패도 결과로 변환하여 나머지 조합은 계속 처리합니다.
+     */
+    private Mono<CallResult> call(CallPlan plan, CombinationSpace.Combination combination) {
+        JobDefinition job = plan.context().jobDefinition();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            RequestKey requestKey = RequestKey.of(httpMethod(job).name(), plan.url(), combination.parameters());
+            Mono<SharedResponse> fetched = coalescer.execute("job", requestKey, SharedResponse.class,
+                    () -> fetch(plan, combination));
+            if (plan.cache() != null && plan.cache().isImmutable(combination.parameters(), plan.cacheDate())) {
+                fetched = cached(plan, combination, fetched);
+            }
+            return fetched
+                    .doOnDiscard(SharedResponse.class, SharedResponse::release)
+                    .map(response -> CallResult.of(combination.ordinal(), combination.parameters(),
+                            response.statusCode(), response.body(), System.nanoTime() - start))
+                    .onErrorResume(e -> Mono.just(CallResult.failed(combination.ordinal(), combination.parameters(),
+                            e instanceof ExternalApiException apiException ? apiException.getStatusCode() : 0,
+                            e, System.nanoTime() - start)));
+        });
+    }
+
+    /**
+     * 캐시된 응답이 있으면 사용하고, 없으면 호출한 뒤 저장합니다. (디스크 입출력은 별도 스레드에서 수행)
+     * 캐시 키에는 서비스키를 포함하지 않으므로 서비스키를 바꿔도 캐시를 그대로 사용합니다.
+     */
+    private Mono<SharedResponse> cached(CallPlan plan, CombinationSpace.Combination combination,
+                                        Mono<SharedResponse> call) {
+        JobDefinition job = plan.context().jobDefinition();
+        Map<String, Object> parameters = new LinkedHashMap<>(combination.parameters());
+        parameters.keySet().removeIf(UpstreamKey::isServiceKeyParam);
+        RequestKey cacheKey = RequestKey.of(httpMethod(job).name(), plan.url(), parameters);
+        return Mono.fromCallable(() -> responseCache.get(job.getJobCode(), cacheKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(call.flatMap(response -> plan.cache().accepts(objectMapper, response)
+                        ? Mono.fromRunnable(() -> responseCache.put(job.getJobCode(), cacheKey, response))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(response)
+                        : Mono.just(response)));
+    }
+
+    /**
+     * 실제 호출. 재시도마다 호출 속도 제한을 기다리고 호출 한도를 기록합니다.
+     */
+    private Mono<SharedResponse> fetch(CallPlan plan, CombinationSpace.Combination combination) {
+        ExecutionContext context = plan.context();
+        UpstreamKey upstreamKey = plan.upstreamKey();
+        Mono<SharedResponse> attempt = rateLimiter.acquireAsync(upstreamKey, plan.pacing())
+                .then(Mono.defer(() -> {
+                    if (!plan.simulated()) {
+                        quotaService.recordCall(upstreamKey,
+                                context.admission() != null ? context.admission().reservation() : null);
+                    }
+                    return request(context.jobDefinition(), plan.url(), combination.parameters())
+                            .exchangeToMono(ExternalApiClient::toResponse);
+                }));
+        if (plan.gate() != null) {
+            attempt = plan.gate().withPermit(attempt);
+        }
+        return resilienceService.decorate(upstreamKey.host(), context.jobDefinition().getRetryCount(), attempt);
+    }
+
+    private static HttpMethod httpMethod(JobDefinition job) {
+        return job.getMethodType() == MethodType.API_POST ? HttpMethod.POST : HttpMethod.GET;
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(JobDefinition job, String url, Map<String, Object> parameters) {
+        MethodType methodType = job.getMethodType();
+        Duration timeout = apiClient.timeoutOf(job.getTimeoutSeconds());
+        if (methodType == MethodType.API_POST) {
+            return apiClient.request(HttpMethod.POST, url, Map.of(), timeout)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(parameters);
+        }
+        if (methodType == MethodType.API_GET || methodType == MethodType.FILE_DOWNLOAD) {
+            return apiClient.request(HttpMethod.GET, url, parameters, timeout);
+        }
+        throw new BusinessException("지원하지 않는 메소드 타입입니다: " + methodType);
+    }
+
+    private void persist(ExecutionContext context, ResultSink sink, CallResult result) {
+        write(context, sink, result);
+        flushProgress(context);
+    }
+
+    private void write(ExecutionContext context, ResultSink sink, CallResult result) {
+        try {
+            // 일시정지 시 다른 스레드의 flush와 겹치지 않도록 잠금
+            synchronized (sink) {
+                sink.write(result);
+            }
+            context.progress().record(result);
+            simulationRecorder.record(context, result);
+            callDetailWriter.record(context, result);
+            if (!result.isSuccess()) {
+                log.debug("Job {} 조합 #{} 호출 실패: {}", context.jobCode(), result.ordinal(), result.errorMessage());
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("호출 결과 저장 실패: 조합 #" + result.ordinal(), e);
+        } finally {
+            result.release();
+        }
+    }
+
+    private void flushProgress(ExecutionContext context) {
+        logWriter.counts(context.logId(), context.progress());
+    }
+
+    private void flushSink(ExecutionContext context, ResultSink sink) {
+        try {
+            synchronized (sink) {
+                sink.flush();
+            }
+        } catch (Exception e) {
+            log.warn("Job {} 결과 저장소 반영 실패: {}", context.jobCode(), e.getMessage());
+        }
+    }
+
+    private void closeSink(ExecutionContext context, ResultSink sink) {
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.error("Job {} 결과 저장소 종료 실패", context.jobCode(), e);
+        }
+    }
+}
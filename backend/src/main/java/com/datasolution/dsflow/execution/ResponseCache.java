@@ -0,0 +1,275 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.config.ResponseCacheProperties;
+import com.datasolution.dsflow.util.RequestKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 디스크 캐시 (지난 기간 조합 전용)
+ *
+ * Job 코드와 요청 키별로 응답 1건을 gzip 파일 하나로 보관합니다. 파일은 임시 파일에 쓴 뒤 이동하므로 읽는 쪽에서 반쯤 쓰인 파일을 보지 않습니다.
+ * - 크기 제한: 전체 크기가 maxSizeMb를 넘으면 가장 오래 사용하지 않은 응답부터 삭제 (LRU, 90%까지 정리)
+ * - 재시작 후에도 파일 수정 시각(마지막 사용 시각)으로 사용 순서를 복원합니다.
+ * - 파일 입출력은 호출 스레드에서 수행하므로 이벤트 루프에서 직접 호출하지 않습니다.
+ *
+ * 지표: dsflow.response-cache.requests (result=hit/miss), dsflow.response-cache.stores, dsflow.response-cache.size
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private static final String SUFFIX = ".bin";
+
+    private final ResponseCacheProperties properties;
+    private final Path root;
+    private final long maxBytes;
+    /** 파일 경로 → 크기 (접근 순서) */
+    private final LinkedHashMap<Path, Long> index = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stores;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.root = Paths.get(properties.getDir()).toAbsolutePath().normalize();
+        this.maxBytes = Math.max(1, properties.getMaxSizeMb()) * 1024 * 1024;
+        this.hits = Counter.builder("dsflow.response-cache.requests").tag("result", "hit")
+                .description("응답 캐시 조회 수").register(meterRegistry);
+        this.misses = Counter.builder("dsflow.response-cache.requests").tag("result", "miss")
+                .description("응답 캐시 조회 수").register(meterRegistry);
+        this.stores = Counter.builder("dsflow.response-cache.stores")
+                .description("응답 캐시 저장 수").register(meterRegistry);
+        Gauge.builder("dsflow.response-cache.size", this, ResponseCache::sizeBytes)
+                .description("응답 캐시 전체 크기 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기존 캐시 파일을 마지막 사용 시각 순으로 색인합니다.
+     */
+    @PostConstruct
+    void loadIndex() {
+        if (!properties.isEnabled() || !Files.isDirectory(root)) {
+            return;
+        }
+        record Entry(Path path, long size, FileTime lastUsed) {
+        }
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).forEach(path -> {
+                try {
+                    entries.add(new Entry(path, Files.size(path), Files.getLastModifiedTime(path)));
+                } catch (IOException e) {
+                    log.debug("응답 캐시 파일 확인 실패: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("응답 캐시 색인 실패: {}", root, e);
+            return;
+        }
+        entries.sort(Comparator.comparing(Entry::lastUsed));
+        synchronized (index) {
+            for (Entry entry : entries) {
+                index.put(entry.path(), entry.size());
+                totalBytes += entry.size();
+            }
+        }
+        log.info("응답 캐시 색인 완료: {}건, {}MB ({})", entries.size(), totalBytes / (1024 * 1024), root);
+        evictIfNeeded();
+    }
+
+    /**
+     * 캐시된 응답을 읽습니다. 없으면 null을 반환합니다.
+     */
+    public SharedResponse get(String jobCode, RequestKey key) {
+        Path path = pathOf(jobCode, key);
+        boolean indexed;
+        synchronized (index) {
+            indexed = index.get(path) != null;
+        }
+        if (!indexed) {
+            misses.increment();
+            return null;
+        }
+        try {
+            byte[] file = Files.readAllBytes(path);
+            int statusCode = ByteBuffer.wrap(file, 0, Integer.BYTES).getInt();
+            byte[] body;
+            try (InputStream in = new GZIPInputStream(
+                    new ByteArrayInputStream(file, Integer.BYTES, file.length - Integer.BYTES))) {
+                body = in.readAllBytes();
+            }
+            touch(path);
+            hits.increment();
+            return SharedResponse.of(statusCode, body);
+        } catch (NoSuchFileException e) {
+            remove(path);
+        } catch (Exception e) {
+            log.warn("응답 캐시 파일을 읽을 수 없어 삭제합니다: {} ({})", path, e.getMessage());
+            remove(path);
+            deleteQuietly(path);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 응답을 저장합니다. 실패해도 호출 결과에는 영향을 주지 않습니다.
+     */
+    public void put(String jobCode, RequestKey key, SharedResponse response) {
+        Path path = pathOf(jobCode, key);
+        Path temp = null;
+        try {
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(path.getParent(), key.hash(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeInt(response.statusCode());
+                try (OutputStream gzip = new GZIPOutputStream(out, 8192)) {
+                    WritableByteChannel channel = Channels.newChannel(gzip);
+                    try (DataBuffer.ByteBufferIterator buffers = response.body().readableByteBuffers()) {
+                        while (buffers.hasNext()) {
+                            channel.write(buffers.next());
+                        }
+                    }
+                }
+            }
+            long size = Files.size(temp);
+            move(temp, path);
+            temp = null;
+            synchronized (index) {
+                Long previous = index.put(path, size);
+                totalBytes += size - (previous != null ? previous : 0);
+            }
+            stores.increment();
+        } catch (IOException e) {
+            log.warn("응답 캐시 저장 실패: {} ({})", path, e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Job의 캐시를 모두 삭제합니다. (설정/응답 형식이 바뀐 경우)
+     *
+     * @return 삭제한 응답 수
+     */
+    public int evict(String jobCode) {
+        Path jobDir = root.resolve(jobCode).normalize();
+        if (!jobDir.startsWith(root) || jobDir.equals(root)) {
+            throw new IllegalArgumentException("잘못된 Job 코드입니다: " + jobCode);
+        }
+        List<Path> removed = new ArrayList<>();
+        synchronized (index) {
+            Iterator<Map.Entry<Path, Long>> it = index.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Path, Long> entry = it.next();
+                if (entry.getKey().startsWith(jobDir)) {
+                    totalBytes -= entry.getValue();
+                    removed.add(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        removed.forEach(ResponseCache::deleteQuietly);
+        return removed.size();
+    }
+
+    public long sizeBytes() {
+        synchronized (index) {
+            return totalBytes;
+        }
+    }
+
+    private Path pathOf(String jobCode, RequestKey key) {
+        return root.resolve(jobCode).resolve(key.hash().substring(0, 2)).resolve(key.hash() + SUFFIX);
+    }
+
+    private void evictIfNeeded() {
+        List<Path> victims = new ArrayList<>();
+        synchronized (index) {
+            if (totalBytes <= maxBytes) {
+                return;
+            }
+            long target = maxBytes / 10 * 9;
+            Iterator<Map.Entry<Path, Long>> it = index.entrySet().iterator();
+            while (totalBytes > target && it.hasNext()) {
+                Map.Entry<Path, Long> eldest = it.next();
+                totalBytes -= eldest.getValue();
+                victims.add(eldest.getKey());
+                it.remove();
+            }
+        }
+        victims.forEach(ResponseCache::deleteQuietly);
+        log.debug("응답 캐시 크기 제한으로 {}건 삭제", victims.size());
+    }
+
+    private void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // 사용 순서는 메모리 색인 기준이므로 무시
+        }
+    }
+
+    private void remove(Path path) {
+        synchronized (index) {
+            Long size = index.remove(path);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("응답 캐시 파일 삭제 실패: {}", path);
+        }
+    }
+}
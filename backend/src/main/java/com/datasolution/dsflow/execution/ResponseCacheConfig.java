@@ -0,0 +1,155 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.util.RecordPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 응답 캐시 설정 (JobDefinition.cacheConfig)
+ *
+ * 지난 기간(예: 2년 전 거래 월)을 조회하는 조합은 응답이 바뀌지 않으므로, 규칙에 맞는 조합의 응답을 로컬 디스크에 보관하고
+ * 재실행/백필/복구 시 외부 API 대신 사용합니다. 모든 규칙을 만족하는 조합만 캐시 대상입니다.
+ *
+ * <pre>
+ * {
+ *   "rules": [
+ *     { "parameter": "DEAL_YMD", "format": "yyyyMM", "olderThanMonths": 3 }  // 해당 월이 끝난 지 3개월이 지난 조합
+ *   ],
+ *   "resultCodePath": "response.header.resultCode",  // 생략 시 HTTP 2xx 응답이면 저장
+ *   "successCodes": ["00", "000"]
+ * }
+ * </pre>
+ *
+ * 날짜 형식에 일(day)이 없으면 해당 월(또는 연도)의 마지막 날을 기준으로 비교합니다.
+ */
+public record ResponseCacheConfig(List<Rule> rules, String resultCodePath, Set<String> successCodes) {
+
+    /**
+     * 날짜 파라미터 규칙. 파라미터 값이 가리키는 기간이 (오늘 - olderThanMonths개월 - olderThanDays일) 이전에 끝났으면 만족
+     */
+    public record Rule(String parameter, DateTimeFormatter formatter, int olderThanMonths, int olderThanDays) {
+
+        boolean matches(Map<String, Object> parameters, LocalDate today) {
+            Object value = parameters.get(parameter);
+            if (value == null) {
+                return false;
+            }
+            try {
+                LocalDate end = periodEnd(formatter.parse(value.toString().trim()));
+                return end.isBefore(today.minusMonths(olderThanMonths).minusDays(olderThanDays));
+            } catch (DateTimeException e) {
+                return false;
+            }
+        }
+
+        private static LocalDate periodEnd(TemporalAccessor parsed) {
+            if (parsed.isSupported(ChronoField.DAY_OF_MONTH)) {
+                return LocalDate.from(parsed);
+            }
+            if (parsed.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return YearMonth.from(parsed).atEndOfMonth();
+            }
+            return Year.from(parsed).atMonth(12).atEndOfMonth();
+        }
+    }
+
+    /**
+     * 설정 JSON을 읽습니다. 비어 있으면 null(캐시 안 함), 형식이 잘못되면 IllegalArgumentException을 던집니다.
+     */
+    public static ResponseCacheConfig parse(ObjectMapper objectMapper, String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("응답 캐시 설정 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("응답 캐시 설정은 JSON 객체여야 합니다.");
+        }
+
+        JsonNode rulesNode = node.path("rules");
+        if (!rulesNode.isArray() || rulesNode.isEmpty()) {
+            throw new IllegalArgumentException("응답 캐시 설정에 rules가 없습니다.");
+        }
+        List<Rule> rules = new ArrayList<>();
+        for (JsonNode ruleNode : rulesNode) {
+            rules.add(parseRule(ruleNode));
+        }
+
+        String resultCodePath = node.hasNonNull("resultCodePath") ? node.get("resultCodePath").asText() : null;
+        Set<String> successCodes = Set.of();
+        if (resultCodePath != null) {
+            List<String> codes = new ArrayList<>();
+            node.path("successCodes").forEach(code -> codes.add(code.asText()));
+            if (codes.isEmpty()) {
+                throw new IllegalArgumentException("resultCodePath를 지정하면 successCodes도 필요합니다.");
+            }
+            successCodes = Set.copyOf(codes);
+        }
+        return new ResponseCacheConfig(List.copyOf(rules), resultCodePath, successCodes);
+    }
+
+    private static Rule parseRule(JsonNode node) {
+        String parameter = node.path("parameter").asText("");
+        if (parameter.isBlank()) {
+            throw new IllegalArgumentException("응답 캐시 규칙에 parameter가 없습니다.");
+        }
+        String format = node.path("format").asText("yyyyMM");
+        DateTimeFormatter formatter;
+        try {
+            formatter = DateTimeFormatter.ofPattern(format);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("응답 캐시 규칙의 날짜 형식이 올바르지 않습니다: " + format, e);
+        }
+        int months = node.path("olderThanMonths").asInt(0);
+        int days = node.path("olderThanDays").asInt(0);
+        if (months < 0 || days < 0) {
+            throw new IllegalArgumentException("olderThanMonths/olderThanDays는 0 이상이어야 합니다.");
+        }
+        if (months == 0 && days == 0) {
+            throw new IllegalArgumentException("응답 캐시 규칙(" + parameter + ")에 olderThanMonths 또는 olderThanDays가 필요합니다.");
+        }
+        return new Rule(parameter, formatter, months, days);
+    }
+
+    /**
+     * 조합이 바뀌지 않는 기간을 조회하는지 확인합니다.
+     */
+    public boolean isImmutable(Map<String, Object> parameters, LocalDate today) {
+        for (Rule rule : rules) {
+            if (!rule.matches(parameters, today)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 캐시에 저장할 응답인지 확인합니다. (2xx 이고 본문이 있으며, 결과 코드가 성공인 응답)
+     */
+    public boolean accepts(ObjectMapper objectMapper, SharedResponse response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300 || !response.hasBody()) {
+            return false;
+        }
+        if (resultCodePath == null) {
+            return true;
+        }
+        JsonNode code = ResponseValues.read(objectMapper, RecordPath.of(resultCodePath), response.body());
+        return code != null && !code.isContainerNode() && successCodes.contains(code.asText().trim());
+    }
+}
@@ -0,0 +1,43 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.util.RecordPath;
+import com.datasolution.dsflow.util.XmlRecordReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 본문(JSON/XML)에서 경로 하나의 값을 읽는 도구 (전체 건수, 결과 코드 등)
+ */
+final class ResponseValues {
+
+    private ResponseValues() {
+    }
+
+    /**
+     * 경로의 첫 번째 값을 읽습니다. 값이 없거나 본문을 읽을 수 없으면 null을 반환하며, 본문의 읽기 위치는 원래대로 되돌립니다.
+     */
+    static JsonNode read(ObjectMapper objectMapper, RecordPath path, DataBuffer body) {
+        if (body == null || body.readableByteCount() == 0) {
+            return null;
+        }
+        int position = body.readPosition();
+        try (InputStream in = body.asInputStream()) {
+            if (XmlRecordReader.isXml(body)) {
+                List<JsonNode> values = new ArrayList<>(1);
+                new XmlRecordReader(path).forEach(in, values::add);
+                return values.isEmpty() ? null : values.get(0);
+            }
+            JsonNode value = path.select(objectMapper.readTree(in));
+            return value == null || value.isMissingNode() ? null : value;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            body.readPosition(position);
+        }
+    }
+}
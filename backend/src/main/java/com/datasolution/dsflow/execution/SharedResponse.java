@@ -0,0 +1,68 @@
+package com.datasolution.dsflow.execution;
+
+import com.datasolution.dsflow.service.RequestCoalescer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * 여러 실행이 함께 받는 응답 (동일 요청 합치기)
+ *
+ * 본문은 네트워크 버퍼를 복사하지 않고 그대로 보관합니다. 합쳐진 호출자는 share()로 참조 수를 늘린
+ * 자기 몫을 받으며(읽기 위치 독립), 각자 사용한 뒤 release 합니다.
+ */
+public record SharedResponse(int statusCode, DataBuffer body) implements RequestCoalescer.Shareable<SharedResponse> {
+
+    /**
+     * 네트워크 버퍼를 그대로 보관합니다. (버퍼의 해제 책임도 넘겨받음)
+     */
+    public static SharedResponse of(int statusCode, DataBuffer buffer) {
+        return new SharedResponse(statusCode, buffer);
+    }
+
+    /**
+     * 디스크 캐시 등에서 읽은 본문
+     */
+    public static SharedResponse of(int statusCode, byte[] body) {
+        return new SharedResponse(statusCode, DefaultDataBufferFactory.sharedInstance.wrap(body));
+    }
+
+    /**
+     * 같은 본문을 가리키는 호출자 몫 (Netty 버퍼는 참조 수 +1, 힙 버퍼는 읽기 위치만 분리)
+     */
+    @Override
+    public SharedResponse share() {
+        if (body == null) {
+            return this;
+        }
+        if (body instanceof NettyDataBuffer netty) {
+            return new SharedResponse(statusCode, netty.factory().wrap(netty.getNativeBuffer().retainedDuplicate()));
+        }
+        try (DataBuffer.ByteBufferIterator buffers = body.readableByteBuffers()) {
+            ByteBuffer readable = buffers.hasNext() ? buffers.next() : ByteBuffer.allocate(0);
+            return new SharedResponse(statusCode, DefaultDataBufferFactory.sharedInstance.wrap(readable));
+        }
+    }
+
+    @Override
+    public void release() {
+        if (body != null) {
+            DataBufferUtils.release(body);
+        }
+    }
+
+    public boolean hasBody() {
+        return body != null && body.readableByteCount() > 0;
+    }
+
+    /**
+     * 본문을 문자열로 읽습니다. 읽기 위치는 바꾸지 않습니다.
+     */
+    public String bodyAsString(Charset charset) {
+        return body != null ? body.toString(body.readPosition(), body.readableByteCount(), charset) : null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.datasolution.dsflow.execution.detail;
+
+import com.datasolution.dsflow.config.CallDetailProperties;
+import com.datasolution.dsflow.util.DatabasePlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 호출 상세(execution_call_details) 파티션 관리
+ *
+ * 파티션은 호출 시각(called_at)의 날짜 범위 [from, to)로 나누며, 이름은 execution_call_details_p{yyyyMMdd | yyyyMM}입니다.
+ * - PostgreSQL: execution_call_details를 RANGE 파티션 테이블로 만들고 파티션을 PARTITION OF로 붙임 (인덱스는 부모에서 상속)
+ * - H2 등    : 파티션마다 같은 구조의 독립 테이블을 만들고, 조회 시 기간에 걸친 테이블만 UNION ALL
+ * 어느 쪽이든 적재와 조회는 파티션 테이블에 직접 하고, 보관 기간이 지난 파티션은 DROP TABLE로 삭제합니다.
+ */
+@Slf4j
+@Component
+public class CallDetailPartitions {
+
+    public static final String TABLE = "execution_call_details";
+    public static final List<String> COLUMNS = List.of("called_at", "execution_log_id", "ordinal", "status_code",
+            "success", "latency_micros", "response_bytes", "error_class");
+
+    private static final String COLUMN_DEFINITIONS = "called_at TIMESTAMP NOT NULL, execution_log_id BIGINT NOT NULL, "
+            + "ordinal BIGINT NOT NULL, status_code SMALLINT NOT NULL, success BOOLEAN NOT NULL, "
+            + "latency_micros INTEGER NOT NULL, response_bytes INTEGER NOT NULL, error_class VARCHAR(100)";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{8}|\\d{6})");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * 파티션 1개 (called_at이 [from, to) 범위인 행)
+     */
+    public record Partition(String name, LocalDate from, LocalDate to) {
+
+        public boolean contains(LocalDate date) {
+            return !date.isBefore(from) && date.isBefore(to);
+        }
+
+        public boolean overlaps(LocalDate fromDate, LocalDate toDate) {
+            return from.isBefore(toDate) && fromDate.isBefore(to);
+        }
+    }
+
+    private final CallDetailProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    /** 시작일 → 존재하는 파티션 (적재 시 매번 조회하지 않도록 보관) */
+    private final ConcurrentSkipListMap<LocalDate, Partition> known = new ConcurrentSkipListMap<>();
+    private volatile DatabasePlatform platform;
+    private volatile boolean loaded;
+
+    public CallDetailPartitions(CallDetailProperties properties, JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 날짜가 속한 파티션을 반환합니다. 없으면 설정한 단위로 만듭니다.
+     * 단위를 바꾼 뒤 새 단위의 범위가 기존 파티션과 겹치면 그 날짜의 일 단위 파티션을 만듭니다.
+     */
+    public synchronized Partition ensure(LocalDate date) {
+        Optional<Partition> existing = find(date);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        Partition partition = partitionFor(date, properties.getPartitionUnit());
+        if (overlapsKnown(partition)) {
+            partition = partitionFor(date, CallDetailProperties.PartitionUnit.DAY);
+        }
+        create(partition);
+        known.put(partition.from(), partition);
+        return partition;
+    }
+
+    /**
+     * 기간 [from, to)에 걸친 파티션 (시작일 순, 다른 노드가 만든 파티션도 포함하도록 목록을 다시 읽음)
+     */
+    public List<Partition> covering(LocalDate from, LocalDate to) {
+        return reload().stream().filter(partition -> partition.overlaps(from, to)).toList();
+    }
+
+    /**
+     * 모든 행이 cutoff 이전인 파티션을 삭제합니다.
+     *
+     * @return 삭제한 파티션
+     */
+    public synchronized List<Partition> dropBefore(LocalDate cutoff) {
+        List<Partition> expired = reload().stream().filter(partition -> !partition.to().isAfter(cutoff)).toList();
+        for (Partition partition : expired) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.name());
+            known.remove(partition.from());
+            log.info("호출 상세 파티션 삭제: {} ({} ~ {})", partition.name(), partition.from(), partition.to().minusDays(1));
+        }
+        return expired;
+    }
+
+    /**
+     * DB에 있는 파티션 목록을 다시 읽습니다. (다른 노드가 만들거나 삭제한 파티션 반영)
+     */
+    public synchronized List<Partition> reload() {
+        List<String> tables = jdbcTemplate.queryForList("SELECT table_name FROM information_schema.tables "
+                + "WHERE LOWER(table_name) LIKE ? AND table_schema = CURRENT_SCHEMA", String.class, TABLE + "_p%");
+        known.clear();
+        tables.stream()
+                .map(name -> parse(name.toLowerCase(Locale.ROOT)))
+                .flatMap(Optional::stream)
+                .forEach(partition -> known.put(partition.from(), partition));
+        loaded = true;
+        return List.copyOf(known.values());
+    }
+
+    public static Partition partitionFor(LocalDate date, CallDetailProperties.PartitionUnit unit) {
+        if (unit == CallDetailProperties.PartitionUnit.MONTH) {
+            LocalDate from = date.withDayOfMonth(1);
+            return new Partition(TABLE + "_p" + from.format(MONTH), from, from.plusMonths(1));
+        }
+        return new Partition(TABLE + "_p" + date.format(DAY), date, date.plusDays(1));
+    }
+
+    public static Optional<Partition> parse(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String suffix = matcher.group(1);
+        if (suffix.length() == 8) {
+            return Optional.of(partitionFor(LocalDate.parse(suffix, DAY), CallDetailProperties.PartitionUnit.DAY));
+        }
+        LocalDate month = LocalDate.parse(suffix + "01", DAY);
+        return Optional.of(partitionFor(month, CallDetailProperties.PartitionUnit.MONTH));
+    }
+
+    private Optional<Partition> find(LocalDate date) {
+        load();
+        return Optional.ofNullable(known.floorEntry(date))
+                .map(Map.Entry::getValue)
+                .filter(partition -> partition.contains(date));
+    }
+
+    private boolean overlapsKnown(Partition partition) {
+        return known.values().stream().anyMatch(other -> other.overlaps(partition.from(), partition.to()));
+    }
+
+    private void create(Partition partition) {
+        if (platform() == DatabasePlatform.POSTGRESQL) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" + COLUMN_DEFINITIONS + ") PARTITION BY RANGE (called_at)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + TABLE + "_log_idx ON " + TABLE + " (execution_log_id, ordinal)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition.name() + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + partition.from() + "') TO ('" + partition.to() + "')");
+        } else {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition.name() + " (" + COLUMN_DEFINITIONS + ")");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + partition.name() + "_log_idx ON " + partition.name()
+                    + " (execution_log_id, ordinal)");
+        }
+        log.info("호출 상세 파티션 생성: {} ({} ~ {})", partition.name(), partition.from(), partition.to().minusDays(1));
+    }
+
+    private void load() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(dataSource);
+        }
+        return platform;
+    }
+}
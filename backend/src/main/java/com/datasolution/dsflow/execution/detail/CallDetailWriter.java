@@ -0,0 +1,186 @@
+package com.datasolution.dsflow.execution.detail;
+
+import com.datasolution.dsflow.config.CallDetailProperties;
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.execution.sink.BulkLoader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호출 상세 비동기 기록기
+ *
+ * 호출 결과마다 한 행(호출 시각, 실행 로그 ID, 조합 순번, 상태 코드, 응답 시간, 응답 크기, 오류 종류)을 메모리에 모아 두고,
+ * 전용 스레드가 주기(flushIntervalMs)마다 또는 flushBatchSize건이 모이면 호출 날짜의 파티션에 대량 적재합니다.
+ * (PostgreSQL: COPY, 그 밖: JDBC 배치 INSERT)
+ * 파라미터는 저장하지 않고 조합 순번만 저장하며, 조회 시 실행 로그의 조합 공간으로 다시 계산합니다.
+ * 디버깅용 기록이므로 적재 대기가 maxPending을 넘거나 적재에 실패한 행은 버리고 건수만 집계합니다.
+ */
+@Slf4j
+@Component
+public class CallDetailWriter {
+
+    private static final int ERROR_CLASS_MAX_LENGTH = 100;
+
+    private record Row(LocalDateTime calledAt, long logId, long ordinal, int statusCode, boolean success,
+                       int latencyMicros, int responseBytes, String errorClass) {
+
+        Object[] values() {
+            return new Object[]{calledAt, logId, ordinal, statusCode, success, latencyMicros, responseBytes, errorClass};
+        }
+    }
+
+    private final CallDetailProperties properties;
+    private final CallDetailPartitions partitions;
+    private final BulkLoader bulkLoader;
+    private final ConcurrentLinkedQueue<Row> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final Counter written;
+    private final Counter dropped;
+
+    public CallDetailWriter(CallDetailProperties properties, CallDetailPartitions partitions, BulkLoader bulkLoader,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.partitions = partitions;
+        this.bulkLoader = bulkLoader;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-detail-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, properties.getFlushIntervalMs());
+        executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        this.written = Counter.builder("dsflow.call-detail.rows").tag("result", "written")
+                .description("호출 상세 기록 수").register(meterRegistry);
+        this.dropped = Counter.builder("dsflow.call-detail.rows").tag("result", "dropped")
+                .description("호출 상세 기록 수").register(meterRegistry);
+        Gauge.builder("dsflow.call-detail.pending", pending, AtomicInteger::get)
+                .description("적재 대기 중인 호출 상세 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 호출 결과 1건을 기록합니다. 대기하지 않습니다. (응답 본문을 release 하기 전에 호출)
+     */
+    public void record(ExecutionContext context, CallResult result) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (pending.get() >= properties.getMaxPending()) {
+            dropped.increment();
+            return;
+        }
+        queue.add(new Row(LocalDateTime.now(), context.logId(), result.ordinal(), result.statusCode(), result.isSuccess(),
+                (int) Math.min(Integer.MAX_VALUE, result.latencyNanos() / 1000), result.bodySize(), errorClass(result)));
+        if (pending.incrementAndGet() >= properties.getFlushBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 모인 호출 결과를 파티션별로 적재합니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            List<Row> rows = drain();
+            if (rows.isEmpty()) {
+                return;
+            }
+            Map<String, List<Object[]>> byPartition = new LinkedHashMap<>();
+            try {
+                for (Row row : rows) {
+                    String partition = partitions.ensure(row.calledAt().toLocalDate()).name();
+                    byPartition.computeIfAbsent(partition, name -> new ArrayList<>()).add(row.values());
+                }
+            } catch (Exception e) {
+                dropped.increment(rows.size());
+                log.warn("호출 상세 파티션 준비 실패 ({}건 버림): {}", rows.size(), e.getMessage());
+                return;
+            }
+            byPartition.forEach((partition, values) -> {
+                try {
+                    written.increment(bulkLoader.load(partition, CallDetailPartitions.COLUMNS, values, BulkLoader.Mode.COPY));
+                } catch (Exception e) {
+                    dropped.increment(values.size());
+                    log.warn("호출 상세 적재 실패 ({}건 버림): {}", values.size(), e.getMessage());
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private List<Row> drain() {
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while ((row = queue.poll()) != null) {
+            rows.add(row);
+        }
+        pending.addAndGet(-rows.size());
+        return rows;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("호출 상세 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String errorClass(CallResult result) {
+        if (result.error() == null) {
+            return null;
+        }
+        String name = result.error().getClass().getSimpleName();
+        return name.length() > ERROR_CLASS_MAX_LENGTH ? name.substring(0, ERROR_CLASS_MAX_LENGTH) : name;
+    }
+}
@@ -0,0 +1,172 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.util.DatabasePlatform;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 적재기
+ *
+ * 한 번에 받은 행 묶음(chunk)을 하나의 트랜잭션으로 적재합니다.
+ * - BATCH: JDBC 배치 INSERT (PostgreSQL은 reWriteBatchedInserts 설정 시 다중 VALUES 문으로 재작성됨)
+ *          응답에서 꺼낸 값은 대부분 문자열이므로, PostgreSQL에서는 문자열 값을 타입 미지정으로 바인딩하여
+ *          숫자/날짜 컬럼에도 서버가 컬럼 타입으로 변환하게 합니다. (이 INSERT 문에만 적용)
+ * - COPY : PostgreSQL COPY FROM STDIN (CSV). PostgreSQL이 아니면(H2 등) BATCH로 대체
+ */
+@Component
+public class BulkLoader {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    public enum Mode {
+        BATCH,
+        COPY
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private volatile DatabasePlatform platform;
+
+    public BulkLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 행 묶음을 적재하고 커밋합니다.
+     *
+     * @return 적재한 행 수
+     */
+    public long load(String table, List<String> columns, List<Object[]> rows, Mode mode) {
+        validateIdentifiers(table, columns);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Long loaded = transactionTemplate.execute(status -> effectiveMode(mode) == Mode.COPY
+                ? copy(table, columns, rows)
+                : batchInsert(table, columns, rows));
+        return loaded != null ? loaded : 0;
+    }
+
+    /**
+     * 실행 로그 1건의 조합 범위 [fromOrdinal, toOrdinal)에서 적재한 행을 지우고 커밋합니다. (구간 재처리 전)
+     *
+     * @return 지운 행 수
+     */
+    public long deleteRange(String table, String logIdColumn, Long logId, String ordinalColumn,
+                            long fromOrdinal, long toOrdinal) {
+        validateIdentifiers(table, List.of(logIdColumn, ordinalColumn));
+        String sql = "DELETE FROM " + table + " WHERE " + logIdColumn + " = ? AND "
+                + ordinalColumn + " >= ? AND " + ordinalColumn + " < ?";
+        Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(sql, logId, fromOrdinal, toOrdinal));
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 실제로 사용될 적재 방식 (COPY는 PostgreSQL에서만 사용 가능)
+     */
+    public Mode effectiveMode(Mode mode) {
+        return mode == Mode.COPY && platform() == DatabasePlatform.POSTGRESQL ? Mode.COPY : Mode.BATCH;
+    }
+
+    public DatabasePlatform platform() {
+        if (platform == null) {
+            platform = DatabasePlatform.detect(dataSource);
+        }
+        return platform;
+    }
+
+    private long batchInsert(String table, List<String> columns, List<Object[]> rows) {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        boolean untypedStrings = platform() == DatabasePlatform.POSTGRESQL;
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Object[] row = rows.get(i);
+                for (int column = 0; column < row.length; column++) {
+                    Object value = row[column];
+                    if (untypedStrings && value instanceof String) {
+                        ps.setObject(column + 1, value, Types.OTHER);
+                    } else {
+                        StatementCreatorUtils.setParameterValue(ps, column + 1, SqlTypeValue.TYPE_UNKNOWN, value);
+                    }
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        return rows.size();
+    }
+
+    private long copy(String table, List<String> columns, List<Object[]> rows) {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        String csv = toCsv(rows);
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv));
+            } catch (IOException e) {
+                throw new SQLException("COPY 데이터 전송 실패: " + table, e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * CSV 변환. NULL은 따옴표 없는 빈 값, 나머지는 모두 따옴표로 감쌉니다.
+     */
+    static String toCsv(List<Object[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                Object value = row[i];
+                if (value != null) {
+                    String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static void validateIdentifiers(String table, List<String> columns) {
+        if (table == null || !IDENTIFIER.matcher(table).matches()) {
+            throw new IllegalArgumentException("잘못된 테이블 이름입니다: " + table);
+        }
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("적재할 컬럼이 없습니다: " + table);
+        }
+        for (String column : columns) {
+            if (!IDENTIFIER.matcher(column).matches() || column.contains(".")) {
+                throw new IllegalArgumentException("잘못된 컬럼 이름입니다: " + column);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.util.RecordPath;
+import com.datasolution.dsflow.util.XmlRecordReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 호출 결과를 DB 테이블에 적재하는 저장소
+ *
+ * 응답에서 반복 레코드(itemPath)를 꺼내 컬럼 설정에 따라 행으로 변환하고,
+ * (XML 응답은 XmlRecordReader로 매핑된 필드 값만 레코드 객체 없이 스트리밍, JSON 응답은 트리로 파싱)
+ * batchSize 행이 모이면 BulkLoader로 한 번에 적재/커밋합니다.
+ * 실패한 호출은 적재하지 않고 건수만 기록합니다.
+ * (분할 실행의 구간 저장소는 logRepository 없이 열며, 적재 요약을 실행 로그에 기록하지 않습니다.)
+ *
+ * 구간 저장소는 구간의 체크포인트가 구간을 마칠 때만 기록되므로, 노드 중단이나 저장소 종료 실패로 구간을 다시 처리하면
+ * 이미 커밋한 행이 다시 적재될 수 있습니다. 이를 막기 위해 실행 로그 ID와 조합 순번 컬럼이 매핑되어 있으면
+ * 첫 적재 전에 다시 처리할 조합 범위의 행을 지우고, 매핑되어 있지 않으면 구간의 행을 모아 종료 시 한 번에 커밋합니다.
+ */
+@Slf4j
+public class DatabaseResultSink implements ResultSink {
+
+    private static final String PARAM_PREFIX = "${param.";
+
+    private final ExecutionContext context;
+    private final DatabaseSinkConfig config;
+    private final BulkLoader bulkLoader;
+    private final ObjectMapper objectMapper;
+    private final JobExecutionLogRepository logRepository;
+
+    private final RecordPath itemPath;
+    private final XmlRecordReader xmlReader;
+    private final List<String> columnNames;
+    private final List<ColumnSource> sources = new ArrayList<>();
+    /** 컬럼별 레코드 필드 위치 (XmlRecordReader.forEachRow 값 배열의 위치, 레코드 필드가 아니면 -1) */
+    private final int[] fieldIndexes;
+    private final List<Object[]> buffer;
+    /** 분할 실행 구간 저장소가 처리하는 조합 범위 (일반 실행이면 null) */
+    private final OrdinalRange part;
+    /** 구간의 행을 모아 종료 시 한 번에 커밋하는지 */
+    private final boolean loadOnClose;
+    private long loadedRows;
+    private long skippedResults;
+    private boolean closed;
+    private boolean partCleared;
+
+    /**
+     * 분할 실행 구간 1개가 처리하는 조합 범위 [fromOrdinal, toOrdinal)
+     */
+    public record OrdinalRange(long fromOrdinal, long toOrdinal) {
+    }
+
+    public DatabaseResultSink(ExecutionContext context, DatabaseSinkConfig config, BulkLoader bulkLoader,
+                              ObjectMapper objectMapper, JobExecutionLogRepository logRepository) {
+        this(context, config, bulkLoader, objectMapper, logRepository, null);
+    }
+
+    public DatabaseResultSink(ExecutionContext context, DatabaseSinkConfig config, BulkLoader bulkLoader,
+                              ObjectMapper objectMapper, JobExecutionLogRepository logRepository, OrdinalRange part) {
+        this.context = context;
+        this.part = part;
+        this.loadOnClose = part != null && !config.isReloadable();
+        this.partCleared = part == null || loadOnClose;
+        this.config = config;
+        this.bulkLoader = bulkLoader;
+        this.objectMapper = objectMapper;
+        this.logRepository = logRepository;
+        this.itemPath = RecordPath.of(config.itemPath());
+        this.columnNames = config.columnNames();
+        this.buffer = new ArrayList<>(config.batchSize());
+        List<RecordPath> fields = new ArrayList<>();
+        this.fieldIndexes = new int[config.columns().size()];
+        for (Map.Entry<String, String> column : config.columns().entrySet()) {
+            fieldIndexes[sources.size()] = ColumnSource.isRecordField(column.getValue()) ? fields.size() : -1;
+            sources.add(ColumnSource.of(column.getValue()));
+            if (fieldIndexes[sources.size() - 1] >= 0) {
+                fields.add(RecordPath.of(column.getValue()));
+            }
+        }
+        // XML 응답은 컬럼에 매핑된 필드만 변환 (레코드 필드를 쓰는 컬럼이 없으면 레코드 수만큼 행만 만듦)
+        this.xmlReader = new XmlRecordReader(itemPath, fields);
+    }
+
+    @Override
+    public void write(CallResult result) throws Exception {
+        if (!result.isSuccess() || result.body() == null) {
+            skippedResults++;
+            return;
+        }
+        try (InputStream in = result.body().asInputStream()) {
+            if (XmlRecordReader.isXml(result.body())) {
+                xmlReader.forEachRow(in, values -> appendValues(result, values));
+            } else {
+                for (JsonNode record : itemPath.records(objectMapper.readTree(in))) {
+                    append(result, record);
+                }
+            }
+        }
+    }
+
+    private void append(CallResult result, JsonNode record) {
+        Object[] row = new Object[sources.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = sources.get(i).value(result, record, context);
+        }
+        add(row);
+    }
+
+    /**
+     * XML 레코드의 필드 값 배열로 행을 만듭니다.
+     */
+    private void appendValues(CallResult result, Object[] values) {
+        Object[] row = new Object[sources.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = fieldIndexes[i] >= 0 ? values[fieldIndexes[i]] : sources.get(i).value(result, null, context);
+        }
+        add(row);
+    }
+
+    private void add(Object[] row) {
+        buffer.add(row);
+        if (buffer.size() >= config.batchSize() && !loadOnClose) {
+            load();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        // 마지막 적재나 요약 기록이 실패하면 닫히지 않은 상태로 남겨 다시 닫거나 실패를 보고할 수 있게 함
+        try {
+            load();
+            String summary = String.format("{\"table\":\"%s\",\"mode\":\"%s\",\"rows\":%d,\"skippedResults\":%d}",
+                    config.table(), bulkLoader.effectiveMode(config.mode()), loadedRows, skippedResults);
+            if (logRepository != null) {
+                logRepository.updateResultData(context.logId(), summary);
+            }
+        } catch (DataAccessException e) {
+            throw new IOException("결과 적재 실패: " + config.table(), e);
+        }
+        closed = true;
+        log.info("Job {} 결과 적재 완료: {} 테이블 {}행 (적재 제외 {}건)",
+                context.jobCode(), config.table(), loadedRows, skippedResults);
+    }
+
+    @Override
+    public String location() {
+        return config.table() + " (" + loadedRows + "행)";
+    }
+
+    /**
+     * 모인 행을 적재합니다. 구간의 행을 종료 시 한 번에 커밋하는 경우에는 종료할 때만 적재합니다.
+     */
+    @Override
+    public synchronized void flush() {
+        if (!loadOnClose) {
+            load();
+        }
+    }
+
+    private void load() {
+        if (!partCleared) {
+            // 이전 임대에서 커밋했지만 체크포인트에 반영되지 않은 행을 지움
+            long deleted = bulkLoader.deleteRange(config.table(),
+                    config.columnOf(DatabaseSinkConfig.LOG_ID).orElseThrow(), context.logId(),
+                    config.columnOf(DatabaseSinkConfig.ORDINAL).orElseThrow(), part.fromOrdinal(), part.toOrdinal());
+            partCleared = true;
+            if (deleted > 0) {
+                log.info("Job {} 구간 재처리: {} 테이블에서 조합 {}~{}의 이전 적재 행 {}행 삭제",
+                        context.jobCode(), config.table(), part.fromOrdinal(), part.toOrdinal() - 1, deleted);
+            }
+        }
+        if (buffer.isEmpty()) {
+            return;
+        }
+        loadedRows += bulkLoader.load(config.table(), columnNames, buffer, config.mode());
+        buffer.clear();
+    }
+
+    /**
+     * 컬럼 값의 출처 (레코드 필드, 호출 파라미터, 기준일, 실행 로그 ID, 조합 순번)
+     */
+    private interface ColumnSource {
+
+        Object value(CallResult result, JsonNode record, ExecutionContext context);
+
+        /**
+         * 레코드 필드를 읽는 표현식인지 (호출 파라미터, 기준일, 실행 로그 ID, 조합 순번이 아닌지)
+         */
+        static boolean isRecordField(String expression) {
+            return !DatabaseSinkConfig.ORDINAL.equals(expression) && !DatabaseSinkConfig.BASE_DATE.equals(expression)
+                    && !DatabaseSinkConfig.LOG_ID.equals(expression)
+                    && !(expression.startsWith(PARAM_PREFIX) && expression.endsWith("}"));
+        }
+
+        static ColumnSource of(String expression) {
+            if (DatabaseSinkConfig.ORDINAL.equals(expression)) {
+                return (result, record, context) -> result.ordinal();
+            }
+            if (DatabaseSinkConfig.BASE_DATE.equals(expression)) {
+                return (result, record, context) -> context.baseDate();
+            }
+            if (DatabaseSinkConfig.LOG_ID.equals(expression)) {
+                return (result, record, context) -> context.logId();
+            }
+            if (expression.startsWith(PARAM_PREFIX) && expression.endsWith("}")) {
+                String name = expression.substring(PARAM_PREFIX.length(), expression.length() - 1);
+                return (result, record, context) -> result.parameters().get(name);
+            }
+            RecordPath path = RecordPath.of(expression);
+            return (result, record, context) -> path.value(record);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * DB 테이블 적재 설정 (JobDefinition.sinkConfig)
+ *
+ * <pre>
+ * {
+ *   "table": "apt_trade",
+ *   "mode": "COPY",                         // COPY(기본) 또는 BATCH
+ *   "batchSize": 1000,                      // 한 번에 커밋할 행 수
+ *   "itemPath": "response.body.items.item", // 응답에서 반복 레코드 위치
+ *   "columns": {
+ *     "deal_amount": "거래금액",             // 레코드 안의 필드 경로
+ *     "lawd_cd": "${param.LAWD_CD}",        // 호출 파라미터
+ *     "base_date": "${baseDate}",           // 실행 기준일
+ *     "execution_log_id": "${logId}",       // 실행 로그 ID
+ *     "call_ordinal": "${ordinal}"          // 파라미터 조합 순번
+ *   }
+ * }
+ * </pre>
+ *
+ * ${logId}와 ${ordinal} 컬럼을 모두 매핑하면 분할 실행의 구간을 다시 처리할 때 그 구간에서 이미 적재한 행을 지우고 다시 적재합니다.
+ * 매핑하지 않으면 구간 1개의 행을 모아 구간을 마칠 때 한 번에 커밋합니다.
+ */
+public record DatabaseSinkConfig(String table,
+                                 BulkLoader.Mode mode,
+                                 int batchSize,
+                                 String itemPath,
+                                 Map<String, String> columns) {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final String ORDINAL = "${ordinal}";
+    public static final String BASE_DATE = "${baseDate}";
+    public static final String LOG_ID = "${logId}";
+
+    public List<String> columnNames() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * 표현식이 expression인 첫 번째 컬럼 이름
+     */
+    public Optional<String> columnOf(String expression) {
+        return columns.entrySet().stream()
+                .filter(column -> expression.equals(column.getValue()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * 실행 로그 ID와 조합 순번 컬럼이 모두 있어 조합 범위 단위로 적재한 행을 지울 수 있는지
+     */
+    public boolean isReloadable() {
+        return columnOf(LOG_ID).isPresent() && columnOf(ORDINAL).isPresent();
+    }
+
+    /**
+     * 설정 JSON을 읽습니다. 필수 항목이 없으면 IllegalArgumentException을 던집니다.
+     */
+    public static DatabaseSinkConfig parse(ObjectMapper objectMapper, String json) {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("DB 적재 설정(sinkConfig)이 없습니다.");
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("DB 적재 설정 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+
+        String table = node.path("table").asText("");
+        if (table.isBlank()) {
+            throw new IllegalArgumentException("DB 적재 설정에 table이 없습니다.");
+        }
+        JsonNode columnsNode = node.path("columns");
+        if (!columnsNode.isObject() || columnsNode.isEmpty()) {
+            throw new IllegalArgumentException("DB 적재 설정에 columns가 없습니다.");
+        }
+        Map<String, String> columns = new LinkedHashMap<>();
+        columnsNode.fields().forEachRemaining(e -> columns.put(e.getKey(), e.getValue().asText()));
+
+        BulkLoader.Mode mode;
+        try {
+            mode = BulkLoader.Mode.valueOf(node.path("mode").asText("COPY").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 적재 방식입니다: " + node.path("mode").asText());
+        }
+        int batchSize = node.path("batchSize").asInt(DEFAULT_BATCH_SIZE);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        return new DatabaseSinkConfig(table, mode, batchSize, node.path("itemPath").asText(""), columns);
+    }
+}
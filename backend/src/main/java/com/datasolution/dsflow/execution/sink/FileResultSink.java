@@ -0,0 +1,311 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 호출 결과를 gzip 압축 NDJSON 파일로 저장하는 저장소
+ *
+ * 응답 본문은 문자열로 변환하지 않고 받은 바이트를 그대로 압축 스트림에 기록합니다.
+ * 파일이 설정 크기/건수를 넘으면 다음 파일(chunk-00001.ndjson.gz ...)로 넘어가며,
+ * 파일마다 색인(chunk-00000.index.ndjson)에 조합 순번, 압축 전 기준 위치(offset)와 길이, CRC32를 기록합니다.
+ * 저장소를 닫을 때 전체 파일 목록(manifest.json)을 만들고 실행 로그에는 그 경로만 저장합니다.
+ * (분할 실행의 구간 저장소는 logRepository 없이 열며, 구간별 경로는 구간 정보에 기록됩니다.)
+ *
+ * 한 줄의 형식: {"ordinal":0,"status":200,"parameters":{...},"bodyType":"json","body":...}
+ * - JSON 응답은 값 그대로 기록 (줄바꿈은 공백으로 치환)
+ * - 그 외(XML 등) 응답은 JSON 문자열로 이스케이프하여 기록
+ */
+@Slf4j
+public class FileResultSink implements ResultSink {
+
+    private static final byte[] BODY_JSON = ",\"bodyType\":\"json\",\"body\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BODY_TEXT = ",\"bodyType\":\"text\",\"body\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final Long logId;
+    private final Path directory;
+    private final JobExecutionLogRepository logRepository;
+    private final ObjectMapper objectMapper;
+    private final long chunkMaxBytes;
+    private final int chunkMaxRecords;
+
+    private final ArrayNode chunks;
+    private final byte[] scratch = new byte[8 * 1024];
+    private Chunk current;
+    private int chunkIndex;
+    private long totalRecords;
+    private boolean closed;
+
+    public FileResultSink(Long logId, Path directory, JobExecutionLogRepository logRepository, ObjectMapper objectMapper,
+                          long chunkMaxBytes, int chunkMaxRecords) throws IOException {
+        this.logId = logId;
+        this.directory = Files.createDirectories(directory);
+        this.logRepository = logRepository;
+        this.objectMapper = objectMapper;
+        this.chunkMaxBytes = chunkMaxBytes;
+        this.chunkMaxRecords = chunkMaxRecords;
+        this.chunks = objectMapper.createArrayNode();
+    }
+
+    @Override
+    public void write(CallResult result) throws IOException {
+        if (current == null || current.bytes >= chunkMaxBytes || current.records >= chunkMaxRecords) {
+            rollOver();
+        }
+        RecordOutputStream out = current.data;
+        long offset = out.count;
+        out.crc.reset();
+
+        ObjectNode header = objectMapper.createObjectNode();
+        header.put("ordinal", result.ordinal());
+        header.put("status", result.statusCode());
+        header.set("parameters", objectMapper.valueToTree(result.parameters()));
+        if (!result.isSuccess()) {
+            header.put("error", result.errorMessage());
+        }
+        byte[] headerBytes = objectMapper.writeValueAsBytes(header);
+
+        DataBuffer body = result.body();
+        if (body == null || body.readableByteCount() == 0) {
+            out.write(headerBytes);
+        } else {
+            // 닫는 중괄호를 빼고 body 필드를 이어 씀
+            out.write(headerBytes, 0, headerBytes.length - 1);
+            boolean json = isJson(body);
+            out.write(json ? BODY_JSON : BODY_TEXT);
+            try (DataBuffer.ByteBufferIterator iterator = body.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer buffer = iterator.next();
+                    if (json) {
+                        copyJson(buffer, out);
+                    } else {
+                        copyEscaped(buffer, out);
+                    }
+                }
+            }
+            if (!json) {
+                out.write('"');
+            }
+            out.write('}');
+        }
+        out.write('\n');
+
+        long length = out.count - offset;
+        ObjectNode entry = objectMapper.createObjectNode();
+        entry.put("ordinal", result.ordinal());
+        entry.put("offset", offset);
+        entry.put("length", length);
+        entry.put("crc32", out.crc.getValue());
+        entry.put("status", result.statusCode());
+        current.index.write(objectMapper.writeValueAsBytes(entry));
+        current.index.write('\n');
+
+        current.bytes = out.count;
+        current.records++;
+        totalRecords++;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        // 마지막 파일이나 결과 목록 기록이 실패하면 닫히지 않은 상태로 남겨 다시 닫거나 실패를 보고할 수 있게 함
+        closeCurrent();
+        Path manifestPath = writeManifest();
+        closed = true;
+        log.info("실행 로그 {} 결과 파일 저장 완료: {}건, 파일 {}개 ({})", logId, totalRecords, chunks.size(), manifestPath);
+    }
+
+    /**
+     * 작성 중인 파일을 닫고 지금까지의 결과 목록을 기록합니다. 다음 결과는 새 파일에 씁니다.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (closed || current == null) {
+            return;
+        }
+        closeCurrent();
+        writeManifest();
+    }
+
+    @Override
+    public String location() {
+        return directory.resolve("manifest.json").toString();
+    }
+
+    private Path writeManifest() throws IOException {
+        ObjectNode manifest = objectMapper.createObjectNode();
+        manifest.put("logId", logId);
+        manifest.put("format", "ndjson+gzip");
+        manifest.put("records", totalRecords);
+        manifest.set("chunks", chunks);
+        Path manifestPath = directory.resolve("manifest.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifestPath.toFile(), manifest);
+
+        if (logRepository != null) {
+            logRepository.updateResultManifestPath(logId, manifestPath.toString());
+        }
+        return manifestPath;
+    }
+
+    private void rollOver() throws IOException {
+        closeCurrent();
+        String name = String.format("chunk-%05d", chunkIndex++);
+        current = new Chunk(name, directory.resolve(name + ".ndjson.gz"), directory.resolve(name + ".index.ndjson"));
+    }
+
+    private void closeCurrent() throws IOException {
+        if (current == null) {
+            return;
+        }
+        Chunk chunk = current;
+        chunk.data.close();
+        chunk.index.close();
+        current = null;
+
+        ObjectNode entry = chunks.addObject();
+        entry.put("file", chunk.dataPath.getFileName().toString());
+        entry.put("index", chunk.indexPath.getFileName().toString());
+        entry.put("records", chunk.records);
+        entry.put("uncompressedBytes", chunk.bytes);
+        entry.put("compressedBytes", Files.size(chunk.dataPath));
+    }
+
+    /**
+     * 응답 본문이 JSON 객체/배열인지 첫 글자로 판단합니다.
+     */
+    private static boolean isJson(DataBuffer body) {
+        int start = body.readPosition();
+        int end = start + body.readableByteCount();
+        for (int i = start; i < end; i++) {
+            byte b = body.getByte(i);
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                continue;
+            }
+            // UTF-8 BOM으로 시작하는 경우는 문자열로 기록
+            return b == '{' || b == '[';
+        }
+        return false;
+    }
+
+    /**
+     * JSON 본문 복사. 유효한 JSON에서 줄바꿈은 공백 문자로만 나타나므로 공백으로 치환해도 의미가 같습니다.
+     */
+    private void copyJson(ByteBuffer buffer, OutputStream out) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = Math.min(buffer.remaining(), scratch.length);
+            buffer.get(scratch, 0, n);
+            for (int i = 0; i < n; i++) {
+                if (scratch[i] == '\n' || scratch[i] == '\r') {
+                    scratch[i] = ' ';
+                }
+            }
+            out.write(scratch, 0, n);
+        }
+    }
+
+    /**
+     * 텍스트 본문을 JSON 문자열로 이스케이프하여 복사. UTF-8 멀티바이트 문자(0x80 이상)는 그대로 기록합니다.
+     */
+    private void copyEscaped(ByteBuffer buffer, OutputStream out) throws IOException {
+        int pos = 0;
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (pos > scratch.length - 6) {
+                out.write(scratch, 0, pos);
+                pos = 0;
+            }
+            if (b == '"' || b == '\\') {
+                scratch[pos++] = '\\';
+                scratch[pos++] = b;
+            } else if (b >= 0 && b < 0x20) {
+                switch (b) {
+                    case '\n' -> { scratch[pos++] = '\\'; scratch[pos++] = 'n'; }
+                    case '\r' -> { scratch[pos++] = '\\'; scratch[pos++] = 'r'; }
+                    case '\t' -> { scratch[pos++] = '\\'; scratch[pos++] = 't'; }
+                    default -> {
+                        scratch[pos++] = '\\';
+                        scratch[pos++] = 'u';
+                        scratch[pos++] = '0';
+                        scratch[pos++] = '0';
+                        scratch[pos++] = HEX[b >> 4];
+                        scratch[pos++] = HEX[b & 0xF];
+                    }
+                }
+            } else {
+                scratch[pos++] = b;
+            }
+        }
+        out.write(scratch, 0, pos);
+    }
+
+    /**
+     * 결과 파일 1개 (데이터 + 색인)
+     */
+    private static class Chunk {
+        private final Path dataPath;
+        private final Path indexPath;
+        private final RecordOutputStream data;
+        private final OutputStream index;
+        private long bytes;
+        private int records;
+
+        Chunk(String name, Path dataPath, Path indexPath) throws IOException {
+            this.dataPath = dataPath;
+            this.indexPath = indexPath;
+            this.data = new RecordOutputStream(new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(dataPath), IO_BUFFER_SIZE), IO_BUFFER_SIZE));
+            this.index = new BufferedOutputStream(Files.newOutputStream(indexPath), IO_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * 압축 전 기준으로 기록한 바이트 수와 CRC32를 계산하는 스트림
+     */
+    private static class RecordOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private final CRC32 crc = new CRC32();
+        private long count;
+
+        RecordOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            crc.update(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            crc.update(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
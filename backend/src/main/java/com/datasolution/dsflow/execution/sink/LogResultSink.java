@@ -0,0 +1,71 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 실행 로그(resultData)에 호출 결과를 NDJSON 형식으로 저장하는 기본 저장소
+ * 컬럼 크기 제한이 있으므로 최대 문자 수를 넘는 결과는 건수만 기록합니다.
+ */
+@Slf4j
+public class LogResultSink implements ResultSink {
+
+    private final Long logId;
+    private final JobExecutionLogRepository logRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxChars;
+    private final StringBuilder buffer = new StringBuilder();
+    private long truncatedCount;
+    private boolean closed;
+
+    public LogResultSink(Long logId, JobExecutionLogRepository logRepository, ObjectMapper objectMapper, int maxChars) {
+        this.logId = logId;
+        this.logRepository = logRepository;
+        this.objectMapper = objectMapper;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public void write(CallResult result) throws Exception {
+        if (buffer.length() >= maxChars) {
+            truncatedCount++;
+            return;
+        }
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("ordinal", result.ordinal());
+        line.set("parameters", objectMapper.valueToTree(result.parameters()));
+        line.put("status", result.statusCode());
+        if (result.body() != null) {
+            line.put("body", result.body().toString(StandardCharsets.UTF_8));
+        }
+        if (!result.isSuccess()) {
+            line.put("error", result.errorMessage());
+        }
+        buffer.append(objectMapper.writeValueAsString(line)).append('\n');
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (!closed) {
+            logRepository.updateResultData(logId, buffer.toString());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (truncatedCount > 0) {
+            buffer.append("{\"truncated\":").append(truncatedCount).append("}\n");
+            log.warn("실행 로그 {} 결과 데이터 크기 제한 초과: {}건은 저장하지 않았습니다.", logId, truncatedCount);
+        }
+        logRepository.updateResultData(logId, buffer.toString());
+    }
+}
@@ -0,0 +1,38 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.execution.CallResult;
+
+import java.io.IOException;
+
+/**
+ * API 호출 결과 저장소
+ *
+ * 실행 1건마다 하나씩 열리며, write는 하나의 스레드에서 순서대로 호출됩니다.
+ * 저장이 느리면 실행 파이프라인이 새 호출을 멈추고 기다립니다. (배압)
+ */
+public interface ResultSink extends AutoCloseable {
+
+    /**
+     * 호출 결과 1건을 저장합니다. 응답 본문 버퍼는 호출한 쪽에서 release 합니다.
+     */
+    void write(CallResult result) throws Exception;
+
+    /**
+     * 지금까지 받은 데이터를 반영합니다. (실행 일시정지 시) 이후에도 계속 저장할 수 있어야 합니다.
+     */
+    default void flush() throws Exception {
+    }
+
+    /**
+     * 남은 데이터를 모두 반영하고 저장소를 닫습니다. 여러 번 호출되어도 안전해야 합니다.
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * 저장 위치 (결과 파일 목록 경로, 적재 테이블 등). 없으면 null
+     */
+    default String location() {
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.config.ExecutionProperties;
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 실행별 결과 저장소 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class ResultSinkFactory {
+
+    private final JobExecutionLogRepository logRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutionProperties properties;
+    private final BulkLoader bulkLoader;
+
+    /**
+     * Job에 저장 방식이 지정되어 있으면 그것을, 없으면 기본 저장 방식(dsflow.execution.result-sink)을 사용합니다.
+     */
+    public ResultSink open(ExecutionContext context) {
+        return switch (sinkType(context)) {
+            case LOG -> new LogResultSink(context.logId(), logRepository, objectMapper, properties.getResultDataMaxChars());
+            case FILE -> openFileSink(context, executionDirectory(context), true);
+            case DATABASE -> new DatabaseResultSink(context,
+                    DatabaseSinkConfig.parse(objectMapper, context.jobDefinition().getSinkConfig()),
+                    bulkLoader, objectMapper, logRepository);
+        };
+    }
+
+    /**
+     * 분할 실행의 구간 1개용 저장소를 엽니다. 실행 로그는 갱신하지 않으며, 파일은 구간별 하위 경로에 저장합니다.
+     * DB 적재는 이 임대에서 처리할 조합 범위 [fromOrdinal, toOrdinal)를 다시 적재해도 행이 중복되지 않도록 엽니다.
+     */
+    public ResultSink openPart(ExecutionContext context, String partName, long fromOrdinal, long toOrdinal) {
+        return switch (sinkType(context)) {
+            case LOG -> throw new IllegalStateException("실행 로그 저장 방식은 분할 실행을 지원하지 않습니다: " + context.jobCode());
+            case FILE -> openFileSink(context, executionDirectory(context).resolve(partName), false);
+            case DATABASE -> new DatabaseResultSink(context,
+                    DatabaseSinkConfig.parse(objectMapper, context.jobDefinition().getSinkConfig()),
+                    bulkLoader, objectMapper, null, new DatabaseResultSink.OrdinalRange(fromOrdinal, toOrdinal));
+        };
+    }
+
+    public ResultSinkType sinkType(ExecutionContext context) {
+        return context.jobDefinition().getSinkType() != null
+                ? context.jobDefinition().getSinkType()
+                : properties.getResultSink();
+    }
+
+    /**
+     * 실행 1건의 결과 파일 경로 ({resultDir}/{jobCode}/{baseDate}/{실행 로그 ID})
+     */
+    public Path executionDirectory(ExecutionContext context) {
+        return Path.of(properties.getResultDir(), context.jobCode(),
+                context.baseDate().toString(), String.valueOf(context.logId()));
+    }
+
+    private ResultSink openFileSink(ExecutionContext context, Path directory, boolean updateLog) {
+        try {
+            return new FileResultSink(context.logId(), directory, updateLog ? logRepository : null, objectMapper,
+                    properties.getChunkMaxSizeMb() * 1024L * 1024L, properties.getChunkMaxRecords());
+        } catch (IOException e) {
+            throw new IllegalStateException("결과 저장 경로를 만들 수 없습니다: " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.entity.ApiQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApiQuotaUsageRepository extends JpaRepository<ApiQuotaUsage, Long> {
+
+    Optional<ApiQuotaUsage> findByServiceKeyHashAndUsageDate(String serviceKeyHash, LocalDate usageDate);
+
+    List<ApiQuotaUsage> findByUsageDateOrderByCallCountDesc(LocalDate usageDate);
+
+    /**
+     * 호출 수 + 예약 수 (영속성 컨텍스트를 거치지 않고 DB 값을 읽음)
+     */
+    @Query("SELECT u.callCount + u.reservedCount FROM ApiQuotaUsage u " +
+           "WHERE u.serviceKeyHash = :serviceKeyHash AND u.usageDate = :usageDate")
+    Optional<Long> findCommittedCalls(@Param("serviceKeyHash") String serviceKeyHash,
+                                      @Param("usageDate") LocalDate usageDate);
+
+    /**
+     * 호출 수 증가 (여러 노드가 동시에 반영해도 누락되지 않도록 DB에서 가산)
+     * 예약을 통해 수행된 호출 수(consumed)만큼 예약 수를 함께 줄입니다.
+     */
+    @Modifying
+    @Query("UPDATE ApiQuotaUsage u SET u.callCount = u.callCount + :delta, " +
+           "u.reservedCount = CASE WHEN u.reservedCount > :consumed THEN u.reservedCount - :consumed ELSE 0 END, " +
+           "u.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE u.serviceKeyHash = :serviceKeyHash AND u.usageDate = :usageDate")
+    int incrementCallCount(@Param("serviceKeyHash") String serviceKeyHash,
+                           @Param("usageDate") LocalDate usageDate,
+                           @Param("delta") long delta,
+                           @Param("consumed") long consumed);
+
+    /**
+     * 한도 예약. 호출 수 + 예약 수 + 요청 수가 한도 이하일 때만 가산합니다. (반환값 0이면 잔여 한도 부족)
+     */
+    @Modifying
+    @Query("UPDATE ApiQuotaUsage u SET u.reservedCount = u.reservedCount + :calls, u.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE u.serviceKeyHash = :serviceKeyHash AND u.usageDate = :usageDate " +
+           "AND u.callCount + u.reservedCount + :calls <= :limit")
+    int reserve(@Param("serviceKeyHash") String serviceKeyHash,
+                @Param("usageDate") LocalDate usageDate,
+                @Param("calls") long calls,
+                @Param("limit") long limit);
+
+    /**
+     * 사용하지 않은 예약 반환
+     */
+    @Modifying
+    @Query("UPDATE ApiQuotaUsage u SET u.reservedCount = CASE WHEN u.reservedCount > :calls THEN u.reservedCount - :calls ELSE 0 END, " +
+           "u.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE u.serviceKeyHash = :serviceKeyHash AND u.usageDate = :usageDate")
+    int releaseReserved(@Param("serviceKeyHash") String serviceKeyHash,
+                        @Param("usageDate") LocalDate usageDate,
+                        @Param("calls") long calls);
+}
@@ -0,0 +1,115 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.entity.ExecutionChunk;
+import com.datasolution.dsflow.entity.enums.ChunkStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExecutionChunkRepository extends JpaRepository<ExecutionChunk, Long> {
+
+    /**
+     * 임대할 수 있는 구간 (대기 중이거나 임대가 만료된 구간, 우선순위 → 등록 순)
+     * 다른 노드가 잠근 행은 건너뜁니다. (lock.timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM ExecutionChunk c WHERE c.status = :pending " +
+           "OR (c.status = :leased AND c.leaseExpiresAt < :now) ORDER BY c.priority, c.id")
+    List<ExecutionChunk> findClaimable(@Param("pending") ChunkStatus pending,
+                                       @Param("leased") ChunkStatus leased,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    /**
+     * 임대할 수 있는 구간 중 가장 급한 우선순위 (없으면 null)
+     */
+    @Query("SELECT MIN(c.priority) FROM ExecutionChunk c WHERE c.status = :pending " +
+           "OR (c.status = :leased AND c.leaseExpiresAt < :now)")
+    Integer findMostUrgentClaimablePriority(@Param("pending") ChunkStatus pending,
+                                            @Param("leased") ChunkStatus leased,
+                                            @Param("now") LocalDateTime now);
+
+    List<ExecutionChunk> findByExecutionLogIdOrderByStartOrdinal(Long executionLogId);
+
+    boolean existsByExecutionLogId(Long executionLogId);
+
+    @Query("SELECT c.status, COUNT(c), SUM(c.processedCount), SUM(c.successCount), SUM(c.failCount) " +
+           "FROM ExecutionChunk c WHERE c.executionLogId = :logId GROUP BY c.status")
+    List<Object[]> summarize(@Param("logId") Long executionLogId);
+
+    /**
+     * 임대 연장. 임대를 잃었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE ExecutionChunk c SET c.leaseExpiresAt = :until, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :id AND c.leaseToken = :token AND c.status = :leased")
+    int renew(@Param("id") Long id,
+              @Param("token") Long token,
+              @Param("leased") ChunkStatus leased,
+              @Param("until") LocalDateTime until);
+
+    /**
+     * 임대 종료 (완료/실패/재시도 대기). 임대를 잃었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE ExecutionChunk c SET c.status = :status, c.leaseExpiresAt = NULL, c.nextOrdinal = :nextOrdinal, " +
+           "c.processedCount = :processed, c.successCount = :success, c.failCount = :fail, " +
+           "c.resultLocation = :location, c.errorMessage = :error, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :id AND c.leaseToken = :token AND c.status = :leased")
+    int finish(@Param("id") Long id,
+               @Param("token") Long token,
+               @Param("leased") ChunkStatus leased,
+               @Param("status") ChunkStatus status,
+               @Param("nextOrdinal") Long nextOrdinal,
+               @Param("processed") Long processed,
+               @Param("success") Long success,
+               @Param("fail") Long fail,
+               @Param("location") String location,
+               @Param("error") String error);
+
+    /**
+     * 임대 반납 (양보, 일시정지, 중단). 체크포인트부터 다시 처리할 수 있으며 임대 횟수에 포함하지 않습니다.
+     * 임대를 잃었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE ExecutionChunk c SET c.status = :status, c.leaseExpiresAt = NULL, c.nextOrdinal = :nextOrdinal, " +
+           "c.processedCount = :processed, c.successCount = :success, c.failCount = :fail, " +
+           "c.resultLocation = :location, c.attempts = c.attempts - 1, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :id AND c.leaseToken = :token AND c.status = :leased")
+    int release(@Param("id") Long id,
+                @Param("token") Long token,
+                @Param("leased") ChunkStatus leased,
+                @Param("status") ChunkStatus status,
+                @Param("nextOrdinal") Long nextOrdinal,
+                @Param("processed") Long processed,
+                @Param("success") Long success,
+                @Param("fail") Long fail,
+                @Param("location") String location);
+
+    /**
+     * 실행 목록 중 구간이 status 상태인 실행
+     */
+    @Query("SELECT DISTINCT c.executionLogId FROM ExecutionChunk c WHERE c.executionLogId IN :logIds AND c.status = :status")
+    List<Long> findExecutionLogIdsByStatus(@Param("logIds") Collection<Long> executionLogIds,
+                                           @Param("status") ChunkStatus status);
+
+    @Modifying
+    @Query("UPDATE ExecutionChunk c SET c.status = :status, c.leaseExpiresAt = NULL, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.executionLogId = :logId AND c.status IN :from")
+    int updateStatusByExecution(@Param("logId") Long executionLogId,
+                                @Param("from") Collection<ChunkStatus> from,
+                                @Param("status") ChunkStatus status);
+}
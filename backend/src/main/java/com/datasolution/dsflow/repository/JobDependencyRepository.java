@@ -0,0 +1,30 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.entity.JobDependency;
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobDependencyRepository extends JpaRepository<JobDependency, Long> {
+
+    List<JobDependency> findByJobDefinitionIdOrderByUpstreamTypeAscUpstreamCodeAsc(Long jobDefinitionId);
+
+    List<JobDependency> findByUpstreamTypeAndUpstreamCode(DependencyType upstreamType, String upstreamCode);
+
+    void deleteByJobDefinitionId(Long jobDefinitionId);
+
+    /**
+     * 선행 작업 코드가 바뀐 경우 의존 관계를 함께 변경
+     */
+    @Modifying
+    @Query("UPDATE JobDependency jd SET jd.upstreamCode = :newCode WHERE jd.upstreamType = :upstreamType AND jd.upstreamCode = :oldCode")
+    int renameUpstream(@Param("upstreamType") DependencyType upstreamType,
+                       @Param("oldCode") String oldCode,
+                       @Param("newCode") String newCode);
+}
@@ -6,12 +6,15 @@ import com.datasolution.dsflow.entity.enums.ExecutionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +40,26 @@ public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLog
     Optional<JobExecutionLog> findByBaseDateAndJobCode(@Param("baseDate") LocalDate baseDate, 
                                                        @Param("jobCode") String jobCode);
 
+    /**
+     * 기간 안에서 모든 조합을 호출하고 완료된 실행이 있는 기준일.
+     * 분할 실행(SPLIT)으로 남은 조합이 있는 완료 실행은 제외합니다. (구간 정보가 없는 이전 실행은 완료로 봄)
+     */
+    @Query("SELECT DISTINCT jel.baseDate FROM JobExecutionLog jel WHERE jel.jobDefinition.jobCode = :jobCode " +
+           "AND jel.status = 'COMPLETED' AND jel.baseDate BETWEEN :fromDate AND :toDate " +
+           "AND (jel.combinationCount IS NULL OR jel.endOrdinal IS NULL OR jel.endOrdinal >= jel.combinationCount)")
+    List<LocalDate> findFullyCompletedBaseDates(@Param("jobCode") String jobCode,
+                                                @Param("fromDate") LocalDate fromDate,
+                                                @Param("toDate") LocalDate toDate);
+
+    /**
+     * 최근 실행의 [시작 시각, 종료 시각] (최신순)
+     */
+    @Query("SELECT jel.startTime, jel.endTime FROM JobExecutionLog jel WHERE jel.jobDefinition.jobCode = :jobCode " +
+           "AND jel.status = :status AND jel.startTime IS NOT NULL AND jel.endTime IS NOT NULL ORDER BY jel.startTime DESC")
+    List<Object[]> findRecentRunTimes(@Param("jobCode") String jobCode,
+                                      @Param("status") ExecutionStatus status,
+                                      Pageable pageable);
+
     @Query("SELECT COUNT(jel) FROM JobExecutionLog jel WHERE jel.status = :status AND jel.startTime >= :fromDate")
     Long countByStatusAndStartTimeAfter(@Param("status") ExecutionStatus status, 
                                        @Param("fromDate") LocalDateTime fromDate);
@@ -44,14 +67,23 @@ public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLog
     @Query("SELECT jel.status, COUNT(jel) FROM JobExecutionLog jel WHERE jel.startTime >= :fromDate GROUP BY jel.status")
     List<Object[]> getStatusStatistics(@Param("fromDate") LocalDateTime fromDate);
 
-    @Query("SELECT jel FROM JobExecutionLog jel WHERE jel.jobDefinition.jobCode = :jobCode AND jel.baseDate = :baseDate AND jel.status IN ('STARTED', 'RUNNING')")
+    /**
+     * 기준일의 완료 실행 (최신순). 마지막 완료 실행이 분할 실행이었으면 다음 실행은 그 끝 순번부터 이어서 호출
+     */
+    @Query("SELECT jel FROM JobExecutionLog jel WHERE jel.jobDefinition.jobCode = :jobCode AND jel.baseDate = :baseDate " +
+           "AND jel.status = 'COMPLETED' ORDER BY jel.startTime DESC, jel.id DESC")
+    List<JobExecutionLog> findCompletedByJobCodeAndBaseDate(@Param("jobCode") String jobCode,
+                                                            @Param("baseDate") LocalDate baseDate,
+                                                            Pageable pageable);
+
+    @Query("SELECT jel FROM JobExecutionLog jel WHERE jel.jobDefinition.jobCode = :jobCode AND jel.baseDate = :baseDate AND jel.status IN ('STARTED', 'RUNNING', 'PAUSED')")
     List<JobExecutionLog> findRunningJobsByJobCodeAndBaseDate(@Param("jobCode") String jobCode, 
                                                              @Param("baseDate") LocalDate baseDate);
 
     @Query("SELECT new com.datasolution.dsflow.dto.JobStatisticsDto(" +
             "log.jobDefinition.jobCode, log.jobDefinition.jobName, " +
             "COUNT(log), " +
-            "SUM(CASE WHEN log.status = 'SUCCESS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN log.status = 'COMPLETED' THEN 1 ELSE 0 END), " +
             "SUM(CASE WHEN log.status = 'FAILED' THEN 1 ELSE 0 END), " +
             "MAX(log.endTime)) " +
             "FROM JobExecutionLog log " +
@@ -61,7 +93,7 @@ public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLog
     @Query("SELECT new com.datasolution.dsflow.dto.JobStatisticsDto(" +
             "log.jobDefinition.jobCode, log.jobDefinition.jobName, " +
             "COUNT(log), " +
-            "SUM(CASE WHEN log.status = 'SUCCESS' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN log.status = 'COMPLETED' THEN 1 ELSE 0 END), " +
             "SUM(CASE WHEN log.status = 'FAILED' THEN 1 ELSE 0 END), " +
             "MAX(log.endTime)) " +
             "FROM JobExecutionLog log " +
@@ -70,4 +102,110 @@ public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLog
     List<JobStatisticsDto> findByJobCodeAndStartTimeBetween(@Param("start") LocalDateTime start,
                                                      @Param("end") LocalDateTime end);
 
-} 
\ No newline at end of file
+    /**
+     * 시작 시각이 [from, to)인 실행의 Job별 통계 (통계 집계 구간에 걸치지 않는 앞부분 계산용)
+     */
+    @Query("SELECT new com.datasolution.dsflow.dto.JobStatisticsDto(" +
+            "log.jobDefinition.jobCode, log.jobDefinition.jobName, " +
+            "COUNT(log), " +
+            "SUM(CASE WHEN log.status = 'COMPLETED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN log.status = 'FAILED' THEN 1 ELSE 0 END), " +
+            "MAX(log.endTime)) " +
+            "FROM JobExecutionLog log " +
+            "WHERE log.startTime >= :from AND log.startTime < :to " +
+            "GROUP BY log.jobDefinition.jobCode, log.jobDefinition.jobName")
+    List<JobStatisticsDto> findJobStatisticsStartedFrom(@Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    /**
+     * 통계 집계 재구성용 (Job 정의 ID, 시작 시각, 상태, 종료 시각)
+     */
+    @Query("SELECT jel.jobDefinition.id, jel.startTime, jel.status, jel.endTime FROM JobExecutionLog jel")
+    List<Object[]> findStatisticsSources();
+
+    /**
+     * 통계 집계 대사용 (시작 시각이 from 이후인 실행)
+     */
+    @Query("SELECT jel.jobDefinition.id, jel.startTime, jel.status, jel.endTime FROM JobExecutionLog jel WHERE jel.startTime >= :from")
+    List<Object[]> findStatisticsSourcesStartedFrom(@Param("from") LocalDateTime from);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.processedCount = :processed, jel.successCount = :success, jel.failCount = :fail WHERE jel.id = :id")
+    int updateCounts(@Param("id") Long id,
+                     @Param("processed") int processed,
+                     @Param("success") int success,
+                     @Param("fail") int fail);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.status = :status WHERE jel.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ExecutionStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.resultData = :resultData WHERE jel.id = :id")
+    int updateResultData(@Param("id") Long id, @Param("resultData") String resultData);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.resultManifestPath = :path WHERE jel.id = :id")
+    int updateResultManifestPath(@Param("id") Long id, @Param("path") String path);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.combinationSpace = :combinationSpace WHERE jel.id = :id")
+    int updateCombinationSpace(@Param("id") Long id, @Param("combinationSpace") String combinationSpace);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.startOrdinal = :startOrdinal, jel.endOrdinal = :endOrdinal, " +
+           "jel.combinationCount = :combinationCount WHERE jel.id = :id")
+    int updateOrdinalRange(@Param("id") Long id,
+                           @Param("startOrdinal") long startOrdinal,
+                           @Param("endOrdinal") long endOrdinal,
+                           @Param("combinationCount") long combinationCount);
+
+    /**
+     * 호출한 구간의 끝 순번을 줄입니다. (호출 한도 부족으로 끝까지 받지 못한 조합부터 다음 실행이 이어서 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.endOrdinal = :endOrdinal WHERE jel.id = :id AND jel.endOrdinal > :endOrdinal")
+    int truncateEndOrdinal(@Param("id") Long id, @Param("endOrdinal") long endOrdinal);
+
+    @Query("SELECT jel.id FROM JobExecutionLog jel WHERE jel.id IN :ids AND jel.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") ExecutionStatus status);
+
+    @Query("SELECT jel FROM JobExecutionLog jel JOIN FETCH jel.jobDefinition WHERE jel.id = :id")
+    Optional<JobExecutionLog> findWithJobDefinitionById(@Param("id") Long id);
+
+    /**
+     * 이 노드가 조정하는 진행 중인 실행의 갱신 시각을 기록합니다. (다른 노드가 이어받은 실행은 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.heartbeatAt = :now " +
+           "WHERE jel.id IN :ids AND jel.ownerNode = :owner AND jel.endTime IS NULL")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 갱신 시각이 expiredBefore 이전인(조정 노드가 중단된) 진행 중인 실행을 이어받습니다. 다른 노드가 먼저 이어받았으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobExecutionLog jel SET jel.ownerNode = :owner, jel.heartbeatAt = :now " +
+           "WHERE jel.id = :id AND jel.endTime IS NULL AND (jel.heartbeatAt IS NULL OR jel.heartbeatAt < :expiredBefore)")
+    int takeOver(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now,
+                 @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * 조정 노드의 갱신이 expiredBefore 이전에 끊긴 진행 중인 실행 (시작 직후의 실행은 제외)
+     */
+    @Query("SELECT jel FROM JobExecutionLog jel JOIN FETCH jel.jobDefinition " +
+           "WHERE jel.status IN ('STARTED', 'RUNNING', 'PAUSED') AND jel.endTime IS NULL AND jel.startTime < :expiredBefore " +
+           "AND (jel.heartbeatAt IS NULL OR jel.heartbeatAt < :expiredBefore) ORDER BY jel.id")
+    List<JobExecutionLog> findOrphaned(@Param("expiredBefore") LocalDateTime expiredBefore);
+}
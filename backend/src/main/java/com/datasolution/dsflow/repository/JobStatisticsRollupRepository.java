@@ -0,0 +1,73 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.dto.JobStatisticsDto;
+import com.datasolution.dsflow.entity.JobStatisticsRollup;
+import com.datasolution.dsflow.entity.enums.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobStatisticsRollupRepository extends JpaRepository<JobStatisticsRollup, Long> {
+
+    /**
+     * 구간 [from, to)의 집계를 Job별로 합산합니다.
+     */
+    @Query("SELECT new com.datasolution.dsflow.dto.JobStatisticsDto(" +
+            "r.jobDefinition.jobCode, r.jobDefinition.jobName, " +
+            "SUM(r.totalExecutions), SUM(r.successfulExecutions), SUM(r.failedExecutions), MAX(r.lastExecutionTime)) " +
+            "FROM JobStatisticsRollup r " +
+            "WHERE r.period = :period AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.jobDefinition.jobCode, r.jobDefinition.jobName")
+    List<JobStatisticsDto> sumByPeriod(@Param("period") RollupPeriod period,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    List<JobStatisticsRollup> findByPeriodInAndBucketStartGreaterThanEqual(Collection<RollupPeriod> periods,
+                                                                          LocalDateTime from);
+
+    List<JobStatisticsRollup> findByPeriod(RollupPeriod period);
+
+    /**
+     * 기간 단위 집계를 Job 정의별로 합산합니다. [Job 정의 ID, 실행 수, 성공 수, 실패 수, 마지막 종료 시각]
+     */
+    @Query("SELECT r.jobDefinition.id, SUM(r.totalExecutions), SUM(r.successfulExecutions), SUM(r.failedExecutions), " +
+           "MAX(r.lastExecutionTime) FROM JobStatisticsRollup r WHERE r.period = :period GROUP BY r.jobDefinition.id")
+    List<Object[]> sumByJobDefinition(@Param("period") RollupPeriod period);
+
+    /**
+     * 실행 시작 반영 (여러 노드가 동시에 반영해도 누락되지 않도록 DB에서 가산)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobStatisticsRollup r SET r.totalExecutions = r.totalExecutions + 1 " +
+           "WHERE r.jobDefinition.id = :jobDefinitionId AND r.period = :period AND r.bucketStart = :bucketStart")
+    int incrementTotal(@Param("jobDefinitionId") Long jobDefinitionId,
+                       @Param("period") RollupPeriod period,
+                       @Param("bucketStart") LocalDateTime bucketStart);
+
+    /**
+     * 실행 종료 반영 (성공/실패 수 가산, 마지막 종료 시각 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobStatisticsRollup r SET " +
+           "r.successfulExecutions = r.successfulExecutions + :success, " +
+           "r.failedExecutions = r.failedExecutions + :failed, " +
+           "r.lastExecutionTime = CASE WHEN r.lastExecutionTime IS NULL OR r.lastExecutionTime < :endTime " +
+           "THEN :endTime ELSE r.lastExecutionTime END " +
+           "WHERE r.jobDefinition.id = :jobDefinitionId AND r.period = :period AND r.bucketStart = :bucketStart")
+    int recordFinish(@Param("jobDefinitionId") Long jobDefinitionId,
+                     @Param("period") RollupPeriod period,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("success") long success,
+                     @Param("failed") long failed,
+                     @Param("endTime") LocalDateTime endTime);
+}
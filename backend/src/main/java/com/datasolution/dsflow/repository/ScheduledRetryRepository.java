@@ -0,0 +1,40 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.entity.ScheduledRetry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ScheduledRetryRepository extends JpaRepository<ScheduledRetry, Long> {
+
+    List<ScheduledRetry> findByNotBeforeLessThanEqualOrderByNotBeforeAsc(LocalDateTime notBefore);
+
+    /**
+     * 이미 예정된 재시도의 시각을 변경합니다. 예정된 재시도가 없으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScheduledRetry r SET r.notBefore = :notBefore WHERE r.jobCode = :jobCode AND r.baseDate = :baseDate")
+    int reschedule(@Param("jobCode") String jobCode,
+                   @Param("baseDate") LocalDate baseDate,
+                   @Param("notBefore") LocalDateTime notBefore);
+
+    /**
+     * 재시도 시각이 fireTime 이전인 재시도를 삭제하면서 가져옵니다.
+     * 다른 노드가 먼저 가져갔거나 더 뒤로 미뤄졌으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ScheduledRetry r WHERE r.jobCode = :jobCode AND r.baseDate = :baseDate AND r.notBefore <= :fireTime")
+    int claim(@Param("jobCode") String jobCode,
+              @Param("baseDate") LocalDate baseDate,
+              @Param("fireTime") LocalDateTime fireTime);
+}
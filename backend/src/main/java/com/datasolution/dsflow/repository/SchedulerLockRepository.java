@@ -0,0 +1,45 @@
+package com.datasolution.dsflow.repository;
+
+import com.datasolution.dsflow.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료된 잠금을 가져옵니다. 다른 노드가 잠금을 가지고 있으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until, " +
+           "l.fencingToken = l.fencingToken + 1, l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    /**
+     * 가지고 있는 잠금의 만료 시각을 변경합니다. (연장/해제) 잠금을 잃었으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.name = :name AND l.lockedBy = :owner AND l.fencingToken = :token AND l.lockedUntil > :now")
+    int updateLockedUntil(@Param("name") String name,
+                          @Param("owner") String owner,
+                          @Param("token") Long token,
+                          @Param("now") LocalDateTime now,
+                          @Param("until") LocalDateTime until);
+
+    /**
+     * 이름이 prefix로 시작하는 만료된 잠금 행을 삭제합니다. (실행 시각마다 만드는 잠금 정리)
+     */
+    @Modifying
+    @Query("DELETE FROM SchedulerLock l WHERE l.name LIKE :pattern ESCAPE '!' AND l.lockedUntil <= :now")
+    int deleteExpired(@Param("pattern") String pattern, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,80 @@
+package com.datasolution.dsflow.scheduling;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.exception.SchedulerLockLostException;
+import com.datasolution.dsflow.service.SchedulerLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * @ClusterLocked 작업 실행 전 잠금을 획득하고, 끝나면 해제합니다.
+ *
+ * 트랜잭션(LOWEST_PRECEDENCE)보다 바깥에서 동작하므로 작업의 트랜잭션이 커밋된 뒤에 잠금을 해제합니다.
+ *
+ * 지표: dsflow.scheduler.lock (name, result=acquired/skipped/lost)
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLockAspect {
+
+    private final SchedulerLockService lockService;
+    private final ClusterProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(clusterLocked)")
+    public Object around(ProceedingJoinPoint joinPoint, ClusterLocked clusterLocked) throws Throwable {
+        if (!properties.isSchedulerLock()) {
+            return joinPoint.proceed();
+        }
+        String name = clusterLocked.name();
+        Optional<SchedulerLockService.Lease> acquired;
+        try {
+            acquired = lockService.tryAcquire(name,
+                    Duration.parse(clusterLocked.lockAtMostFor()), Duration.parse(clusterLocked.lockAtLeastFor()));
+        } catch (Exception e) {
+            // 잠금 상태를 알 수 없으면 중복 실행을 피하기 위해 이번 실행은 건너뜀
+            log.warn("스케줄 작업 {} 잠금 확인 실패, 이번 실행을 건너뜁니다: {}", name, e.getMessage());
+            count(name, "skipped");
+            return null;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("스케줄 작업 {}은(는) 다른 노드에서 실행 중이거나 이미 실행되었습니다.", name);
+            count(name, "skipped");
+            return null;
+        }
+
+        SchedulerLockService.Lease lease = acquired.get();
+        log.debug("스케줄 작업 {} 잠금 획득 (노드 {}, 토큰 {})", name, lease.owner(), lease.token());
+        count(name, "acquired");
+        try {
+            return lockService.runWith(lease, joinPoint::proceed);
+        } catch (SchedulerLockLostException e) {
+            log.warn(e.getMessage());
+            count(name, "lost");
+            return null;
+        } finally {
+            try {
+                lockService.release(lease);
+            } catch (Exception e) {
+                log.warn("스케줄 작업 {} 잠금 해제 실패 (lockAtMostFor 후 만료): {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("dsflow.scheduler.lock", "name", name, "result", result).increment();
+    }
+}
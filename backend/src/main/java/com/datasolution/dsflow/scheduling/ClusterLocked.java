@@ -0,0 +1,36 @@
+package com.datasolution.dsflow.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드 중 잠금을 얻은 노드 1곳에서만 실행할 스케줄 작업
+ *
+ * 잠금을 얻지 못하면(다른 노드가 실행 중이거나 같은 시각의 실행을 이미 마침) 실행하지 않고 null을 반환합니다.
+ * 오래 걸리는 작업은 처리 단위마다 SchedulerLockService.ensureHeld()를 호출하여 잠금을 연장하고,
+ * 잠금을 잃었으면 그 자리에서 중단해야 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLocked {
+
+    /**
+     * 잠금 이름 (노드 간에 같은 작업을 구분)
+     */
+    String name();
+
+    /**
+     * 잠금 최대 유지 시간 (ISO-8601). 노드가 중단되면 이 시간이 지난 뒤 다른 노드가 실행할 수 있음
+     */
+    String lockAtMostFor() default "PT30M";
+
+    /**
+     * 잠금 최소 유지 시간 (ISO-8601). 작업이 빨리 끝나도 이 시간까지는 잠금을 유지하여,
+     * 노드 간 시계 차이로 같은 실행 시각을 늦게 맞은 노드가 다시 실행하지 않도록 함
+     */
+    String lockAtLeastFor() default "PT1M";
+}
@@ -0,0 +1,7 @@
+package com.datasolution.dsflow.scheduling;
+
+/**
+ * 코드 동기화 작업이 생성/수정/삭제된 경우 (트랜잭션 커밋 후 동기화 일정을 다시 계산)
+ */
+public record CodeSyncJobChangedEvent(String syncJobCode) {
+}
@@ -0,0 +1,207 @@
+package com.datasolution.dsflow.scheduling;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.entity.CodeSyncJob;
+import com.datasolution.dsflow.repository.CodeSyncJobRepository;
+import com.datasolution.dsflow.service.SchedulerLockService;
+import com.datasolution.dsflow.service.UserDefinedCodeSyncService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CodeSyncJob.cronExpression 기반 코드 동기화 작업 정기 실행
+ *
+ * 자동 동기화(autoSync) 작업마다 다음 실행 시각을 CronTriggerQueue에 등록하고, 실행 시각이 된 작업만 동기화합니다.
+ * 시작 시 한 번만 작업 목록을 조회하며, 이후에는 작업이 바뀔 때(CodeSyncJobChangedEvent, 커밋 후) 해당 작업의 일정만 다시 계산합니다.
+ * - cron 표현식이 없는 작업은 자동 동기화하지 않습니다. (수동 실행만 가능)
+ * - 여러 노드 중 실행 시각별 잠금(code-sync-trigger:{작업 코드}:{실행 시각})을 얻은 1곳에서만 실행합니다.
+ *   잠금은 하루 동안 유지하므로 노드 간 시계 차이나 대기 스레드 지연이 있어도 같은 실행 시각을 두 번 실행하지 않습니다.
+ * - 이 노드에서 같은 작업이 아직 실행 중이면 이번 실행은 건너뜁니다.
+ * - 노드가 중단된 동안 지난 실행 시각은 재시작 후 실행하지 않습니다.
+ *
+ * 지표: dsflow.scheduler.code-sync.jobs (일정이 등록된 작업 수), dsflow.scheduler.code-sync.fires (result=synced/skipped/failed)
+ */
+@Component
+@Slf4j
+public class CodeSyncTriggerScheduler {
+
+    private static final String LOCK_PREFIX = "code-sync-trigger:";
+    private static final Duration SYNC_LOCK_AT_MOST = Duration.ofMinutes(30);
+    /** 실행 시각별 잠금 유지 기간. 이보다 늦게 꺼낸 실행 시각은 실행하지 않음 */
+    private static final Duration OCCURRENCE_LOCK_RETENTION = Duration.ofDays(1);
+
+    private final CodeSyncJobRepository codeSyncJobRepository;
+    private final UserDefinedCodeSyncService syncService;
+    private final SchedulerLockService lockService;
+    private final SchedulerProperties properties;
+    private final ClusterProperties clusterProperties;
+    private final MeterRegistry meterRegistry;
+    private final ZoneId zone;
+    private final CronTriggerQueue triggers;
+
+    /** 이 노드에서 동기화 중인 작업 코드 */
+    private final Set<String> syncing = ConcurrentHashMap.newKeySet();
+
+    public CodeSyncTriggerScheduler(CodeSyncJobRepository codeSyncJobRepository,
+                                    UserDefinedCodeSyncService syncService,
+                                    SchedulerLockService lockService,
+                                    SchedulerProperties properties,
+                                    ClusterProperties clusterProperties,
+                                    MeterRegistry meterRegistry) {
+        this.codeSyncJobRepository = codeSyncJobRepository;
+        this.syncService = syncService;
+        this.lockService = lockService;
+        this.properties = properties;
+        this.clusterProperties = clusterProperties;
+        this.meterRegistry = meterRegistry;
+        this.zone = ZoneId.of(properties.getZone());
+        this.triggers = new CronTriggerQueue("code-sync", zone, properties.getCodeSyncPoolSize(), this::fire);
+        Gauge.builder("dsflow.scheduler.code-sync.jobs", this, CodeSyncTriggerScheduler::scheduledCount)
+                .description("정기 실행 일정이 등록된 코드 동기화 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자동 동기화 작업의 일정을 등록하고 대기 스레드를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || triggers.isRunning()) {
+            return;
+        }
+        triggers.start();
+        for (CodeSyncJob syncJob : codeSyncJobRepository.findByIsActiveTrueAndAutoSyncTrueOrderByCreatedAtDesc()) {
+            schedule(syncJob);
+        }
+        log.info("코드 동기화 정기 실행 시작: {}개 작업 등록 (시간대 {})", scheduledCount(), zone);
+    }
+
+    @PreDestroy
+    public void stop() {
+        triggers.stop();
+    }
+
+    /**
+     * 동기화 작업 변경이 커밋되면 해당 작업의 일정을 다시 계산합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCodeSyncJobChanged(CodeSyncJobChangedEvent event) {
+        if (!triggers.isRunning()) {
+            return;
+        }
+        Optional<CodeSyncJob> syncJob = codeSyncJobRepository.findBySyncJobCodeAndIsActiveTrue(event.syncJobCode());
+        if (syncJob.isPresent()) {
+            schedule(syncJob.get());
+        } else {
+            triggers.unschedule(event.syncJobCode());
+        }
+    }
+
+    /**
+     * 동기화 작업의 다음 실행 시각 (일정이 없으면 빈 값)
+     */
+    public Optional<ZonedDateTime> nextFireTime(String syncJobCode) {
+        return triggers.nextFireTime(syncJobCode);
+    }
+
+    public int scheduledCount() {
+        return triggers.size();
+    }
+
+    private void schedule(CodeSyncJob syncJob) {
+        String code = syncJob.getSyncJobCode();
+        if (!Boolean.TRUE.equals(syncJob.getIsActive()) || !Boolean.TRUE.equals(syncJob.getAutoSync())) {
+            triggers.unschedule(code);
+            return;
+        }
+        if (syncJob.getCronExpression() == null || syncJob.getCronExpression().isBlank()) {
+            log.warn("코드 동기화 작업 {}에 cron 표현식이 없어 자동 동기화하지 않습니다.", code);
+            triggers.unschedule(code);
+            return;
+        }
+        ZonedDateTime next = triggers.schedule(code, syncJob.getCronExpression());
+        if (next == null) {
+            log.warn("코드 동기화 작업 {}의 cron 표현식으로 다음 실행 시각을 계산할 수 없어 자동 동기화하지 않습니다: {}",
+                    code, syncJob.getCronExpression());
+            return;
+        }
+        log.debug("코드 동기화 작업 {} 다음 실행 시각: {}", code, next);
+    }
+
+    private void fire(CronTriggerQueue.Trigger trigger) {
+        String code = trigger.key();
+        if (trigger.fireTime().plus(OCCURRENCE_LOCK_RETENTION).isBefore(ZonedDateTime.now(zone))) {
+            // 실행 시각별 잠금이 정리되었을 수 있어 다른 노드가 이미 실행했는지 알 수 없음
+            log.warn("코드 동기화 작업 {}의 실행 시각 {}이(가) 너무 지나 실행하지 않습니다.", code, trigger.fireTime());
+            count("skipped");
+            return;
+        }
+        if (!syncing.add(code)) {
+            log.warn("코드 동기화 작업 {}의 이전 실행이 아직 진행 중이어서 {} 실행을 건너뜁니다.", code, trigger.fireTime());
+            count("skipped");
+            return;
+        }
+        SchedulerLockService.Lease lease = null;
+        try {
+            if (clusterProperties.isSchedulerLock()) {
+                try {
+                    lease = lockService.tryAcquire(occurrenceLockName(code, trigger.fireTime()), SYNC_LOCK_AT_MOST,
+                            OCCURRENCE_LOCK_RETENTION).orElse(null);
+                } catch (Exception e) {
+                    log.warn("코드 동기화 작업 {} 실행 잠금 확인 실패, 이번 실행을 건너뜁니다: {}", code, e.getMessage());
+                }
+                if (lease == null) {
+                    log.debug("코드 동기화 작업 {} {} 실행은 다른 노드에서 처리합니다.", code, trigger.fireTime());
+                    count("skipped");
+                    return;
+                }
+            }
+            String result = syncService.executeSyncJob(code).join();
+            log.info("코드 동기화 작업 {} 정기 실행 완료 (예정 시각 {}): {}", code, trigger.fireTime(), result);
+            count(result != null && result.startsWith("FAILED") ? "failed" : "synced");
+        } catch (Exception e) {
+            log.error("코드 동기화 작업 {} 정기 실행 실패 (예정 시각 {})", code, trigger.fireTime(), e);
+            count("failed");
+        } finally {
+            if (lease != null) {
+                lockService.release(lease);
+                purgeOccurrenceLocks(code);
+            }
+            syncing.remove(code);
+        }
+    }
+
+    /**
+     * 실행 시각별 잠금 이름. 같은 실행 시각이면 노드의 시간대 설정과 관계없이 같은 이름
+     */
+    private static String occurrenceLockName(String code, ZonedDateTime fireTime) {
+        return LOCK_PREFIX + code + ":" + fireTime.toInstant();
+    }
+
+    private void purgeOccurrenceLocks(String code) {
+        try {
+            lockService.purgeExpired(LOCK_PREFIX + code + ":");
+        } catch (Exception e) {
+            log.debug("코드 동기화 작업 {}의 만료된 실행 잠금 정리 실패: {}", code, e.getMessage());
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dsflow.scheduler.code-sync.fires", "result", result).increment();
+    }
+}
@@ -0,0 +1,257 @@
+package com.datasolution.dsflow.scheduling;
+
+import com.datasolution.dsflow.util.CompiledCron;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * cron 일정 대기열 (실행 시각 순)
+ *
+ * 대상마다 다음 실행 시각을 하나의 우선순위 큐에 넣고, 전용 스레드가 가장 빠른 실행 시각까지 대기합니다.
+ * 실행 시각이 되면 큐에서 꺼내 다음 실행 시각을 다시 넣은 뒤 실행 스레드 풀에 넘기므로 실행 1회당 O(log n)이며,
+ * 대상 전체를 주기적으로 조회하지 않습니다. 일정이 바뀐 대상의 이전 항목은 큐에 남지만 꺼낼 때 무시합니다.
+ * 다음 실행 시각은 예정 시각 기준으로 계산하므로 처리 지연이 누적되지 않습니다.
+ */
+@Slf4j
+public class CronTriggerQueue {
+
+    private final String name;
+    private final ZoneId zone;
+    private final int poolSize;
+    private final Consumer<Trigger> handler;
+
+    /** 실행 시각 순 대기열 (일정이 바뀐 대상의 이전 항목 포함) */
+    private final PriorityQueue<Trigger> queue = new PriorityQueue<>(Comparator.comparing(Trigger::fireTime));
+    /** 대상 키 → 현재 유효한 cron 일정 */
+    private final Map<String, Trigger> scheduled = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private ExecutorService dispatcher;
+    private Thread timer;
+    private volatile boolean running;
+
+    /**
+     * 실행 예정 1건
+     *
+     * @param retry    cron 일정과 별도로 한 번만 실행하는 재시도 (cronExpression 없음)
+     * @param baseDate 재시도가 처리할 기준일 (원래 실행의 기준일, cron 일정이면 null)
+     */
+    public record Trigger(String key, String cronExpression, ZonedDateTime fireTime, boolean retry, LocalDate baseDate) {
+    }
+
+    /**
+     * @param name    스레드 이름 접두어 ({name}-trigger, {name}-dispatch-N)
+     * @param handler 실행 시각이 된 일정을 처리 (실행 스레드 풀에서 호출)
+     */
+    public CronTriggerQueue(String name, ZoneId zone, int poolSize, Consumer<Trigger> handler) {
+        this.name = name;
+        this.zone = zone;
+        this.poolSize = Math.max(1, poolSize);
+        this.handler = handler;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, name + "-dispatch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        timer = new Thread(this::runTimer, name + "-trigger");
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (timer != null) {
+            timer.interrupt();
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+            try {
+                dispatcher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * 대상의 일정을 등록(교체)합니다.
+     *
+     * @return 다음 실행 시각. 계산할 수 없으면 일정을 해제하고 null
+     */
+    public ZonedDateTime schedule(String key, String cronExpression) {
+        ZonedDateTime next = nextFireTime(cronExpression, ZonedDateTime.now(zone));
+        if (next == null) {
+            unschedule(key);
+            return null;
+        }
+        Trigger trigger = new Trigger(key, cronExpression, next, false, null);
+        lock.lock();
+        try {
+            scheduled.put(key, trigger);
+            enqueue(trigger);
+        } finally {
+            lock.unlock();
+        }
+        return next;
+    }
+
+    public void unschedule(String key) {
+        lock.lock();
+        try {
+            // 큐에 남은 항목은 꺼낼 때 무시
+            scheduled.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * cron 일정과 별도로 fireTime에 한 번 실행합니다.
+     *
+     * @param baseDate 재시도가 처리할 기준일 (실행 시각의 날짜가 아니라 원래 실행의 기준일)
+     */
+    public void scheduleRetry(String key, ZonedDateTime fireTime, LocalDate baseDate) {
+        lock.lock();
+        try {
+            enqueue(new Trigger(key, null, fireTime, true, baseDate));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대상의 다음 실행 시각 (일정이 없으면 빈 값)
+     */
+    public Optional<ZonedDateTime> nextFireTime(String key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(scheduled.get(key)).map(Trigger::fireTime);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 노드 간 시계 차이로 같은 실행 시각을 다시 실행하지 않도록 유지할 잠금 시간 (다음 실행 시각 간격의 절반, 최대 max)
+     */
+    public static Duration lockAtLeastFor(Trigger trigger, Duration max) {
+        if (trigger.retry()) {
+            return max;
+        }
+        ZonedDateTime next = nextFireTime(trigger.cronExpression(), trigger.fireTime());
+        if (next == null) {
+            return max;
+        }
+        Duration half = Duration.between(trigger.fireTime(), next).dividedBy(2);
+        return half.compareTo(max) < 0 ? half : max;
+    }
+
+    /**
+     * after 이후의 다음 실행 시각. 계산할 수 없으면 null
+     */
+    public static ZonedDateTime nextFireTime(String cronExpression, ZonedDateTime after) {
+        try {
+            return CompiledCron.compile(cronExpression).nextFireTime(after);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 큐에 추가하고, 가장 빠른 실행 시각이 바뀌었으면 대기 스레드를 깨웁니다. (lock 보유 상태에서 호출)
+     */
+    private void enqueue(Trigger trigger) {
+        queue.add(trigger);
+        if (queue.peek() == trigger) {
+            changed.signal();
+        }
+    }
+
+    private void runTimer() {
+        while (running) {
+            Trigger due;
+            lock.lock();
+            try {
+                Trigger head = queue.peek();
+                if (head == null) {
+                    changed.await();
+                    continue;
+                }
+                long waitNanos = Duration.between(ZonedDateTime.now(zone), head.fireTime()).toNanos();
+                if (waitNanos > 0) {
+                    changed.awaitNanos(waitNanos);
+                    continue;
+                }
+                queue.poll();
+                if (!head.retry()) {
+                    if (scheduled.get(head.key()) != head) {
+                        continue; // 일정이 바뀌었거나 해제된 대상
+                    }
+                    // 예정 시각 기준으로 다음 실행 시각 계산 (처리 지연이 누적되지 않도록)
+                    ZonedDateTime next = nextFireTime(head.cronExpression(), head.fireTime());
+                    if (next != null) {
+                        Trigger following = new Trigger(head.key(), head.cronExpression(), next, false, null);
+                        scheduled.put(head.key(), following);
+                        queue.add(following);
+                    } else {
+                        scheduled.remove(head.key());
+                    }
+                }
+                due = head;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                dispatcher.execute(() -> handler.accept(due));
+            } catch (RejectedExecutionException e) {
+                log.warn("{} 실행 요청을 처리할 수 없습니다. (종료 중)", due.key());
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.datasolution.dsflow.scheduling;
+
+/**
+ * Job 정의가 생성/수정/삭제되었거나 상태가 바뀐 경우 (트랜잭션 커밋 후 실행 일정을 다시 계산)
+ */
+public record JobDefinitionChangedEvent(String jobCode) {
+}
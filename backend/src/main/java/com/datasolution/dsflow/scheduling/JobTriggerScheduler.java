@@ -0,0 +1,402 @@
+package com.datasolution.dsflow.scheduling;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.config.PipelineProperties;
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.dto.JobLaunchResponseDto;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.ScheduledRetry;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.JobStatus;
+import com.datasolution.dsflow.execution.ExecutionHandle;
+import com.datasolution.dsflow.execution.ExecutionRegistry;
+import com.datasolution.dsflow.repository.JobDefinitionRepository;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.repository.ScheduledRetryRepository;
+import com.datasolution.dsflow.service.ApiQuotaService;
+import com.datasolution.dsflow.service.JobAdmissionService;
+import com.datasolution.dsflow.service.JobDependencyService;
+import com.datasolution.dsflow.service.JobExecutionService;
+import com.datasolution.dsflow.service.SchedulerLockService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JobDefinition.cronExpression 기반 Job 정기 실행
+ *
+ * 활성 Job마다 다음 실행 시각을 CronTriggerQueue(실행 시각 순 우선순위 큐)에 등록하고, 실행 시각이 된 Job만 실행 요청합니다.
+ * 실행 1회당 O(log n)이며, 전체 Job을 주기적으로 조회하지 않습니다.
+ * 실행 시각은 Quartz 형식 표현식을 그대로 컴파일한 CompiledCron(캐시 공유)으로 계산합니다.
+ * - Job 정의가 바뀌면(JobDefinitionChangedEvent, 커밋 후) 해당 Job의 일정만 다시 계산합니다.
+ * - 실행 요청은 별도 스레드 풀에서 처리하며, 여러 노드 중 실행 시각별 잠금(job-trigger:{jobCode}:{실행 시각})을 얻은
+ *   1곳에서만 실행합니다. 잠금은 하루 동안 유지하므로 노드 간 시계 차이나 대기 스레드 지연이 있어도 같은 실행 시각을 두 번 실행하지 않습니다.
+ * - 호출 한도 부족으로 연기(DEFER)되면 같은 기준일로 한도 초기화 시각에 다시 시도합니다.
+ * - 분할 실행(SPLIT)이면 남은 조합을 같은 기준일로 한도 초기화 시각에 이어서 실행합니다.
+ *   실행 중 호출 한도가 부족해 나머지 페이지를 받지 못한 조합이 생겨 남은 조합이 있는 채로 끝난 실행도 같습니다.
+ * - 재시도는 DB(scheduled_retries)에 보관하고 실행할 때 행을 삭제하면서 가져가므로 1곳에서만 실행합니다.
+ *   가져간 재시도의 실행 요청이 실패하면 잠시 뒤로 다시 보관하여 연기/분할 실행의 남은 실행을 잃지 않습니다.
+ *   재시작한 노드는 보관된 재시도를 다시 등록하고, 예약한 노드가 중단되어 시각이 지난 재시도는 다른 노드가 주기적으로 찾아 실행합니다.
+ * - 이 노드에서 같은 Job이 아직 실행 중이면 이번 실행은 건너뜁니다. (재시도는 잠시 뒤 다시 시도)
+ * - 파이프라인 정기 실행(dsflow.pipeline.cron)이 설정되어 있으면 의존 관계가 있는 Job은 파이프라인으로만 실행합니다.
+ * - 노드가 중단된 동안 지난 실행 시각은 재시작 후 실행하지 않습니다.
+ *
+ * 지표: dsflow.scheduler.jobs (일정이 등록된 Job 수), dsflow.scheduler.fires (result=launched/deferred/skipped/failed)
+ */
+@Component
+@Slf4j
+public class JobTriggerScheduler {
+
+    private static final String LOCK_PREFIX = "job-trigger:";
+    private static final Duration LAUNCH_LOCK_AT_MOST = Duration.ofMinutes(10);
+    /** 실행 시각별 잠금 유지 기간. 이보다 늦게 꺼낸 실행 시각은 실행하지 않음 */
+    private static final Duration OCCURRENCE_LOCK_RETENTION = Duration.ofDays(1);
+    private static final Duration BUSY_RETRY_DELAY = Duration.ofMinutes(5);
+    /** 가져간 재시도의 실행 요청이 실패하면 이만큼 뒤에 다시 시도 */
+    private static final Duration LAUNCH_RETRY_DELAY = Duration.ofMinutes(10);
+    /** 재시도 시각이 이만큼 지나도 남아 있으면 예약한 노드가 실행하지 못한 것으로 봄 */
+    private static final Duration RETRY_RECOVERY_GRACE = Duration.ofMinutes(2);
+
+    private final JobDefinitionRepository jobDefinitionRepository;
+    private final ScheduledRetryRepository retryRepository;
+    private final JobExecutionLogRepository logRepository;
+    private final JobExecutionService executionService;
+    private final ExecutionRegistry registry;
+    private final SchedulerLockService lockService;
+    private final JobDependencyService dependencyService;
+    private final ApiQuotaService quotaService;
+    private final SchedulerProperties properties;
+    private final PipelineProperties pipelineProperties;
+    private final ClusterProperties clusterProperties;
+    private final MeterRegistry meterRegistry;
+    private final ZoneId zone;
+    private final CronTriggerQueue triggers;
+
+    public JobTriggerScheduler(JobDefinitionRepository jobDefinitionRepository,
+                               ScheduledRetryRepository retryRepository,
+                               JobExecutionLogRepository logRepository,
+                               JobExecutionService executionService,
+                               ExecutionRegistry registry,
+                               SchedulerLockService lockService,
+                               JobDependencyService dependencyService,
+                               ApiQuotaService quotaService,
+                               SchedulerProperties properties,
+                               PipelineProperties pipelineProperties,
+                               ClusterProperties clusterProperties,
+                               MeterRegistry meterRegistry) {
+        this.jobDefinitionRepository = jobDefinitionRepository;
+        this.retryRepository = retryRepository;
+        this.logRepository = logRepository;
+        this.executionService = executionService;
+        this.registry = registry;
+        this.lockService = lockService;
+        this.dependencyService = dependencyService;
+        this.quotaService = quotaService;
+        this.properties = properties;
+        this.pipelineProperties = pipelineProperties;
+        this.clusterProperties = clusterProperties;
+        this.meterRegistry = meterRegistry;
+        this.zone = ZoneId.of(properties.getZone());
+        this.triggers = new CronTriggerQueue("job", zone, properties.getPoolSize(), this::fire);
+        Gauge.builder("dsflow.scheduler.jobs", this, JobTriggerScheduler::scheduledCount)
+                .description("정기 실행 일정이 등록된 Job 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활성 Job의 일정과 보관된 재시도를 등록하고 대기 스레드를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || triggers.isRunning()) {
+            return;
+        }
+        triggers.start();
+        for (JobDefinition job : jobDefinitionRepository.findByStatus(JobStatus.ACTIVE)) {
+            schedule(job);
+        }
+        int retries = enqueueRetries(null);
+        log.info("Job 정기 실행 시작: {}개 Job, 재시도 {}건 등록 (시간대 {})", scheduledCount(), retries, zone);
+    }
+
+    /**
+     * 재시도 시각이 지났는데 남아 있는 재시도(예약한 노드가 중단됨)를 이 노드에서 실행합니다.
+     * 여러 노드가 함께 찾아도 재시도 행을 가져간 1곳에서만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${dsflow.scheduler.retry-recovery-interval-ms:60000}")
+    public void recoverRetries() {
+        if (!triggers.isRunning()) {
+            return;
+        }
+        int recovered = enqueueRetries(ZonedDateTime.now(zone).minus(RETRY_RECOVERY_GRACE).toLocalDateTime());
+        if (recovered > 0) {
+            log.info("시각이 지난 Job 재시도 {}건을 이 노드에서 실행합니다.", recovered);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        triggers.stop();
+    }
+
+    /**
+     * Job 정의 변경이 커밋되면 해당 Job의 일정을 다시 계산합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobDefinitionChanged(JobDefinitionChangedEvent event) {
+        if (!triggers.isRunning()) {
+            return;
+        }
+        Optional<JobDefinition> job = jobDefinitionRepository.findByJobCode(event.jobCode());
+        if (job.isPresent()) {
+            schedule(job.get());
+        } else {
+            triggers.unschedule(event.jobCode());
+        }
+    }
+
+    /**
+     * Job의 다음 실행 시각 (일정이 없으면 빈 값)
+     */
+    public Optional<ZonedDateTime> nextFireTime(String jobCode) {
+        return triggers.nextFireTime(jobCode);
+    }
+
+    public int scheduledCount() {
+        return triggers.size();
+    }
+
+    private void schedule(JobDefinition job) {
+        if (job.getStatus() != JobStatus.ACTIVE || job.getCronExpression() == null || job.getCronExpression().isBlank()) {
+            triggers.unschedule(job.getJobCode());
+            return;
+        }
+        if (pipelineProperties.isScheduled() && dependencyService.hasDependencies(job)) {
+            log.debug("Job {}은(는) 의존 관계가 있어 파이프라인으로 실행합니다.", job.getJobCode());
+            triggers.unschedule(job.getJobCode());
+            return;
+        }
+        ZonedDateTime next = triggers.schedule(job.getJobCode(), job.getCronExpression());
+        if (next == null) {
+            log.warn("Job {}의 cron 표현식으로 다음 실행 시각을 계산할 수 없어 정기 실행하지 않습니다: {}",
+                    job.getJobCode(), job.getCronExpression());
+            return;
+        }
+        log.debug("Job {} 다음 실행 시각: {}", job.getJobCode(), next);
+    }
+
+    /**
+     * 보관된 재시도를 대기열에 등록합니다.
+     *
+     * @param notAfter 이 시각까지의 재시도만 등록 (null이면 전체)
+     */
+    private int enqueueRetries(LocalDateTime notAfter) {
+        List<ScheduledRetry> retries;
+        try {
+            retries = notAfter == null
+                    ? retryRepository.findAll(Sort.by("notBefore"))
+                    : retryRepository.findByNotBeforeLessThanEqualOrderByNotBeforeAsc(notAfter);
+        } catch (Exception e) {
+            log.warn("보관된 Job 재시도 조회 실패: {}", e.getMessage());
+            return 0;
+        }
+        for (ScheduledRetry retry : retries) {
+            // 시각이 지난 재시도는 바로 실행 (재시도 행을 가져갈 때 보관된 시각과 비교)
+            triggers.scheduleRetry(retry.getJobCode(), retry.getNotBefore().atZone(zone), retry.getBaseDate());
+        }
+        return retries.size();
+    }
+
+    /**
+     * 재시도를 DB에 보관하고 이 노드의 대기열에 등록합니다. 같은 Job/기준일의 재시도가 있으면 시각만 바꿉니다.
+     */
+    private void retryLater(String jobCode, ZonedDateTime retryAt, LocalDate baseDate) {
+        LocalDateTime notBefore = retryAt.withZoneSameInstant(zone).toLocalDateTime();
+        try {
+            if (retryRepository.reschedule(jobCode, baseDate, notBefore) == 0) {
+                try {
+                    retryRepository.save(ScheduledRetry.builder().jobCode(jobCode).baseDate(baseDate).notBefore(notBefore).build());
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 노드가 먼저 만든 경우
+                    retryRepository.reschedule(jobCode, baseDate, notBefore);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Job {} 기준일 {} 재시도({})를 저장하지 못해 다시 시도하지 않습니다.", jobCode, baseDate, retryAt, e);
+            return;
+        }
+        triggers.scheduleRetry(jobCode, retryAt.withZoneSameInstant(zone), baseDate);
+    }
+
+    private void fire(CronTriggerQueue.Trigger trigger) {
+        String jobCode = trigger.key();
+        // 재시도는 실행 시각의 날짜가 아니라 원래 실행의 기준일로 실행
+        LocalDate baseDate = trigger.baseDate() != null ? trigger.baseDate() : trigger.fireTime().toLocalDate();
+        if (!trigger.retry() && trigger.fireTime().plus(OCCURRENCE_LOCK_RETENTION).isBefore(ZonedDateTime.now(zone))) {
+            // 실행 시각별 잠금이 정리되었을 수 있어 다른 노드가 이미 실행했는지 알 수 없음
+            log.warn("Job {}의 실행 시각 {}이(가) 너무 지나 실행하지 않습니다.", jobCode, trigger.fireTime());
+            count("skipped");
+            return;
+        }
+        // 재시도는 먼저 보관된 행을 가져감 (다른 노드가 가져갔거나 더 뒤로 미뤄진 재시도는 무시)
+        if (trigger.retry()) {
+            int claimed;
+            try {
+                claimed = retryRepository.claim(jobCode, baseDate, trigger.fireTime().toLocalDateTime());
+            } catch (Exception e) {
+                log.warn("Job {} 기준일 {} 재시도를 가져오지 못해 이번 실행을 건너뜁니다: {}", jobCode, baseDate, e.getMessage());
+                count("skipped");
+                return;
+            }
+            if (claimed == 0) {
+                log.debug("Job {} 기준일 {} 재시도는 다른 노드가 실행했거나 더 뒤로 미뤄졌습니다.", jobCode, baseDate);
+                count("skipped");
+                return;
+            }
+        }
+
+        boolean alreadyRunning = registry.getRunningExecutions().stream()
+                .anyMatch(execution -> execution.getContext().jobCode().equals(jobCode));
+        if (alreadyRunning) {
+            if (trigger.retry()) {
+                ZonedDateTime retryAt = ZonedDateTime.now(zone).plus(BUSY_RETRY_DELAY);
+                log.info("Job {}이(가) 아직 실행 중이어서 기준일 {} 재시도를 {} 에 다시 시도합니다.", jobCode, baseDate, retryAt);
+                retryLater(jobCode, retryAt, baseDate);
+            } else {
+                log.warn("Job {}의 이전 실행이 아직 진행 중이어서 {} 실행을 건너뜁니다.", jobCode, trigger.fireTime());
+            }
+            count("skipped");
+            return;
+        }
+
+        SchedulerLockService.Lease lease = null;
+        if (!trigger.retry() && clusterProperties.isSchedulerLock()) {
+            String lockName = occurrenceLockName(jobCode, trigger.fireTime());
+            try {
+                lease = lockService.tryAcquire(lockName, LAUNCH_LOCK_AT_MOST, OCCURRENCE_LOCK_RETENTION).orElse(null);
+            } catch (Exception e) {
+                log.warn("Job {} 실행 잠금 확인 실패, 이번 실행을 건너뜁니다: {}", jobCode, e.getMessage());
+            }
+            if (lease == null) {
+                log.debug("Job {} {} 실행은 다른 노드에서 처리합니다.", jobCode, trigger.fireTime());
+                count("skipped");
+                return;
+            }
+        }
+
+        try {
+            AtomicReference<ExecutionHandle> launched = new AtomicReference<>();
+            JobLaunchResponseDto response = executionService.launch(jobCode, baseDate, ExecutionPriority.SCHEDULED,
+                    launched::set);
+            if (response.getDecision() == JobAdmissionService.Decision.DEFER && response.getNotBefore() != null) {
+                ZonedDateTime retryAt = response.getNotBefore().atZone(zone);
+                log.info("Job {} 정기 실행 연기: {} 에 기준일 {}로 다시 시도합니다.", jobCode, retryAt, baseDate);
+                retryLater(jobCode, retryAt, baseDate);
+                count("deferred");
+            } else {
+                log.info("Job {} 정기 실행 시작 (예정 시각 {}, 기준일 {}, 실행 ID {})",
+                        jobCode, trigger.fireTime(), baseDate, response.getJobExecutionId());
+                if (response.getDecision() == JobAdmissionService.Decision.SPLIT) {
+                    ZonedDateTime continueAt = quotaService.nextResetTime().withZoneSameInstant(zone);
+                    log.info("Job {} 분할 실행: 남은 조합은 {} 에 기준일 {}로 이어서 실행합니다.", jobCode, continueAt, baseDate);
+                    retryLater(jobCode, continueAt, baseDate);
+                } else if (launched.get() != null) {
+                    continueIfTruncated(jobCode, baseDate, launched.get());
+                }
+                count("launched");
+            }
+        } catch (Exception e) {
+            log.error("Job {} 정기 실행 실패 (예정 시각 {}, 기준일 {})", jobCode, trigger.fireTime(), baseDate, e);
+            if (trigger.retry()) {
+                retryAfterLaunchFailure(jobCode, baseDate);
+            }
+            count("failed");
+        } finally {
+            if (lease != null) {
+                lockService.release(lease);
+                purgeOccurrenceLocks(jobCode);
+            }
+        }
+    }
+
+    /**
+     * 가져간(DB에서 삭제한) 재시도의 실행 요청이 실패하면 다시 보관합니다. 활성 상태가 아닌 Job은 다시 시도하지 않습니다.
+     */
+    private void retryAfterLaunchFailure(String jobCode, LocalDate baseDate) {
+        try {
+            if (jobDefinitionRepository.findByJobCode(jobCode).filter(job -> job.getStatus() == JobStatus.ACTIVE).isEmpty()) {
+                log.warn("Job {}이(가) 활성 상태가 아니어서 기준일 {} 재시도를 다시 시도하지 않습니다.", jobCode, baseDate);
+                return;
+            }
+        } catch (Exception e) {
+            // 확인하지 못해도 남은 실행을 잃지 않도록 다시 보관
+            log.debug("Job {} 상태 확인 실패: {}", jobCode, e.getMessage());
+        }
+        ZonedDateTime retryAt = ZonedDateTime.now(zone).plus(LAUNCH_RETRY_DELAY);
+        log.info("Job {} 기준일 {} 재시도를 {} 에 다시 시도합니다.", jobCode, baseDate, retryAt);
+        retryLater(jobCode, retryAt, baseDate);
+    }
+
+    /**
+     * 실행이 호출 한도 부족으로 남은 조합이 있는 채로 끝나면(나머지 페이지를 받지 못한 조합부터)
+     * 같은 기준일로 한도 초기화 시각에 이어서 실행합니다.
+     */
+    private void continueIfTruncated(String jobCode, LocalDate baseDate, ExecutionHandle handle) {
+        handle.completion().thenAccept(status -> {
+            if (status != ExecutionStatus.COMPLETED) {
+                return;
+            }
+            try {
+                if (logRepository.findByBatchJobExecutionId(handle.jobExecutionId()).filter(JobExecutionLog::isPartial).isEmpty()) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("Job {} 기준일 {} 실행 결과를 확인하지 못해 남은 조합을 이어서 실행하지 않습니다: {}",
+                        jobCode, baseDate, e.getMessage());
+                return;
+            }
+            ZonedDateTime continueAt = quotaService.nextResetTime().withZoneSameInstant(zone);
+            log.info("Job {} 호출 한도 부족으로 남은 조합은 {} 에 기준일 {}로 이어서 실행합니다.", jobCode, continueAt, baseDate);
+            retryLater(jobCode, continueAt, baseDate);
+        });
+    }
+
+    /**
+     * 실행 시각별 잠금 이름. 같은 실행 시각이면 노드의 시간대 설정과 관계없이 같은 이름
+     */
+    private static String occurrenceLockName(String jobCode, ZonedDateTime fireTime) {
+        return LOCK_PREFIX + jobCode + ":" + fireTime.toInstant();
+    }
+
+    private void purgeOccurrenceLocks(String jobCode) {
+        try {
+            lockService.purgeExpired(LOCK_PREFIX + jobCode + ":");
+        } catch (Exception e) {
+            log.debug("Job {}의 만료된 실행 잠금 정리 실패: {}", jobCode, e.getMessage());
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dsflow.scheduler.fires", "result", result).increment();
+    }
+}
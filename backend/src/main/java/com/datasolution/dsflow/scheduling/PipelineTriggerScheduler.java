@@ -0,0 +1,119 @@
+package com.datasolution.dsflow.scheduling;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.config.PipelineProperties;
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.dto.JobPipelineDto;
+import com.datasolution.dsflow.dto.JobPipelineRequestDto;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.service.JobPipelineService;
+import com.datasolution.dsflow.service.SchedulerLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 야간 파이프라인 정기 실행 (dsflow.pipeline.cron)
+ *
+ * 실행 시각이 되면 의존 관계가 있는 모든 활성 Job과 그 선행 작업을 실행 시각의 날짜를 기준일로 하여 파이프라인으로 실행합니다.
+ * 여러 노드 중 잠금을 얻은 1곳에서만 실행하며, 이 노드에서 이전 파이프라인이 아직 실행 중이면 이번 실행은 건너뜁니다.
+ *
+ * 지표: dsflow.scheduler.pipeline.fires (result=started/skipped/failed)
+ */
+@Component
+@Slf4j
+public class PipelineTriggerScheduler {
+
+    private static final String PIPELINE_KEY = "pipeline";
+    private static final String LOCK_NAME = "pipeline-trigger";
+    private static final Duration LAUNCH_LOCK_AT_MOST = Duration.ofMinutes(10);
+    private static final Duration LAUNCH_LOCK_AT_LEAST = Duration.ofMinutes(30);
+
+    private final JobPipelineService pipelineService;
+    private final SchedulerLockService lockService;
+    private final SchedulerProperties properties;
+    private final PipelineProperties pipelineProperties;
+    private final ClusterProperties clusterProperties;
+    private final MeterRegistry meterRegistry;
+    private final CronTriggerQueue triggers;
+
+    public PipelineTriggerScheduler(JobPipelineService pipelineService,
+                                    SchedulerLockService lockService,
+                                    SchedulerProperties properties,
+                                    PipelineProperties pipelineProperties,
+                                    ClusterProperties clusterProperties,
+                                    MeterRegistry meterRegistry) {
+        this.pipelineService = pipelineService;
+        this.lockService = lockService;
+        this.properties = properties;
+        this.pipelineProperties = pipelineProperties;
+        this.clusterProperties = clusterProperties;
+        this.meterRegistry = meterRegistry;
+        this.triggers = new CronTriggerQueue("pipeline", ZoneId.of(properties.getZone()), 1, this::fire);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !pipelineProperties.isScheduled() || triggers.isRunning()) {
+            return;
+        }
+        triggers.start();
+        ZonedDateTime next = triggers.schedule(PIPELINE_KEY, pipelineProperties.getCron());
+        if (next == null) {
+            log.warn("파이프라인 cron 표현식으로 다음 실행 시각을 계산할 수 없어 정기 실행하지 않습니다: {}", pipelineProperties.getCron());
+            return;
+        }
+        log.info("파이프라인 정기 실행 시작: 다음 실행 시각 {}", next);
+    }
+
+    @PreDestroy
+    public void stop() {
+        triggers.stop();
+    }
+
+    private void fire(CronTriggerQueue.Trigger trigger) {
+        SchedulerLockService.Lease lease = null;
+        if (clusterProperties.isSchedulerLock()) {
+            try {
+                lease = lockService.tryAcquire(LOCK_NAME, LAUNCH_LOCK_AT_MOST,
+                        CronTriggerQueue.lockAtLeastFor(trigger, LAUNCH_LOCK_AT_LEAST)).orElse(null);
+            } catch (Exception e) {
+                log.warn("파이프라인 실행 잠금 확인 실패, 이번 실행을 건너뜁니다: {}", e.getMessage());
+            }
+            if (lease == null) {
+                log.debug("파이프라인 {} 실행은 다른 노드에서 처리합니다.", trigger.fireTime());
+                count("skipped");
+                return;
+            }
+        }
+
+        try {
+            JobPipelineDto run = pipelineService.start(JobPipelineRequestDto.builder()
+                    .baseDate(trigger.fireTime().toLocalDate())
+                    .build());
+            log.info("파이프라인 정기 실행 시작 (예정 시각 {}, 실행 ID {})", trigger.fireTime(), run.getRunId());
+            count("started");
+        } catch (BusinessException e) {
+            log.info("파이프라인 정기 실행 건너뜀 (예정 시각 {}): {}", trigger.fireTime(), e.getMessage());
+            count("skipped");
+        } catch (Exception e) {
+            log.error("파이프라인 정기 실행 실패 (예정 시각 {})", trigger.fireTime(), e);
+            count("failed");
+        } finally {
+            if (lease != null) {
+                lockService.release(lease);
+            }
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dsflow.scheduler.pipeline.fires", "result", result).increment();
+    }
+}
@@ -0,0 +1,361 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.QuotaProperties;
+import com.datasolution.dsflow.entity.ApiQuotaUsage;
+import com.datasolution.dsflow.repository.ApiQuotaUsageRepository;
+import com.datasolution.dsflow.util.UpstreamKey;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 서비스키별 일일 호출 한도 관리 서비스
+ *
+ * 호출 수는 메모리에서 누적한 뒤 주기적으로 DB에 가산 반영합니다.
+ * Job 실행 전에는 예상 호출 수만큼 한도를 예약하여, 동시에 시작된 Job들이 같은 잔여 한도를 중복으로 사용하지 않도록 합니다.
+ * 예약은 사용량 행의 예약 수(reservedCount)에 조건부 UPDATE로 가산하므로 여러 노드에서 동시에 예약해도 한도를 넘지 않습니다.
+ * 예약을 통해 수행된 호출은 DB에 반영할 때 예약 수에서 빼고 호출 수에 더하며, 실행이 끝나면 남은 예약을 반환합니다.
+ * (노드가 중단되면 그 노드가 예약한 호출 수는 그날 한도 초기화까지 반환되지 않음)
+ * 예약 없이 수행된 호출(코드 동기화 등)은 반영 주기(flush-interval-ms)만큼 다른 노드에 늦게 보입니다.
+ * 사용량과 예약도 한도 설정과 같이 정규화한 서비스키의 해시로 집계하므로, URL 인코딩 여부만 다른 같은 키는 한도 하나를 나눠 씁니다.
+ */
+@Service
+@Slf4j
+public class ApiQuotaService {
+
+    /** 대괄호 없이 적은 한도 설정 키에서 설정 바인딩이 지우는 문자 */
+    private static final Pattern RELAXED_REMOVED = Pattern.compile("[^A-Za-z0-9.-]");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+    private static final int EXTEND_ATTEMPTS = 3;
+
+    private final ApiQuotaUsageRepository usageRepository;
+    private final QuotaProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    /** 정규화한 서비스키의 SHA-256 해시 → 일일 한도 */
+    private final Map<String, Long> limitsByHash;
+
+    private final ConcurrentMap<UsageKey, PendingCounts> pendingCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> keyLabels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    private record UsageKey(String serviceKeyHash, LocalDate usageDate) {
+    }
+
+    /**
+     * DB에 아직 반영하지 않은 호출 수 (전체, 그중 예약을 통해 수행된 호출)
+     */
+    private static final class PendingCounts {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder consumed = new LongAdder();
+
+        long unreserved() {
+            return Math.max(0, calls.sum() - consumed.sum());
+        }
+    }
+
+    public ApiQuotaService(ApiQuotaUsageRepository usageRepository,
+                           QuotaProperties properties,
+                           PlatformTransactionManager transactionManager) {
+        this.usageRepository = usageRepository;
+        this.properties = properties;
+        // 서비스키마다 별도 트랜잭션으로 반영 (한 키의 실패가 다른 키의 반영분을 롤백하지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.limitsByHash = indexLimits(properties.getLimits());
+    }
+
+    /**
+     * Job 실행을 위해 예약한 한도. 실제 호출이 기록될 때마다 예약 잔량이 줄어듭니다.
+     */
+    @Getter
+    public static class Reservation {
+        private final String id = UUID.randomUUID().toString();
+        private final UpstreamKey upstreamKey;
+        private final String serviceKeyHash;
+        private final LocalDate usageDate;
+        private long reservedCalls;
+        private long consumedCalls;
+        private boolean released;
+
+        Reservation(UpstreamKey upstreamKey, LocalDate usageDate, long reservedCalls) {
+            this.upstreamKey = upstreamKey;
+            this.serviceKeyHash = upstreamKey.normalizedServiceKeyHash();
+            this.usageDate = usageDate;
+            this.reservedCalls = reservedCalls;
+        }
+
+        /**
+         * 호출 1건을 예약에서 차감합니다. 예약 범위 안의 호출이면 true (DB 반영 시 예약 수에서 뺌)
+         */
+        synchronized boolean consume() {
+            consumedCalls++;
+            return !released && consumedCalls <= reservedCalls;
+        }
+
+        synchronized void add(long calls) {
+            reservedCalls += calls;
+        }
+
+        /**
+         * 예약을 닫고 사용하지 않은 호출 수를 반환합니다.
+         */
+        synchronized long close() {
+            released = true;
+            return Math.max(0, reservedCalls - consumedCalls);
+        }
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(zone());
+    }
+
+    /**
+     * 다음 한도 초기화 시각 (한도 기준 시간대의 자정)
+     */
+    public ZonedDateTime nextResetTime() {
+        return today().plusDays(1).atStartOfDay(zone());
+    }
+
+    /**
+     * 서비스키의 일일 한도 (0 이하이면 제한 없음)
+     *
+     * 설정 키는 정규화한 키의 해시로 찾으므로 URL 인코딩 여부와 관계없이 적용됩니다.
+     * 대괄호 없이 적어 바인딩 중에 특수문자가 지워진 설정 키도 같은 방식으로 지운 키로 찾습니다.
+     */
+    public long dailyLimit(UpstreamKey key) {
+        if (!key.hasServiceKey()) {
+            return 0;
+        }
+        Long limit = limitsByHash.get(key.normalizedServiceKeyHash());
+        if (limit == null) {
+            String normalized = UpstreamKey.normalizeServiceKey(key.serviceKey());
+            limit = limitsByHash.get(UpstreamKey.sha256(RELAXED_REMOVED.matcher(normalized).replaceAll("")));
+        }
+        return limit != null ? limit : properties.getDefaultDailyLimit();
+    }
+
+    public boolean isLimited(UpstreamKey key) {
+        return dailyLimit(key) > 0;
+    }
+
+    /**
+     * 예약 없이 수행된 호출 1건을 기록합니다. (코드 동기화 작업 등)
+     */
+    public void recordCall(UpstreamKey key) {
+        recordCall(key, null);
+    }
+
+    /**
+     * 호출 1건을 기록합니다. 예약을 통해 수행된 호출이면 예약 잔량도 함께 차감합니다.
+     */
+    public void recordCall(UpstreamKey key, Reservation reservation) {
+        if (!key.hasServiceKey()) {
+            return;
+        }
+        String hash = key.normalizedServiceKeyHash();
+        LocalDate today = today();
+        keyLabels.putIfAbsent(hash, key.toString());
+        PendingCounts pending = pendingCounts.computeIfAbsent(new UsageKey(hash, today), k -> new PendingCounts());
+        pending.calls.increment();
+        // 전날 예약으로 수행한 호출은 오늘 행의 예약 수와 관계없음
+        if (reservation != null && reservation.consume() && reservation.getUsageDate().equals(today)) {
+            pending.consumed.increment();
+        }
+    }
+
+    /**
+     * 오늘 사용한 호출 수 (DB 반영분 + 미반영분)
+     */
+    public long usedToday(UpstreamKey key) {
+        if (!key.hasServiceKey()) {
+            return 0;
+        }
+        UsageKey usageKey = new UsageKey(key.normalizedServiceKeyHash(), today());
+        long persisted = usageRepository.findByServiceKeyHashAndUsageDate(usageKey.serviceKeyHash(), usageKey.usageDate())
+                .map(ApiQuotaUsage::getCallCount)
+                .orElse(0L);
+        PendingCounts pending = pendingCounts.get(usageKey);
+        return persisted + (pending != null ? pending.calls.sum() : 0);
+    }
+
+    /**
+     * 오늘 남은 호출 한도 (모든 노드에서 예약해 둔 호출 수 제외)
+     */
+    public long remainingToday(UpstreamKey key) {
+        long limit = dailyLimit(key);
+        if (limit <= 0) {
+            return Long.MAX_VALUE;
+        }
+        UsageKey usageKey = new UsageKey(key.normalizedServiceKeyHash(), today());
+        long committed = usageRepository.findCommittedCalls(usageKey.serviceKeyHash(), usageKey.usageDate()).orElse(0L);
+        return Math.max(0, limit - committed - unreservedPending(usageKey));
+    }
+
+    /**
+     * 잔여 한도 안에서 호출 수를 예약합니다. 잔여 한도가 부족하면 예약하지 않습니다.
+     */
+    public Optional<Reservation> tryReserve(UpstreamKey key, long calls) {
+        if (calls <= 0 || !reserveInDatabase(key, today(), calls)) {
+            return Optional.empty();
+        }
+        Reservation reservation = new Reservation(key, today(), calls);
+        reservations.put(reservation.getId(), reservation);
+        log.info("호출 한도 예약: {} - {}건 (예약 ID: {})", key, calls, reservation.getId());
+        return Optional.of(reservation);
+    }
+
+    /**
+     * 실행 중에 늘어난 호출 수(나머지 페이지 등)만큼 예약을 늘립니다. 잔여 한도가 부족하면 가능한 만큼만 늘립니다.
+     *
+     * @return 늘린 호출 수
+     */
+    public long extend(Reservation reservation, long calls) {
+        if (calls <= 0 || !reservations.containsKey(reservation.getId())
+                || !reservation.getUsageDate().equals(today())) {
+            return 0;
+        }
+        // 다른 노드의 예약과 겹쳐 조건부 가산이 실패하면 잔여 한도를 다시 읽어 재시도
+        for (int attempt = 0; attempt < EXTEND_ATTEMPTS; attempt++) {
+            long granted = Math.min(calls, remainingToday(reservation.getUpstreamKey()));
+            if (granted <= 0) {
+                return 0;
+            }
+            if (reserveInDatabase(reservation.getUpstreamKey(), reservation.getUsageDate(), granted)) {
+                reservation.add(granted);
+                return granted;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 예약을 해제합니다. 실행이 끝나면 사용하지 않은 예약분은 다시 잔여 한도로 돌아갑니다.
+     */
+    public void release(Reservation reservation) {
+        if (reservation == null || reservations.remove(reservation.getId()) == null) {
+            return;
+        }
+        long unused = reservation.close();
+        if (unused > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> usageRepository.releaseReserved(
+                        reservation.getServiceKeyHash(), reservation.getUsageDate(), unused));
+            } catch (Exception e) {
+                log.warn("호출 한도 예약 반환 실패 ({}건, 그날 한도 초기화까지 예약으로 남음): {}", unused, e.getMessage());
+            }
+        }
+        log.info("호출 한도 예약 해제: {} - 예약 {}건 중 {}건 사용",
+                reservation.getUpstreamKey(), reservation.getReservedCalls(), reservation.getConsumedCalls());
+    }
+
+    /**
+     * 오늘의 서비스키별 사용량 조회
+     */
+    public List<ApiQuotaUsage> getTodayUsages() {
+        return usageRepository.findByUsageDateOrderByCallCountDesc(today());
+    }
+
+    /**
+     * 메모리에 누적된 호출 수를 서비스키/날짜별로 각각의 트랜잭션에서 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${dsflow.quota.flush-interval-ms:5000}")
+    public void flush() {
+        for (Map.Entry<UsageKey, PendingCounts> entry : pendingCounts.entrySet()) {
+            PendingCounts pending = entry.getValue();
+            long consumed = pending.consumed.sumThenReset();
+            long delta = pending.calls.sumThenReset();
+            if (delta == 0 && consumed == 0) {
+                continue;
+            }
+            UsageKey key = entry.getKey();
+            try {
+                ensureUsageRow(key);
+                transactionTemplate.executeWithoutResult(status ->
+                        usageRepository.incrementCallCount(key.serviceKeyHash(), key.usageDate(), delta, consumed));
+            } catch (Exception e) {
+                // 반영에 실패한 호출 수는 다음 주기에 다시 반영
+                pending.calls.add(delta);
+                pending.consumed.add(consumed);
+                log.warn("호출 수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            }
+        }
+        // 지난 날짜의 빈 카운터 정리
+        LocalDate today = today();
+        pendingCounts.entrySet().removeIf(e -> e.getKey().usageDate().isBefore(today) && e.getValue().calls.sum() == 0);
+        reservations.values().removeIf(r -> r.getUsageDate().isBefore(today));
+    }
+
+    /**
+     * 사용량 행의 예약 수에 조건부로 가산합니다. (이 노드에서 아직 반영하지 않은 예약 외 호출도 한도에서 제외)
+     */
+    private boolean reserveInDatabase(UpstreamKey key, LocalDate usageDate, long calls) {
+        UsageKey usageKey = new UsageKey(key.normalizedServiceKeyHash(), usageDate);
+        keyLabels.putIfAbsent(usageKey.serviceKeyHash(), key.toString());
+        long limit = dailyLimit(key) - unreservedPending(usageKey);
+        ensureUsageRow(usageKey);
+        Integer updated = transactionTemplate.execute(status ->
+                usageRepository.reserve(usageKey.serviceKeyHash(), usageDate, calls, limit));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 사용량 행이 없으면 만듭니다. 다른 노드가 먼저 만들었으면 그 행을 사용합니다.
+     */
+    private void ensureUsageRow(UsageKey key) {
+        if (usageRepository.findCommittedCalls(key.serviceKeyHash(), key.usageDate()).isPresent()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> usageRepository.saveAndFlush(ApiQuotaUsage.builder()
+                    .serviceKeyHash(key.serviceKeyHash())
+                    .serviceKeyLabel(keyLabels.get(key.serviceKeyHash()))
+                    .usageDate(key.usageDate())
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("호출 수 행을 다른 노드가 먼저 만들었습니다: {}", keyLabels.get(key.serviceKeyHash()));
+        }
+    }
+
+    private long unreservedPending(UsageKey usageKey) {
+        PendingCounts pending = pendingCounts.get(usageKey);
+        return pending != null ? pending.unreserved() : 0;
+    }
+
+    /**
+     * 한도 설정을 정규화한 서비스키의 해시로 색인합니다. 설정 키가 이미 SHA-256 해시(64자리 16진수)이면 그대로 사용합니다.
+     */
+    private static Map<String, Long> indexLimits(Map<String, Long> limits) {
+        Map<String, Long> indexed = new HashMap<>();
+        limits.forEach((serviceKey, limit) -> {
+            String hash = SHA256_HEX.matcher(serviceKey).matches()
+                    ? serviceKey.toLowerCase(Locale.ROOT)
+                    : UpstreamKey.sha256(UpstreamKey.normalizeServiceKey(serviceKey));
+            indexed.put(hash, limit);
+        });
+        return Collections.unmodifiableMap(indexed);
+    }
+
+    private ZoneId zone() {
+        return ZoneId.of(properties.getZone());
+    }
+}
@@ -0,0 +1,177 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.RateLimitProperties;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.util.TokenBucket;
+import com.datasolution.dsflow.util.UpstreamKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출 속도 제한 서비스
+ *
+ * 호스트 + 서비스키 단위로 하나의 토큰 버킷을 프로세스 전체에서 공유합니다.
+ * 같은 제공기관을 호출하는 여러 Job / 코드 동기화 작업이 각자 속도를 조절하면
+ * 합산 호출량이 제공기관 한도를 넘기 때문에, 반드시 이 서비스를 거쳐 호출해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiRateLimiter {
+
+    private static final long REVIEW_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final ConcurrentMap<UpstreamKey, PacedBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 속도 설정 (초당 호출 수, 최대 버스트)
+     */
+    public record Pacing(double permitsPerSecond, int burst) {
+    }
+
+    /**
+     * Job 설정에서 호출 속도를 계산합니다.
+     * delaySeconds 마다 batchSize 건을 호출하는 것으로 해석합니다. (예: batchSize 20, delaySeconds 1 = 초당 20건)
+     */
+    public Pacing pacingFor(JobDefinition jobDefinition) {
+        int delaySeconds = jobDefinition.getDelaySeconds() != null ? jobDefinition.getDelaySeconds() : 0;
+        int batchSize = jobDefinition.getBatchSize() != null ? Math.max(1, jobDefinition.getBatchSize()) : 1;
+
+        if (delaySeconds <= 0) {
+            return defaultPacing();
+        }
+        return new Pacing((double) batchSize / delaySeconds, batchSize);
+    }
+
+    public Pacing defaultPacing() {
+        return new Pacing(properties.getDefaultPermitsPerSecond(), properties.getDefaultBurst());
+    }
+
+    /**
+     * 호출 가능할 때까지 현재 스레드를 대기시킵니다.
+     */
+    public void acquire(UpstreamKey key, Pacing pacing) {
+        long waitNanos = bucketFor(key, pacing).reserve(1);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("호출 대기 중 인터럽트가 발생했습니다: " + key, e);
+        }
+    }
+
+    /**
+     * 토큰이 남아 있는 경우에만 즉시 획득합니다.
+     */
+    public boolean tryAcquire(UpstreamKey key, Pacing pacing) {
+        return bucketFor(key, pacing).tryAcquire(1);
+    }
+
+    /**
+     * 토큰을 예약하고 호출 전까지 기다려야 하는 시간을 반환합니다.
+     */
+    public Duration reserve(UpstreamKey key, Pacing pacing) {
+        return Duration.ofNanos(bucketFor(key, pacing).reserve(1));
+    }
+
+    /**
+     * 비동기 호출자용 획득: 스레드를 점유하지 않고 예약된 시간만큼 지연 후 완료됩니다.
+     */
+    public Mono<Void> acquireAsync(UpstreamKey key, Pacing pacing) {
+        return Mono.defer(() -> {
+            TokenBucket bucket = bucketFor(key, pacing);
+            long waitNanos = bucket.reserve(1);
+            if (waitNanos <= 0) {
+                return Mono.empty();
+            }
+            // 대기 중에 구독이 취소되면(일시정지/취소, 공유 호출 해제 등) 예약한 토큰을 반환하여 버킷의 속도가 밀리지 않도록 함
+            return Mono.delay(Duration.ofNanos(waitNanos)).then()
+                    .doOnCancel(() -> bucket.refund(1));
+        });
+    }
+
+    /**
+     * 호출 대상의 버킷을 조회하거나 생성합니다.
+     * 호스트별 고정 한도가 있으면 그것을 사용하고, 없으면 최근 호출한 Job들의 속도 중 가장 느린 값을 따릅니다.
+     * 더 느린 속도가 요청되면 즉시 낮추고, 가장 느린 Job이 pacingIdleMs 동안 호출하지 않으면 남은 Job 기준으로 다시 높입니다.
+     */
+    private TokenBucket bucketFor(UpstreamKey upstreamKey, Pacing pacing) {
+        // URL 인코딩 여부만 다른 같은 서비스키가 버킷 하나를 나눠 쓰도록 정규화
+        UpstreamKey key = upstreamKey.normalized();
+        RateLimitProperties.Limit hostLimit = properties.getHosts().get(key.host());
+        if (hostLimit != null) {
+            return buckets.computeIfAbsent(key,
+                    k -> new PacedBucket(new TokenBucket(hostLimit.getPermitsPerSecond(), hostLimit.getBurst()))).bucket;
+        }
+
+        PacedBucket paced = buckets.computeIfAbsent(key, k -> {
+            log.info("호출 속도 제한 버킷 생성: {} ({}건/초, 버스트 {})", k, pacing.permitsPerSecond(), pacing.burst());
+            return new PacedBucket(new TokenBucket(pacing.permitsPerSecond(), pacing.burst()));
+        });
+        long now = System.nanoTime();
+        paced.lastSeen.put(pacing, now);
+
+        TokenBucket bucket = paced.bucket;
+        if (pacing.permitsPerSecond() < bucket.getPermitsPerSecond() || pacing.burst() < bucket.getBurst()) {
+            double rate = Math.min(pacing.permitsPerSecond(), bucket.getPermitsPerSecond());
+            int burst = Math.min(pacing.burst(), bucket.getBurst());
+            bucket.reconfigure(rate, burst);
+            log.info("호출 속도 제한 강화: {} ({}건/초, 버스트 {})", key, rate, burst);
+        } else if (now - paced.nextReview >= 0) {
+            review(key, paced, now);
+        }
+        return bucket;
+    }
+
+    /**
+     * 최근 호출하지 않은 Job의 속도를 제외하고 남은 속도 중 가장 느린 값으로 버킷을 다시 맞춥니다.
+     */
+    private void review(UpstreamKey key, PacedBucket paced, long now) {
+        synchronized (paced) {
+            if (now - paced.nextReview < 0) {
+                return;
+            }
+            paced.nextReview = now + REVIEW_INTERVAL_NANOS;
+            long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getPacingIdleMs());
+            // 호출 간격이 idle 시간보다 긴 느린 Job은 두 번의 호출 간격 동안 유지
+            paced.lastSeen.entrySet().removeIf(entry -> now - entry.getValue() > Math.max(idleNanos,
+                    (long) (2 * entry.getKey().burst() / entry.getKey().permitsPerSecond() * 1_000_000_000L)));
+
+            double rate = Double.MAX_VALUE;
+            int burst = Integer.MAX_VALUE;
+            for (Pacing active : paced.lastSeen.keySet()) {
+                rate = Math.min(rate, active.permitsPerSecond());
+                burst = Math.min(burst, active.burst());
+            }
+            TokenBucket bucket = paced.bucket;
+            if (rate != Double.MAX_VALUE && (rate > bucket.getPermitsPerSecond() || burst > bucket.getBurst())) {
+                bucket.reconfigure(rate, burst);
+                log.info("호출 속도 제한 완화: {} ({}건/초, 버스트 {})", key, rate, burst);
+            }
+        }
+    }
+
+    /**
+     * 호출 대상 버킷과 그 버킷을 최근 사용한 호출 속도별 마지막 사용 시각
+     */
+    private static final class PacedBucket {
+        private final TokenBucket bucket;
+        private final ConcurrentMap<Pacing, Long> lastSeen = new ConcurrentHashMap<>();
+        private volatile long nextReview = System.nanoTime() + REVIEW_INTERVAL_NANOS;
+
+        private PacedBucket(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.ResilienceProperties;
+import com.datasolution.dsflow.exception.CircuitOpenException;
+import com.datasolution.dsflow.exception.ExternalApiException;
+import com.datasolution.dsflow.util.CircuitBreaker;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API 호출 재시도 / 서킷 브레이커 서비스
+ *
+ * 일시적인 실패(연결 오류, 타임아웃, 5xx, 429)는 지수 백오프 + 지터로 retryCount 만큼 재시도하고,
+ * 요청 자체가 잘못된 4xx 응답은 재시도하지 않습니다.
+ * 호스트별 서킷 브레이커가 열리면 호출(및 호출 한도 차감) 없이 즉시 실패합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiResilienceService {
+
+    private final ResilienceProperties properties;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * 호출에 서킷 브레이커와 재시도를 적용합니다. attempt는 재시도마다 다시 구독됩니다.
+     *
+     * @param retryCount 재시도 횟수 (null이면 기본값)
+     */
+    public <T> Mono<T> decorate(String host, Integer retryCount, Mono<T> attempt) {
+        int retries = retryCount != null && retryCount >= 0 ? retryCount : properties.getRetry().getDefaultRetryCount();
+        Mono<T> guarded = properties.getCircuitBreaker().isEnabled() ? guard(host, attempt) : attempt;
+        if (retries == 0) {
+            return guarded;
+        }
+        ResilienceProperties.Retry retry = properties.getRetry();
+        return guarded.retryWhen(Retry.backoff(retries, Duration.ofMillis(retry.getInitialBackoffMs()))
+                .maxBackoff(Duration.ofMillis(retry.getMaxBackoffMs()))
+                .jitter(retry.getJitter())
+                .filter(ApiResilienceService::isRetryable)
+                .doBeforeRetry(signal -> log.debug("외부 API 재시도 {}/{}: {} ({})", signal.totalRetries() + 1, retries,
+                        host, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private <T> Mono<T> guard(String host, Mono<T> attempt) {
+        CircuitBreaker breaker = breakerFor(host);
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquirePermission()) {
+                return Mono.error(new CircuitOpenException(host, breaker.remainingOpenTime()));
+            }
+            return attempt
+                    .doOnSuccess(value -> breaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isRetryable(e)) {
+                            CircuitBreaker.State before = breaker.getState();
+                            breaker.onFailure();
+                            if (before != CircuitBreaker.State.OPEN && breaker.getState() == CircuitBreaker.State.OPEN) {
+                                log.warn("호출 차단 시작: {} (실패율 {}%)", host, String.format("%.1f", breaker.failureRate()));
+                            }
+                        } else {
+                            // 잘못된 요청(4xx)은 호출 대상의 장애가 아님
+                            breaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(breaker::releasePermission);
+        });
+    }
+
+    public CircuitBreaker breakerFor(String host) {
+        ResilienceProperties.Breaker config = properties.getCircuitBreaker();
+        return breakers.computeIfAbsent(host, h -> new CircuitBreaker(config.getSlidingWindowSize(),
+                config.getMinimumCalls(), config.getFailureRateThreshold(),
+                Duration.ofMillis(config.getOpenDurationMs()), config.getHalfOpenPermittedCalls()));
+    }
+
+    /**
+     * 호스트별 서킷 브레이커 상태
+     */
+    public Map<String, CircuitBreaker.State> getStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((host, breaker) -> states.put(host, breaker.getState()));
+        return states;
+    }
+
+    /**
+     * 재시도할 수 있는 실패인지 판단합니다. (호출 대상의 일시적 장애로 보는 실패)
+     */
+    public static boolean isRetryable(Throwable e) {
+        if (e instanceof ExternalApiException apiException) {
+            return apiException.isRetryable();
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return isRetryableStatus(responseException.getStatusCode().value());
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof ReadTimeoutException
+                || e instanceof ConnectTimeoutException
+                || e instanceof PrematureCloseException
+                || e instanceof IOException;
+    }
+
+    /**
+     * 재시도 대상 응답 코드 (408 요청 시간 초과, 429 호출 한도 초과, 5xx 서버 오류)
+     */
+    public static boolean isRetryableStatus(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+}
@@ -0,0 +1,145 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.CallDetailProperties;
+import com.datasolution.dsflow.dto.CallDetailDto;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.detail.CallDetailPartitions;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.scheduling.ClusterLocked;
+import com.datasolution.dsflow.util.CombinationSpace;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 조합별 호출 상세 조회와 파티션 보관 관리
+ *
+ * 실행 기간(시작일 ~ 종료일)에 걸친 파티션만 조회하며, 파라미터는 실행 로그의 조합 공간으로 조합 순번에서 다시 계산합니다.
+ * 매일 다음 파티션을 미리 만들고, 보관 기간이 지난 파티션은 행 단위 DELETE 없이 DROP TABLE로 삭제합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CallDetailService {
+
+    private static final String SELECT_COLUMNS = "ordinal, called_at, status_code, success, latency_micros, response_bytes, error_class";
+
+    private final CallDetailProperties properties;
+    private final CallDetailPartitions partitions;
+    private final JobExecutionLogRepository logRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 실행의 호출 상세를 조합 순번 순으로 조회합니다.
+     *
+     * @param failedOnly 실패한 호출만 조회
+     */
+    public Page<CallDetailDto> getCalls(Long jobExecutionId, boolean failedOnly, Pageable pageable) {
+        JobExecutionLog executionLog = logRepository.findByBatchJobExecutionId(jobExecutionId)
+                .orElseThrow(() -> new BusinessException("실행 로그를 찾을 수 없습니다: " + jobExecutionId));
+        LocalDate from = executionLog.getStartTime().toLocalDate();
+        LocalDateTime end = executionLog.getEndTime() != null ? executionLog.getEndTime() : LocalDateTime.now();
+        List<CallDetailPartitions.Partition> covering = partitions.covering(from, end.toLocalDate().plusDays(1));
+        if (covering.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        String condition = " WHERE execution_log_id = ?" + (failedOnly ? " AND success = FALSE" : "");
+        String union = covering.stream()
+                .map(partition -> "SELECT " + SELECT_COLUMNS + " FROM " + partition.name() + condition)
+                .collect(Collectors.joining(" UNION ALL "));
+        Object[] logIds = covering.stream().map(partition -> executionLog.getId()).toArray();
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + union + ") calls", Long.class, logIds);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+        List<Object> args = new ArrayList<>(List.of(logIds));
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        CombinationSpace space = space(executionLog);
+        List<CallDetailDto> calls = jdbcTemplate.query(
+                "SELECT * FROM (" + union + ") calls ORDER BY ordinal, called_at LIMIT ? OFFSET ?",
+                (rs, rowNum) -> {
+                    long ordinal = rs.getLong("ordinal");
+                    return CallDetailDto.builder()
+                            .ordinal(ordinal)
+                            .parameters(space != null && ordinal < space.size() ? space.get(ordinal) : null)
+                            .calledAt(rs.getTimestamp("called_at").toLocalDateTime())
+                            .statusCode(rs.getInt("status_code"))
+                            .success(rs.getBoolean("success"))
+                            .latencyMillis(rs.getInt("latency_micros") / 1000.0)
+                            .responseBytes(rs.getInt("response_bytes"))
+                            .errorClass(rs.getString("error_class"))
+                            .build();
+                }, args.toArray());
+        return new PageImpl<>(calls, pageable, total);
+    }
+
+    /**
+     * 시작 시 오늘과 다음 파티션을 미리 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (properties.isEnabled()) {
+            precreate();
+        }
+    }
+
+    /**
+     * 매일 다음 파티션을 미리 만들고 보관 기간이 지난 파티션을 삭제합니다. (여러 노드 중 1곳에서만 실행)
+     */
+    @Scheduled(cron = "${dsflow.call-detail.maintenance-cron:0 10 0 * * ?}")
+    @ClusterLocked(name = "call-detail-retention", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        precreate();
+        LocalDate cutoff = LocalDate.now().minusDays(Math.max(1, properties.getRetentionDays()));
+        List<CallDetailPartitions.Partition> dropped = partitions.dropBefore(cutoff);
+        if (!dropped.isEmpty()) {
+            log.info("호출 상세 보관 기간({}일) 경과 파티션 {}개 삭제", properties.getRetentionDays(), dropped.size());
+        }
+    }
+
+    private void precreate() {
+        try {
+            LocalDate date = LocalDate.now();
+            for (int i = 0; i <= Math.max(0, properties.getPrecreatePartitions()); i++) {
+                date = partitions.ensure(date).to();
+            }
+        } catch (Exception e) {
+            log.warn("호출 상세 파티션 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private CombinationSpace space(JobExecutionLog executionLog) {
+        if (executionLog.getCombinationSpace() == null) {
+            return null;
+        }
+        try {
+            return CombinationSpace.of(objectMapper.readValue(executionLog.getCombinationSpace(), CombinationSpace.Snapshot.class));
+        } catch (JsonProcessingException e) {
+            log.warn("실행 로그 {} 조합 공간을 읽을 수 없습니다: {}", executionLog.getId(), e.getOriginalMessage());
+            return null;
+        }
+    }
+}
@@ -5,7 +5,9 @@ import com.datasolution.dsflow.entity.CodeValue;
 import com.datasolution.dsflow.entity.JobDefinition;
 import com.datasolution.dsflow.entity.enums.JobStatus;
 import com.datasolution.dsflow.entity.enums.MethodType;
+import com.datasolution.dsflow.exception.SchedulerLockLostException;
 import com.datasolution.dsflow.repository.JobDefinitionRepository;
+import com.datasolution.dsflow.scheduling.ClusterLocked;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -41,26 +43,42 @@ public class CodeDataSyncService {
     private final JobDefinitionRepository jobDefinitionRepository;
     private final ObjectMapper objectMapper;
     private final WebClient webClient;
+    private final SchedulerLockService lockService;
 
     /**
-     * 매일 새벽 2시에 모든 코드 카테고리 동기화
+     * 매일 새벽 2시에 모든 코드 카테고리 동기화 (여러 노드 중 1곳에서만 실행)
      */
     @Scheduled(cron = "0 0 2 * * ?")
+    @ClusterLocked(name = "code-data-sync", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
     @Transactional
     public void scheduledCodeSync() {
+        syncAllCodes();
+    }
+
+    /**
+     * 모든 코드 카테고리 동기화 (수동 실행 시 잠금 없이 바로 실행)
+     */
+    @Transactional
+    public void syncAllCodes() {
         log.info("=== 스케줄링된 코드 데이터 동기화 시작 ===");
         
         try {
             // 1. 지역코드 동기화 (행정표준코드 API)
+            lockService.ensureHeld();
             syncRegionCodes();
             
             // 2. 업종코드 동기화 (통계청 API)
+            lockService.ensureHeld();
             syncIndustryCodes();
             
             // 3. 기타 코드 동기화
+            lockService.ensureHeld();
             syncOtherCodes();
             
             log.info("=== 스케줄링된 코드 데이터 동기화 완료 ===");
+        } catch (SchedulerLockLostException e) {
+            // 잠금을 잃었으면 트랜잭션을 롤백하여 다른 노드의 동기화 결과와 섞이지 않도록 함
+            throw e;
         } catch (Exception e) {
             log.error("코드 데이터 동기화 중 오류 발생", e);
         }
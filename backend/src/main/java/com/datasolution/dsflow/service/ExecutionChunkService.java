@@ -0,0 +1,291 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.entity.ExecutionChunk;
+import com.datasolution.dsflow.entity.enums.ChunkStatus;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.execution.ExecutionProgress;
+import com.datasolution.dsflow.repository.ExecutionChunkRepository;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분할 실행 구간 관리 (생성, 임대, 연장, 종료, 일시정지)
+ *
+ * 노드 간 조정은 모두 DB 행 잠금과 조건부 UPDATE로 처리하며, 별도의 조정 서버를 사용하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionChunkService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 4000;
+
+    private final ExecutionChunkRepository chunkRepository;
+    private final JobExecutionLogRepository logRepository;
+    private final ClusterProperties properties;
+
+    /**
+     * 실행 1건의 구간별 상태 집계
+     */
+    public record ChunkSummary(Map<ChunkStatus, Integer> counts, long processed, long success, long fail) {
+
+        public int count(ChunkStatus status) {
+            return counts.getOrDefault(status, 0);
+        }
+
+        /**
+         * 더 처리할 구간이 없으면 true
+         */
+        public boolean isFinished() {
+            return count(ChunkStatus.PENDING) == 0 && count(ChunkStatus.LEASED) == 0 && count(ChunkStatus.PAUSED) == 0;
+        }
+    }
+
+    /**
+     * [fromOrdinal, toOrdinal) 구간을 chunkSize 단위로 나누어 대기 상태로 등록합니다. 이미 등록되어 있으면 등록하지 않습니다.
+     * 구간은 실행 우선순위 순으로 임대합니다.
+     *
+     * @return 구간 수
+     */
+    @Transactional
+    public int createChunks(Long executionLogId, String jobCode, long fromOrdinal, long toOrdinal, ExecutionPriority priority) {
+        if (chunkRepository.existsByExecutionLogId(executionLogId)) {
+            return chunkRepository.findByExecutionLogIdOrderByStartOrdinal(executionLogId).size();
+        }
+        long chunkSize = Math.max(1, properties.getChunkSize());
+        List<ExecutionChunk> chunks = new ArrayList<>();
+        for (long start = fromOrdinal; start < toOrdinal; start += chunkSize) {
+            chunks.add(ExecutionChunk.builder()
+                    .executionLogId(executionLogId)
+                    .jobCode(jobCode)
+                    .startOrdinal(start)
+                    .endOrdinal(Math.min(toOrdinal, start + chunkSize))
+                    .nextOrdinal(start)
+                    .status(ChunkStatus.PENDING)
+                    .priority(rank(priority))
+                    .build());
+        }
+        chunkRepository.saveAll(chunks);
+        return chunks.size();
+    }
+
+    /**
+     * 대기 중이거나 임대가 만료된 구간을 최대 max개 임대합니다. 다른 노드가 확인 중인 행은 건너뜁니다.
+     * 임대 횟수를 초과한 구간은 실패 처리합니다.
+     */
+    @Transactional
+    public List<ExecutionChunk> claim(int max) {
+        if (max <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<ExecutionChunk> claimed = new ArrayList<>();
+        for (ExecutionChunk chunk : chunkRepository.findClaimable(ChunkStatus.PENDING, ChunkStatus.LEASED, now,
+                PageRequest.of(0, max))) {
+            if (chunk.getStatus() == ChunkStatus.LEASED) {
+                log.warn("구간 {} 임대 만료 (노드 {}), {}번부터 다시 처리합니다.",
+                        chunk.getId(), chunk.getLeaseOwner(), chunk.getNextOrdinal());
+            }
+            if (chunk.getAttempts() >= properties.getMaxChunkAttempts()) {
+                chunk.setStatus(ChunkStatus.FAILED);
+                chunk.setLeaseExpiresAt(null);
+                chunk.setErrorMessage("최대 임대 횟수(" + properties.getMaxChunkAttempts() + ")를 초과했습니다.");
+                continue;
+            }
+            chunk.setStatus(ChunkStatus.LEASED);
+            chunk.setLeaseOwner(properties.getNodeId());
+            chunk.setLeaseToken(chunk.getLeaseToken() + 1);
+            chunk.setLeaseExpiresAt(now.plusSeconds(properties.getLeaseSeconds()));
+            chunk.setAttempts(chunk.getAttempts() + 1);
+            claimed.add(chunk);
+        }
+        return claimed;
+    }
+
+    /**
+     * 임대할 수 있는 구간 중 가장 급한 우선순위 (ExecutionPriority 선언 순서, 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Integer mostUrgentClaimablePriority() {
+        return chunkRepository.findMostUrgentClaimablePriority(ChunkStatus.PENDING, ChunkStatus.LEASED, LocalDateTime.now());
+    }
+
+    /**
+     * 구간 우선순위 (우선순위가 없는 구간은 SCHEDULED)
+     */
+    public static int rank(ExecutionPriority priority) {
+        return (priority != null ? priority : ExecutionPriority.SCHEDULED).ordinal();
+    }
+
+    public static int rank(ExecutionChunk chunk) {
+        return chunk.getPriority() != null ? chunk.getPriority() : rank((ExecutionPriority) null);
+    }
+
+    /**
+     * 임대를 연장합니다. 체크포인트는 저장 내용이 확정되는 임대 종료 시에만 기록합니다.
+     *
+     * @return 임대를 잃었으면(만료 후 다른 노드가 임대, 실행 취소 등) false
+     */
+    @Transactional
+    public boolean renew(ExecutionChunk chunk) {
+        return chunkRepository.renew(chunk.getId(), chunk.getLeaseToken(), ChunkStatus.LEASED,
+                LocalDateTime.now().plusSeconds(properties.getLeaseSeconds())) > 0;
+    }
+
+    /**
+     * 구간 처리 완료
+     *
+     * @param nextOrdinal 저장이 끝난 조합 경계. 호출 한도 부족으로 끝까지 받지 못한 조합이 있으면 구간 끝보다 작으며,
+     *                    그 조합부터는 같은 기준일의 다음 실행이 이어서 호출
+     * @return 임대를 잃어 반영하지 못했으면 false
+     */
+    @Transactional
+    public boolean complete(ExecutionChunk chunk, long nextOrdinal, ExecutionProgress progress, String resultLocation) {
+        return chunkRepository.finish(chunk.getId(), chunk.getLeaseToken(), ChunkStatus.LEASED, ChunkStatus.COMPLETED,
+                nextOrdinal, progress.getProcessed(), progress.getSuccess(), progress.getFail(),
+                appendLocation(chunk, resultLocation), null) > 0;
+    }
+
+    /**
+     * 구간 처리 실패. 임대 횟수가 남아 있으면 체크포인트(nextOrdinal)부터 다시 처리하도록 대기 상태로 되돌립니다.
+     *
+     * @param resultLocation 체크포인트까지의 결과를 저장한 위치 (저장 내용을 확정하지 못했으면 null)
+     */
+    @Transactional
+    public boolean fail(ExecutionChunk chunk, long nextOrdinal, ExecutionProgress progress, Throwable error,
+                        String resultLocation) {
+        ChunkStatus status = chunk.getAttempts() >= properties.getMaxChunkAttempts()
+                ? ChunkStatus.FAILED : ChunkStatus.PENDING;
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (message.length() > MAX_ERROR_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+        }
+        return chunkRepository.finish(chunk.getId(), chunk.getLeaseToken(), ChunkStatus.LEASED, status,
+                nextOrdinal, progress.getProcessed(), progress.getSuccess(), progress.getFail(),
+                appendLocation(chunk, resultLocation), message) > 0;
+    }
+
+    /**
+     * 임대를 반납합니다. 체크포인트(nextOrdinal)를 기록하고 status(양보: PENDING, 일시정지: PAUSED, 중단: CANCELLED)로 바꾸며,
+     * 반납은 임대 횟수에 포함하지 않습니다.
+     *
+     * @return 임대를 잃어 반영하지 못했으면 false
+     */
+    @Transactional
+    public boolean release(ExecutionChunk chunk, ChunkStatus status, long nextOrdinal, ExecutionProgress progress,
+                           String resultLocation) {
+        return chunkRepository.release(chunk.getId(), chunk.getLeaseToken(), ChunkStatus.LEASED, status,
+                nextOrdinal, progress.getProcessed(), progress.getSuccess(), progress.getFail(),
+                appendLocation(chunk, resultLocation)) > 0;
+    }
+
+    /**
+     * 구간의 결과 저장 위치 목록 (이전 임대에서 체크포인트까지 저장한 위치 포함)
+     */
+    public static List<String> locations(ExecutionChunk chunk) {
+        if (chunk.getResultLocation() == null || chunk.getResultLocation().isBlank()) {
+            return List.of();
+        }
+        return List.of(chunk.getResultLocation().split("\n"));
+    }
+
+    private static String appendLocation(ExecutionChunk chunk, String location) {
+        if (location == null) {
+            return chunk.getResultLocation();
+        }
+        return chunk.getResultLocation() == null ? location : chunk.getResultLocation() + "\n" + location;
+    }
+
+    /**
+     * 실행의 남은 구간을 취소합니다. 처리 중인 노드는 다음 임대 연장 시 중단합니다.
+     */
+    @Transactional
+    public int cancel(Long executionLogId) {
+        return chunkRepository.updateStatusByExecution(executionLogId,
+                List.of(ChunkStatus.PENDING, ChunkStatus.LEASED, ChunkStatus.PAUSED), ChunkStatus.CANCELLED);
+    }
+
+    /**
+     * 실행의 대기 중인 구간만 취소합니다. 처리 중인 구간은 진행 중인 호출을 마친 뒤 반납합니다.
+     */
+    @Transactional
+    public int cancelPending(Long executionLogId) {
+        return chunkRepository.updateStatusByExecution(executionLogId,
+                List.of(ChunkStatus.PENDING, ChunkStatus.PAUSED), ChunkStatus.CANCELLED);
+    }
+
+    /**
+     * 실행의 대기 중인 구간을 임대하지 않도록 일시정지합니다.
+     */
+    @Transactional
+    public int pause(Long executionLogId) {
+        return chunkRepository.updateStatusByExecution(executionLogId, List.of(ChunkStatus.PENDING), ChunkStatus.PAUSED);
+    }
+
+    @Transactional
+    public int resume(Long executionLogId) {
+        return chunkRepository.updateStatusByExecution(executionLogId, List.of(ChunkStatus.PAUSED), ChunkStatus.PENDING);
+    }
+
+    /**
+     * 실행 목록 중 처리 중인 구간을 멈춰야 하는 실행 (일시정지된 실행: PAUSED, 취소된 실행: CANCELLED)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ChunkStatus> findHeldExecutions(Collection<Long> executionLogIds) {
+        Map<Long, ChunkStatus> held = new HashMap<>();
+        if (executionLogIds.isEmpty()) {
+            return held;
+        }
+        logRepository.findIdsByIdInAndStatus(executionLogIds, ExecutionStatus.PAUSED)
+                .forEach(id -> held.put(id, ChunkStatus.PAUSED));
+        chunkRepository.findExecutionLogIdsByStatus(executionLogIds, ChunkStatus.CANCELLED)
+                .forEach(id -> held.put(id, ChunkStatus.CANCELLED));
+        return held;
+    }
+
+    @Transactional(readOnly = true)
+    public ChunkSummary summarize(Long executionLogId) {
+        Map<ChunkStatus, Integer> counts = new EnumMap<>(ChunkStatus.class);
+        long processed = 0;
+        long success = 0;
+        long fail = 0;
+        for (Object[] row : chunkRepository.summarize(executionLogId)) {
+            counts.put((ChunkStatus) row[0], ((Number) row[1]).intValue());
+            processed += toLong(row[2]);
+            success += toLong(row[3]);
+            fail += toLong(row[4]);
+        }
+        return new ChunkSummary(counts, processed, success, fail);
+    }
+
+    /**
+     * 구간으로 나누어 실행한 실행인지
+     */
+    @Transactional(readOnly = true)
+    public boolean hasChunks(Long executionLogId) {
+        return chunkRepository.existsByExecutionLogId(executionLogId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExecutionChunk> getChunks(Long executionLogId) {
+        return chunkRepository.findByExecutionLogIdOrderByStartOrdinal(executionLogId);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+}
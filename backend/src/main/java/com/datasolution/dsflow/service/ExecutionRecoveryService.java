@@ -0,0 +1,90 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.execution.ChunkCoordinator;
+import com.datasolution.dsflow.execution.ExecutionLease;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 조정 노드가 중단된 실행 정리
+ *
+ * 진행 중(STARTED/RUNNING/PAUSED)인데 조정 임대(ExecutionLease)가 만료된 실행을 찾아 정리합니다.
+ * (노드 중단, 재배포로 실행 목록이 사라져 재개할 수 없는 일시정지 실행 등) 시작 직후와 이후 heartbeat-interval-ms마다 확인합니다.
+ * 분할 실행이면 이 노드가 이어받아 남은 구간이 끝난 뒤 종료 상태를 기록하고(ChunkCoordinator.adopt),
+ * 그 외에는 이어서 호출할 수 없으므로 실패 처리하여 같은 기준일을 다시 실행할 수 있게 합니다.
+ * 여러 노드가 함께 찾아도 임대를 가져간 1곳에서만 정리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionRecoveryService {
+
+    private final ExecutionLease lease;
+    private final ExecutionChunkService chunkService;
+    private final ChunkCoordinator coordinator;
+    private final JobExecutionLogRepository logRepository;
+    private final JobStatisticsService statisticsService;
+
+    @Scheduled(fixedDelayString = "${dsflow.cluster.heartbeat-interval-ms:10000}")
+    public void recoverOrphaned() {
+        List<JobExecutionLog> orphaned;
+        try {
+            orphaned = logRepository.findOrphaned(lease.expiredBefore());
+        } catch (Exception e) {
+            log.warn("조정 노드가 중단된 실행 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (JobExecutionLog executionLog : orphaned) {
+            try {
+                recover(executionLog);
+            } catch (Exception e) {
+                log.error("실행 로그 {} 정리 실패", executionLog.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 진행 중으로 기록된 실행의 조정 노드가 살아 있는지 확인하고, 중단되었으면 정리합니다.
+     *
+     * @return 실행이 계속 진행 중이면 true (조정 노드가 살아 있거나 분할 실행을 이어받음), 종료되었으면 false
+     */
+    public boolean recover(JobExecutionLog executionLog) {
+        if (lease.isLive(executionLog)) {
+            return true;
+        }
+        Long logId = executionLog.getId();
+        if (!lease.takeOver(logId)) {
+            // 다른 노드가 먼저 정리했거나 조정 노드가 다시 갱신함
+            return logRepository.findById(logId).map(current -> current.getEndTime() == null).orElse(false);
+        }
+
+        JobExecutionLog current = logRepository.findWithJobDefinitionById(logId).orElse(null);
+        if (current == null || current.getEndTime() != null) {
+            lease.release(logId);
+            return false;
+        }
+        if (chunkService.hasChunks(logId)) {
+            log.warn("Job {} 분할 실행(실행 로그 {})의 조정 노드 {}이(가) 응답하지 않아 이 노드가 이어받습니다.",
+                    current.getJobDefinition().getJobCode(), logId, executionLog.getOwnerNode());
+            coordinator.adopt(current);
+            return true;
+        }
+
+        try {
+            current.markAsFailed(String.format("조정 노드 %s이(가) 응답하지 않아 실패 처리했습니다.", executionLog.getOwnerNode()));
+            logRepository.save(current);
+            statisticsService.recordFinish(current);
+            log.warn("Job {} 기준일 {} 실행(실행 로그 {})의 조정 노드 {}이(가) 응답하지 않아 실패 처리했습니다.",
+                    current.getJobDefinition().getJobCode(), current.getBaseDate(), logId, executionLog.getOwnerNode());
+        } finally {
+            lease.release(logId);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,168 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.HttpClientProperties;
+import com.datasolution.dsflow.exception.ExternalApiException;
+import com.datasolution.dsflow.execution.SharedResponse;
+import com.datasolution.dsflow.util.RequestKey;
+import com.datasolution.dsflow.util.UpstreamKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 클라이언트
+ *
+ * Job 실행, 코드 동기화, 파라미터 값 조회가 모두 이 클라이언트를 통해 공유 커넥션 풀을 사용합니다.
+ * 응답 대기 시간은 요청마다 Job/동기화 작업의 timeoutSeconds 설정을 적용하며,
+ * 호출 속도 제한, 호출 한도 기록, 재시도/서킷 브레이커는 시도마다 적용됩니다.
+ * 같은 요청이 이미 진행 중이면 새로 호출하지 않고 그 응답을 함께 받습니다. (Job 실행의 호출과도 합쳐짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalApiClient {
+
+    private final WebClient webClient;
+    private final HttpClientProperties properties;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiQuotaService quotaService;
+    private final ApiResilienceService resilienceService;
+    private final RequestCoalescer coalescer;
+
+    /**
+     * 요청을 생성합니다. 파라미터는 쿼리 문자열로 인코딩하여 추가합니다.
+     *
+     * @param timeout 응답 대기 시간 (null이면 기본값)
+     */
+    public WebClient.RequestBodySpec request(HttpMethod method, String url, Map<String, ?> params, Duration timeout) {
+        Duration responseTimeout = timeout != null ? timeout : defaultTimeout();
+        return webClient.method(method)
+                .uri(buildUri(url, params))
+                .httpRequest(request -> {
+                    if (request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+                        nativeRequest.responseTimeout(responseTimeout);
+                    }
+                });
+    }
+
+    /**
+     * 요청을 보내고 응답 본문을 문자열로 받습니다.
+     * 시도마다 호출 속도 제한을 기다리고 호출 한도를 기록하며, 서킷이 열려 있으면 호출하지 않습니다.
+     *
+     * @param requestKey 동일 요청 식별자 (null이면 합치지 않음)
+     * @param retryCount 재시도 횟수 (null이면 기본값)
+     */
+    public Mono<String> retrieve(RequestKey requestKey, UpstreamKey upstreamKey, ApiRateLimiter.Pacing pacing,
+                                 Integer retryCount, WebClient.RequestHeadersSpec<?> request) {
+        // Job 실행과 같은 결과 타입(SharedResponse)으로 합친 뒤 호출자마다 문자열로 변환
+        return coalescer.execute("client", requestKey, SharedResponse.class, () -> {
+                    Mono<SharedResponse> attempt = rateLimiter.acquireAsync(upstreamKey, pacing)
+                            .then(Mono.defer(() -> {
+                                quotaService.recordCall(upstreamKey);
+                                return request.exchangeToMono(ExternalApiClient::toResponse);
+                            }));
+                    return resilienceService.decorate(upstreamKey.host(), retryCount, attempt);
+                })
+                .handle((response, sink) -> {
+                    try {
+                        if (response.statusCode() >= 400) {
+                            sink.error(new ExternalApiException("HTTP " + response.statusCode(), response.statusCode(), false));
+                        } else if (response.hasBody()) {
+                            sink.next(response.bodyAsString(StandardCharsets.UTF_8));
+                        }
+                    } finally {
+                        response.release();
+                    }
+                });
+    }
+
+    /**
+     * 응답 본문을 복사하지 않고 읽습니다. 재시도 대상 응답(5xx, 429 등)은 본문을 버리고 오류로 전달합니다.
+     */
+    public static Mono<SharedResponse> toResponse(ClientResponse response) {
+        int statusCode = response.statusCode().value();
+        if (ApiResilienceService.isRetryableStatus(statusCode)) {
+            return response.releaseBody()
+                    .then(Mono.error(new ExternalApiException("HTTP " + statusCode, statusCode, true)));
+        }
+        return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class))
+                .map(body -> SharedResponse.of(statusCode, body))
+                .switchIfEmpty(Mono.fromSupplier(() -> SharedResponse.of(statusCode, (DataBuffer) null)));
+    }
+
+    /**
+     * retrieve의 블로킹 버전 (이벤트 루프 스레드에서 호출하지 말 것)
+     */
+    public String fetch(RequestKey requestKey, UpstreamKey upstreamKey, ApiRateLimiter.Pacing pacing,
+                        Integer retryCount, WebClient.RequestHeadersSpec<?> request) {
+        return retrieve(requestKey, upstreamKey, pacing, retryCount, request).block();
+    }
+
+    /**
+     * timeoutSeconds 설정을 응답 대기 시간으로 변환합니다.
+     */
+    public Duration timeoutOf(Integer timeoutSeconds) {
+        return timeoutSeconds != null && timeoutSeconds > 0 ? Duration.ofSeconds(timeoutSeconds) : defaultTimeout();
+    }
+
+    public Duration defaultTimeout() {
+        return Duration.ofSeconds(properties.getResponseTimeoutSeconds());
+    }
+
+    /**
+     * 요청 URI 생성. 파라미터 이름과 값을 인코딩합니다.
+     * 이미 퍼센트 인코딩된 값(공공데이터포털의 Encoding 서비스키 등)은 다시 인코딩하지 않고 그대로 사용합니다.
+     */
+    public static URI buildUri(String url, Map<String, ?> params) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url);
+        if (params != null) {
+            params.forEach((name, value) -> {
+                String text = String.valueOf(value);
+                builder.queryParam(
+                        UriUtils.encodeQueryParam(name, StandardCharsets.UTF_8),
+                        isPercentEncoded(text) ? text : UriUtils.encode(text, StandardCharsets.UTF_8));
+            });
+        }
+        return builder.build(true).toUri();
+    }
+
+    /**
+     * %XX 시퀀스가 하나 이상 있고 나머지는 비예약 문자(영문, 숫자, -._~)뿐이면 이미 인코딩된 값으로 봅니다.
+     * (Decoding 키처럼 +, /, = 가 그대로 있는 값은 인코딩 대상)
+     */
+    static boolean isPercentEncoded(String value) {
+        boolean escaped = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= value.length()
+                        || Character.digit(value.charAt(i + 1), 16) < 0
+                        || Character.digit(value.charAt(i + 2), 16) < 0) {
+                    return false;
+                }
+                escaped = true;
+                i += 2;
+            } else if (!isUnreserved(c)) {
+                return false;
+            }
+        }
+        return escaped;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
@@ -0,0 +1,153 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.QuotaProperties;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.simulation.SimulatedUpstream;
+import com.datasolution.dsflow.util.UpstreamKey;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 호출 한도를 고려한 Job 실행 승인 서비스
+ *
+ * 실행 직전에 예상 호출 수(파라미터 조합 수)와 오늘 남은 한도를 비교하여
+ * 전체 실행(ADMIT), 한도만큼만 분할 실행(SPLIT), 다음 초기화 시각까지 연기(DEFER) 중 하나를 결정합니다.
+ * 하루 한도 안에 끝낼 수 있는 Job은 쪼개지 않고 다음 날 한 번에 완주하도록 연기합니다.
+ * 같은 기준일의 마지막 완료 실행이 분할 실행이었으면 그 실행이 호출한 조합 다음 순번부터 남은 조합만 승인합니다.
+ * 시뮬레이션 Job은 모의 API 서버를 호출하므로 한도와 관계없이 전체 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobAdmissionService {
+
+    private final ApiQuotaService quotaService;
+    private final ParameterCombinationService combinationService;
+    private final QuotaProperties properties;
+    private final SimulatedUpstream simulatedUpstream;
+    private final JobExecutionLogRepository logRepository;
+
+    public enum Decision {
+        ADMIT,  // 전체 실행
+        SPLIT,  // 잔여 한도만큼 분할 실행, 나머지는 다음 실행(같은 기준일)이 이어서 호출
+        DEFER   // 다음 한도 초기화 이후로 연기
+    }
+
+    /**
+     * 실행 승인 결과
+     *
+     * @param estimatedCalls 예상 호출 수 (이어서 호출하는 경우 남은 조합 수)
+     * @param admittedCalls  이번 실행에서 호출할 수 있는 최대 조합 수
+     * @param startOrdinal   이번 실행이 호출을 시작할 조합 순번 (앞선 분할 실행이 호출하지 않은 첫 조합)
+     * @param notBefore      연기된 경우 다시 시도할 시각
+     * @param reservation    승인된 호출 수만큼의 한도 예약 (한도 대상이 아니면 null)
+     */
+    public record Admission(Decision decision,
+                            long estimatedCalls,
+                            long admittedCalls,
+                            long startOrdinal,
+                            LocalDateTime notBefore,
+                            @JsonIgnore ApiQuotaService.Reservation reservation,
+                            String reason) {
+
+        public boolean isRunnable() {
+            return decision != Decision.DEFER;
+        }
+    }
+
+    /**
+     * 기준일의 남은 호출 수를 계산한 뒤 실행 승인 여부를 결정하고 한도를 예약합니다.
+     */
+    public Admission admit(JobDefinition jobDefinition, LocalDate baseDate) {
+        return decide(jobDefinition, baseDate, true);
+    }
+
+    /**
+     * 한도를 예약하지 않고 승인 결과만 미리 확인합니다.
+     */
+    public Admission preview(JobDefinition jobDefinition, LocalDate baseDate) {
+        return decide(jobDefinition, baseDate, false);
+    }
+
+    public UpstreamKey upstreamKeyOf(JobDefinition jobDefinition) {
+        return UpstreamKey.of(jobDefinition.getResourceUrl(), combinationService.parseBaseParameters(jobDefinition));
+    }
+
+    /**
+     * 같은 기준일의 마지막 완료 실행이 분할 실행이었으면 그 실행이 호출한 구간의 끝 순번을 반환합니다. (없으면 0)
+     * 그 사이 조합 수가 바뀌었으면(파라미터 값 변경) 순번이 맞지 않으므로 처음부터 호출합니다.
+     */
+    private long resumeOrdinal(JobDefinition jobDefinition, LocalDate baseDate, long combinations) {
+        return logRepository.findCompletedByJobCodeAndBaseDate(jobDefinition.getJobCode(), baseDate, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .filter(JobExecutionLog::isPartial)
+                .filter(last -> last.getCombinationCount() == combinations)
+                .map(JobExecutionLog::getEndOrdinal)
+                .orElse(0L);
+    }
+
+    private Admission decide(JobDefinition jobDefinition, LocalDate baseDate, boolean reserve) {
+        long combinations = combinationService.estimateCombinationCount(jobDefinition);
+        long startOrdinal = resumeOrdinal(jobDefinition, baseDate, combinations);
+        long estimatedCalls = combinations - startOrdinal;
+        if (startOrdinal > 0) {
+            log.info("Job {} 기준일 {} 분할 실행 이어서 호출: 전체 {}건 중 조합 #{}부터 {}건",
+                    jobDefinition.getJobCode(), baseDate, combinations, startOrdinal, estimatedCalls);
+        }
+
+        if (simulatedUpstream.isSimulated(jobDefinition)) {
+            return new Admission(Decision.ADMIT, estimatedCalls, estimatedCalls, startOrdinal, null, null,
+                    "시뮬레이션 실행은 호출 한도 대상이 아닙니다.");
+        }
+        UpstreamKey key = upstreamKeyOf(jobDefinition);
+
+        if (!quotaService.isLimited(key) || estimatedCalls <= 0) {
+            return new Admission(Decision.ADMIT, estimatedCalls, estimatedCalls, startOrdinal, null, null,
+                    "호출 한도 대상이 아닙니다.");
+        }
+
+        long dailyLimit = quotaService.dailyLimit(key);
+        long remaining = quotaService.remainingToday(key);
+
+        // 1. 오늘 남은 한도로 전체 실행 가능
+        if (estimatedCalls <= remaining) {
+            Optional<ApiQuotaService.Reservation> reservation = reserve(key, estimatedCalls, reserve);
+            if (!reserve || reservation.isPresent()) {
+                return new Admission(Decision.ADMIT, estimatedCalls, estimatedCalls, startOrdinal, null, reservation.orElse(null),
+                        String.format("잔여 한도 %d건 내에서 전체 실행합니다.", remaining));
+            }
+        }
+
+        // 2. 하루 한도로도 끝낼 수 없는 Job은 남은 한도만큼 나누어 실행
+        if (estimatedCalls > dailyLimit && remaining >= properties.getMinSplitCalls()) {
+            Optional<ApiQuotaService.Reservation> reservation = reserve(key, remaining, reserve);
+            if (!reserve || reservation.isPresent()) {
+                log.info("Job {} 분할 실행 승인: 예상 {}건 중 {}건 (일일 한도 {}건)",
+                        jobDefinition.getJobCode(), estimatedCalls, remaining, dailyLimit);
+                return new Admission(Decision.SPLIT, estimatedCalls, remaining, startOrdinal, null, reservation.orElse(null),
+                        String.format("일일 한도 %d건을 초과하여 %d건만 실행하고 나머지는 이어서 실행합니다.", dailyLimit, remaining));
+            }
+        }
+
+        // 3. 내일 한도로 한 번에 완주하도록 연기
+        LocalDateTime notBefore = quotaService.nextResetTime().toLocalDateTime();
+        log.info("Job {} 실행 연기: 예상 {}건, 잔여 한도 {}건 -> {} 이후 실행",
+                jobDefinition.getJobCode(), estimatedCalls, remaining, notBefore);
+        return new Admission(Decision.DEFER, estimatedCalls, 0, startOrdinal, notBefore, null,
+                String.format("잔여 한도 %d건으로 예상 호출 %d건을 완료할 수 없어 연기합니다.", remaining, estimatedCalls));
+    }
+
+    private Optional<ApiQuotaService.Reservation> reserve(UpstreamKey key, long calls, boolean reserve) {
+        return reserve ? quotaService.tryReserve(key, calls) : Optional.empty();
+    }
+}
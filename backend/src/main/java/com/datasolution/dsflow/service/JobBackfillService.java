@@ -0,0 +1,422 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.BackfillProperties;
+import com.datasolution.dsflow.dto.JobBackfillDto;
+import com.datasolution.dsflow.dto.JobBackfillRequestDto;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.JobStatus;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.ExecutionHandle;
+import com.datasolution.dsflow.execution.ExecutionProgress;
+import com.datasolution.dsflow.execution.ExecutionRegistry;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 기간 일괄 실행(백필) 서비스
+ *
+ * 기간 안에서 모든 조합을 호출하고 성공(COMPLETED)한 실행 로그가 없는 기준일만 골라, 지정한 수만큼 동시에 실행합니다.
+ * 분할 실행(SPLIT)으로 남은 조합이 있는 기준일은 다시 실행 대상이며, 남은 조합부터 이어서 호출합니다.
+ * 실행 직전에 같은 기준일의 실행이 진행 중이면(다른 실행 또는 이 노드의 다른 백필) 그 기준일은 건너뜁니다.
+ * 진행 중으로 기록되어 있어도 조정 노드가 중단된 실행(임대 만료)은 진행 중으로 보지 않고 실패 처리한 뒤 다시 실행합니다.
+ * (분할 실행은 이 노드가 이어받으므로 건너뜀)
+ * 기준일마다 일반 실행과 같은 경로(호출 한도 승인 → Spring Batch Job)를 거치므로 호출 한도와 호출 속도는
+ * 정기 실행 등 다른 실행과 공유합니다. 한도가 부족하면(DEFER) 해당 기준일은 한도 초기화 시각까지 기다린 뒤 다시 시도합니다.
+ * 진행 상황은 이 노드 메모리에 보관하며, 종료된 백필은 dsflow.backfill.keep-finished개까지 조회할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBackfillService {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final JobDefinitionService jobDefinitionService;
+    private final JobExecutionService executionService;
+    private final JobAdmissionService admissionService;
+    private final JobExecutionLogRepository logRepository;
+    private final ExecutionRegistry registry;
+    private final ExecutionRecoveryService recoveryService;
+    private final BackfillProperties properties;
+
+    private final ConcurrentMap<String, Backfill> backfills = new ConcurrentHashMap<>();
+    /** 이 노드의 백필이 실행 중인 (Job 코드, 기준일) → 실행 중인 기준일 */
+    private final ConcurrentMap<String, DateRun> claimedDates = new ConcurrentHashMap<>();
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+
+    public enum DateStatus {
+        PENDING,    // 실행 대기
+        WAITING,    // 호출 한도 초기화 대기
+        RUNNING,
+        COMPLETED,
+        PARTIAL,    // 일일 한도를 넘는 Job이라 한도만큼만 실행(SPLIT)하고 완료 (실행 중 한도가 부족해 남은 조합이 생긴 경우 포함)
+        FAILED,
+        SKIPPED,    // 백필 중 다른 실행이 먼저 성공했거나 같은 기준일의 실행이 진행 중
+        CANCELLED
+    }
+
+    /**
+     * 기준일 1개의 실행 상태
+     */
+    private static final class DateRun {
+        private final LocalDate baseDate;
+        private volatile DateStatus status = DateStatus.PENDING;
+        private volatile Long jobExecutionId;
+        private volatile boolean split;
+        private volatile long processed;
+        private volatile long success;
+        private volatile long fail;
+        private volatile String message;
+
+        DateRun(LocalDate baseDate) {
+            this.baseDate = baseDate;
+        }
+    }
+
+    /**
+     * 백필 1건
+     */
+    private static final class Backfill {
+        private final String id;
+        private final String jobCode;
+        private final LocalDate fromDate;
+        private final LocalDate toDate;
+        private final int parallelism;
+        private final int totalDates;
+        private final int skippedDates;
+        private final List<DateRun> dates;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile Status status = Status.RUNNING;
+        private volatile Disposable subscription;
+
+        Backfill(String id, String jobCode, LocalDate fromDate, LocalDate toDate, int parallelism,
+                 int totalDates, List<DateRun> dates) {
+            this.id = id;
+            this.jobCode = jobCode;
+            this.fromDate = fromDate;
+            this.toDate = toDate;
+            this.parallelism = parallelism;
+            this.totalDates = totalDates;
+            this.skippedDates = totalDates - dates.size();
+            this.dates = dates;
+        }
+    }
+
+    /**
+     * 백필을 시작합니다. 실행할 기준일이 없으면 바로 완료 상태로 반환합니다.
+     */
+    public JobBackfillDto start(JobBackfillRequestDto request) {
+        LocalDate fromDate = request.getFromDate();
+        LocalDate toDate = request.getToDate();
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException("시작 기준일이 종료 기준일보다 늦습니다: " + fromDate + " ~ " + toDate);
+        }
+        long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        if (days > properties.getMaxDays()) {
+            throw new BusinessException("백필 기간은 최대 " + properties.getMaxDays() + "일입니다: " + days + "일");
+        }
+        int parallelism = request.getParallelism() != null ? request.getParallelism() : properties.getParallelism();
+        if (parallelism < 1 || parallelism > properties.getMaxParallelism()) {
+            throw new BusinessException("동시 실행 수는 1-" + properties.getMaxParallelism() + " 사이여야 합니다: " + parallelism);
+        }
+        JobDefinition job = jobDefinitionService.findByJobCode(request.getJobCode());
+        if (job.getStatus() != JobStatus.ACTIVE) {
+            throw new BusinessException("활성 상태가 아닌 Job은 실행할 수 없습니다: " + job.getJobCode());
+        }
+
+        Set<LocalDate> succeeded = new HashSet<>(logRepository.findFullyCompletedBaseDates(job.getJobCode(), fromDate, toDate));
+        List<DateRun> dates = fromDate.datesUntil(toDate.plusDays(1))
+                .filter(date -> !succeeded.contains(date))
+                .map(DateRun::new)
+                .toList();
+
+        Backfill backfill = new Backfill(UUID.randomUUID().toString().substring(0, 8), job.getJobCode(),
+                fromDate, toDate, parallelism, (int) days, dates);
+        backfills.put(backfill.id, backfill);
+        evictFinished();
+        log.info("Job {} 백필 시작 ({}): {} ~ {}, 전체 {}일 중 {}일 실행 (이미 성공 {}일, 동시 {}개)", job.getJobCode(),
+                backfill.id, fromDate, toDate, days, dates.size(), backfill.skippedDates, parallelism);
+
+        backfill.subscription = Flux.fromIterable(dates)
+                .flatMap(date -> runDate(job, date)
+                        .doFinally(signal -> claimedDates.remove(claimKey(job, date), date)), parallelism)
+                .doFinally(signal -> finish(backfill, signal))
+                .subscribe(
+                        unused -> {
+                        },
+                        error -> log.error("Job {} 백필 {} 중단", backfill.jobCode, backfill.id, error));
+        return toDto(backfill);
+    }
+
+    public JobBackfillDto getBackfill(String backfillId) {
+        return toDto(find(backfillId));
+    }
+
+    public List<JobBackfillDto> getBackfills() {
+        return backfills.values().stream()
+                .sorted(Comparator.comparing((Backfill backfill) -> backfill.startedAt).reversed())
+                .map(this::toDto)
+                .toList();
+    }
+
+    /**
+     * 백필을 취소합니다. 아직 시작하지 않은 기준일은 실행하지 않고, 실행 중인 기준일은 실행을 취소합니다.
+     */
+    public JobBackfillDto cancel(String backfillId) {
+        Backfill backfill = find(backfillId);
+        Disposable subscription = backfill.subscription;
+        if (backfill.status == Status.RUNNING && subscription != null) {
+            subscription.dispose();
+        }
+        return toDto(backfill);
+    }
+
+    private Backfill find(String backfillId) {
+        Backfill backfill = backfills.get(backfillId);
+        if (backfill == null) {
+            throw new BusinessException("백필을 찾을 수 없습니다: " + backfillId);
+        }
+        return backfill;
+    }
+
+    /**
+     * 기준일 1개를 실행하고 끝날 때까지 기다립니다. 실패해도 다른 기준일은 계속 실행합니다.
+     */
+    private Mono<Void> runDate(JobDefinition job, DateRun date) {
+        return Mono.fromCallable(() -> admit(job, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(admission -> {
+                    if (!admission.isRunnable()) {
+                        date.status = DateStatus.WAITING;
+                        date.message = admission.reason();
+                        Duration delay = Duration.between(LocalDateTime.now(), admission.notBefore());
+                        return Mono.delay(delay.compareTo(MIN_RETRY_DELAY) < 0 ? MIN_RETRY_DELAY : delay)
+                                .then(Mono.defer(() -> runDate(job, date)));
+                    }
+                    return execute(job, date, admission);
+                })
+                .onErrorResume(error -> {
+                    log.error("Job {} 기준일 {} 백필 실행 실패", job.getJobCode(), date.baseDate, error);
+                    date.status = DateStatus.FAILED;
+                    date.message = truncate(error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 백필 시작 후 다른 실행(정기 실행 등)이 먼저 성공했거나 같은 기준일의 실행이 진행 중이면 건너뛰고,
+     * (진행 중으로 남았지만 조정 노드가 중단된 실행은 ExecutionRecoveryService로 정리한 뒤 판단)
+     * 아니면 호출 한도를 승인받습니다. (분할 실행으로 남은 조합이 있으면 승인 단계에서 이어서 호출할 구간을 정함)
+     */
+    private JobAdmissionService.Admission admit(JobDefinition job, DateRun date) {
+        if (!logRepository.findFullyCompletedBaseDates(job.getJobCode(), date.baseDate, date.baseDate).isEmpty()) {
+            date.status = DateStatus.SKIPPED;
+            date.message = "다른 실행이 먼저 성공했습니다.";
+            return null;
+        }
+        DateRun owner = claimedDates.putIfAbsent(claimKey(job, date), date);
+        if ((owner != null && owner != date)
+                || logRepository.findRunningJobsByJobCodeAndBaseDate(job.getJobCode(), date.baseDate).stream()
+                        .anyMatch(recoveryService::recover)) {
+            // 같은 구간을 중복 호출하지 않도록 진행 중인 실행에 맡김
+            date.status = DateStatus.SKIPPED;
+            date.message = "같은 기준일의 다른 실행이 진행 중입니다.";
+            return null;
+        }
+        return admissionService.admit(job, date.baseDate);
+    }
+
+    private static String claimKey(JobDefinition job, DateRun date) {
+        return job.getJobCode() + ":" + date.baseDate;
+    }
+
+    private Mono<Void> execute(JobDefinition job, DateRun date, JobAdmissionService.Admission admission) {
+        ExecutionHandle handle = executionService.launch(job, date.baseDate, admission, ExecutionPriority.BACKFILL);
+        date.jobExecutionId = handle.jobExecutionId();
+        date.split = admission.decision() == JobAdmissionService.Decision.SPLIT;
+        date.message = null;
+        date.status = DateStatus.RUNNING;
+        return Mono.fromFuture(handle.completion(), true)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(status -> finishDate(date, status))
+                .doOnCancel(() -> cancelDate(date))
+                .then();
+    }
+
+    private void finishDate(DateRun date, ExecutionStatus status) {
+        logRepository.findByBatchJobExecutionId(date.jobExecutionId).ifPresent(executionLog -> {
+            date.processed = count(executionLog.getProcessedCount());
+            date.success = count(executionLog.getSuccessCount());
+            date.fail = count(executionLog.getFailCount());
+            date.message = truncate(executionLog.getErrorMessage());
+            // 호출 한도 부족으로 나머지 페이지를 받지 못한 조합이 있으면 분할 실행과 같이 남은 조합이 있음
+            date.split = date.split || executionLog.isPartial();
+        });
+        if (status == ExecutionStatus.COMPLETED) {
+            date.status = date.split ? DateStatus.PARTIAL : DateStatus.COMPLETED;
+        } else {
+            date.status = DateStatus.FAILED;
+            if (date.message == null) {
+                date.message = "실행 상태: " + status;
+            }
+        }
+    }
+
+    private void cancelDate(DateRun date) {
+        if (date.status != DateStatus.RUNNING || date.jobExecutionId == null) {
+            return;
+        }
+        try {
+            executionService.cancel(date.jobExecutionId);
+        } catch (BusinessException e) {
+            log.debug("기준일 {} 실행 {}은(는) 이미 종료되었습니다.", date.baseDate, date.jobExecutionId);
+        }
+        date.status = DateStatus.CANCELLED;
+    }
+
+    private void finish(Backfill backfill, SignalType signal) {
+        for (DateRun date : backfill.dates) {
+            if (date.status == DateStatus.PENDING || date.status == DateStatus.WAITING
+                    || date.status == DateStatus.RUNNING) {
+                date.status = DateStatus.CANCELLED;
+            }
+        }
+        backfill.status = signal == SignalType.CANCEL ? Status.CANCELLED : Status.COMPLETED;
+        backfill.finishedAt = LocalDateTime.now();
+        JobBackfillDto summary = toDto(backfill);
+        log.info("Job {} 백필 종료 ({}): {}, 완료 {}일, 실패 {}일, 취소/건너뜀 {}일, 성공 {}건, 실패 {}건",
+                backfill.jobCode, backfill.id, backfill.status, summary.getCompletedDates(), summary.getFailedDates(),
+                backfill.dates.size() - summary.getCompletedDates() - summary.getFailedDates(),
+                summary.getSuccessCalls(), summary.getFailCalls());
+    }
+
+    /**
+     * 종료된 백필 중 오래된 것부터 keepFinished개를 넘는 만큼 삭제합니다.
+     */
+    private void evictFinished() {
+        List<Backfill> finished = backfills.values().stream()
+                .filter(backfill -> backfill.finishedAt != null)
+                .sorted(Comparator.comparing((Backfill backfill) -> backfill.finishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - properties.getKeepFinished(); i++) {
+            backfills.remove(finished.get(i).id);
+        }
+    }
+
+    private JobBackfillDto toDto(Backfill backfill) {
+        int pending = 0;
+        int waiting = 0;
+        int running = 0;
+        int completed = 0;
+        int failed = 0;
+        int ended = 0;
+        long processed = 0;
+        long success = 0;
+        long fail = 0;
+        List<JobBackfillDto.DateProgress> dates = new ArrayList<>(backfill.dates.size());
+        for (DateRun date : backfill.dates) {
+            long dateProcessed = date.processed;
+            long dateSuccess = date.success;
+            long dateFail = date.fail;
+            switch (date.status) {
+                case PENDING -> pending++;
+                case WAITING -> waiting++;
+                case RUNNING -> {
+                    running++;
+                    ExecutionProgress progress = date.jobExecutionId == null ? null : registry.find(date.jobExecutionId)
+                            .map(execution -> execution.getContext().progress())
+                            .orElse(null);
+                    if (progress != null) {
+                        dateProcessed = progress.getProcessed();
+                        dateSuccess = progress.getSuccess();
+                        dateFail = progress.getFail();
+                    }
+                }
+                case COMPLETED, PARTIAL -> {
+                    completed++;
+                    ended++;
+                }
+                case FAILED -> {
+                    failed++;
+                    ended++;
+                }
+                default -> ended++;
+            }
+            processed += dateProcessed;
+            success += dateSuccess;
+            fail += dateFail;
+            dates.add(JobBackfillDto.DateProgress.builder()
+                    .baseDate(date.baseDate)
+                    .status(date.status.name())
+                    .jobExecutionId(date.jobExecutionId)
+                    .processed(dateProcessed)
+                    .success(dateSuccess)
+                    .fail(dateFail)
+                    .message(date.message)
+                    .build());
+        }
+        int finishedDates = backfill.skippedDates + ended;
+        return JobBackfillDto.builder()
+                .backfillId(backfill.id)
+                .jobCode(backfill.jobCode)
+                .fromDate(backfill.fromDate)
+                .toDate(backfill.toDate)
+                .parallelism(backfill.parallelism)
+                .status(backfill.status.name())
+                .totalDates(backfill.totalDates)
+                .skippedDates(backfill.skippedDates)
+                .pendingDates(pending)
+                .waitingDates(waiting)
+                .runningDates(running)
+                .completedDates(completed)
+                .failedDates(failed)
+                .progressPercent(Math.round(finishedDates * 1000.0 / backfill.totalDates) / 10.0)
+                .processedCalls(processed)
+                .successCalls(success)
+                .failCalls(fail)
+                .startedAt(backfill.startedAt)
+                .finishedAt(backfill.finishedAt)
+                .dates(dates)
+                .build();
+    }
+
+    private static long count(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
@@ -1,19 +1,36 @@
 package com.datasolution.dsflow.service;
 
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.config.SimulationProperties;
+import com.datasolution.dsflow.dto.CronScheduleDto;
 import com.datasolution.dsflow.dto.JobDefinitionDto;
 import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import com.datasolution.dsflow.entity.enums.JobParameterType;
 import com.datasolution.dsflow.entity.enums.JobStatus;
+import com.datasolution.dsflow.entity.enums.ResultSinkType;
 import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.PaginationConfig;
+import com.datasolution.dsflow.execution.ResponseCache;
+import com.datasolution.dsflow.execution.ResponseCacheConfig;
+import com.datasolution.dsflow.execution.sink.DatabaseSinkConfig;
 import com.datasolution.dsflow.repository.JobDefinitionRepository;
+import com.datasolution.dsflow.repository.JobDependencyRepository;
+import com.datasolution.dsflow.scheduling.JobDefinitionChangedEvent;
+import com.datasolution.dsflow.util.CompiledCron;
 import com.datasolution.dsflow.util.CronExpressionValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Service
@@ -22,8 +39,16 @@ import java.util.List;
 @Slf4j
 public class JobDefinitionService {
 
+    private static final int MAX_FIRE_TIMES = 100;
+
     private final JobDefinitionRepository jobDefinitionRepository;
+    private final JobDependencyRepository jobDependencyRepository;
     private final CronExpressionValidator cronValidator;
+    private final ObjectMapper objectMapper;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerProperties schedulerProperties;
+    private final SimulationProperties simulationProperties;
 
     public Page<JobDefinitionDto> getAllJobs(Pageable pageable) {
         return jobDefinitionRepository.findAll(pageable)
@@ -56,6 +81,7 @@ public class JobDefinitionService {
         job.setUpdatedAt(LocalDateTime.now());
         
         JobDefinition savedJob = jobDefinitionRepository.save(job);
+        eventPublisher.publishEvent(new JobDefinitionChangedEvent(savedJob.getJobCode()));
         log.info("Job 생성 완료: {}", savedJob.getJobCode());
         
         return convertToDto(savedJob);
@@ -78,6 +104,14 @@ public class JobDefinitionService {
         existingJob.setUpdatedAt(LocalDateTime.now());
         
         JobDefinition updatedJob = jobDefinitionRepository.save(existingJob);
+        if (!jobCode.equals(updatedJob.getJobCode())) {
+            // 이 Job을 선행 작업으로 지정한 의존 관계도 새 코드로 변경
+            jobDependencyRepository.renameUpstream(DependencyType.JOB, jobCode, updatedJob.getJobCode());
+        }
+        eventPublisher.publishEvent(new JobDefinitionChangedEvent(jobCode));
+        if (!jobCode.equals(updatedJob.getJobCode())) {
+            eventPublisher.publishEvent(new JobDefinitionChangedEvent(updatedJob.getJobCode()));
+        }
         log.info("Job 수정 완료: {}", updatedJob.getJobCode());
         
         return convertToDto(updatedJob);
@@ -92,6 +126,7 @@ public class JobDefinitionService {
         job.setUpdatedAt(LocalDateTime.now());
         
         jobDefinitionRepository.save(job);
+        eventPublisher.publishEvent(new JobDefinitionChangedEvent(jobCode));
         log.info("Job 삭제 완료: {}", jobCode);
     }
 
@@ -105,9 +140,60 @@ public class JobDefinitionService {
         job.setUpdatedAt(LocalDateTime.now());
         
         jobDefinitionRepository.save(job);
+        eventPublisher.publishEvent(new JobDefinitionChangedEvent(jobCode));
         log.info("Job 상태 변경 완료: {} -> {}", jobCode, newStatus);
     }
 
+    /**
+     * Job의 응답 캐시를 모두 삭제합니다.
+     *
+     * @return 삭제한 응답 수
+     */
+    public int evictResponseCache(String jobCode) {
+        if (!jobDefinitionRepository.existsByJobCode(jobCode)) {
+            throw new BusinessException("Job을 찾을 수 없습니다: " + jobCode);
+        }
+        int evicted = responseCache.evict(jobCode);
+        log.info("Job 응답 캐시 삭제 완료: {} ({}건)", jobCode, evicted);
+        return evicted;
+    }
+
+    /**
+     * Job의 cron 표현식으로 계산한 이전/다음 실행 시각 (스케줄러와 같은 시간대 기준)
+     */
+    public CronScheduleDto getCronSchedule(String jobCode, int count) {
+        JobDefinition job = jobDefinitionRepository.findByJobCode(jobCode)
+                .orElseThrow(() -> new BusinessException("Job을 찾을 수 없습니다: " + jobCode));
+        if (job.getCronExpression() == null || job.getCronExpression().isBlank()) {
+            throw new BusinessException("Job에 Cron 표현식이 없습니다: " + jobCode);
+        }
+        return previewCronSchedule(job.getCronExpression(), count);
+    }
+
+    /**
+     * cron 표현식으로 계산한 이전/다음 실행 시각 (저장 전 미리보기)
+     */
+    public CronScheduleDto previewCronSchedule(String cronExpression, int count) {
+        if (count < 1 || count > MAX_FIRE_TIMES) {
+            throw new BusinessException("조회할 실행 시각 수는 1-" + MAX_FIRE_TIMES + " 사이여야 합니다: " + count);
+        }
+        CompiledCron cron;
+        try {
+            cron = CompiledCron.compile(cronExpression);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("잘못된 Cron 표현식입니다: " + cronExpression + " (" + e.getMessage() + ")");
+        }
+        ZoneId zone = ZoneId.of(schedulerProperties.getZone());
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime previous = cron.previousFireTime(now);
+        return CronScheduleDto.builder()
+                .cronExpression(cron.getExpression())
+                .zone(zone.getId())
+                .previousFireTime(previous == null ? null : previous.toLocalDateTime())
+                .nextFireTimes(cron.nextFireTimes(now, count).stream().map(ZonedDateTime::toLocalDateTime).toList())
+                .build();
+    }
+
     private void validateJobDto(JobDefinitionDto dto) {
         if (!cronValidator.isValidExpression(dto.getCronExpression())) {
             throw new BusinessException("잘못된 Cron 표현식입니다: " + dto.getCronExpression());
@@ -116,6 +202,56 @@ public class JobDefinitionService {
         if (dto.getResourceWeight() != null && (dto.getResourceWeight() < 1 || dto.getResourceWeight() > 10)) {
             throw new BusinessException("리소스 가중치는 1-10 사이여야 합니다: " + dto.getResourceWeight());
         }
+
+        if (dto.getBatchSize() != null && dto.getBatchSize() < 1) {
+            throw new BusinessException("배치 크기는 1 이상이어야 합니다: " + dto.getBatchSize());
+        }
+
+        if (dto.getDelaySeconds() != null && dto.getDelaySeconds() < 0) {
+            throw new BusinessException("지연 시간은 0 이상이어야 합니다: " + dto.getDelaySeconds());
+        }
+
+        if (dto.getTimeoutSeconds() != null && dto.getTimeoutSeconds() < 1) {
+            throw new BusinessException("응답 대기 시간은 1초 이상이어야 합니다: " + dto.getTimeoutSeconds());
+        }
+
+        if (dto.getRetryCount() != null && (dto.getRetryCount() < 0 || dto.getRetryCount() > 10)) {
+            throw new BusinessException("재시도 횟수는 0-10 사이여야 합니다: " + dto.getRetryCount());
+        }
+
+        if (dto.getSinkType() == ResultSinkType.DATABASE) {
+            try {
+                DatabaseSinkConfig.parse(objectMapper, dto.getSinkConfig());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(e.getMessage());
+            }
+        }
+
+        if (dto.getPaginationConfig() != null && !dto.getPaginationConfig().isBlank()) {
+            try {
+                PaginationConfig.parse(objectMapper, dto.getPaginationConfig());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(e.getMessage());
+            }
+        }
+
+        if (dto.getCacheConfig() != null && !dto.getCacheConfig().isBlank()) {
+            try {
+                ResponseCacheConfig.parse(objectMapper, dto.getCacheConfig());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(e.getMessage());
+            }
+        }
+
+        String simulationProfile = blankToNull(dto.getSimulationProfile());
+        if (simulationProfile != null && !simulationProperties.getProfiles().containsKey(simulationProfile)) {
+            throw new BusinessException("시뮬레이션 프로필을 찾을 수 없습니다: " + simulationProfile
+                    + " (사용 가능: " + simulationProperties.getProfiles().keySet() + ")");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     private void updateJobFields(JobDefinition job, JobDefinitionDto dto) {
@@ -127,6 +263,30 @@ public class JobDefinitionService {
         job.setParameters(dto.getParameters());
         job.setCronExpression(dto.getCronExpression());
         job.setResourceWeight(dto.getResourceWeight() != null ? dto.getResourceWeight() : 1);
+
+        if (dto.getParameterType() != null) {
+            job.setParameterType(dto.getParameterType());
+        }
+
+        if (dto.getBatchSize() != null) {
+            job.setBatchSize(dto.getBatchSize());
+        }
+
+        if (dto.getDelaySeconds() != null) {
+            job.setDelaySeconds(dto.getDelaySeconds());
+        }
+
+        job.setTimeoutSeconds(dto.getTimeoutSeconds());
+
+        if (dto.getRetryCount() != null) {
+            job.setRetryCount(dto.getRetryCount());
+        }
+
+        job.setSinkType(dto.getSinkType());
+        job.setSinkConfig(dto.getSinkConfig());
+        job.setPaginationConfig(dto.getPaginationConfig());
+        job.setCacheConfig(dto.getCacheConfig());
+        job.setSimulationProfile(blankToNull(dto.getSimulationProfile()));
         
         if (dto.getStatus() != null) {
             job.setStatus(dto.getStatus());
@@ -148,6 +308,16 @@ public class JobDefinitionService {
                 .cronExpression(dto.getCronExpression())
                 .resourceWeight(dto.getResourceWeight() != null ? dto.getResourceWeight() : 1)
                 .status(dto.getStatus() != null ? dto.getStatus() : JobStatus.ACTIVE)
+                .parameterType(dto.getParameterType() != null ? dto.getParameterType() : JobParameterType.SINGLE)
+                .batchSize(dto.getBatchSize() != null ? dto.getBatchSize() : 1)
+                .delaySeconds(dto.getDelaySeconds() != null ? dto.getDelaySeconds() : 0)
+                .timeoutSeconds(dto.getTimeoutSeconds())
+                .retryCount(dto.getRetryCount() != null ? dto.getRetryCount() : 3)
+                .sinkType(dto.getSinkType())
+                .sinkConfig(dto.getSinkConfig())
+                .paginationConfig(dto.getPaginationConfig())
+                .cacheConfig(dto.getCacheConfig())
+                .simulationProfile(blankToNull(dto.getSimulationProfile()))
                 .createdBy(dto.getCreatedBy())
                 .updatedBy(dto.getUpdatedBy())
                 .build();
@@ -165,6 +335,16 @@ public class JobDefinitionService {
                 .cronExpression(job.getCronExpression())
                 .resourceWeight(job.getResourceWeight())
                 .status(job.getStatus())
+                .parameterType(job.getParameterType())
+                .batchSize(job.getBatchSize())
+                .delaySeconds(job.getDelaySeconds())
+                .timeoutSeconds(job.getTimeoutSeconds())
+                .retryCount(job.getRetryCount())
+                .sinkType(job.getSinkType())
+                .sinkConfig(job.getSinkConfig())
+                .paginationConfig(job.getPaginationConfig())
+                .cacheConfig(job.getCacheConfig())
+                .simulationProfile(job.getSimulationProfile())
                 .createdAt(job.getCreatedAt())
                 .updatedAt(job.getUpdatedAt())
                 .createdBy(job.getCreatedBy())
@@ -0,0 +1,158 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.dto.JobDependencyDto;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.JobDependency;
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.repository.CodeSyncJobRepository;
+import com.datasolution.dsflow.repository.JobDefinitionRepository;
+import com.datasolution.dsflow.repository.JobDependencyRepository;
+import com.datasolution.dsflow.scheduling.JobDefinitionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Job 선행 작업(의존 관계) 관리
+ *
+ * Job마다 선행 Job/코드 동기화 작업 목록을 보관하며, Job 간 의존 관계에 순환이 생기는 변경은 거부합니다.
+ * 의존 관계가 있는 Job(선행/후행 모두)은 파이프라인 정기 실행이 설정된 경우 파이프라인으로만 실행하므로,
+ * 의존 관계가 바뀌면 관련 Job의 정기 실행 일정을 다시 계산합니다(JobDefinitionChangedEvent).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class JobDependencyService {
+
+    private final JobDependencyRepository dependencyRepository;
+    private final JobDefinitionRepository jobDefinitionRepository;
+    private final CodeSyncJobRepository codeSyncJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<JobDependencyDto> getDependencies(String jobCode) {
+        JobDefinition job = findJob(jobCode);
+        return dependencyRepository.findByJobDefinitionIdOrderByUpstreamTypeAscUpstreamCodeAsc(job.getId()).stream()
+                .map(dependency -> JobDependencyDto.builder()
+                        .upstreamType(dependency.getUpstreamType())
+                        .upstreamCode(dependency.getUpstreamCode())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Job의 선행 작업 목록을 교체합니다. 빈 목록이면 의존 관계를 모두 삭제합니다.
+     */
+    @Transactional
+    public List<JobDependencyDto> replaceDependencies(String jobCode, List<JobDependencyDto> dependencies) {
+        JobDefinition job = findJob(jobCode);
+        Set<JobDependencyDto> upstreams = new LinkedHashSet<>();
+        for (JobDependencyDto dependency : dependencies == null ? List.<JobDependencyDto>of() : dependencies) {
+            validateUpstream(job, dependency);
+            upstreams.add(new JobDependencyDto(dependency.getUpstreamType(), dependency.getUpstreamCode().trim()));
+        }
+        validateAcyclic(job, upstreams);
+
+        List<JobDependency> previous = dependencyRepository.findByJobDefinitionIdOrderByUpstreamTypeAscUpstreamCodeAsc(job.getId());
+        dependencyRepository.deleteByJobDefinitionId(job.getId());
+        dependencyRepository.flush();
+        dependencyRepository.saveAll(upstreams.stream()
+                .map(upstream -> JobDependency.builder()
+                        .jobDefinitionId(job.getId())
+                        .upstreamType(upstream.getUpstreamType())
+                        .upstreamCode(upstream.getUpstreamCode())
+                        .build())
+                .toList());
+
+        // 파이프라인 포함 여부가 바뀔 수 있는 Job의 정기 실행 일정을 다시 계산
+        Set<String> affected = new LinkedHashSet<>();
+        affected.add(job.getJobCode());
+        previous.stream()
+                .filter(dependency -> dependency.getUpstreamType() == DependencyType.JOB)
+                .forEach(dependency -> affected.add(dependency.getUpstreamCode()));
+        upstreams.stream()
+                .filter(upstream -> upstream.getUpstreamType() == DependencyType.JOB)
+                .forEach(upstream -> affected.add(upstream.getUpstreamCode()));
+        affected.forEach(code -> eventPublisher.publishEvent(new JobDefinitionChangedEvent(code)));
+
+        log.info("Job {} 선행 작업 변경: {}", job.getJobCode(), upstreams.stream()
+                .map(upstream -> upstream.getUpstreamType() + ":" + upstream.getUpstreamCode())
+                .toList());
+        return List.copyOf(upstreams);
+    }
+
+    /**
+     * Job에 선행 작업이 있거나 다른 Job의 선행 작업인지 (파이프라인 포함 여부)
+     */
+    public boolean hasDependencies(JobDefinition job) {
+        return !dependencyRepository.findByJobDefinitionIdOrderByUpstreamTypeAscUpstreamCodeAsc(job.getId()).isEmpty()
+                || !dependencyRepository.findByUpstreamTypeAndUpstreamCode(DependencyType.JOB, job.getJobCode()).isEmpty();
+    }
+
+    private JobDefinition findJob(String jobCode) {
+        return jobDefinitionRepository.findByJobCode(jobCode)
+                .orElseThrow(() -> new BusinessException("Job을 찾을 수 없습니다: " + jobCode));
+    }
+
+    private void validateUpstream(JobDefinition job, JobDependencyDto dependency) {
+        if (dependency == null || dependency.getUpstreamType() == null
+                || dependency.getUpstreamCode() == null || dependency.getUpstreamCode().isBlank()) {
+            throw new BusinessException("선행 작업 종류와 코드는 필수입니다.");
+        }
+        String code = dependency.getUpstreamCode().trim();
+        if (dependency.getUpstreamType() == DependencyType.JOB) {
+            if (code.equals(job.getJobCode())) {
+                throw new BusinessException("Job은 자기 자신을 선행 작업으로 지정할 수 없습니다: " + code);
+            }
+            if (!jobDefinitionRepository.existsByJobCode(code)) {
+                throw new BusinessException("선행 Job을 찾을 수 없습니다: " + code);
+            }
+        } else if (!codeSyncJobRepository.existsBySyncJobCode(code)) {
+            throw new BusinessException("선행 코드 동기화 작업을 찾을 수 없습니다: " + code);
+        }
+    }
+
+    /**
+     * 변경 후 Job 간 의존 관계에 순환이 없는지 확인합니다. (선행 Job에서 선행 방향으로 따라가 이 Job에 도달하면 순환)
+     */
+    private void validateAcyclic(JobDefinition job, Set<JobDependencyDto> upstreams) {
+        Map<Long, String> jobCodes = new HashMap<>();
+        jobDefinitionRepository.findAll().forEach(definition -> jobCodes.put(definition.getId(), definition.getJobCode()));
+        Map<String, List<String>> upstreamJobs = new HashMap<>();
+        for (JobDependency dependency : dependencyRepository.findAll()) {
+            String downstream = jobCodes.get(dependency.getJobDefinitionId());
+            if (downstream != null && !downstream.equals(job.getJobCode())
+                    && dependency.getUpstreamType() == DependencyType.JOB) {
+                upstreamJobs.computeIfAbsent(downstream, key -> new ArrayList<>()).add(dependency.getUpstreamCode());
+            }
+        }
+
+        Deque<String> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        upstreams.stream()
+                .filter(upstream -> upstream.getUpstreamType() == DependencyType.JOB)
+                .forEach(upstream -> pending.push(upstream.getUpstreamCode()));
+        while (!pending.isEmpty()) {
+            String code = pending.pop();
+            if (code.equals(job.getJobCode())) {
+                throw new BusinessException("선행 작업 관계에 순환이 생깁니다: " + job.getJobCode());
+            }
+            if (visited.add(code)) {
+                upstreamJobs.getOrDefault(code, List.of()).forEach(pending::push);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.batch.listener.ApiCallJobListener;
+import com.datasolution.dsflow.config.ExecutionProperties;
+import com.datasolution.dsflow.dto.JobLaunchResponseDto;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.JobStatus;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.ChunkCoordinator;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.execution.ExecutionControl;
+import com.datasolution.dsflow.execution.ExecutionHandle;
+import com.datasolution.dsflow.execution.ExecutionLogWriter;
+import com.datasolution.dsflow.execution.ExecutionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Job 실행 서비스
+ *
+ * 호출 한도 승인을 거친 뒤 API 호출 Job을 비동기로 시작합니다.
+ * 실행 중인 Job은 일시정지/재개/취소할 수 있으며, 요청 즉시 새 조합을 호출하지 않고 진행 중인 호출은
+ * 정리 기한(dsflow.execution.drain-timeout-ms) 안에 마치게 합니다. 기한을 넘긴 호출은 취소합니다.
+ */
+@Service
+@Slf4j
+public class JobExecutionService {
+
+    private final JobLauncher jobLauncher;
+    private final Job apiCallJob;
+    private final JobDefinitionService jobDefinitionService;
+    private final JobAdmissionService admissionService;
+    private final ApiQuotaService quotaService;
+    private final ExecutionRegistry registry;
+    private final ChunkCoordinator coordinator;
+    private final ExecutionLogWriter logWriter;
+    private final ExecutionProperties executionProperties;
+
+    public JobExecutionService(@Qualifier("asyncJobLauncher") JobLauncher jobLauncher,
+                               @Qualifier("apiCallJob") Job apiCallJob,
+                               JobDefinitionService jobDefinitionService,
+                               JobAdmissionService admissionService,
+                               ApiQuotaService quotaService,
+                               ExecutionRegistry registry,
+                               ChunkCoordinator coordinator,
+                               ExecutionLogWriter logWriter,
+                               ExecutionProperties executionProperties) {
+        this.jobLauncher = jobLauncher;
+        this.apiCallJob = apiCallJob;
+        this.jobDefinitionService = jobDefinitionService;
+        this.admissionService = admissionService;
+        this.quotaService = quotaService;
+        this.registry = registry;
+        this.coordinator = coordinator;
+        this.logWriter = logWriter;
+        this.executionProperties = executionProperties;
+    }
+
+    /**
+     * Job을 실행합니다. 호출 한도가 부족하면 실행하지 않고 연기 결과를 반환합니다.
+     */
+    public JobLaunchResponseDto launch(String jobCode, LocalDate baseDate, ExecutionPriority priority) {
+        return launch(jobCode, baseDate, priority, handle -> {
+        });
+    }
+
+    /**
+     * Job을 실행합니다. 실행이 시작되면 onLaunched에 실행 종료 시점에 완료되는 Future를 넘깁니다.
+     */
+    public JobLaunchResponseDto launch(String jobCode, LocalDate baseDate, ExecutionPriority priority,
+                                       Consumer<ExecutionHandle> onLaunched) {
+        JobDefinition job = jobDefinitionService.findByJobCode(jobCode);
+        if (job.getStatus() != JobStatus.ACTIVE) {
+            throw new BusinessException("활성 상태가 아닌 Job은 실행할 수 없습니다: " + jobCode);
+        }
+        LocalDate date = baseDate != null ? baseDate : LocalDate.now();
+
+        JobAdmissionService.Admission admission = admissionService.admit(job, date);
+        JobLaunchResponseDto.JobLaunchResponseDtoBuilder response = JobLaunchResponseDto.builder()
+                .jobCode(jobCode)
+                .baseDate(date)
+                .decision(admission.decision())
+                .estimatedCalls(admission.estimatedCalls())
+                .admittedCalls(admission.admittedCalls())
+                .startOrdinal(admission.startOrdinal())
+                .notBefore(admission.notBefore())
+                .message(admission.reason());
+
+        if (!admission.isRunnable()) {
+            return response.build();
+        }
+        ExecutionHandle handle = launch(job, date, admission, priority);
+        onLaunched.accept(handle);
+        return response.jobExecutionId(handle.jobExecutionId()).build();
+    }
+
+    /**
+     * 승인된 Job을 Spring Batch Job으로 시작합니다. 실행 종료 시 반환된 Future가 완료됩니다.
+     */
+    public ExecutionHandle launch(JobDefinition job, LocalDate baseDate, JobAdmissionService.Admission admission,
+                                  ExecutionPriority priority) {
+        String launchId = UUID.randomUUID().toString();
+        CompletableFuture<ExecutionStatus> completion = new CompletableFuture<>();
+        registry.registerPending(launchId, new ExecutionRegistry.PendingLaunch(job, baseDate, admission,
+                priority != null ? priority : ExecutionPriority.SCHEDULED, completion));
+
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("jobCode", job.getJobCode())
+                .addLocalDate("baseDate", baseDate)
+                .addString(ApiCallJobListener.LAUNCH_ID, launchId)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(apiCallJob, parameters);
+            log.info("Job {} 실행 요청 완료 (실행 ID: {})", job.getJobCode(), execution.getId());
+            return new ExecutionHandle(execution.getId(), completion);
+        } catch (Exception e) {
+            registry.takePending(launchId);
+            if (admission != null) {
+                quotaService.release(admission.reservation());
+            }
+            completion.complete(ExecutionStatus.FAILED);
+            throw new BusinessException("Job 실행에 실패했습니다: " + job.getJobCode(), e);
+        }
+    }
+
+    /**
+     * 실행 중인 Job을 일시정지합니다. 진행 중인 호출을 마치면 저장 내용과 처리 건수를 반영합니다.
+     * 정리 기한 안에 끝나지 않은 호출은 취소하고 재개 후 다시 호출합니다.
+     */
+    public void pause(Long jobExecutionId) {
+        ExecutionRegistry.RunningExecution running = findRunning(jobExecutionId);
+        ExecutionContext context = running.getContext();
+        ExecutionControl control = context.control();
+        if (running.isCancelRequested() || !control.pause()) {
+            throw new BusinessException("실행 중 상태가 아니어서 일시정지할 수 없습니다: " + control.state());
+        }
+        logWriter.status(context.logId(), ExecutionStatus.PAUSED);
+        coordinator.pause(context);
+        log.info("Job {} 일시정지 요청 (실행 ID: {}, 진행 중인 호출 {}건)", context.jobCode(), jobExecutionId, control.inFlight());
+
+        control.drained()
+                .timeout(drainTimeout(), Mono.fromRunnable(() -> {
+                    if (control.isPaused()) {
+                        log.warn("Job {} 진행 중인 호출 {}건이 정리 기한 안에 끝나지 않아 취소합니다. (재개 후 다시 호출)",
+                                context.jobCode(), control.inFlight());
+                        control.interrupt();
+                    }
+                }))
+                .subscribe();
+    }
+
+    /**
+     * 일시정지한 Job을 재개합니다.
+     */
+    public void resume(Long jobExecutionId) {
+        ExecutionRegistry.RunningExecution running = findRunning(jobExecutionId);
+        ExecutionContext context = running.getContext();
+        if (!context.control().resume()) {
+            throw new BusinessException("일시정지 상태가 아니어서 재개할 수 없습니다: " + context.control().state());
+        }
+        logWriter.status(context.logId(), ExecutionStatus.RUNNING);
+        coordinator.resume(context);
+        log.info("Job {} 재개 (실행 ID: {})", context.jobCode(), jobExecutionId);
+    }
+
+    /**
+     * 실행 중인 Job을 취소합니다. 새 조합은 호출하지 않고, 진행 중인 호출을 마친 뒤 저장 내용을 반영하고 중단합니다.
+     * 정리 기한 안에 끝나지 않으면 진행 중인 호출까지 취소합니다.
+     */
+    public void cancel(Long jobExecutionId) {
+        ExecutionRegistry.RunningExecution running = findRunning(jobExecutionId);
+        registry.cancel(jobExecutionId);
+        coordinator.cancel(running.getContext());
+
+        Mono.delay(drainTimeout())
+                .subscribe(tick -> registry.find(jobExecutionId)
+                        .filter(current -> current == running)
+                        .ifPresent(current -> registry.abort(jobExecutionId)));
+    }
+
+    private ExecutionRegistry.RunningExecution findRunning(Long jobExecutionId) {
+        return registry.find(jobExecutionId)
+                .orElseThrow(() -> new BusinessException("실행 중인 Job을 찾을 수 없습니다: " + jobExecutionId));
+    }
+
+    private Duration drainTimeout() {
+        return Duration.ofMillis(Math.max(0, executionProperties.getDrainTimeoutMs()));
+    }
+}
@@ -0,0 +1,616 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.PipelineProperties;
+import com.datasolution.dsflow.config.SchedulerProperties;
+import com.datasolution.dsflow.dto.JobPipelineDto;
+import com.datasolution.dsflow.dto.JobPipelineRequestDto;
+import com.datasolution.dsflow.entity.CodeSyncJob;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.JobDependency;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.enums.DependencyType;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.JobStatus;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.ExecutionHandle;
+import com.datasolution.dsflow.repository.CodeSyncJobRepository;
+import com.datasolution.dsflow.repository.JobDefinitionRepository;
+import com.datasolution.dsflow.repository.JobDependencyRepository;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 의존 관계(JobDependency)에 따른 Job/코드 동기화 작업 파이프라인 실행
+ *
+ * 선행 작업이 모두 성공한 작업만 실행 대기열에 넣고, 대기열에서는 "이 작업부터 끝까지 가장 긴 의존 경로"(최근 성공 실행의
+ * 평균 소요 시간 합)가 긴 작업부터 실행합니다. 서로 의존하지 않는 작업은 dsflow.pipeline.parallelism개까지 함께 실행하며,
+ * 가장 긴 경로를 먼저 진행하므로 전체 파이프라인이 끝나는 시각이 가장 빨라집니다.
+ * - 실행 범위: 요청한 Job과 그 선행 작업 전체 (요청한 Job이 없으면 의존 관계가 있는 모든 활성 Job)
+ * - 비활성 Job/코드 동기화 작업은 실행하지 않으며, 그 작업에 대한 의존 관계도 무시합니다.
+ * - 작업이 실패하면 그 작업에 (간접적으로) 의존하는 작업은 실행하지 않고(SKIPPED), 나머지 경로는 계속 실행합니다.
+ * - Job이 분할 실행(SPLIT)으로 일부 조합만 호출하고 끝나면(PARTIAL) 실패와 같이 후행 작업을 실행하지 않습니다.
+ *   남은 조합은 같은 기준일의 다음 실행이 이어서 호출합니다.
+ * - Job의 호출 한도가 부족하면(DEFER) 한도 초기화 시각까지 기다린 뒤 다시 시도합니다. (대기 중에도 실행 자리를 차지)
+ * 진행 상황은 이 노드 메모리에 보관하며, 한 노드에서는 파이프라인을 한 번에 하나만 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobPipelineService {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final JobDefinitionRepository jobDefinitionRepository;
+    private final CodeSyncJobRepository codeSyncJobRepository;
+    private final JobDependencyRepository dependencyRepository;
+    private final JobExecutionLogRepository logRepository;
+    private final JobExecutionService executionService;
+    private final JobAdmissionService admissionService;
+    private final UserDefinedCodeSyncService syncService;
+    private final PipelineProperties properties;
+    private final SchedulerProperties schedulerProperties;
+
+    private final ConcurrentMap<String, PipelineRun> runs = new ConcurrentHashMap<>();
+
+    public enum Status {
+        PLANNED,
+        RUNNING,
+        COMPLETED,
+        FAILED,     // 실패했거나 일부만 실행(분할 실행)했거나 실행하지 않은 작업이 있음
+        CANCELLED
+    }
+
+    public enum NodeStatus {
+        PENDING,    // 선행 작업 대기
+        WAITING,    // 호출 한도 초기화 대기
+        RUNNING,
+        COMPLETED,
+        PARTIAL,    // 분할 실행으로 남은 조합이 있음 (후행 작업 실행 안 함)
+        FAILED,
+        SKIPPED,    // 선행 작업 실패 또는 분할 실행
+        CANCELLED
+    }
+
+    /**
+     * 파이프라인 작업 1개 (Job 또는 코드 동기화 작업)
+     */
+    private static final class Node {
+        private final DependencyType type;
+        private final String code;
+        private final JobDefinition job;
+        private final List<Node> upstreams = new ArrayList<>();
+        private final List<Node> downstreams = new ArrayList<>();
+        private long estimatedSeconds;
+        private long criticalPathSeconds;
+        private int remainingUpstreams;
+        private volatile NodeStatus status = NodeStatus.PENDING;
+        private volatile Long jobExecutionId;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+        private Disposable subscription;
+
+        Node(DependencyType type, String code, JobDefinition job) {
+            this.type = type;
+            this.code = code;
+            this.job = job;
+        }
+
+        String key() {
+            return key(type, code);
+        }
+
+        static String key(DependencyType type, String code) {
+            return type + ":" + code;
+        }
+    }
+
+    /**
+     * 파이프라인 실행 1건. 상태 변경은 이 객체로 동기화합니다.
+     */
+    private static final class PipelineRun {
+        private final String id;
+        private final LocalDate baseDate;
+        private final int parallelism;
+        private final List<Node> nodes;
+        /** 선행 작업이 모두 성공한 작업 (남은 의존 경로가 긴 순) */
+        private final PriorityQueue<Node> ready = new PriorityQueue<>(PRIORITY);
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile Status status = Status.RUNNING;
+        private int running;
+
+        PipelineRun(String id, LocalDate baseDate, int parallelism, List<Node> nodes) {
+            this.id = id;
+            this.baseDate = baseDate;
+            this.parallelism = parallelism;
+            this.nodes = nodes;
+        }
+    }
+
+    /** 남은 의존 경로가 긴 순, 같으면 후행 작업이 많은 순 */
+    private static final Comparator<Node> PRIORITY = Comparator
+            .comparingLong((Node node) -> node.criticalPathSeconds).reversed()
+            .thenComparing(Comparator.comparingInt((Node node) -> node.downstreams.size()).reversed())
+            .thenComparing((Node node) -> node.key());
+
+    /**
+     * 실행 계획 (실행 순서 우선순위와 예상 소요 시간)
+     */
+    public JobPipelineDto getPlan(List<String> jobCodes) {
+        List<Node> nodes = buildGraph(jobCodes);
+        return JobPipelineDto.builder()
+                .status(Status.PLANNED.name())
+                .parallelism(properties.getParallelism())
+                .criticalPathSeconds(criticalPathSeconds(nodes))
+                .totalNodes(nodes.size())
+                .nodes(nodes.stream().map(this::toNodeDto).toList())
+                .build();
+    }
+
+    /**
+     * 파이프라인을 시작합니다.
+     */
+    public synchronized JobPipelineDto start(JobPipelineRequestDto request) {
+        JobPipelineRequestDto options = request != null ? request : new JobPipelineRequestDto();
+        runs.values().stream()
+                .filter(run -> run.status == Status.RUNNING)
+                .findFirst()
+                .ifPresent(run -> {
+                    throw new BusinessException("이미 실행 중인 파이프라인이 있습니다: " + run.id);
+                });
+        int parallelism = options.getParallelism() != null ? options.getParallelism() : properties.getParallelism();
+        if (parallelism < 1) {
+            throw new BusinessException("동시 실행 수는 1 이상이어야 합니다: " + parallelism);
+        }
+        List<Node> nodes = buildGraph(options.getJobCodes());
+        if (nodes.isEmpty()) {
+            throw new BusinessException("의존 관계가 있는 활성 Job이 없습니다.");
+        }
+        LocalDate baseDate = options.getBaseDate() != null
+                ? options.getBaseDate()
+                : LocalDate.now(ZoneId.of(schedulerProperties.getZone()));
+
+        PipelineRun run = new PipelineRun(UUID.randomUUID().toString().substring(0, 8), baseDate, parallelism, nodes);
+        runs.put(run.id, run);
+        evictFinished();
+        log.info("파이프라인 시작 ({}): 기준일 {}, 작업 {}개, 동시 {}개, 예상 소요 시간 {}초", run.id, baseDate,
+                nodes.size(), parallelism, criticalPathSeconds(nodes));
+
+        synchronized (run) {
+            for (Node node : nodes) {
+                if (node.remainingUpstreams == 0) {
+                    run.ready.add(node);
+                }
+            }
+            dispatch(run);
+        }
+        return toDto(run);
+    }
+
+    public JobPipelineDto getRun(String runId) {
+        return toDto(find(runId));
+    }
+
+    public List<JobPipelineDto> getRuns() {
+        return runs.values().stream()
+                .sorted(Comparator.comparing((PipelineRun run) -> run.startedAt).reversed())
+                .map(this::toDto)
+                .toList();
+    }
+
+    /**
+     * 파이프라인을 취소합니다. 아직 시작하지 않은 작업은 실행하지 않고, 실행 중인 Job은 실행을 취소합니다.
+     * 실행 중인 코드 동기화 작업은 끝날 때까지 진행됩니다.
+     */
+    public JobPipelineDto cancel(String runId) {
+        PipelineRun run = find(runId);
+        synchronized (run) {
+            if (run.status == Status.RUNNING) {
+                run.status = Status.CANCELLED;
+                run.ready.clear();
+                for (Node node : run.nodes) {
+                    if (node.status == NodeStatus.RUNNING || node.status == NodeStatus.WAITING) {
+                        Disposable subscription = node.subscription;
+                        if (subscription != null) {
+                            subscription.dispose();
+                        }
+                        node.status = NodeStatus.CANCELLED;
+                        node.finishedAt = LocalDateTime.now();
+                    } else if (node.status == NodeStatus.PENDING) {
+                        node.status = NodeStatus.CANCELLED;
+                    }
+                }
+                run.finishedAt = LocalDateTime.now();
+                log.info("파이프라인 취소 ({})", run.id);
+            }
+        }
+        return toDto(run);
+    }
+
+    private PipelineRun find(String runId) {
+        PipelineRun run = runs.get(runId);
+        if (run == null) {
+            throw new BusinessException("파이프라인 실행을 찾을 수 없습니다: " + runId);
+        }
+        return run;
+    }
+
+    /**
+     * 실행 범위의 작업과 의존 관계를 구성하고, 작업마다 남은 의존 경로의 예상 소요 시간을 계산합니다.
+     *
+     * @return 작업 목록 (남은 의존 경로가 긴 순)
+     */
+    private List<Node> buildGraph(List<String> jobCodes) {
+        Map<String, JobDefinition> activeJobs = jobDefinitionRepository.findByStatus(JobStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(JobDefinition::getJobCode, Function.identity()));
+        Map<Long, JobDefinition> activeJobsById = activeJobs.values().stream()
+                .collect(Collectors.toMap(JobDefinition::getId, Function.identity()));
+        Map<String, CodeSyncJob> activeSyncJobs = codeSyncJobRepository.findByIsActiveTrueOrderByCreatedAtDesc().stream()
+                .collect(Collectors.toMap(CodeSyncJob::getSyncJobCode, Function.identity(), (first, second) -> first));
+
+        // 활성 작업 사이의 의존 관계 (후행 Job 코드 → 선행 작업 키)
+        Map<String, List<String>> upstreamKeys = new HashMap<>();
+        List<String> members = new ArrayList<>();
+        for (JobDependency dependency : dependencyRepository.findAll()) {
+            JobDefinition downstream = activeJobsById.get(dependency.getJobDefinitionId());
+            boolean upstreamActive = dependency.getUpstreamType() == DependencyType.JOB
+                    ? activeJobs.containsKey(dependency.getUpstreamCode())
+                    : activeSyncJobs.containsKey(dependency.getUpstreamCode());
+            if (downstream != null) {
+                members.add(downstream.getJobCode());
+            }
+            if (dependency.getUpstreamType() == DependencyType.JOB && upstreamActive) {
+                members.add(dependency.getUpstreamCode());
+            }
+            if (downstream != null && upstreamActive) {
+                upstreamKeys.computeIfAbsent(downstream.getJobCode(), key -> new ArrayList<>())
+                        .add(Node.key(dependency.getUpstreamType(), dependency.getUpstreamCode()));
+            }
+        }
+
+        List<String> targets = members;
+        if (jobCodes != null && !jobCodes.isEmpty()) {
+            for (String jobCode : jobCodes) {
+                if (!activeJobs.containsKey(jobCode)) {
+                    throw new BusinessException("활성 상태인 Job을 찾을 수 없습니다: " + jobCode);
+                }
+            }
+            targets = jobCodes;
+        }
+
+        // 실행할 Job과 그 선행 작업 전체
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        Deque<String> pending = new ArrayDeque<>();
+        targets.forEach(code -> pending.push(Node.key(DependencyType.JOB, code)));
+        while (!pending.isEmpty()) {
+            String key = pending.pop();
+            if (nodes.containsKey(key)) {
+                continue;
+            }
+            int separator = key.indexOf(':');
+            DependencyType type = DependencyType.valueOf(key.substring(0, separator));
+            String code = key.substring(separator + 1);
+            nodes.put(key, new Node(type, code, type == DependencyType.JOB ? activeJobs.get(code) : null));
+            if (type == DependencyType.JOB) {
+                upstreamKeys.getOrDefault(code, List.of()).forEach(pending::push);
+            }
+        }
+        for (Node node : nodes.values()) {
+            if (node.type != DependencyType.JOB) {
+                continue;
+            }
+            for (String upstreamKey : upstreamKeys.getOrDefault(node.code, List.of())) {
+                Node upstream = nodes.get(upstreamKey);
+                if (upstream != null && !node.upstreams.contains(upstream)) {
+                    node.upstreams.add(upstream);
+                    upstream.downstreams.add(node);
+                }
+            }
+            node.remainingUpstreams = node.upstreams.size();
+        }
+
+        List<Node> order = topologicalOrder(nodes.values());
+        for (Node node : order) {
+            node.estimatedSeconds = estimateSeconds(node, activeSyncJobs.get(node.code));
+        }
+        // 후행 작업부터 거꾸로 계산: 이 작업 소요 시간 + 후행 작업 중 가장 긴 경로
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Node node = order.get(i);
+            long longestDownstream = node.downstreams.stream().mapToLong(downstream -> downstream.criticalPathSeconds).max().orElse(0);
+            node.criticalPathSeconds = node.estimatedSeconds + longestDownstream;
+        }
+        return order.stream().sorted(PRIORITY).toList();
+    }
+
+    /**
+     * 선행 작업이 앞에 오는 순서. 순환이 있으면 예외
+     */
+    private static List<Node> topologicalOrder(Collection<Node> nodes) {
+        Map<Node, Integer> remaining = new HashMap<>();
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : nodes) {
+            remaining.put(node, node.upstreams.size());
+            if (node.upstreams.isEmpty()) {
+                ready.add(node);
+            }
+        }
+        List<Node> order = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            order.add(node);
+            for (Node downstream : node.downstreams) {
+                if (remaining.merge(downstream, -1, Integer::sum) == 0) {
+                    ready.add(downstream);
+                }
+            }
+        }
+        if (order.size() != nodes.size()) {
+            List<String> cyclic = nodes.stream().filter(node -> !order.contains(node)).map(Node::key).toList();
+            throw new BusinessException("선행 작업 관계에 순환이 있습니다: " + cyclic);
+        }
+        return order;
+    }
+
+    /**
+     * 예상 소요 시간 (초). Job은 최근 성공 실행의 평균, 코드 동기화 작업은 마지막 동기화 소요 시간
+     */
+    private long estimateSeconds(Node node, CodeSyncJob syncJob) {
+        long millis = -1;
+        if (node.type == DependencyType.JOB) {
+            List<Object[]> runTimes = logRepository.findRecentRunTimes(node.code, ExecutionStatus.COMPLETED,
+                    PageRequest.of(0, Math.max(1, properties.getHistorySize())));
+            if (!runTimes.isEmpty()) {
+                millis = (long) runTimes.stream()
+                        .mapToLong(row -> Duration.between((LocalDateTime) row[0], (LocalDateTime) row[1]).toMillis())
+                        .average()
+                        .orElse(0);
+            }
+        } else if (syncJob != null && syncJob.getLastSyncDurationMs() != null) {
+            millis = syncJob.getLastSyncDurationMs();
+        }
+        if (millis < 0) {
+            return properties.getDefaultDurationSeconds();
+        }
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static long criticalPathSeconds(List<Node> nodes) {
+        return nodes.stream().mapToLong(node -> node.criticalPathSeconds).max().orElse(0);
+    }
+
+    /**
+     * 실행 자리가 남아 있는 만큼 대기열에서 우선순위가 높은 작업을 시작합니다. (run 동기화 상태에서 호출)
+     */
+    private void dispatch(PipelineRun run) {
+        while (run.status == Status.RUNNING && run.running < run.parallelism && !run.ready.isEmpty()) {
+            Node node = run.ready.poll();
+            node.status = NodeStatus.RUNNING;
+            node.startedAt = LocalDateTime.now();
+            run.running++;
+            log.debug("파이프라인 {} 작업 시작: {} (남은 경로 {}초)", run.id, node.key(), node.criticalPathSeconds);
+            Mono<NodeStatus> task = node.type == DependencyType.JOB ? runJob(run, node) : runCodeSync(node);
+            node.subscription = task.subscribe(
+                    outcome -> complete(run, node, outcome, null),
+                    error -> complete(run, node, NodeStatus.FAILED, error));
+        }
+        if (run.status == Status.RUNNING && run.running == 0 && run.ready.isEmpty()) {
+            finish(run);
+        }
+    }
+
+    /**
+     * Job을 실행하고 결과 상태를 반환합니다. 완료되었어도 분할 실행으로 남은 조합이 있으면 PARTIAL
+     */
+    private Mono<NodeStatus> runJob(PipelineRun run, Node node) {
+        return Mono.fromCallable(() -> admissionService.admit(node.job, run.baseDate))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(admission -> {
+                    if (!admission.isRunnable()) {
+                        node.status = NodeStatus.WAITING;
+                        node.message = admission.reason();
+                        Duration delay = Duration.between(LocalDateTime.now(), admission.notBefore());
+                        return Mono.delay(delay.compareTo(MIN_RETRY_DELAY) < 0 ? MIN_RETRY_DELAY : delay)
+                                .then(Mono.defer(() -> {
+                                    node.status = NodeStatus.RUNNING;
+                                    return runJob(run, node);
+                                }));
+                    }
+                    ExecutionHandle handle = executionService.launch(node.job, run.baseDate, admission,
+                            ExecutionPriority.SCHEDULED);
+                    node.jobExecutionId = handle.jobExecutionId();
+                    node.message = admission.decision() == JobAdmissionService.Decision.SPLIT ? admission.reason() : null;
+                    return Mono.fromFuture(handle.completion(), true)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(status -> {
+                                Optional<JobExecutionLog> executionLog = logRepository.findByBatchJobExecutionId(handle.jobExecutionId());
+                                if (status != ExecutionStatus.COMPLETED) {
+                                    node.message = executionLog.map(JobExecutionLog::getErrorMessage)
+                                            .orElse("실행 상태: " + status);
+                                    return NodeStatus.FAILED;
+                                }
+                                return executionLog.filter(JobExecutionLog::isPartial).isPresent()
+                                        ? NodeStatus.PARTIAL
+                                        : NodeStatus.COMPLETED;
+                            })
+                            .doOnCancel(() -> cancelExecution(node));
+                });
+    }
+
+    private Mono<NodeStatus> runCodeSync(Node node) {
+        return Mono.fromCallable(() -> syncService.executeSyncJob(node.code).join())
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(result -> {
+                    node.message = result;
+                    return result != null && !result.startsWith("FAILED") ? NodeStatus.COMPLETED : NodeStatus.FAILED;
+                });
+    }
+
+    private void cancelExecution(Node node) {
+        if (node.jobExecutionId == null) {
+            return;
+        }
+        try {
+            executionService.cancel(node.jobExecutionId);
+        } catch (BusinessException e) {
+            log.debug("파이프라인 작업 {}의 실행 {}은(는) 이미 종료되었습니다.", node.key(), node.jobExecutionId);
+        }
+    }
+
+    /**
+     * 작업이 끝나면 후행 작업의 선행 작업 수를 줄이고(성공) 또는 후행 작업 전체를 건너뛴 뒤(실패, 분할 실행), 다음 작업을 시작합니다.
+     */
+    private void complete(PipelineRun run, Node node, NodeStatus outcome, Throwable error) {
+        synchronized (run) {
+            if (run.status != Status.RUNNING || node.status == NodeStatus.CANCELLED) {
+                return;
+            }
+            run.running--;
+            node.finishedAt = LocalDateTime.now();
+            if (outcome == NodeStatus.COMPLETED) {
+                node.status = NodeStatus.COMPLETED;
+                for (Node downstream : node.downstreams) {
+                    if (--downstream.remainingUpstreams == 0 && downstream.status == NodeStatus.PENDING) {
+                        run.ready.add(downstream);
+                    }
+                }
+            } else if (outcome == NodeStatus.PARTIAL) {
+                // 남은 조합을 이어서 호출하기 전에는 후행 작업이 기준일 데이터 일부만 보게 됨
+                node.status = NodeStatus.PARTIAL;
+                node.message = truncate(node.message);
+                skipDownstreams(node, "선행 작업 분할 실행(남은 조합 있음): ");
+            } else {
+                node.status = NodeStatus.FAILED;
+                if (error != null) {
+                    log.error("파이프라인 {} 작업 실패: {}", run.id, node.key(), error);
+                    node.message = error.getMessage();
+                }
+                node.message = truncate(node.message);
+                skipDownstreams(node, "선행 작업 실패: ");
+            }
+            log.info("파이프라인 {} 작업 종료: {} - {}", run.id, node.key(), node.status);
+            dispatch(run);
+        }
+    }
+
+    private void skipDownstreams(Node upstream, String reason) {
+        Deque<Node> pending = new ArrayDeque<>(upstream.downstreams);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.status == NodeStatus.PENDING) {
+                node.status = NodeStatus.SKIPPED;
+                node.message = reason + upstream.key();
+                pending.addAll(node.downstreams);
+            }
+        }
+    }
+
+    private void finish(PipelineRun run) {
+        boolean allCompleted = run.nodes.stream().allMatch(node -> node.status == NodeStatus.COMPLETED);
+        run.status = allCompleted ? Status.COMPLETED : Status.FAILED;
+        run.finishedAt = LocalDateTime.now();
+        JobPipelineDto summary = toDto(run);
+        log.info("파이프라인 종료 ({}): {}, 성공 {}개, 분할 {}개, 실패 {}개, 건너뜀 {}개, 소요 시간 {}초 (예상 {}초)", run.id, run.status,
+                summary.getCompletedNodes(), summary.getPartialNodes(), summary.getFailedNodes(), summary.getSkippedNodes(),
+                Duration.between(run.startedAt, run.finishedAt).toSeconds(), summary.getCriticalPathSeconds());
+    }
+
+    /**
+     * 종료된 파이프라인 실행 중 오래된 것부터 keepFinished개를 넘는 만큼 삭제합니다.
+     */
+    private void evictFinished() {
+        List<PipelineRun> finished = runs.values().stream()
+                .filter(run -> run.finishedAt != null)
+                .sorted(Comparator.comparing((PipelineRun run) -> run.finishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - properties.getKeepFinished(); i++) {
+            runs.remove(finished.get(i).id);
+        }
+    }
+
+    private JobPipelineDto toDto(PipelineRun run) {
+        int running = 0;
+        int completed = 0;
+        int partial = 0;
+        int failed = 0;
+        int skipped = 0;
+        for (Node node : run.nodes) {
+            switch (node.status) {
+                case RUNNING, WAITING -> running++;
+                case COMPLETED -> completed++;
+                case PARTIAL -> partial++;
+                case FAILED -> failed++;
+                case SKIPPED, CANCELLED -> skipped++;
+                default -> {
+                }
+            }
+        }
+        return JobPipelineDto.builder()
+                .runId(run.id)
+                .baseDate(run.baseDate)
+                .status(run.status.name())
+                .parallelism(run.parallelism)
+                .criticalPathSeconds(criticalPathSeconds(run.nodes))
+                .totalNodes(run.nodes.size())
+                .runningNodes(running)
+                .completedNodes(completed)
+                .partialNodes(partial)
+                .failedNodes(failed)
+                .skippedNodes(skipped)
+                .startedAt(run.startedAt)
+                .finishedAt(run.finishedAt)
+                .nodes(run.nodes.stream().map(this::toNodeDto).toList())
+                .build();
+    }
+
+    private JobPipelineDto.NodeProgress toNodeDto(Node node) {
+        return JobPipelineDto.NodeProgress.builder()
+                .type(node.type.name())
+                .code(node.code)
+                .status(node.status.name())
+                .upstreams(node.upstreams.stream().map(Node::key).toList())
+                .estimatedSeconds(node.estimatedSeconds)
+                .criticalPathSeconds(node.criticalPathSeconds)
+                .jobExecutionId(node.jobExecutionId)
+                .startedAt(node.startedAt)
+                .finishedAt(node.finishedAt)
+                .message(node.message)
+                .build();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
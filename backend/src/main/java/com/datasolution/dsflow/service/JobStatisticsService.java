@@ -1,38 +1,335 @@
 package com.datasolution.dsflow.service;
 
 
+import com.datasolution.dsflow.config.StatisticsProperties;
 import com.datasolution.dsflow.dto.JobStatisticsDto;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.JobStatisticsRollup;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.entity.enums.RollupPeriod;
+import com.datasolution.dsflow.repository.JobDefinitionRepository;
 import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.repository.JobStatisticsRollupRepository;
+import com.datasolution.dsflow.scheduling.ClusterLocked;
 import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+/**
+ * Job 실행 통계
+ *
+ * 실행 로그 전체를 GROUP BY 하지 않도록 Job별 시간별/일별/전체 집계(job_statistics_rollups)를 실행 시작/종료 시 갱신하고,
+ * 통계 조회는 집계 행만 합산합니다. (조회 비용이 실행 이력의 양과 무관)
+ * 기간 조회에서 집계 구간(정시/자정)에 걸치지 않는 앞뒤 부분은 그 부분의 실행 로그만 직접 집계하여 원본 집계와 같은 결과를 냅니다.
+ * 실행 시작/종료 반영이 누락되어 어긋난 집계는 주기적으로 최근 실행 로그와 다시 맞춥니다. (reconcile)
+ */
 @Service
 @Transactional(readOnly = true)
+@Slf4j
 public class JobStatisticsService {
     private final JobExecutionLogRepository logRepository;
+    private final JobStatisticsRollupRepository rollupRepository;
+    private final JobDefinitionRepository jobDefinitionRepository;
+    private final StatisticsProperties properties;
+    private final TransactionTemplate transactionTemplate;
 
-    public JobStatisticsService(JobExecutionLogRepository logRepository) {
+    /** 집계 행 식별 (Job 정의, 기간 단위, 구간 시작 시각) */
+    private record RollupKey(Long jobDefinitionId, RollupPeriod period, LocalDateTime bucket) {
+
+        static RollupKey of(JobStatisticsRollup rollup) {
+            return new RollupKey(rollup.getJobDefinition().getId(), rollup.getPeriod(), rollup.getBucketStart());
+        }
+    }
+
+    public JobStatisticsService(JobExecutionLogRepository logRepository,
+                                JobStatisticsRollupRepository rollupRepository,
+                                JobDefinitionRepository jobDefinitionRepository,
+                                StatisticsProperties properties,
+                                PlatformTransactionManager transactionManager) {
         this.logRepository = logRepository;
+        this.rollupRepository = rollupRepository;
+        this.jobDefinitionRepository = jobDefinitionRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    // TODO: 전체 Job 통계 조회
+    /**
+     * 전체 Job 통계 조회 (Job별 전체 집계 행)
+     */
     public List<JobStatisticsDto> getAllJobStatistics() {
-        return logRepository.findJobStatistics();
+        LocalDateTime total = RollupPeriod.TOTAL.bucketOf(LocalDateTime.now());
+        return merge(rollupRepository.sumByPeriod(RollupPeriod.TOTAL, total, total.plusDays(1)));
     }
 
-    // TODO: 특정 기간의 통계 조회
+    /**
+     * 특정 기간(시작 시각 기준, 양 끝 포함)의 통계 조회
+     *
+     * [start, 첫 정시) + [첫 정시, 첫 자정) 시간별 + [첫 자정, 마지막 자정) 일별 + [마지막 자정, 마지막 정시) 시간별 + [마지막 정시, end]
+     */
     public List<JobStatisticsDto> getJobStatisticsByPeriod(
             LocalDateTime start, LocalDateTime end) {
-        return logRepository.findByJobCodeAndStartTimeBetween(start, end);
+        LocalDateTime firstHour = ceil(start, RollupPeriod.HOUR, ChronoUnit.HOURS);
+        LocalDateTime lastHour = RollupPeriod.HOUR.bucketOf(end);
+        if (!firstHour.isBefore(lastHour)) {
+            return merge(logRepository.findByJobCodeAndStartTimeBetween(start, end));
+        }
+
+        List<JobStatisticsDto> parts = new ArrayList<>(logRepository.findJobStatisticsStartedFrom(start, firstHour));
+        LocalDateTime firstDay = ceil(firstHour, RollupPeriod.DAY, ChronoUnit.DAYS);
+        LocalDateTime lastDay = RollupPeriod.DAY.bucketOf(lastHour);
+        if (firstDay.isBefore(lastDay)) {
+            parts.addAll(rollupRepository.sumByPeriod(RollupPeriod.HOUR, firstHour, firstDay));
+            parts.addAll(rollupRepository.sumByPeriod(RollupPeriod.DAY, firstDay, lastDay));
+            parts.addAll(rollupRepository.sumByPeriod(RollupPeriod.HOUR, lastDay, lastHour));
+        } else {
+            parts.addAll(rollupRepository.sumByPeriod(RollupPeriod.HOUR, firstHour, lastHour));
+        }
+        parts.addAll(logRepository.findByJobCodeAndStartTimeBetween(lastHour, end));
+        return merge(parts);
+    }
+
+    /**
+     * 실행 시작을 집계에 반영합니다. (실행 로그 저장 직후, 실패해도 실행에는 영향 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordStart(JobExecutionLog executionLog) {
+        try {
+            Long jobDefinitionId = executionLog.getJobDefinition().getId();
+            for (RollupPeriod period : RollupPeriod.values()) {
+                LocalDateTime bucket = period.bucketOf(executionLog.getStartTime());
+                if (rollupRepository.incrementTotal(jobDefinitionId, period, bucket) > 0) {
+                    continue;
+                }
+                try {
+                    rollupRepository.saveAndFlush(JobStatisticsRollup.builder()
+                            .jobDefinition(executionLog.getJobDefinition())
+                            .period(period)
+                            .bucketStart(bucket)
+                            .totalExecutions(1L)
+                            .build());
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 노드가 같은 구간의 행을 먼저 만든 경우
+                    rollupRepository.incrementTotal(jobDefinitionId, period, bucket);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("실행 통계 집계 반영 실패 (실행 로그 {}): {}", executionLog.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 종료(결과, 종료 시각)를 집계에 반영합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordFinish(JobExecutionLog executionLog) {
+        if (executionLog.getEndTime() == null) {
+            return;
+        }
+        try {
+            long success = executionLog.getStatus() == ExecutionStatus.COMPLETED ? 1 : 0;
+            long failed = executionLog.getStatus() == ExecutionStatus.FAILED ? 1 : 0;
+            for (RollupPeriod period : RollupPeriod.values()) {
+                rollupRepository.recordFinish(executionLog.getJobDefinition().getId(), period,
+                        period.bucketOf(executionLog.getStartTime()), success, failed, executionLog.getEndTime());
+            }
+        } catch (Exception e) {
+            log.warn("실행 통계 집계 반영 실패 (실행 로그 {}): {}", executionLog.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 집계가 비어 있으면(도입 직후) 실행 로그 전체로 한 번 재구성합니다.
+     * 실행이 시작되기 전인 애플리케이션 시작 단계에서 수행합니다.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (rollupRepository.count() == 0) {
+                    rebuild();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("실행 통계 집계 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        List<Object[]> sources = logRepository.findStatisticsSources();
+        Map<RollupKey, JobStatisticsRollup> rollups = aggregate(sources, EnumSet.allOf(RollupPeriod.class));
+        if (!rollups.isEmpty()) {
+            rollupRepository.saveAll(rollups.values());
+            log.info("실행 통계 집계 재구성: 실행 로그 {}건 → 집계 {}행", sources.size(), rollups.size());
+        }
+    }
 
+    /**
+     * 집계를 실행 로그와 다시 맞춥니다. (여러 노드 중 1곳에서만 실행)
+     *
+     * 실행 시작/종료 반영은 실행 로그 저장과 별도로 수행하고 실패해도 실행을 막지 않으므로, 반영에 실패한 실행이나
+     * 종료 반영 전에 노드가 중단되어 나중에 상태가 바뀐 실행만큼 집계가 실행 로그와 어긋날 수 있습니다.
+     * 최근 reconcile-days일 동안 시작한 실행으로 시간별/일별 집계를 다시 계산하고, 전체 집계는 일별 집계의 합으로 맞춥니다.
+     * 대사 도중에 시작/종료한 실행이 어긋나면 다음 대사에서 맞춰집니다.
+     */
+    @Scheduled(cron = "${dsflow.statistics.reconcile-cron:0 20 * * * ?}")
+    @ClusterLocked(name = "statistics-reconcile", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        LocalDateTime from = RollupPeriod.DAY.bucketOf(LocalDateTime.now())
+                .minusDays(Math.max(1, properties.getReconcileDays()) - 1L);
+        try {
+            Integer changed = transactionTemplate.execute(status -> reconcileFrom(from));
+            if (changed != null && changed > 0) {
+                log.info("실행 통계 집계 대사: {} 이후 시작한 실행 기준으로 집계 {}행 수정", from, changed);
+            }
+        } catch (Exception e) {
+            log.warn("실행 통계 집계 대사 실패: {}", e.getMessage());
+        }
     }
 
-//    // TODO: 성공률 계산 로직
-//    private double calculateSuccessRate(long total, long success) {
-//        return logRepository.findJobStatistics()
-//    }
+    private int reconcileFrom(LocalDateTime from) {
+        Set<RollupPeriod> periods = EnumSet.of(RollupPeriod.HOUR, RollupPeriod.DAY);
+        Map<RollupKey, JobStatisticsRollup> expected = aggregate(logRepository.findStatisticsSourcesStartedFrom(from), periods);
+        int changed = 0;
+        for (JobStatisticsRollup rollup : rollupRepository.findByPeriodInAndBucketStartGreaterThanEqual(periods, from)) {
+            JobStatisticsRollup target = expected.remove(RollupKey.of(rollup));
+            if (target == null) {
+                // 구간의 실행 로그가 모두 삭제됨
+                rollupRepository.delete(rollup);
+                changed++;
+            } else if (copyCounts(target, rollup)) {
+                changed++;
+            }
+        }
+        rollupRepository.saveAll(expected.values());
+        changed += expected.size();
+        rollupRepository.flush();
 
+        // 전체 집계 = 일별 집계의 합
+        Map<Long, JobStatisticsRollup> totals = new HashMap<>();
+        rollupRepository.findByPeriod(RollupPeriod.TOTAL).forEach(total -> totals.put(total.getJobDefinition().getId(), total));
+        LocalDateTime totalBucket = RollupPeriod.TOTAL.bucketOf(from);
+        for (Object[] row : rollupRepository.sumByJobDefinition(RollupPeriod.DAY)) {
+            Long jobDefinitionId = (Long) row[0];
+            JobStatisticsRollup target = JobStatisticsRollup.builder()
+                    .jobDefinition(jobDefinitionRepository.getReferenceById(jobDefinitionId))
+                    .period(RollupPeriod.TOTAL)
+                    .bucketStart(totalBucket)
+                    .totalExecutions((Long) row[1])
+                    .successfulExecutions((Long) row[2])
+                    .failedExecutions((Long) row[3])
+                    .lastExecutionTime((LocalDateTime) row[4])
+                    .build();
+            JobStatisticsRollup total = totals.remove(jobDefinitionId);
+            if (total == null) {
+                rollupRepository.save(target);
+                changed++;
+            } else if (copyCounts(target, total)) {
+                changed++;
+            }
+        }
+        rollupRepository.deleteAll(totals.values());
+        return changed + totals.size();
+    }
+
+    /**
+     * 실행 로그(Job 정의 ID, 시작 시각, 상태, 종료 시각)를 기간 단위별 집계 행으로 모읍니다.
+     */
+    private Map<RollupKey, JobStatisticsRollup> aggregate(List<Object[]> sources, Set<RollupPeriod> periods) {
+        Map<RollupKey, JobStatisticsRollup> rollups = new HashMap<>();
+        for (Object[] source : sources) {
+            Long jobDefinitionId = (Long) source[0];
+            LocalDateTime startTime = (LocalDateTime) source[1];
+            ExecutionStatus status = (ExecutionStatus) source[2];
+            LocalDateTime endTime = (LocalDateTime) source[3];
+            for (RollupPeriod period : periods) {
+                LocalDateTime bucket = period.bucketOf(startTime);
+                JobStatisticsRollup rollup = rollups.computeIfAbsent(new RollupKey(jobDefinitionId, period, bucket),
+                        key -> JobStatisticsRollup.builder()
+                                .jobDefinition(jobDefinitionRepository.getReferenceById(jobDefinitionId))
+                                .period(period)
+                                .bucketStart(bucket)
+                                .build());
+                rollup.setTotalExecutions(rollup.getTotalExecutions() + 1);
+                if (status == ExecutionStatus.COMPLETED) {
+                    rollup.setSuccessfulExecutions(rollup.getSuccessfulExecutions() + 1);
+                } else if (status == ExecutionStatus.FAILED) {
+                    rollup.setFailedExecutions(rollup.getFailedExecutions() + 1);
+                }
+                if (endTime != null && (rollup.getLastExecutionTime() == null || endTime.isAfter(rollup.getLastExecutionTime()))) {
+                    rollup.setLastExecutionTime(endTime);
+                }
+            }
+        }
+        return rollups;
+    }
+
+    /**
+     * 실행 수/결과/마지막 종료 시각을 옮깁니다. 바뀐 값이 있으면 true
+     */
+    private static boolean copyCounts(JobStatisticsRollup source, JobStatisticsRollup target) {
+        boolean changed = !Objects.equals(source.getTotalExecutions(), target.getTotalExecutions())
+                || !Objects.equals(source.getSuccessfulExecutions(), target.getSuccessfulExecutions())
+                || !Objects.equals(source.getFailedExecutions(), target.getFailedExecutions())
+                || !Objects.equals(source.getLastExecutionTime(), target.getLastExecutionTime());
+        if (changed) {
+            target.setTotalExecutions(source.getTotalExecutions());
+            target.setSuccessfulExecutions(source.getSuccessfulExecutions());
+            target.setFailedExecutions(source.getFailedExecutions());
+            target.setLastExecutionTime(source.getLastExecutionTime());
+        }
+        return changed;
+    }
+
+    /**
+     * 구간별로 나누어 구한 통계를 Job별로 합칩니다. (Job 코드 순)
+     */
+    private static List<JobStatisticsDto> merge(List<JobStatisticsDto> parts) {
+        Map<String, JobStatisticsDto> merged = new LinkedHashMap<>();
+        for (JobStatisticsDto part : parts) {
+            merged.merge(part.getJobCode(), part, (a, b) -> new JobStatisticsDto(a.getJobCode(), a.getJobName(),
+                    sum(a.getTotalExecutions(), b.getTotalExecutions()),
+                    sum(a.getSuccessfulExecutions(), b.getSuccessfulExecutions()),
+                    sum(a.getFailedExecutions(), b.getFailedExecutions()),
+                    latest(a.getLastExecutionTime(), b.getLastExecutionTime())));
+        }
+        return merged.values().stream()
+                .sorted(Comparator.comparing(JobStatisticsDto::getJobCode))
+                .toList();
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, RollupPeriod period, ChronoUnit unit) {
+        LocalDateTime bucket = period.bucketOf(time);
+        return bucket.equals(time) ? bucket : bucket.plus(1, unit);
+    }
+
+    private static Long sum(Long a, Long b) {
+        return (a != null ? a : 0L) + (b != null ? b : 0L);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return Objects.requireNonNullElse(a, b);
+        }
+        return a.isAfter(b) ? a : b;
+    }
 }
@@ -4,7 +4,9 @@ import com.datasolution.dsflow.entity.JobDefinition;
 import com.datasolution.dsflow.entity.JobParameterConfig;
 import com.datasolution.dsflow.entity.enums.JobParameterType;
 import com.datasolution.dsflow.repository.JobParameterConfigRepository;
+import com.datasolution.dsflow.util.CombinationSpace;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,6 +65,65 @@ public class ParameterCombinationService {
         return combinations;
     }
 
+    /**
+     * 조합을 실제로 만들지 않고 생성될 파라미터 조합 수를 계산합니다.
+     * 값 목록 크기의 곱으로 계산하므로 대규모 MATRIX Job의 호출 수 예측에 사용합니다.
+     */
+    public long estimateCombinationCount(JobDefinition jobDefinition) {
+        return buildCombinationSpace(jobDefinition).size();
+    }
+
+    /**
+     * Job 정의에 따라 파라미터 조합 공간을 생성합니다.
+     * 파라미터별 값 목록만 만들고, 개별 조합은 실행 시점에 순번으로 계산합니다.
+     */
+    public CombinationSpace buildCombinationSpace(JobDefinition jobDefinition) {
+        Map<String, Object> baseParams = parseBaseParameters(jobDefinition);
+        JobParameterType parameterType = jobDefinition.getParameterType();
+        if (parameterType != JobParameterType.MULTI_PARAM && parameterType != JobParameterType.MATRIX) {
+            return CombinationSpace.single(baseParams);
+        }
+
+        List<JobParameterConfig> paramConfigs = parameterConfigRepository
+                .findByJobDefinitionIdAndIsActiveTrueOrderBySortOrder(jobDefinition.getId());
+        if (paramConfigs.isEmpty()) {
+            log.warn("Job {}에 설정된 파라미터 설정이 없습니다.", jobDefinition.getJobCode());
+            return CombinationSpace.empty(baseParams);
+        }
+
+        // MULTI_PARAM는 첫 번째 파라미터만 변경
+        List<JobParameterConfig> varying = parameterType == JobParameterType.MULTI_PARAM
+                ? paramConfigs.subList(0, 1)
+                : paramConfigs;
+
+        List<String> names = new ArrayList<>();
+        List<List<String>> values = new ArrayList<>();
+        for (JobParameterConfig config : varying) {
+            List<String> generated = parameterValueService.generateParameterValues(config);
+            names.add(config.getParameterName());
+            values.add(generated);
+            log.info("파라미터 {} : {} 개 값 생성", config.getParameterName(), generated.size());
+        }
+
+        CombinationSpace space = new CombinationSpace(baseParams, names, values);
+        log.info("Job {} 파라미터 조합 공간: {} 개 조합", jobDefinition.getJobCode(), space.size());
+        return space;
+    }
+
+    /**
+     * Job의 기본 파라미터(JSON)를 Map으로 변환합니다.
+     */
+    public Map<String, Object> parseBaseParameters(JobDefinition jobDefinition) {
+        if (jobDefinition.getParameters() == null || jobDefinition.getParameters().isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(jobDefinition.getParameters(), new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("파라미터 파싱 실패: " + jobDefinition.getJobCode(), e);
+        }
+    }
+
     /**
      * 다중 파라미터 조합 생성 (각 파라미터별로 순차 처리)
      */
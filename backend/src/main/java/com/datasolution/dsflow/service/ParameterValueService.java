@@ -2,14 +2,18 @@ package com.datasolution.dsflow.service;
 
 import com.datasolution.dsflow.entity.JobParameterConfig;
 import com.datasolution.dsflow.entity.enums.ValueSourceType;
+import com.datasolution.dsflow.util.RecordPath;
+import com.datasolution.dsflow.util.RequestKey;
+import com.datasolution.dsflow.util.UpstreamKey;
+import com.datasolution.dsflow.util.XmlRecordReader;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -24,8 +28,9 @@ public class ParameterValueService {
 
     private final JdbcTemplate jdbcTemplate;
     private final CodeManagementService codeManagementService;
+    private final ApiRateLimiter rateLimiter;
+    private final ExternalApiClient apiClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final WebClient webClient = WebClient.builder().build();
 
     /**
      * 파라미터 설정에 따라 값 목록을 생성합니다.
@@ -149,13 +154,17 @@ public class ParameterValueService {
             String method = config.has("method") ? config.get("method").asText() : "GET";
             String jsonPath = config.has("jsonPath") ? config.get("jsonPath").asText() : "";
             
-            String response = webClient
-                    .method(org.springframework.http.HttpMethod.valueOf(method))
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            Integer timeoutSeconds = config.has("timeoutSeconds") ? config.get("timeoutSeconds").asInt() : null;
+            Integer retryCount = config.has("retryCount") ? config.get("retryCount").asInt() : null;
+
+            String response = apiClient.fetch(RequestKey.of(method, url, null), UpstreamKey.of(url, null),
+                    rateLimiter.defaultPacing(), retryCount,
+                    apiClient.request(HttpMethod.valueOf(method), url, Map.of(), apiClient.timeoutOf(timeoutSeconds)));
             
+            if (XmlRecordReader.isXml(response)) {
+                return extractValuesFromXml(response, jsonPath);
+            }
+
             // JSON 응답에서 값 추출 (간단한 구현)
             if (jsonPath.isEmpty()) {
                 return objectMapper.readValue(response, new TypeReference<List<String>>() {});
@@ -219,4 +228,37 @@ public class ParameterValueService {
         
         return values;
     }
-} 
\ No newline at end of file
+
+    /**
+     * XML 응답에서 값 추출
+     * 경로의 [] 앞부분을 반복 레코드 위치, 뒷부분을 레코드 안의 필드로 봅니다.
+     * (예: response.body.items.item[].code, [] 가 없으면 마지막 항목이 필드)
+     * 경로가 비어 있으면 <item> 요소의 값을 그대로 사용합니다.
+     */
+    private List<String> extractValuesFromXml(String response, String path) throws Exception {
+        String recordPath;
+        String fieldPath;
+        int marker = path.indexOf("[]");
+        if (marker >= 0) {
+            recordPath = path.substring(0, marker);
+            fieldPath = path.substring(marker + 2).replaceFirst("^\\.", "");
+        } else {
+            int lastDot = path.lastIndexOf('.');
+            recordPath = lastDot >= 0 ? path.substring(0, lastDot) : "";
+            fieldPath = lastDot >= 0 ? path.substring(lastDot + 1) : path;
+        }
+
+        RecordPath field = RecordPath.of(fieldPath);
+        List<String> values = new ArrayList<>();
+        for (JsonNode record : new XmlRecordReader(RecordPath.of(recordPath)).records(response)) {
+            if (record.isObject() && record.isEmpty()) {
+                continue;
+            }
+            Object value = field.value(record);
+            if (value != null) {
+                values.add(value.toString());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,224 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.HttpClientProperties;
+import com.datasolution.dsflow.util.RequestKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 합치기 (single-flight)
+ *
+ * 같은 요청(RequestKey)이 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과를 함께 받습니다.
+ * 여러 Job/코드 동기화 작업이 같은 시각(예: 02:00)에 같은 API를 호출할 때 중복 호출과 호출 한도 차감을 줄입니다.
+ * - 결과는 모든 호출자에게 같은 값이 전달되므로 변경할 수 없는 값이어야 합니다.
+ *   해제가 필요한 결과(Shareable, 네트워크 버퍼를 감싼 응답 등)는 호출자마다 share()로 자기 몫을 받고,
+ *   원본은 모든 호출자가 자기 몫을 받은 뒤 해제합니다.
+ * - 결과 타입이 다르면 같은 요청이라도 합치지 않습니다.
+ * - 응답을 받은 뒤에는 합치지 않습니다. (캐시가 아님)
+ * - 기다리는 호출자가 모두 취소하면 진행 중인 호출도 취소합니다.
+ *
+ * 지표: dsflow.http.coalescing.calls (result=executed: 실제 호출, result=saved: 합쳐져서 생략된 호출)
+ */
+@Service
+@Slf4j
+public class RequestCoalescer {
+
+    private final HttpClientProperties properties;
+    private final ConcurrentMap<FlightKey, Flight<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> savedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("dsflow.http.coalescing.in-flight", inFlight, Map::size)
+                .description("합치기 대상으로 진행 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출자마다 따로 해제해야 하는 결과
+     */
+    public interface Shareable<T> {
+
+        /**
+         * 호출자 한 명의 몫. 원본과 별도로 release 해야 합니다.
+         */
+        T share();
+
+        void release();
+    }
+
+    private record FlightKey(RequestKey request, Class<?> type) {
+    }
+
+    /**
+     * 같은 요청이 진행 중이면 그 결과를, 아니면 call을 호출한 결과를 반환합니다.
+     *
+     * @param source 지표 구분 (job, client 등)
+     * @param type   결과 타입 (같은 타입의 진행 중인 요청에만 합류)
+     * @param call   실제 호출 (재시도/호출 한도 기록 포함). 합쳐진 호출자는 실행하지 않음
+     */
+    public <T> Mono<T> execute(String source, RequestKey key, Class<T> type, Supplier<Mono<T>> call) {
+        if (!properties.isCoalescing() || key == null) {
+            return Mono.defer(call);
+        }
+        FlightKey flightKey = new FlightKey(key, type);
+        return Mono.defer(() -> {
+            while (true) {
+                Flight<T> created = new Flight<>(flightKey);
+                @SuppressWarnings("unchecked")
+                Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(flightKey, created);
+                if (existing == null) {
+                    counter(executedCounters, source, "executed").increment();
+                    Mono<T> result = created.join();
+                    created.start(call);
+                    return result;
+                }
+                Mono<T> joined = existing.join();
+                if (joined != null) {
+                    counter(savedCounters, source, "saved").increment();
+                    log.debug("진행 중인 동일 요청에 합류: {} ({})", key, source);
+                    return joined;
+                }
+                // 취소되었거나 결과를 전달 중인 요청이면 새로 호출
+                inFlight.remove(flightKey, existing);
+            }
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Counter counter(Map<String, Counter> counters, String source, String result) {
+        return counters.computeIfAbsent(source, s -> Counter.builder("dsflow.http.coalescing.calls")
+                .description("동일 요청 합치기 호출 수")
+                .tag("source", s)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 진행 중인 호출 1건과 그 결과를 기다리는 호출자들
+     */
+    private final class Flight<T> {
+        private final FlightKey key;
+        private final Sinks.One<T> result = Sinks.one();
+        private Disposable subscription;
+        private int waiting;
+        // 결과를 아직 받지 않은 호출자 수 (0이 되면 원본 결과 해제)
+        private int holders;
+        private T value;
+        private boolean done;
+        private boolean cancelled;
+        private boolean released;
+
+        Flight(FlightKey key) {
+            this.key = key;
+        }
+
+        /**
+         * 호출자를 추가합니다. 이미 취소되었거나 결과를 전달 중인 호출이면 null을 반환합니다.
+         */
+        synchronized Mono<T> join() {
+            if (cancelled || done) {
+                return null;
+            }
+            waiting++;
+            holders++;
+            return result.asMono()
+                    .map(this::share)
+                    .doOnCancel(this::leave)
+                    .doFinally(signal -> drop());
+        }
+
+        void start(Supplier<Mono<T>> call) {
+            Disposable disposable = Mono.defer(call).subscribe(
+                    value -> complete(value, () -> result.tryEmitValue(value)),
+                    error -> complete(null, () -> result.tryEmitError(error)),
+                    () -> complete(null, result::tryEmitEmpty));
+            synchronized (this) {
+                if (cancelled) {
+                    disposable.dispose();
+                } else {
+                    subscription = disposable;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T share(T value) {
+            return value instanceof Shareable<?> shareable ? (T) shareable.share() : value;
+        }
+
+        private void complete(T value, Runnable emit) {
+            synchronized (this) {
+                if (done || cancelled) {
+                    // 모든 호출자가 떠난 뒤 도착한 결과
+                    releaseValue(value);
+                    return;
+                }
+                done = true;
+                this.value = value;
+            }
+            // 결과를 전달하기 전에 제거하여, 이후 요청은 새로 호출
+            inFlight.remove(key, this);
+            emit.run();
+            drop(0);
+        }
+
+        private void drop() {
+            drop(1);
+        }
+
+        private void drop(int count) {
+            T toRelease;
+            synchronized (this) {
+                holders -= count;
+                if (holders > 0 || !done || released) {
+                    return;
+                }
+                released = true;
+                toRelease = value;
+                value = null;
+            }
+            releaseValue(toRelease);
+        }
+
+        private void releaseValue(T value) {
+            if (value instanceof Shareable<?> shareable) {
+                shareable.release();
+            }
+        }
+
+        private void leave() {
+            Disposable toDispose;
+            synchronized (this) {
+                if (--waiting > 0 || done) {
+                    return;
+                }
+                cancelled = true;
+                toDispose = subscription;
+            }
+            inFlight.remove(key, this);
+            result.tryEmitError(new CancellationException("요청을 기다리는 호출자가 없어 취소되었습니다."));
+            if (toDispose != null) {
+                toDispose.dispose();
+            }
+        }
+    }
+}
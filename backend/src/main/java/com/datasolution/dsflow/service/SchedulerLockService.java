@@ -0,0 +1,164 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.ClusterProperties;
+import com.datasolution.dsflow.entity.SchedulerLock;
+import com.datasolution.dsflow.exception.SchedulerLockLostException;
+import com.datasolution.dsflow.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스케줄 작업 잠금 (노드 간 1회 실행 보장)
+ *
+ * DB 행의 조건부 UPDATE로 잠금을 획득/연장/해제하며, 모든 변경은 호출한 쪽의 트랜잭션과 별도로 즉시 커밋합니다.
+ * 잠금 시각은 각 노드의 시계를 사용하므로, 노드 간 시계 차이는 lockAtLeastFor보다 충분히 작아야 합니다.
+ * (Job 정기 실행처럼 실행 시각마다 이름이 다른 잠금은 보관 기간만큼 유지한 뒤 purgeExpired로 정리)
+ * 실행 중인 잠금은 스레드에 보관하여, 작업 중간에 ensureHeld()로 잠금을 확인(펜싱)하고 연장합니다.
+ */
+@Service
+@Slf4j
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+    private final ClusterProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    public SchedulerLockService(SchedulerLockRepository lockRepository,
+                                ClusterProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 획득한 잠금
+     *
+     * @param token 획득 시 증가한 펜싱 토큰. 연장/해제는 토큰이 같을 때만 반영
+     */
+    public record Lease(String name, String owner, long token, LocalDateTime lockedAt,
+                       Duration lockAtMostFor, Duration lockAtLeastFor) {
+    }
+
+    /**
+     * 잠금을 획득합니다. 다른 노드가 가지고 있으면 빈 값을 반환합니다.
+     */
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor, Duration lockAtLeastFor) {
+        String owner = properties.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMostFor);
+
+        Integer acquired = transactionTemplate.execute(status -> lockRepository.acquire(name, owner, now, until));
+        if (acquired == null || acquired == 0) {
+            if (!insertIfAbsent(name, owner, now, until)) {
+                return Optional.empty();
+            }
+        }
+        Long token = transactionTemplate.execute(status ->
+                lockRepository.findById(name).map(SchedulerLock::getFencingToken).orElse(null));
+        if (token == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(name, owner, token, now, lockAtMostFor, lockAtLeastFor));
+    }
+
+    /**
+     * 잠금을 해제합니다. 획득 후 lockAtLeastFor가 지나지 않았으면 그 시각까지 유지합니다.
+     */
+    public void release(Lease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimum = lease.lockedAt().plus(lease.lockAtLeastFor());
+        LocalDateTime until = minimum.isAfter(now) ? minimum : now;
+        Integer released = transactionTemplate.execute(status ->
+                lockRepository.updateLockedUntil(lease.name(), lease.owner(), lease.token(), now, until));
+        if (released == null || released == 0) {
+            log.warn("스케줄 작업 잠금 {}을(를) 해제하기 전에 잃었습니다. (노드 {}, 토큰 {})",
+                    lease.name(), lease.owner(), lease.token());
+        }
+    }
+
+    /**
+     * 이름이 prefix로 시작하는 만료된 잠금을 삭제합니다. 실행 시각마다 다른 이름으로 만드는 잠금이 쌓이지 않도록 정리합니다.
+     *
+     * @return 삭제한 잠금 수
+     */
+    public int purgeExpired(String prefix) {
+        String pattern = prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        Integer deleted = transactionTemplate.execute(status -> lockRepository.deleteExpired(pattern, LocalDateTime.now()));
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * 현재 스레드가 실행 중인 스케줄 작업의 잠금을 확인하고 lockAtMostFor만큼 연장합니다.
+     * 잠금을 잃었으면(만료 후 다른 노드가 획득) SchedulerLockLostException을 던집니다. 잠금 없이 실행 중이면(수동 실행) 아무것도 하지 않습니다.
+     */
+    public void ensureHeld() {
+        Lease lease = CURRENT.get();
+        if (lease == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Integer extended = transactionTemplate.execute(status -> lockRepository.updateLockedUntil(
+                lease.name(), lease.owner(), lease.token(), now, now.plus(lease.lockAtMostFor())));
+        if (extended == null || extended == 0) {
+            throw new SchedulerLockLostException(lease.name(), lease.token());
+        }
+    }
+
+    /**
+     * 잠금을 현재 스레드에 연결하여 작업을 실행합니다.
+     */
+    public <T> T runWith(Lease lease, LockedTask<T> task) throws Throwable {
+        Lease previous = CURRENT.get();
+        CURRENT.set(lease);
+        try {
+            return task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface LockedTask<T> {
+        T run() throws Throwable;
+    }
+
+    /**
+     * 처음 실행하는 작업이면 잠금 행을 만들면서 획득합니다. 다른 노드가 먼저 만들었으면 false를 반환합니다.
+     */
+    private boolean insertIfAbsent(String name, String owner, LocalDateTime now, LocalDateTime until) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (lockRepository.existsById(name)) {
+                    return false;
+                }
+                lockRepository.saveAndFlush(SchedulerLock.builder()
+                        .name(name)
+                        .lockedBy(owner)
+                        .lockedAt(now)
+                        .lockedUntil(until)
+                        .fencingToken(1L)
+                        .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("스케줄 작업 잠금 {}을(를) 다른 노드가 먼저 만들었습니다.", name);
+            return false;
+        }
+    }
+}
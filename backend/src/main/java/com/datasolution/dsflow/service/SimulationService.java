@@ -0,0 +1,77 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.SimulationProperties;
+import com.datasolution.dsflow.dto.SimulationReportDto;
+import com.datasolution.dsflow.entity.JobExecutionLog;
+import com.datasolution.dsflow.entity.enums.ExecutionStatus;
+import com.datasolution.dsflow.exception.BusinessException;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.repository.JobExecutionLogRepository;
+import com.datasolution.dsflow.simulation.SimulationRecorder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 부하 시뮬레이션 결과 관리
+ *
+ * 시뮬레이션 실행이 끝나면 결과를 실행 로그(simulationReport, JSON)에 저장하며,
+ * 실행 중에는 이 노드에서 지금까지 집계한 결과를 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationService {
+
+    private final SimulationProperties properties;
+    private final SimulationRecorder recorder;
+    private final JobExecutionLogRepository logRepository;
+    private final ObjectMapper objectMapper;
+
+    public Map<String, SimulationProperties.Profile> getProfiles() {
+        return properties.getProfiles();
+    }
+
+    public SimulationReportDto getReport(Long executionId) {
+        Optional<SimulationReportDto> running = recorder.report(executionId);
+        if (running.isPresent()) {
+            return running.get();
+        }
+        JobExecutionLog executionLog = logRepository.findById(executionId)
+                .orElseThrow(() -> new BusinessException("실행 로그를 찾을 수 없습니다: " + executionId));
+        if (executionLog.getSimulationReport() == null) {
+            throw new BusinessException("시뮬레이션 결과가 없는 실행입니다: " + executionId);
+        }
+        try {
+            return objectMapper.readValue(executionLog.getSimulationReport(), SimulationReportDto.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("시뮬레이션 결과를 읽을 수 없습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    public void start(ExecutionContext context) {
+        recorder.start(context);
+    }
+
+    /**
+     * 집계를 끝내고 실행 로그에 저장할 결과(JSON)를 반환합니다. (시뮬레이션 실행이 아니면 빈 값)
+     */
+    public Optional<String> finish(ExecutionContext context, ExecutionStatus status) {
+        return recorder.finish(context.logId(), status.name()).map(report -> {
+            log.info("Job {} 시뮬레이션 결과 ({}): {}건, {}건/초, 응답 시간 p50 {}ms / p99 {}ms, CPU {}%",
+                    report.getJobCode(), report.getProfile(), report.getCalls(), report.getCallsPerSecond(),
+                    report.getLatencyP50Millis(), report.getLatencyP99Millis(), report.getCpuUsagePercent());
+            try {
+                return objectMapper.writeValueAsString(report);
+            } catch (JsonProcessingException e) {
+                log.warn("Job {} 시뮬레이션 결과 저장 실패: {}", report.getJobCode(), e.getMessage());
+                return null;
+            }
+        });
+    }
+}
@@ -4,23 +4,29 @@ import com.datasolution.dsflow.entity.CodeCategory;
 import com.datasolution.dsflow.entity.CodeSyncJob;
 import com.datasolution.dsflow.entity.CodeValue;
 import com.datasolution.dsflow.repository.CodeSyncJobRepository;
+import com.datasolution.dsflow.scheduling.CodeSyncJobChangedEvent;
+import com.datasolution.dsflow.util.CronExpressionValidator;
+import com.datasolution.dsflow.util.RecordPath;
+import com.datasolution.dsflow.util.RequestKey;
+import com.datasolution.dsflow.util.UpstreamKey;
+import com.datasolution.dsflow.util.XmlRecordReader;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 // import com.jayway.jsonpath.JsonPath; // JSONPath 라이브러리 대신 간단한 파싱 사용
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -28,16 +34,22 @@ import java.util.concurrent.CompletableFuture;
 /**
  * 사용자 정의 코드 동기화 서비스
  * 사용자가 등록한 외부 API를 통해 코드 데이터를 자동 동기화
+ * 자동 동기화는 CodeSyncTriggerScheduler가 작업별 cron 표현식에 따라 실행합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserDefinedCodeSyncService {
 
+    private static final XmlRecordReader XML_ITEMS = new XmlRecordReader(RecordPath.of(""));
+
     private final CodeSyncJobRepository codeSyncJobRepository;
     private final CodeManagementService codeManagementService;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final ExternalApiClient apiClient;
+    private final ApiRateLimiter rateLimiter;
+    private final CronExpressionValidator cronValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 활성화된 동기화 작업 조회
@@ -61,9 +73,12 @@ public class UserDefinedCodeSyncService {
             throw new IllegalArgumentException("존재하지 않는 카테고리입니다: " + syncJob.getTargetCategoryCode());
         }
 
+        validateCronExpression(syncJob.getCronExpression());
+
         CodeSyncJob saved = codeSyncJobRepository.save(syncJob);
         log.info("새로운 코드 동기화 작업 생성: {} -> {}", 
                 syncJob.getSyncJobCode(), syncJob.getTargetCategoryCode());
+        eventPublisher.publishEvent(new CodeSyncJobChangedEvent(saved.getSyncJobCode()));
         
         return saved;
     }
@@ -75,6 +90,7 @@ public class UserDefinedCodeSyncService {
     public CodeSyncJob updateSyncJob(String syncJobCode, CodeSyncJob updatedJob) {
         CodeSyncJob existingJob = codeSyncJobRepository.findBySyncJobCodeAndIsActiveTrue(syncJobCode)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동기화 작업입니다: " + syncJobCode));
+        validateCronExpression(updatedJob.getCronExpression());
 
         // 필드 업데이트
         existingJob.setSyncJobName(updatedJob.getSyncJobName());
@@ -95,6 +111,7 @@ public class UserDefinedCodeSyncService {
 
         CodeSyncJob saved = codeSyncJobRepository.save(existingJob);
         log.info("코드 동기화 작업 수정: {}", syncJobCode);
+        eventPublisher.publishEvent(new CodeSyncJobChangedEvent(syncJobCode));
         
         return saved;
     }
@@ -111,6 +128,7 @@ public class UserDefinedCodeSyncService {
         codeSyncJobRepository.save(syncJob);
         
         log.info("코드 동기화 작업 삭제: {}", syncJobCode);
+        eventPublisher.publishEvent(new CodeSyncJobChangedEvent(syncJobCode));
     }
 
     /**
@@ -125,11 +143,13 @@ public class UserDefinedCodeSyncService {
             CodeSyncJob syncJob = codeSyncJobRepository.findBySyncJobCodeAndIsActiveTrue(syncJobCode)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 동기화 작업입니다: " + syncJobCode));
 
+            long started = System.nanoTime();
             String result = performSync(syncJob);
             
             // 동기화 결과 업데이트
             syncJob.setLastSyncTime(LocalDateTime.now());
             syncJob.setLastSyncResult(result);
+            syncJob.setLastSyncDurationMs((System.nanoTime() - started) / 1_000_000);
             codeSyncJobRepository.save(syncJob);
             
             log.info("코드 동기화 작업 완료: {} - {}", syncJobCode, result);
@@ -169,53 +189,64 @@ public class UserDefinedCodeSyncService {
      * 외부 API 호출
      */
     private String callExternalApi(CodeSyncJob syncJob) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/json");
-        
+        boolean post = "POST".equalsIgnoreCase(syncJob.getHttpMethod());
+        Map<String, String> params = Map.of();
+
+        // GET 요청인 경우 파라미터를 URL에 추가
+        if (!post && syncJob.getRequestParameters() != null && !syncJob.getRequestParameters().trim().isEmpty()) {
+            params = objectMapper.readValue(
+                    syncJob.getRequestParameters(), new TypeReference<Map<String, String>>() {});
+        }
+
+        HttpMethod method = HttpMethod.valueOf(syncJob.getHttpMethod().toUpperCase());
+        WebClient.RequestBodySpec request = apiClient.request(method, syncJob.getApiUrl(), params,
+                        apiClient.timeoutOf(syncJob.getTimeoutSeconds()))
+                .contentType(MediaType.APPLICATION_JSON);
+
         // 사용자 정의 헤더 추가
         if (syncJob.getRequestHeaders() != null && !syncJob.getRequestHeaders().trim().isEmpty()) {
             Map<String, String> customHeaders = objectMapper.readValue(
                     syncJob.getRequestHeaders(), new TypeReference<Map<String, String>>() {});
-            customHeaders.forEach(headers::add);
+            request.headers(headers -> customHeaders.forEach(headers::set));
         }
 
-        HttpEntity<String> entity;
-        String url = syncJob.getApiUrl();
-        
-        if ("POST".equalsIgnoreCase(syncJob.getHttpMethod())) {
-            entity = new HttpEntity<>(syncJob.getRequestBody(), headers);
-        } else {
-            entity = new HttpEntity<>(headers);
-            
-            // GET 요청인 경우 파라미터를 URL에 추가
-            if (syncJob.getRequestParameters() != null && !syncJob.getRequestParameters().trim().isEmpty()) {
-                Map<String, String> params = objectMapper.readValue(
-                        syncJob.getRequestParameters(), new TypeReference<Map<String, String>>() {});
-                
-                StringBuilder urlBuilder = new StringBuilder(url);
-                if (!url.contains("?")) {
-                    urlBuilder.append("?");
-                } else {
-                    urlBuilder.append("&");
-                }
-                
-                params.forEach((key, value) -> 
-                    urlBuilder.append(key).append("=").append(value).append("&"));
-                
-                url = urlBuilder.toString().replaceAll("&$", "");
-            }
-        }
+        WebClient.RequestHeadersSpec<?> spec = post && syncJob.getRequestBody() != null
+                ? request.bodyValue(syncJob.getRequestBody())
+                : request;
 
-        HttpMethod method = HttpMethod.valueOf(syncJob.getHttpMethod().toUpperCase());
-        ResponseEntity<String> response = restTemplate.exchange(url, method, entity, String.class);
-        
-        return response.getBody();
+        // 같은 호스트/서비스키를 사용하는 다른 작업과 호출 속도 한도를 공유
+        UpstreamKey upstreamKey = UpstreamKey.of(syncJob.getApiUrl(), params);
+        // Job 실행과 같은 방식(메소드, URL, 쿼리 파라미터)으로 키를 만들어 같은 API를 호출하는 Job과 합침
+        // 사용자 정의 헤더나 요청 본문이 있으면 그 내용까지 같은 요청만 합침
+        RequestKey requestKey = RequestKey.of(method.name(), syncJob.getApiUrl(), params, requestExtra(syncJob, post));
+        return apiClient.fetch(requestKey, upstreamKey, rateLimiter.defaultPacing(), syncJob.getRetryCount(), spec);
+    }
+
+    private static String requestExtra(CodeSyncJob syncJob, boolean post) {
+        StringBuilder extra = new StringBuilder();
+        if (StringUtils.hasText(syncJob.getRequestHeaders())) {
+            extra.append(syncJob.getRequestHeaders().trim());
+        }
+        if (post && syncJob.getRequestBody() != null) {
+            extra.append('\n').append(syncJob.getRequestBody());
+        }
+        return extra.isEmpty() ? null : extra.toString();
     }
 
     /**
-     * API 응답 파싱 (간단한 JSON 파싱)
+     * API 응답 파싱 (간단한 JSON 파싱, XML 응답은 <item> 요소를 레코드로 사용)
      */
     private List<Map<String, Object>> parseApiResponse(String response, CodeSyncJob syncJob) throws Exception {
+        if (XmlRecordReader.isXml(response)) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (JsonNode item : XML_ITEMS.records(response)) {
+                if (item.isObject()) {
+                    items.add(objectMapper.convertValue(item, new TypeReference<Map<String, Object>>() {}));
+                }
+            }
+            return items;
+        }
+
         JsonNode jsonNode = objectMapper.readTree(response);
         
         // 간단한 JSON 배열 추출 (실제로는 더 복잡한 JSONPath 구현 필요)
@@ -298,41 +329,11 @@ public class UserDefinedCodeSyncService {
     }
 
     /**
-     * 스케줄링된 자동 동기화 (매 시간마다 체크)
-     */
-    @Scheduled(cron = "0 0 * * * ?")
-    @Transactional
-    public void scheduledAutoSync() {
-        log.info("스케줄링된 자동 동기화 시작");
-        
-        List<CodeSyncJob> autoSyncJobs = codeSyncJobRepository.findByIsActiveTrueAndAutoSyncTrueOrderByCreatedAtDesc();
-        
-        for (CodeSyncJob syncJob : autoSyncJobs) {
-            try {
-                // Cron 표현식 체크 로직 (실제로는 더 정교한 구현 필요)
-                if (shouldRunNow(syncJob)) {
-                    executeSyncJob(syncJob.getSyncJobCode());
-                }
-            } catch (Exception e) {
-                log.error("자동 동기화 실패: {}", syncJob.getSyncJobCode(), e);
-            }
-        }
-    }
-
-    /**
-     * 현재 시점에 실행해야 하는지 확인 (간단한 구현)
+     * 동기화 주기 검증 (없으면 자동 동기화하지 않음)
      */
-    private boolean shouldRunNow(CodeSyncJob syncJob) {
-        // 실제로는 Cron 표현식을 정확히 파싱해서 판단해야 함
-        // 여기서는 간단히 마지막 동기화 시간을 기준으로 판단
-        if (syncJob.getLastSyncTime() == null) {
-            return true;
+    private void validateCronExpression(String cronExpression) {
+        if (cronExpression != null && !cronExpression.isBlank() && !cronValidator.isValidExpression(cronExpression)) {
+            throw new IllegalArgumentException("잘못된 Cron 표현식입니다: " + cronExpression);
         }
-        
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime lastSync = syncJob.getLastSyncTime();
-        
-        // 24시간 이상 지났으면 실행
-        return now.isAfter(lastSync.plusHours(24));
     }
-} 
\ No newline at end of file
+}
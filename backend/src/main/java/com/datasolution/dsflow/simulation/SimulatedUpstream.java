@@ -0,0 +1,223 @@
+package com.datasolution.dsflow.simulation;
+
+import com.datasolution.dsflow.config.SimulationProperties;
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 내장 모의 API 서버
+ *
+ * 시뮬레이션 프로필이 지정된 Job은 resourceUrl의 경로와 쿼리를 유지한 채 이 서버({host}:{port}/{프로필}/...)를 호출합니다.
+ * 프로필 설정에 따라 응답 지연(분포), 서버 오류(500), 호출 제한(429, 비율/동시 처리 한도), 응답 크기를 흉내 내며,
+ * 응답 본문은 공공데이터 API 형식(response.header.resultCode, response.body.totalCount)입니다.
+ * - 처음 사용할 때 시작하며, 지연은 스레드를 점유하지 않고 타이머로 처리합니다.
+ * - 호출 대상 호스트가 모의 API 서버가 되므로 실제 API의 호출 한도/속도 제한/서킷 브레이커 상태에 영향을 주지 않습니다.
+ * - 같은 프로세스에서 동작하므로 측정한 자원 사용량에는 모의 API 서버의 처리 비용이 포함됩니다.
+ */
+@Component
+@Slf4j
+public class SimulatedUpstream {
+
+    private static final int RECORD_BYTES = 100;
+    private static final byte[] ERROR_BODY =
+            "{\"response\":{\"header\":{\"resultCode\":\"99\",\"resultMsg\":\"SIMULATED ERROR\"}}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final SimulationProperties properties;
+    private final Map<String, ProfileState> profiles = new ConcurrentHashMap<>();
+    private volatile DisposableServer server;
+
+    /**
+     * 프로필별 모의 API 서버 처리 건수 (누적)
+     */
+    public record Stats(long requests, long throttled, long errors, long bytes) {
+
+        public Stats minus(Stats other) {
+            return new Stats(requests - other.requests, throttled - other.throttled,
+                    errors - other.errors, bytes - other.bytes);
+        }
+    }
+
+    public SimulatedUpstream(SimulationProperties properties) {
+        this.properties = properties;
+        properties.getProfiles().forEach((name, profile) -> profiles.put(name, new ProfileState(profile)));
+    }
+
+    public boolean isSimulated(JobDefinition job) {
+        return job.getSimulationProfile() != null && !job.getSimulationProfile().isBlank();
+    }
+
+    public boolean hasProfile(String name) {
+        return profiles.containsKey(name);
+    }
+
+    /**
+     * Job이 실제로 호출할 URL. 시뮬레이션 프로필이 지정되어 있으면 모의 API 서버의 URL로 바꿉니다.
+     */
+    public String targetUrl(JobDefinition job) {
+        if (!isSimulated(job)) {
+            return job.getResourceUrl();
+        }
+        String name = job.getSimulationProfile();
+        if (!properties.isEnabled()) {
+            throw new BusinessException("시뮬레이션이 꺼져 있어 실행할 수 없습니다: " + job.getJobCode());
+        }
+        if (!profiles.containsKey(name)) {
+            throw new BusinessException("시뮬레이션 프로필을 찾을 수 없습니다: " + name);
+        }
+        String url = job.getResourceUrl();
+        int hostStart = url.indexOf("://");
+        hostStart = hostStart < 0 ? 0 : hostStart + 3;
+        int pathStart = hostStart;
+        while (pathStart < url.length() && url.charAt(pathStart) != '/' && url.charAt(pathStart) != '?') {
+            pathStart++;
+        }
+        return "http://" + properties.getHost() + ":" + server().port() + "/" + name + url.substring(pathStart);
+    }
+
+    public Stats stats(String name) {
+        ProfileState state = profiles.get(name);
+        return state != null ? state.stats() : new Stats(0, 0, 0, 0);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    private DisposableServer server() {
+        DisposableServer current = server;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (server == null) {
+                server = HttpServer.create()
+                        .host(properties.getHost())
+                        .port(properties.getPort())
+                        .handle(this::handle)
+                        .bindNow();
+                log.info("모의 API 서버 시작: {}:{} (프로필 {})", properties.getHost(), server.port(), profiles.keySet());
+            }
+            return server;
+        }
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        String path = request.path();
+        int slash = path.indexOf('/');
+        ProfileState state = profiles.get(slash < 0 ? path : path.substring(0, slash));
+        if (state == null) {
+            return response.status(404).send();
+        }
+        SimulationProperties.Profile profile = state.profile;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        state.requests.increment();
+        int inFlight = state.inFlight.incrementAndGet();
+
+        Mono<Void> reply;
+        if ((profile.getConcurrencyLimit() > 0 && inFlight > profile.getConcurrencyLimit())
+                || random.nextDouble() < profile.getThrottleRate()) {
+            state.throttled.increment();
+            reply = response.status(429).header("Retry-After", "1").send();
+        } else {
+            boolean error = random.nextDouble() < profile.getErrorRate();
+            byte[] body = error ? ERROR_BODY : state.body;
+            reply = request.receive().then()
+                    .then(Mono.delay(state.sampleLatency(random)))
+                    .then(Mono.defer(() -> {
+                        if (error) {
+                            state.errors.increment();
+                        }
+                        state.bytes.add(body.length);
+                        return response.status(error ? 500 : 200)
+                                .header("Content-Type", "application/json;charset=UTF-8")
+                                .header("Content-Length", String.valueOf(body.length))
+                                .sendByteArray(Mono.just(body))
+                                .then();
+                    }));
+        }
+        return reply.doFinally(signal -> state.inFlight.decrementAndGet());
+    }
+
+    private static final class ProfileState {
+
+        private final SimulationProperties.Profile profile;
+        private final byte[] body;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private ProfileState(SimulationProperties.Profile profile) {
+            this.profile = profile;
+            this.body = body(profile);
+        }
+
+        private Stats stats() {
+            return new Stats(requests.sum(), throttled.sum(), errors.sum(), bytes.sum());
+        }
+
+        /**
+         * 분포의 중앙값과 99백분위 값이 설정값이 되도록 응답 지연을 뽑습니다.
+         */
+        private Duration sampleLatency(ThreadLocalRandom random) {
+            double median = Math.max(0, profile.getLatencyMedianMs());
+            double p99 = Math.max(median, profile.getLatencyP99Ms());
+            double millis = switch (profile.getLatency()) {
+                case CONSTANT -> median;
+                case UNIFORM -> {
+                    double width = (p99 - median) / 0.49;
+                    yield Math.max(0, median - width / 2) + random.nextDouble() * width;
+                }
+                case EXPONENTIAL -> {
+                    double mean = (p99 - median) / Math.log(50);
+                    yield Math.max(0, median - mean * Math.log(2)) - mean * Math.log(1 - random.nextDouble());
+                }
+                case LOG_NORMAL -> median > 0
+                        ? median * Math.exp(Math.log(p99 / median) / 2.326 * random.nextGaussian())
+                        : 0;
+            };
+            return Duration.ofNanos((long) (millis * 1_000_000));
+        }
+
+        private static byte[] body(SimulationProperties.Profile profile) {
+            int records = Math.max(1, profile.getPayloadBytes() / RECORD_BYTES);
+            long totalCount = profile.getTotalCount() > 0 ? profile.getTotalCount() : records;
+            StringBuilder json = new StringBuilder(records * RECORD_BYTES + 200)
+                    .append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+                    .append("\"body\":{\"items\":{\"item\":[");
+            String value = "x".repeat(RECORD_BYTES - 30);
+            for (int i = 1; i <= records; i++) {
+                if (i > 1) {
+                    json.append(',');
+                }
+                json.append("{\"seq\":").append(i).append(",\"value\":\"").append(value).append("\"}");
+            }
+            json.append("]},\"numOfRows\":").append(records)
+                    .append(",\"pageNo\":1,\"totalCount\":").append(totalCount).append("}}}");
+            return json.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.datasolution.dsflow.simulation;
+
+import com.datasolution.dsflow.dto.SimulationReportDto;
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.util.LatencyHistogram;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시뮬레이션 실행별 처리량/응답 시간/자원 사용량 집계
+ *
+ * 시뮬레이션 프로필이 지정된 Job의 실행이 시작되면 집계를 시작하고, 호출 결과를 저장할 때마다 응답 시간을 기록합니다.
+ * 분할 실행 시 이 노드에서 호출한 건만 집계하며, 힙/스레드 최대값은 프로세스 전체 기준입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SimulationRecorder {
+
+    private final SimulatedUpstream upstream;
+    private final Map<Long, Run> runs = new ConcurrentHashMap<>();
+
+    private static final class Run {
+
+        private final String jobCode;
+        private final String profile;
+        private final Integer concurrency;
+        private final long startNanos = System.nanoTime();
+        private final long startCpuNanos = processCpuNanos();
+        private final long startGcCount = gcCount();
+        private final long startGcMillis = gcMillis();
+        private final SimulatedUpstream.Stats startStats;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder success = new LongAdder();
+        private final LongAdder fail = new LongAdder();
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+        private Run(ExecutionContext context, SimulatedUpstream.Stats startStats) {
+            this.jobCode = context.jobCode();
+            this.profile = context.jobDefinition().getSimulationProfile();
+            this.concurrency = context.jobDefinition().getBatchSize();
+            this.startStats = startStats;
+        }
+    }
+
+    /**
+     * 시뮬레이션 Job이면 집계를 시작합니다. 힙/스레드 최대값은 이 시점부터 다시 측정합니다.
+     */
+    public void start(ExecutionContext context) {
+        if (!upstream.isSimulated(context.jobDefinition())) {
+            return;
+        }
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        runs.put(context.logId(), new Run(context, upstream.stats(context.jobDefinition().getSimulationProfile())));
+    }
+
+    public void record(ExecutionContext context, CallResult result) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        Run run = runs.get(context.logId());
+        if (run == null) {
+            return;
+        }
+        run.latencies.record(result.latencyNanos() / 1_000);
+        (result.isSuccess() ? run.success : run.fail).increment();
+        run.statusCodes.computeIfAbsent(result.statusCode(), code -> new LongAdder()).increment();
+    }
+
+    /**
+     * 실행 중인 시뮬레이션의 현재까지 결과
+     */
+    public Optional<SimulationReportDto> report(Long logId) {
+        return Optional.ofNullable(runs.get(logId)).map(run -> report(logId, run, "RUNNING"));
+    }
+
+    /**
+     * 집계를 끝내고 최종 결과를 반환합니다. (시뮬레이션 실행이 아니면 빈 값)
+     */
+    public Optional<SimulationReportDto> finish(Long logId, String status) {
+        return Optional.ofNullable(runs.remove(logId)).map(run -> report(logId, run, status));
+    }
+
+    private SimulationReportDto report(Long logId, Run run, String status) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - run.startNanos);
+        long cpuNanos = Math.max(0, processCpuNanos() - run.startCpuNanos);
+        LatencyHistogram latencies = run.latencies;
+        SimulatedUpstream.Stats stats = upstream.stats(run.profile).minus(run.startStats);
+        Map<Integer, Long> statusCodes = new TreeMap<>();
+        run.statusCodes.forEach((code, count) -> statusCodes.put(code, count.sum()));
+
+        return SimulationReportDto.builder()
+                .executionId(logId)
+                .jobCode(run.jobCode)
+                .profile(run.profile)
+                .status(status)
+                .concurrency(run.concurrency)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .calls(latencies.count())
+                .successCount(run.success.sum())
+                .failCount(run.fail.sum())
+                .callsPerSecond(round(latencies.count() * 1e9 / elapsedNanos))
+                .latencyMeanMillis(round(latencies.meanMicros() / 1000))
+                .latencyP50Millis(millis(latencies.percentileMicros(0.5)))
+                .latencyP90Millis(millis(latencies.percentileMicros(0.9)))
+                .latencyP99Millis(millis(latencies.percentileMicros(0.99)))
+                .latencyP999Millis(millis(latencies.percentileMicros(0.999)))
+                .latencyMaxMillis(millis(latencies.maxMicros()))
+                .statusCodes(statusCodes)
+                .upstreamRequests(stats.requests())
+                .upstreamThrottled(stats.throttled())
+                .upstreamErrors(stats.errors())
+                .upstreamBytes(stats.bytes())
+                .cpuTimeMillis(cpuNanos / 1_000_000)
+                .cpuUsagePercent(round(cpuNanos * 100.0 / elapsedNanos / Runtime.getRuntime().availableProcessors()))
+                .gcCount(gcCount() - run.startGcCount)
+                .gcTimeMillis(gcMillis() - run.startGcMillis)
+                .heapPeakMb(round(heapPools().stream()
+                        .mapToLong(pool -> pool.getPeakUsage() != null ? pool.getPeakUsage().getUsed() : 0)
+                        .sum() / 1024.0 / 1024.0))
+                .peakThreads(ManagementFactory.getThreadMXBean().getPeakThreadCount())
+                .build();
+    }
+
+    private static long processCpuNanos() {
+        return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                ? os.getProcessCpuTime() : 0;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .toList();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.datasolution.dsflow.util;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드를 막지 않는 세마포어
+ *
+ * 허가를 얻을 때까지 구독을 지연시키며, 작업이 끝나거나(성공/실패) 취소되면 허가를 반환합니다.
+ * 중첩된 flatMap(조합 → 페이지)에서도 전체 동시 실행 수를 하나로 제한할 때 사용합니다.
+ */
+public final class AsyncSemaphore {
+
+    private final Deque<Permit> waiters = new ArrayDeque<>();
+    private int available;
+
+    public AsyncSemaphore(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("허가 수는 1 이상이어야 합니다: " + permits);
+        }
+        this.available = permits;
+    }
+
+    /**
+     * 허가를 얻은 뒤 task를 구독합니다. (재구독할 때마다 허가를 다시 얻음)
+     */
+    public <T> Mono<T> withPermit(Mono<T> task) {
+        return Mono.defer(() -> {
+            Permit permit = new Permit();
+            return Mono.<Void>create(sink -> acquire(permit, sink))
+                    .then(task)
+                    .doFinally(signal -> permit.close());
+        });
+    }
+
+    public synchronized int availablePermits() {
+        return available;
+    }
+
+    public synchronized int queueLength() {
+        return waiters.size();
+    }
+
+    private void acquire(Permit permit, MonoSink<Void> sink) {
+        synchronized (this) {
+            if (permit.closed) {
+                // 구독 도중에 취소됨
+                return;
+            }
+            if (available == 0) {
+                permit.sink = sink;
+                waiters.add(permit);
+                return;
+            }
+            available--;
+            permit.held = true;
+        }
+        sink.success();
+    }
+
+    private void release() {
+        Permit next;
+        synchronized (this) {
+            next = waiters.poll();
+            if (next == null) {
+                available++;
+                return;
+            }
+            next.held = true;
+        }
+        next.sink.success();
+    }
+
+    /**
+     * 허가 1건. held/sink는 세마포어의 잠금 안에서만 변경됩니다.
+     */
+    private final class Permit {
+        private MonoSink<Void> sink;
+        private boolean held;
+        private boolean closed;
+
+        void close() {
+            synchronized (AsyncSemaphore.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (!held) {
+                    // 기다리는 중에 취소됨
+                    waiters.remove(this);
+                    return;
+                }
+                held = false;
+            }
+            release();
+        }
+    }
+}
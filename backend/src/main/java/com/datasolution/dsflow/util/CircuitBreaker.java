@@ -0,0 +1,154 @@
+package com.datasolution.dsflow.util;
+
+import java.time.Duration;
+
+/**
+ * 호출 대상별 서킷 브레이커
+ *
+ * 최근 slidingWindowSize 건의 호출 중 실패율이 임계치를 넘으면 OPEN 상태가 되어 openDuration 동안 호출을 즉시 거부합니다.
+ * 이후 HALF_OPEN 상태에서 halfOpenPermittedCalls 건만 시험 호출을 허용하고,
+ * 모두 성공하면 CLOSED로 복귀하며 하나라도 실패하면 다시 OPEN 상태가 됩니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상 호출
+        OPEN,       // 호출 차단
+        HALF_OPEN   // 시험 호출
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int slidingWindowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, int halfOpenPermittedCalls) {
+        if (slidingWindowSize < 1 || minimumCalls < 1 || halfOpenPermittedCalls < 1) {
+            throw new IllegalArgumentException("서킷 브레이커 호출 수 설정은 1 이상이어야 합니다.");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("실패율 임계치는 0 초과 100 이하여야 합니다: " + failureRateThreshold);
+        }
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * 호출 허용 여부. 허용된 호출은 반드시 onSuccess / onFailure / releasePermission 중 하나로 결과를 알려야 합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermittedCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (++halfOpenSuccesses >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출(취소 등)의 허용을 반납합니다.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * 최근 호출 실패율 (%)
+     */
+    public synchronized double failureRate() {
+        return recordedCalls == 0 ? 0 : failedCalls * 100.0 / recordedCalls;
+    }
+
+    /**
+     * OPEN 상태가 끝날 때까지 남은 시간
+     */
+    public synchronized Duration remainingOpenTime() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openDurationNanos - (System.nanoTime() - openedAtNanos)));
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == slidingWindowSize) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % slidingWindowSize;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (newState == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
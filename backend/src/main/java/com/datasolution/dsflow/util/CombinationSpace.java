@@ -0,0 +1,135 @@
+package com.datasolution.dsflow.util;
+
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파라미터 조합 공간
+ *
+ * 파라미터별 값 목록만 보관하고, 조합은 순번(ordinal)으로 필요할 때 계산합니다.
+ * 순번은 첫 번째 파라미터가 가장 바깥 루프, 마지막 파라미터가 가장 안쪽 루프인 순서를 따르므로
+ * 어느 구간이든 데카르트 곱 전체를 만들지 않고 바로 조회할 수 있습니다.
+ */
+public class CombinationSpace {
+
+    private final Map<String, Object> baseParameters;
+    private final List<String> parameterNames;
+    private final List<List<String>> parameterValues;
+    private final long size;
+
+    /**
+     * 순번이 부여된 파라미터 조합
+     */
+    public record Combination(long ordinal, Map<String, Object> parameters) {
+    }
+
+    /**
+     * 조합 공간의 저장 형식 (여러 노드가 같은 조합 공간을 사용하도록 실행 로그에 보관)
+     */
+    public record Snapshot(Map<String, Object> baseParameters,
+                           List<String> parameterNames,
+                           List<List<String>> parameterValues) {
+    }
+
+    public CombinationSpace(Map<String, Object> baseParameters, List<String> parameterNames,
+                            List<List<String>> parameterValues) {
+        if (parameterNames.size() != parameterValues.size()) {
+            throw new IllegalArgumentException("파라미터 이름과 값 목록의 개수가 다릅니다.");
+        }
+        this.baseParameters = Collections.unmodifiableMap(new LinkedHashMap<>(baseParameters));
+        this.parameterNames = List.copyOf(parameterNames);
+        this.parameterValues = parameterValues.stream().map(List::copyOf).toList();
+
+        long count = 1;
+        for (List<String> values : this.parameterValues) {
+            if (values.isEmpty()) {
+                count = 0;
+                break;
+            }
+            count = count > Long.MAX_VALUE / values.size() ? Long.MAX_VALUE : count * values.size();
+        }
+        this.size = count;
+    }
+
+    public static CombinationSpace of(Snapshot snapshot) {
+        return new CombinationSpace(snapshot.baseParameters(), snapshot.parameterNames(), snapshot.parameterValues());
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(baseParameters, parameterNames, parameterValues);
+    }
+
+    /**
+     * 기본 파라미터만으로 구성된 단일 조합 공간 (SINGLE 타입)
+     */
+    public static CombinationSpace single(Map<String, Object> baseParameters) {
+        return new CombinationSpace(baseParameters, List.of(), List.of());
+    }
+
+    /**
+     * 조합이 하나도 없는 공간 (파라미터 설정 누락 등)
+     */
+    public static CombinationSpace empty(Map<String, Object> baseParameters) {
+        return new CombinationSpace(baseParameters, List.of("_"), List.of(List.of()));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Map<String, Object> getBaseParameters() {
+        return baseParameters;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * 순번에 해당하는 파라미터 조합을 계산합니다.
+     */
+    public Map<String, Object> get(long ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException("조합 순번 범위를 벗어났습니다: " + ordinal + " / " + size);
+        }
+        Map<String, Object> parameters = new LinkedHashMap<>(baseParameters);
+        long remainder = ordinal;
+        for (int i = parameterNames.size() - 1; i >= 0; i--) {
+            List<String> values = parameterValues.get(i);
+            parameters.put(parameterNames.get(i), values.get((int) (remainder % values.size())));
+            remainder /= values.size();
+        }
+        return parameters;
+    }
+
+    /**
+     * [fromOrdinal, toOrdinal) 구간의 조합을 요청된 만큼만 생성하는 스트림
+     */
+    public Flux<Combination> range(long fromOrdinal, long toOrdinal) {
+        long end = Math.min(toOrdinal, size);
+        return Flux.generate(() -> fromOrdinal, (ordinal, sink) -> {
+            if (ordinal >= end) {
+                sink.complete();
+            } else {
+                sink.next(new Combination(ordinal, get(ordinal)));
+            }
+            return ordinal + 1;
+        });
+    }
+
+    /**
+     * 전체 조합 목록 (조합 수가 적은 경우에만 사용)
+     */
+    public List<Map<String, Object>> toList() {
+        List<Map<String, Object>> combinations = new ArrayList<>();
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            combinations.add(get(ordinal));
+        }
+        return combinations;
+    }
+}
@@ -0,0 +1,539 @@
+package com.datasolution.dsflow.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컴파일된 Quartz cron 표현식
+ *
+ * 표현식을 필드별 비트셋(초/분/시/일/월/요일/년)으로 한 번만 변환해 두고, 다음/이전 실행 시각은
+ * 필드마다 다음(이전) 비트를 찾아 건너뛰는 방식으로 계산합니다. 일 단위 특수 문자(L, W, #)는
+ * 해당 월의 일 비트셋을 만들 때 반영합니다. 컴파일 결과는 불변이므로 표현식별로 공유 캐시에 보관합니다.
+ *
+ * 형식: {초} {분} {시} {일} {월} {요일} [{년}] (요일 1=일요일, 일과 요일 중 정확히 하나는 '?')
+ */
+public final class CompiledCron {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, CompiledCron> CACHE = new ConcurrentHashMap<>();
+
+    private static final int MIN_YEAR = 1970;
+    private static final int MAX_YEAR = 2099;
+    /** 연도 필드가 없을 때 실행 시각을 찾는 최대 범위 (2월 29일, 다섯째 요일 등 드물게 오는 날짜 포함) */
+    private static final int SEARCH_YEARS = 100;
+
+    private static final String[] MONTH_NAMES =
+            {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    private final String expression;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final int months;
+    /** 연도 필드가 없거나 '*'이면 null */
+    private final BitSet years;
+
+    /** 일 필드가 '?'이면 요일 필드로 날짜를 고름 */
+    private final boolean useDayOfWeek;
+    private final long daysOfMonth;
+    /** L(0), L-n(n). 없으면 -1 */
+    private final int lastDayOffset;
+    /** LW: 월의 마지막 평일 */
+    private final boolean lastWeekday;
+    /** nW: n일에 가장 가까운 평일. 없으면 0 */
+    private final int nearestWeekday;
+    /** 첫날의 요일(1-7)별 그 달의 일 비트셋 (요일 목록/범위) */
+    private final long[] weekdayMasks;
+    /** nL: 월의 마지막 n요일. 없으면 0 */
+    private final int lastDayOfWeek;
+    /** n#k: 월의 k번째 n요일. 없으면 0 */
+    private final int nthDayOfWeek;
+    private final int nthOccurrence;
+
+    private CompiledCron(String expression) {
+        this.expression = expression;
+        String[] fields = expression.toUpperCase(Locale.ROOT).split("\\s+");
+        if (fields.length != 6 && fields.length != 7) {
+            throw new IllegalArgumentException("Cron 표현식의 필드 수는 6 또는 7이어야 합니다: " + fields.length);
+        }
+        this.seconds = toLong(parseField(fields[0], 0, 59, null, true, "초"));
+        this.minutes = toLong(parseField(fields[1], 0, 59, null, true, "분"));
+        this.hours = toLong(parseField(fields[2], 0, 23, null, true, "시"));
+        this.months = (int) toLong(parseField(fields[4], 1, 12, MONTH_NAMES, true, "월"));
+        this.years = fields.length == 7 && !"*".equals(fields[6])
+                ? parseField(fields[6], MIN_YEAR, MAX_YEAR, null, false, "년") : null;
+
+        String dayField = fields[3];
+        String dowField = fields[5];
+        boolean dayUnspecified = "?".equals(dayField);
+        if (dayUnspecified == "?".equals(dowField)) {
+            throw new IllegalArgumentException("일과 요일 필드 중 정확히 하나는 '?'이어야 합니다.");
+        }
+        this.useDayOfWeek = dayUnspecified;
+
+        long dayBits = 0;
+        int lastOffset = -1;
+        boolean lastWeekdayOfMonth = false;
+        int nearest = 0;
+        if (!dayUnspecified) {
+            if ("L".equals(dayField)) {
+                lastOffset = 0;
+            } else if (dayField.startsWith("L-")) {
+                lastOffset = parseNumber(dayField.substring(2), 0, 30, "일");
+            } else if ("LW".equals(dayField)) {
+                lastWeekdayOfMonth = true;
+            } else if (dayField.endsWith("W")) {
+                nearest = parseNumber(dayField.substring(0, dayField.length() - 1), 1, 31, "일");
+            } else {
+                dayBits = toLong(parseField(dayField, 1, 31, null, true, "일"));
+            }
+        }
+        this.daysOfMonth = dayBits;
+        this.lastDayOffset = lastOffset;
+        this.lastWeekday = lastWeekdayOfMonth;
+        this.nearestWeekday = nearest;
+
+        long dowBits = 0;
+        int lastDow = 0;
+        int nthDow = 0;
+        int occurrence = 0;
+        if (dayUnspecified) {
+            int hash = dowField.indexOf('#');
+            if ("L".equals(dowField)) {
+                dowBits = 1L << 7;
+            } else if (dowField.length() > 1 && dowField.endsWith("L")) {
+                lastDow = parseValue(dowField.substring(0, dowField.length() - 1), 1, 7, DAY_NAMES, "요일");
+            } else if (hash >= 0) {
+                nthDow = parseValue(dowField.substring(0, hash), 1, 7, DAY_NAMES, "요일");
+                occurrence = parseNumber(dowField.substring(hash + 1), 1, 5, "요일");
+            } else {
+                dowBits = toLong(parseField(dowField, 1, 7, DAY_NAMES, true, "요일"));
+            }
+        }
+        this.lastDayOfWeek = lastDow;
+        this.nthDayOfWeek = nthDow;
+        this.nthOccurrence = occurrence;
+        this.weekdayMasks = new long[8];
+        if (dowBits != 0) {
+            for (int first = 1; first <= 7; first++) {
+                for (int day = 1; day <= 31; day++) {
+                    int dow = (first + day - 2) % 7 + 1;
+                    if ((dowBits & (1L << dow)) != 0) {
+                        weekdayMasks[first] |= 1L << day;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 표현식을 컴파일합니다. 같은 표현식은 캐시된 결과를 반환합니다.
+     *
+     * @throws IllegalArgumentException 표현식이 잘못된 경우 (메시지에 원인 포함)
+     */
+    public static CompiledCron compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cron 표현식이 비어 있습니다.");
+        }
+        String key = expression.trim();
+        CompiledCron cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompiledCron compiled = new CompiledCron(key);
+        // 표현식 종류는 Job 수 정도이므로, 한도를 넘으면(임의 입력 검증 등) 비우고 다시 채움
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(key, compiled);
+        return compiled;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * after 이후(after 제외)의 첫 실행 시각. 실행 시각이 없으면(지난 연도, 2월 30일 등) null
+     */
+    public ZonedDateTime nextFireTime(ZonedDateTime after) {
+        ZoneId zone = after.getZone();
+        LocalDateTime from = after.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        while (true) {
+            LocalDateTime next = next(from);
+            if (next == null) {
+                return null;
+            }
+            // 서머타임으로 없는 시각은 뒤로 밀리고, 겹치는 시각은 after의 오프셋을 우선 사용
+            ZonedDateTime candidate = ZonedDateTime.ofLocal(next, zone, after.getOffset());
+            if (candidate.isAfter(after)) {
+                return candidate;
+            }
+            from = next.plusSeconds(1);
+        }
+    }
+
+    /**
+     * before 이전(before 제외)의 마지막 실행 시각. 실행 시각이 없으면 null
+     */
+    public ZonedDateTime previousFireTime(ZonedDateTime before) {
+        ZoneId zone = before.getZone();
+        LocalDateTime local = before.toLocalDateTime();
+        LocalDateTime from = local.truncatedTo(ChronoUnit.SECONDS);
+        if (from.equals(local)) {
+            from = from.minusSeconds(1);
+        }
+        while (true) {
+            LocalDateTime previous = previous(from);
+            if (previous == null) {
+                return null;
+            }
+            ZonedDateTime candidate = ZonedDateTime.ofLocal(previous, zone, before.getOffset());
+            if (candidate.isBefore(before)) {
+                return candidate;
+            }
+            from = previous.minusSeconds(1);
+        }
+    }
+
+    /**
+     * after 이후의 실행 시각 count개
+     */
+    public List<ZonedDateTime> nextFireTimes(ZonedDateTime after, int count) {
+        List<ZonedDateTime> times = new ArrayList<>(count);
+        ZonedDateTime current = after;
+        for (int i = 0; i < count; i++) {
+            current = nextFireTime(current);
+            if (current == null) {
+                break;
+            }
+            times.add(current);
+        }
+        return times;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * from 이후(from 포함)의 첫 실행 시각. 하위 필드에 맞는 값이 없으면 상위 필드를 1 올리고 하위 필드를 최소값으로 되돌립니다.
+     * (범위를 넘은 값은 다음 비트 검색에서 찾지 못하므로 별도로 정규화하지 않음)
+     */
+    private LocalDateTime next(LocalDateTime from) {
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        int hour = from.getHour();
+        int minute = from.getMinute();
+        int second = from.getSecond();
+        int limit = year + SEARCH_YEARS;
+
+        while (true) {
+            if (year > limit) {
+                return null;
+            }
+            if (years != null && (year < MIN_YEAR || !years.get(year - MIN_YEAR))) {
+                int index = years.nextSetBit(Math.max(0, year - MIN_YEAR));
+                if (index < 0) {
+                    return null;
+                }
+                year = index + MIN_YEAR;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            int m = nextBit(months, month);
+            if (m < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (m != month) {
+                month = m;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            int d = nextBit(dayMask(year, month), day);
+            if (d < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (d != day) {
+                day = d;
+                hour = minute = second = 0;
+            }
+            int h = nextBit(hours, hour);
+            if (h < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = second = 0;
+            }
+            int mi = nextBit(minutes, minute);
+            if (mi < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (mi != minute) {
+                minute = mi;
+                second = 0;
+            }
+            int s = nextBit(seconds, second);
+            if (s < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, s);
+        }
+    }
+
+    /**
+     * from 이전(from 포함)의 마지막 실행 시각. next()와 반대 방향으로 하위 필드를 최대값으로 되돌립니다.
+     */
+    private LocalDateTime previous(LocalDateTime from) {
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        int hour = from.getHour();
+        int minute = from.getMinute();
+        int second = from.getSecond();
+        int limit = year - SEARCH_YEARS;
+
+        while (true) {
+            if (year < limit) {
+                return null;
+            }
+            if (years != null && (year > MAX_YEAR || year < MIN_YEAR || !years.get(year - MIN_YEAR))) {
+                int index = year < MIN_YEAR ? -1 : years.previousSetBit(Math.min(year, MAX_YEAR) - MIN_YEAR);
+                if (index < 0) {
+                    return null;
+                }
+                year = index + MIN_YEAR;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+            }
+            int m = previousBit(months, month);
+            if (m < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (m != month) {
+                month = m;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+            }
+            int d = previousBit(dayMask(year, month), day);
+            if (d < 0) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (d != day) {
+                day = d;
+                hour = 23;
+                minute = second = 59;
+            }
+            int h = previousBit(hours, hour);
+            if (h < 0) {
+                day--;
+                hour = 23;
+                minute = second = 59;
+                continue;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = second = 59;
+            }
+            int mi = previousBit(minutes, minute);
+            if (mi < 0) {
+                hour--;
+                minute = second = 59;
+                continue;
+            }
+            if (mi != minute) {
+                minute = mi;
+                second = 59;
+            }
+            int s = previousBit(seconds, second);
+            if (s < 0) {
+                minute--;
+                second = 59;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, s);
+        }
+    }
+
+    /**
+     * 해당 월에 실행하는 날짜의 비트셋 (1-31번 비트)
+     */
+    private long dayMask(int year, int month) {
+        int length = Month.of(month).length(Year.isLeap(year));
+        if (useDayOfWeek) {
+            int firstDow = LocalDate.of(year, month, 1).getDayOfWeek().getValue() % 7 + 1;
+            if (lastDayOfWeek > 0) {
+                int lastDow = (firstDow + length - 2) % 7 + 1;
+                return 1L << (length - (lastDow - lastDayOfWeek + 7) % 7);
+            }
+            if (nthDayOfWeek > 0) {
+                int day = 1 + (nthDayOfWeek - firstDow + 7) % 7 + 7 * (nthOccurrence - 1);
+                return day <= length ? 1L << day : 0;
+            }
+            return weekdayMasks[firstDow] & lengthMask(length);
+        }
+        if (lastDayOffset >= 0) {
+            int day = length - lastDayOffset;
+            return day >= 1 ? 1L << day : 0;
+        }
+        if (lastWeekday) {
+            return 1L << nearestWeekday(year, month, length, length);
+        }
+        if (nearestWeekday > 0) {
+            return nearestWeekday <= length ? 1L << nearestWeekday(year, month, nearestWeekday, length) : 0;
+        }
+        return daysOfMonth & lengthMask(length);
+    }
+
+    /**
+     * day에 가장 가까운 평일 (월을 넘기지 않음)
+     */
+    private static int nearestWeekday(int year, int month, int day, int length) {
+        return switch (LocalDate.of(year, month, day).getDayOfWeek()) {
+            case SATURDAY -> day == 1 ? 3 : day - 1;
+            case SUNDAY -> day == length ? day - 2 : day + 1;
+            default -> day;
+        };
+    }
+
+    private static long lengthMask(int length) {
+        return (1L << (length + 1)) - 2;
+    }
+
+    private static int nextBit(long bits, int from) {
+        if (from > 63) {
+            return -1;
+        }
+        long masked = bits & (-1L << from);
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    private static int previousBit(long bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        long masked = bits & (-1L >>> (63 - Math.min(from, 63)));
+        return masked == 0 ? -1 : 63 - Long.numberOfLeadingZeros(masked);
+    }
+
+    private static long toLong(BitSet bits) {
+        long[] words = bits.toLongArray();
+        return words.length == 0 ? 0 : words[0];
+    }
+
+    /**
+     * 목록(,), 범위(-), 간격(/), 전체(*)로 구성된 필드를 비트셋으로 변환합니다. (비트 번호 = 값)
+     * 연도를 제외한 필드는 끝나는 값이 시작 값보다 작은 범위(예: 22-2, FRI-MON)를 한 바퀴 돌아서 해석합니다.
+     * 연도 비트셋은 MIN_YEAR를 0번으로 합니다.
+     */
+    private static BitSet parseField(String field, int min, int max, String[] names, boolean cyclic, String label) {
+        int offset = cyclic ? 0 : min;
+        BitSet bits = new BitSet();
+        for (String item : field.split(",", -1)) {
+            if (item.isEmpty()) {
+                throw new IllegalArgumentException(label + " 필드 형식이 잘못되었습니다: " + field);
+            }
+            String range = item;
+            int step = 1;
+            int slash = item.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(item.substring(slash + 1), 1, max - min + 1, label);
+                range = item.substring(0, slash);
+            }
+            int start;
+            int end;
+            int dash = range.indexOf('-');
+            if ("*".equals(range)) {
+                start = min;
+                end = max;
+            } else if (dash > 0) {
+                start = parseValue(range.substring(0, dash), min, max, names, label);
+                end = parseValue(range.substring(dash + 1), min, max, names, label);
+            } else {
+                start = parseValue(range, min, max, names, label);
+                end = slash >= 0 ? max : start;
+            }
+
+            if (start <= end) {
+                for (int value = start; value <= end; value += step) {
+                    bits.set(value - offset);
+                }
+            } else if (cyclic) {
+                int cycle = max - min + 1;
+                int span = end - start + cycle;
+                for (int distance = 0; distance <= span; distance += step) {
+                    int value = start + distance;
+                    bits.set(value > max ? value - cycle : value);
+                }
+            } else {
+                throw new IllegalArgumentException(label + " 필드의 범위가 잘못되었습니다: " + item);
+            }
+        }
+        return bits;
+    }
+
+    private static int parseValue(String token, int min, int max, String[] names, String label) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(token)) {
+                    return min + i;
+                }
+            }
+        }
+        return parseNumber(token, min, max, label);
+    }
+
+    private static int parseNumber(String token, int min, int max, String label) {
+        if (token.isEmpty() || token.length() > 4 || !token.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException(label + " 필드 값이 잘못되었습니다: " + token);
+        }
+        int value = Integer.parseInt(token);
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(
+                    label + " 필드 값은 " + min + "-" + max + " 사이여야 합니다: " + token);
+        }
+        return value;
+    }
+}
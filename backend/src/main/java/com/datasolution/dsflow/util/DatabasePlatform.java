@@ -0,0 +1,34 @@
+package com.datasolution.dsflow.util;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 접속한 데이터베이스 종류 (운영: PostgreSQL, 로컬: H2)
+ */
+public enum DatabasePlatform {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static DatabasePlatform detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return fromProductName(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터베이스 종류를 확인할 수 없습니다.", e);
+        }
+    }
+
+    public static DatabasePlatform fromProductName(String productName) {
+        String name = productName == null ? "" : productName.toLowerCase(Locale.ROOT);
+        if (name.contains("postgresql")) {
+            return POSTGRESQL;
+        }
+        if (name.contains("h2")) {
+            return H2;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,90 @@
+package com.datasolution.dsflow.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 분포 (로그-선형 구간, 상대 오차 약 3%)
+ *
+ * 값(마이크로초)을 2의 거듭제곱 구간마다 32개 하위 구간으로 나누어 건수만 세므로,
+ * 기록 비용과 메모리(약 15KB)가 호출 수와 무관하고 여러 스레드에서 잠금 없이 기록할 수 있습니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long micros) {
+        if (micros < 0) {
+            throw new IllegalArgumentException("응답 시간은 0 이상이어야 합니다: " + micros);
+        }
+        counts.incrementAndGet(index(micros));
+        total.increment();
+        sum.add(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    public double meanMicros() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * 백분위 값 (구간 상한, 최대값을 넘지 않음). 기록이 없으면 0
+     *
+     * @param quantile 0-1
+     */
+    public long percentileMicros(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("백분위는 0-1 사이여야 합니다: " + quantile);
+        }
+        long count = total.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS | sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
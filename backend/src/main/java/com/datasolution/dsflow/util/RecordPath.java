@@ -0,0 +1,92 @@
+package com.datasolution.dsflow.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 응답에서 레코드/필드를 찾는 점(.) 구분 경로
+ *
+ * 예) response.body.items.item : 공공데이터 API의 반복 레코드 위치
+ *     거래금액, item.code       : 레코드 안의 필드 위치
+ */
+public final class RecordPath {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\.");
+
+    private final String expression;
+    private final String[] segments;
+
+    private RecordPath(String expression) {
+        this.expression = expression;
+        this.segments = expression.isBlank() ? new String[0] : SEPARATOR.split(expression.trim());
+    }
+
+    public static RecordPath of(String expression) {
+        return new RecordPath(expression == null ? "" : expression);
+    }
+
+    public String[] segments() {
+        return segments.clone();
+    }
+
+    public boolean isRoot() {
+        return segments.length == 0;
+    }
+
+    /**
+     * 경로에 해당하는 레코드 목록. 배열이면 각 원소를, 객체이면 그 객체 하나를 반환합니다.
+     * (결과가 1건일 때 배열 대신 객체로 응답하는 API가 많음)
+     */
+    public List<JsonNode> records(JsonNode root) {
+        JsonNode node = select(root);
+        List<JsonNode> records = new ArrayList<>();
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return records;
+        }
+        if (node.isArray()) {
+            node.forEach(records::add);
+        } else {
+            records.add(node);
+        }
+        return records;
+    }
+
+    public JsonNode select(JsonNode root) {
+        JsonNode current = root;
+        for (String segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            current = current.get(segment);
+        }
+        return current;
+    }
+
+    /**
+     * 필드 값을 저장할 값으로 변환합니다. (숫자/불리언은 그대로, 문자열은 앞뒤 공백 제거)
+     */
+    public Object value(JsonNode record) {
+        JsonNode node = select(record);
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isValueNode()) {
+            return node.asText().trim();
+        }
+        return node.toString();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,73 @@
+package com.datasolution.dsflow.util;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 동일 요청 식별자
+ *
+ * 메소드, 호스트/경로, 쿼리 파라미터(이름순 정렬), 요청 본문/헤더가 같으면 같은 키가 됩니다.
+ * 서비스키가 포함되므로 원문 대신 SHA-256 해시만 보관합니다.
+ */
+public record RequestKey(String hash) {
+
+    public static RequestKey of(String method, String url, Map<String, ?> params) {
+        return of(method, url, params, null);
+    }
+
+    /**
+     * @param extra 응답에 영향을 주는 그 밖의 요청 내용 (요청 본문, 사용자 정의 헤더 등)
+     */
+    public static RequestKey of(String method, String url, Map<String, ?> params, String extra) {
+        UriComponents uri = UriComponentsBuilder.fromHttpUrl(url).build();
+        Map<String, List<String>> query = new TreeMap<>();
+        MultiValueMap<String, String> urlParams = uri.getQueryParams();
+        urlParams.forEach((name, values) -> query.computeIfAbsent(name, k -> new ArrayList<>()).addAll(values));
+        if (params != null) {
+            params.forEach((name, value) -> query.computeIfAbsent(name, k -> new ArrayList<>()).add(String.valueOf(value)));
+        }
+
+        StringBuilder normalized = new StringBuilder(128)
+                .append(method.toUpperCase(Locale.ROOT)).append(' ')
+                .append(uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "").append("://")
+                .append(uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "");
+        if (uri.getPort() >= 0 && !isDefaultPort(uri.getScheme(), uri.getPort())) {
+            normalized.append(':').append(uri.getPort());
+        }
+        normalized.append(uri.getPath() != null && !uri.getPath().isEmpty() ? uri.getPath() : "/");
+        query.forEach((name, values) -> values.forEach(value -> normalized.append('\n').append(name).append('=').append(value)));
+        if (extra != null && !extra.isEmpty()) {
+            normalized.append("\n\n").append(extra);
+        }
+        return new RequestKey(sha256(normalized.toString()));
+    }
+
+    private static boolean isDefaultPort(String scheme, int port) {
+        return ("http".equalsIgnoreCase(scheme) && port == 80) || ("https".equalsIgnoreCase(scheme) && port == 443);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return hash.substring(0, 12);
+    }
+}
@@ -0,0 +1,110 @@
+package com.datasolution.dsflow.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 기반 호출 속도 제한기
+ *
+ * 초당 permitsPerSecond 개의 토큰이 채워지며 최대 burst 개까지 누적됩니다.
+ * 토큰이 부족한 경우 예약(reserve) 방식으로 음수 잔량을 허용하여,
+ * 뒤에 온 호출자가 앞선 예약 이후 순서대로 대기 시간을 배정받습니다.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private double permitsPerSecond;
+    private double burst;
+    private double storedPermits;
+    private long lastRefillNanos;
+    private final LongSupplier ticker;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * 시각(나노초) 공급자를 지정하는 생성자 (테스트용)
+     */
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier ticker) {
+        validate(permitsPerSecond, burst);
+        this.ticker = ticker;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.storedPermits = burst;
+        this.lastRefillNanos = ticker.getAsLong();
+    }
+
+    /**
+     * 토큰이 충분한 경우에만 즉시 획득합니다. (대기하지 않음)
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        refill(ticker.getAsLong());
+        if (storedPermits >= permits) {
+            storedPermits -= permits;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 토큰을 예약하고 실제 호출 가능 시점까지 기다려야 하는 시간(나노초)을 반환합니다.
+     * 비동기 호출자는 반환된 시간만큼 지연 후 호출하면 됩니다.
+     */
+    public synchronized long reserve(int permits) {
+        refill(ticker.getAsLong());
+        storedPermits -= permits;
+        if (storedPermits >= 0) {
+            return 0L;
+        }
+        return (long) Math.ceil(-storedPermits / permitsPerSecond * NANOS_PER_SECOND);
+    }
+
+    /**
+     * 예약했지만 사용하지 않은 토큰을 돌려줍니다. (대기 중에 취소된 호출)
+     * 뒤에 예약한 호출자의 대기 시간은 이미 배정되었으므로 줄어들지 않고, 다음 예약부터 반환된 토큰을 사용합니다.
+     */
+    public synchronized void refund(int permits) {
+        refill(ticker.getAsLong());
+        storedPermits = Math.min(burst, storedPermits + permits);
+    }
+
+    /**
+     * 속도와 버스트 크기를 변경합니다. 이미 누적된 토큰은 새 버스트 크기로 잘립니다.
+     */
+    public synchronized void reconfigure(double permitsPerSecond, int burst) {
+        validate(permitsPerSecond, burst);
+        refill(ticker.getAsLong());
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.storedPermits = Math.min(storedPermits, burst);
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public synchronized int getBurst() {
+        return (int) burst;
+    }
+
+    public synchronized double getAvailablePermits() {
+        refill(ticker.getAsLong());
+        return storedPermits;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            storedPermits = Math.min(burst, storedPermits + elapsed * permitsPerSecond / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+    }
+
+    private static void validate(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(
+                    "잘못된 속도 제한 설정입니다: permitsPerSecond=" + permitsPerSecond + ", burst=" + burst);
+        }
+    }
+}
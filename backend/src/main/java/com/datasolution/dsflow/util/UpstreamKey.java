@@ -0,0 +1,140 @@
+package com.datasolution.dsflow.util;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 대상 식별자 (호스트 + 서비스키)
+ * 공공데이터 API는 서비스키 단위로 호출 한도가 적용되므로 두 값을 함께 키로 사용합니다.
+ */
+public record UpstreamKey(String host, String serviceKey) {
+
+    private static final String SERVICE_KEY_PARAM = "servicekey";
+
+    public UpstreamKey {
+        host = host == null ? "" : host.toLowerCase(Locale.ROOT);
+        serviceKey = serviceKey == null ? "" : serviceKey;
+    }
+
+    /**
+     * URL과 요청 파라미터에서 호출 대상 식별자를 추출합니다.
+     * 서비스키는 파라미터(serviceKey, ServiceKey 등)를 우선 사용하고, 없으면 URL 쿼리에서 찾습니다.
+     */
+    public static UpstreamKey of(String url, Map<String, ?> params) {
+        String serviceKey = null;
+        if (params != null) {
+            for (Map.Entry<String, ?> entry : params.entrySet()) {
+                if (SERVICE_KEY_PARAM.equalsIgnoreCase(entry.getKey()) && entry.getValue() != null) {
+                    serviceKey = entry.getValue().toString();
+                    break;
+                }
+            }
+        }
+        if (serviceKey == null) {
+            serviceKey = extractQueryParam(url, SERVICE_KEY_PARAM);
+        }
+        return new UpstreamKey(extractHost(url), serviceKey);
+    }
+
+    /**
+     * 서비스키 파라미터 이름인지 확인합니다. (대소문자 무시)
+     */
+    public static boolean isServiceKeyParam(String name) {
+        return SERVICE_KEY_PARAM.equalsIgnoreCase(name);
+    }
+
+    public static String extractHost(String url) {
+        if (url == null) {
+            return "";
+        }
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == ':' || c == '?' || c == '#') {
+                break;
+            }
+            end++;
+        }
+        String authority = url.substring(start, end);
+        int at = authority.lastIndexOf('@');
+        return at >= 0 ? authority.substring(at + 1) : authority;
+    }
+
+    private static String extractQueryParam(String url, String name) {
+        if (url == null) {
+            return null;
+        }
+        int query = url.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String pair : url.substring(query + 1).split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equalsIgnoreCase(name)) {
+                return pair.substring(eq + 1);
+            }
+        }
+        return null;
+    }
+
+    public boolean hasServiceKey() {
+        return !serviceKey.isEmpty();
+    }
+
+    /**
+     * 서비스키 원문 대신 저장/비교에 사용하는 SHA-256 해시.
+     * URL 인코딩한 키와 디코딩한 키가 같은 값이 되도록 정규화한 키를 해시합니다.
+     */
+    public String normalizedServiceKeyHash() {
+        return sha256(normalizeServiceKey(serviceKey));
+    }
+
+    /**
+     * 서비스키를 정규화한 식별자. 같은 키를 인코딩 여부만 다르게 적은 호출 대상이 같은 값이 됩니다.
+     */
+    public UpstreamKey normalized() {
+        String normalizedKey = normalizeServiceKey(serviceKey);
+        return normalizedKey.equals(serviceKey) ? this : new UpstreamKey(host, normalizedKey);
+    }
+
+    /**
+     * 서비스키 정규화 (앞뒤 공백 제거, URL 인코딩된 키는 디코딩. '+'는 공백으로 바꾸지 않음)
+     */
+    public static String normalizeServiceKey(String serviceKey) {
+        String key = serviceKey == null ? "" : serviceKey.trim();
+        if (key.indexOf('%') < 0) {
+            return key;
+        }
+        try {
+            return URLDecoder.decode(key.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return key;
+        }
+    }
+
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (serviceKey.isEmpty()) {
+            return host;
+        }
+        // 로그에 서비스키 전체가 노출되지 않도록 앞부분만 표시
+        String masked = serviceKey.length() <= 4 ? "****" : serviceKey.substring(0, 4) + "****";
+        return host + "#" + masked;
+    }
+}
@@ -0,0 +1,72 @@
+package com.datasolution.dsflow.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrdinalWatermarkTest {
+
+    @Test
+    void advancesOnlyOverContiguousCompletedOrdinals() {
+        OrdinalWatermark watermark = new OrdinalWatermark(10);
+
+        watermark.persisted(11, true);
+        watermark.expect(11, 1);
+        assertThat(watermark.next()).isEqualTo(10);
+
+        watermark.persisted(10, true);
+        watermark.expect(10, 1);
+        assertThat(watermark.next()).isEqualTo(12);
+    }
+
+    @Test
+    void waitsForEveryPageOfACombination() {
+        OrdinalWatermark watermark = new OrdinalWatermark(0);
+
+        watermark.persisted(0, true);
+        watermark.persisted(0, true);
+        assertThat(watermark.next()).isZero();
+
+        // 결과 수가 확정되어도 남은 페이지가 저장될 때까지 넘지 않음
+        watermark.expect(0, 3);
+        assertThat(watermark.next()).isZero();
+
+        watermark.persisted(0, false);
+        assertThat(watermark.next()).isEqualTo(1);
+    }
+
+    @Test
+    void combinationWithoutResultsCompletesOnExpect() {
+        OrdinalWatermark watermark = new OrdinalWatermark(0);
+
+        watermark.expect(0, 0);
+
+        assertThat(watermark.next()).isEqualTo(1);
+        assertThat(watermark.processed()).isZero();
+    }
+
+    @Test
+    void countsOnlyResultsBeforeNext() {
+        OrdinalWatermark watermark = new OrdinalWatermark(0);
+
+        watermark.persisted(0, true);
+        watermark.persisted(0, false);
+        watermark.expect(0, 2);
+        // 1번은 아직 끝나지 않았으므로 2번의 결과는 체크포인트 건수에 포함하지 않음 (다음 임대가 다시 처리)
+        watermark.persisted(2, true);
+        watermark.expect(2, 1);
+        watermark.persisted(1, true);
+
+        assertThat(watermark.next()).isEqualTo(1);
+        assertThat(watermark.processed()).isEqualTo(2);
+        assertThat(watermark.success()).isEqualTo(1);
+        assertThat(watermark.fail()).isEqualTo(1);
+
+        watermark.expect(1, 1);
+
+        assertThat(watermark.next()).isEqualTo(3);
+        assertThat(watermark.processed()).isEqualTo(4);
+        assertThat(watermark.success()).isEqualTo(3);
+        assertThat(watermark.fail()).isEqualTo(1);
+    }
+}
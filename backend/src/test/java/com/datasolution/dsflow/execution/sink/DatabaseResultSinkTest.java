@@ -0,0 +1,126 @@
+package com.datasolution.dsflow.execution.sink;
+
+import com.datasolution.dsflow.entity.JobDefinition;
+import com.datasolution.dsflow.entity.enums.ExecutionPriority;
+import com.datasolution.dsflow.execution.CallResult;
+import com.datasolution.dsflow.execution.ExecutionContext;
+import com.datasolution.dsflow.execution.ExecutionControl;
+import com.datasolution.dsflow.execution.ExecutionProgress;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseResultSinkTest {
+
+    private static final String TABLE = "sink_test_rows";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JdbcTemplate jdbcTemplate;
+    private BulkLoader bulkLoader;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:sink_test;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        bulkLoader = new BulkLoader(jdbcTemplate, new DataSourceTransactionManager(dataSource), dataSource);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (log_id BIGINT, call_ordinal BIGINT, name VARCHAR(50))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE " + TABLE);
+    }
+
+    @Test
+    void reloadedPartReplacesRowsCommittedByPreviousLease() throws Exception {
+        DatabaseSinkConfig config = config(Map.of("log_id", "${logId}", "call_ordinal", "${ordinal}", "name", "name"));
+        ExecutionContext context = context(7L);
+
+        // 첫 임대: 조합 0, 1을 커밋한 뒤 체크포인트 없이 중단
+        DatabaseResultSink first = part(context, config, 0, 3);
+        first.write(result(0));
+        first.write(result(1));
+        assertThat(count(7L)).isEqualTo(2);
+
+        // 다른 실행 로그의 행은 지우지 않음
+        jdbcTemplate.update("INSERT INTO " + TABLE + " VALUES (8, 0, 'other')");
+
+        DatabaseResultSink second = part(context, config, 0, 3);
+        second.write(result(0));
+        second.write(result(1));
+        second.write(result(2));
+        second.close();
+
+        assertThat(count(7L)).isEqualTo(3);
+        assertThat(count(8L)).isEqualTo(1);
+    }
+
+    @Test
+    void partWithoutReloadColumnsCommitsOnlyOnClose() throws Exception {
+        DatabaseSinkConfig config = config(Map.of("log_id", "${logId}", "name", "name"));
+        DatabaseResultSink sink = part(context(7L), config, 0, 3);
+
+        sink.write(result(0));
+        sink.write(result(1));
+        sink.flush();
+        assertThat(count(7L)).isZero();
+
+        sink.close();
+        assertThat(count(7L)).isEqualTo(2);
+    }
+
+    @Test
+    void failedCloseCanBeRetried() throws Exception {
+        DatabaseSinkConfig config = config(Map.of("log_id", "${logId}", "name", "name"));
+        DatabaseResultSink sink = part(context(7L), config, 0, 3);
+        sink.write(result(0));
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO sink_test_moved");
+        try {
+            assertThatThrownBy(sink::close).isInstanceOf(IOException.class);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE sink_test_moved RENAME TO " + TABLE);
+        }
+
+        sink.close();
+        assertThat(count(7L)).isEqualTo(1);
+    }
+
+    private DatabaseSinkConfig config(Map<String, String> columns) {
+        return new DatabaseSinkConfig(TABLE, BulkLoader.Mode.BATCH, 1, "", new LinkedHashMap<>(columns));
+    }
+
+    private DatabaseResultSink part(ExecutionContext context, DatabaseSinkConfig config, long from, long to) {
+        return new DatabaseResultSink(context, config, bulkLoader, objectMapper, null,
+                new DatabaseResultSink.OrdinalRange(from, to));
+    }
+
+    private static ExecutionContext context(Long logId) {
+        return new ExecutionContext(logId, 1L, JobDefinition.builder().jobCode("TEST").build(), LocalDate.of(2024, 1, 1),
+                null, ExecutionPriority.SCHEDULED, new ExecutionControl(), new ExecutionProgress());
+    }
+
+    private static CallResult result(long ordinal) {
+        byte[] body = ("{\"name\":\"row-" + ordinal + "\"}").getBytes(StandardCharsets.UTF_8);
+        return CallResult.of(ordinal, Map.of(), 200, DefaultDataBufferFactory.sharedInstance.wrap(body), 0);
+    }
+
+    private long count(Long logId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE + " WHERE log_id = ?", Long.class, logId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,134 @@
+package com.datasolution.dsflow.service;
+
+import com.datasolution.dsflow.config.HttpClientProperties;
+import com.datasolution.dsflow.execution.SharedResponse;
+import com.datasolution.dsflow.util.RequestKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    private static final RequestKey KEY = RequestKey.of("GET", "http://api.example.com/items", Map.of("page", "1"));
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+    private final RequestCoalescer coalescer = new RequestCoalescer(new HttpClientProperties(), new SimpleMeterRegistry());
+
+    private NettyDataBuffer body(String text) {
+        return bufferFactory.wrap(Unpooled.copiedBuffer(text, StandardCharsets.UTF_8));
+    }
+
+    private static int refCnt(NettyDataBuffer buffer) {
+        return buffer.getNativeBuffer().refCnt();
+    }
+
+    @Test
+    void joinedCallersShareOneCallAndReleaseTheOriginalAfterTheLastShare() {
+        Sinks.One<SharedResponse> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<SharedResponse> received = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            coalescer.execute("job", KEY, SharedResponse.class, () -> {
+                calls.incrementAndGet();
+                return upstream.asMono();
+            }).subscribe(received::add);
+        }
+        assertThat(coalescer.inFlightCount()).isEqualTo(1);
+
+        NettyDataBuffer original = body("{\"items\":[]}");
+        upstream.tryEmitValue(SharedResponse.of(200, original));
+
+        assertThat(calls).hasValue(1);
+        assertThat(received).hasSize(2);
+        assertThat(coalescer.inFlightCount()).isZero();
+        // 원본은 모든 호출자가 자기 몫을 받은 뒤 해제되고, 호출자 몫 2개가 참조를 유지
+        assertThat(refCnt(original)).isEqualTo(2);
+        assertThat(received.get(0).bodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"items\":[]}");
+
+        received.forEach(SharedResponse::release);
+        assertThat(refCnt(original)).isZero();
+    }
+
+    @Test
+    void callerThatLeavesBeforeTheResultDoesNotKeepTheOriginal() {
+        Sinks.One<SharedResponse> upstream = Sinks.one();
+        AtomicReference<SharedResponse> kept = new AtomicReference<>();
+        coalescer.execute("job", KEY, SharedResponse.class, upstream::asMono).subscribe(kept::set);
+        Disposable leaving = coalescer.execute("job", KEY, SharedResponse.class, upstream::asMono).subscribe();
+
+        leaving.dispose();
+        NettyDataBuffer original = body("ok");
+        upstream.tryEmitValue(SharedResponse.of(200, original));
+
+        // 남은 호출자 몫만 참조를 유지
+        assertThat(refCnt(original)).isEqualTo(1);
+        kept.get().release();
+        assertThat(refCnt(original)).isZero();
+    }
+
+    @Test
+    void lastCallerLeavingCancelsTheCall() {
+        Sinks.One<SharedResponse> upstream = Sinks.one();
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Disposable first = coalescer.execute("job", KEY, SharedResponse.class,
+                () -> upstream.asMono().doOnCancel(() -> upstreamCancelled.set(true))).subscribe();
+        Disposable second = coalescer.execute("job", KEY, SharedResponse.class, upstream::asMono).subscribe();
+
+        first.dispose();
+        assertThat(upstreamCancelled).isFalse();
+        second.dispose();
+
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void newRequestAfterCancellationStartsAFreshCall() {
+        Sinks.One<SharedResponse> cancelledCall = Sinks.one();
+        coalescer.execute("job", KEY, SharedResponse.class, cancelledCall::asMono).subscribe().dispose();
+
+        AtomicReference<SharedResponse> received = new AtomicReference<>();
+        NettyDataBuffer original = body("fresh");
+        coalescer.execute("job", KEY, SharedResponse.class, () -> Mono.just(SharedResponse.of(200, original)))
+                .subscribe(received::set);
+
+        assertThat(received.get().bodyAsString(StandardCharsets.UTF_8)).isEqualTo("fresh");
+        received.get().release();
+        assertThat(refCnt(original)).isZero();
+    }
+
+    @Test
+    void errorIsDeliveredToEveryCaller() {
+        Sinks.One<SharedResponse> upstream = Sinks.one();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            coalescer.execute("job", KEY, SharedResponse.class, upstream::asMono)
+                    .subscribe(response -> {
+                    }, errors::add);
+        }
+
+        upstream.tryEmitError(new IllegalStateException("upstream down"));
+
+        assertThat(errors).hasSize(2)
+                .allSatisfy(error -> assertThat(error).isInstanceOf(IllegalStateException.class)
+                        .isNotInstanceOf(CancellationException.class));
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+}
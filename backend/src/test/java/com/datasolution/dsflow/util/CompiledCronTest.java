@@ -0,0 +1,157 @@
+package com.datasolution.dsflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledCronTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static ZonedDateTime at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(SEOUL);
+    }
+
+    private static ZonedDateTime next(String expression, String after) {
+        return CompiledCron.compile(expression).nextFireTime(at(after));
+    }
+
+    private static ZonedDateTime previous(String expression, String before) {
+        return CompiledCron.compile(expression).previousFireTime(at(before));
+    }
+
+    @Test
+    void nextIsStrictlyAfterTheGivenTime() {
+        assertThat(next("0 0 2 * * ?", "2024-01-01T02:00:00")).isEqualTo(at("2024-01-02T02:00:00"));
+        assertThat(next("0 0 2 * * ?", "2024-01-01T01:59:59.5")).isEqualTo(at("2024-01-01T02:00:00"));
+        assertThat(previous("0 0 2 * * ?", "2024-01-01T02:00:00")).isEqualTo(at("2023-12-31T02:00:00"));
+    }
+
+    @Test
+    void dayOfWeekStartsOnSunday() {
+        // 2024-01-01은 월요일
+        assertThat(next("0 0 0 ? * 1", "2024-01-01T00:00:00")).isEqualTo(at("2024-01-07T00:00:00"));
+        assertThat(next("0 0 0 ? * SUN", "2024-01-01T00:00:00")).isEqualTo(at("2024-01-07T00:00:00"));
+        assertThat(next("0 */15 9-18 ? * MON-FRI", "2024-01-05T18:45:00")).isEqualTo(at("2024-01-08T09:00:00"));
+    }
+
+    @Test
+    void lastDayOfMonth() {
+        assertThat(next("0 0 12 L * ?", "2024-02-01T00:00:00")).isEqualTo(at("2024-02-29T12:00:00"));
+        assertThat(next("0 0 12 L * ?", "2023-02-01T00:00:00")).isEqualTo(at("2023-02-28T12:00:00"));
+        assertThat(next("0 0 12 L * ?", "2024-04-30T12:00:00")).isEqualTo(at("2024-05-31T12:00:00"));
+        assertThat(next("0 0 12 L-2 * ?", "2024-04-01T00:00:00")).isEqualTo(at("2024-04-28T12:00:00"));
+        assertThat(previous("0 0 12 L * ?", "2024-03-15T00:00:00")).isEqualTo(at("2024-02-29T12:00:00"));
+    }
+
+    @Test
+    void lastWeekdayOfMonth() {
+        // 2024-08-31은 토요일, 2024-03-31은 일요일
+        assertThat(next("0 0 9 LW * ?", "2024-08-01T00:00:00")).isEqualTo(at("2024-08-30T09:00:00"));
+        assertThat(next("0 0 9 LW * ?", "2024-03-01T00:00:00")).isEqualTo(at("2024-03-29T09:00:00"));
+        assertThat(next("0 0 9 LW * ?", "2024-07-01T00:00:00")).isEqualTo(at("2024-07-31T09:00:00"));
+        assertThat(previous("0 0 9 LW * ?", "2024-09-01T00:00:00")).isEqualTo(at("2024-08-30T09:00:00"));
+    }
+
+    @Test
+    void nearestWeekdayStaysInTheMonth() {
+        // 2024-06-15는 토요일 -> 금요일, 2024-09-15는 일요일 -> 월요일
+        assertThat(next("0 0 9 15W * ?", "2024-06-01T00:00:00")).isEqualTo(at("2024-06-14T09:00:00"));
+        assertThat(next("0 0 9 15W * ?", "2024-09-01T00:00:00")).isEqualTo(at("2024-09-16T09:00:00"));
+        assertThat(next("0 0 9 15W * ?", "2024-10-01T00:00:00")).isEqualTo(at("2024-10-15T09:00:00"));
+        // 1일이 토요일이면 전달로 넘어가지 않고 3일(월), 31일이 일요일이면 다음 달로 넘어가지 않고 29일(금)
+        assertThat(next("0 0 9 1W * ?", "2024-05-31T00:00:00")).isEqualTo(at("2024-06-03T09:00:00"));
+        assertThat(next("0 0 9 31W * ?", "2024-03-01T00:00:00")).isEqualTo(at("2024-03-29T09:00:00"));
+    }
+
+    @Test
+    void nthDayOfWeek() {
+        assertThat(next("0 30 8 ? * FRI#3", "2024-01-01T00:00:00")).isEqualTo(at("2024-01-19T08:30:00"));
+        assertThat(next("0 0 9 ? * 2#1", "2024-06-30T00:00:00")).isEqualTo(at("2024-07-01T09:00:00"));
+        // 다섯째 금요일이 없는 달(2024-04)은 건너뜀
+        assertThat(next("0 0 9 ? * 6#5", "2024-04-01T00:00:00")).isEqualTo(at("2024-05-31T09:00:00"));
+        assertThat(previous("0 30 8 ? * FRI#3", "2024-01-19T08:30:00")).isEqualTo(at("2023-12-15T08:30:00"));
+    }
+
+    @Test
+    void lastDayOfWeekOfMonth() {
+        assertThat(next("0 0 10 ? * 6L", "2024-02-01T00:00:00")).isEqualTo(at("2024-02-23T10:00:00"));
+        assertThat(next("0 0 10 ? * FRIL", "2024-05-01T00:00:00")).isEqualTo(at("2024-05-31T10:00:00"));
+    }
+
+    @Test
+    void monthEndsSkipShortMonths() {
+        assertThat(next("0 0 0 31 * ?", "2024-04-01T00:00:00")).isEqualTo(at("2024-05-31T00:00:00"));
+        assertThat(next("0 0 0 30,31 * ?", "2024-02-01T00:00:00")).isEqualTo(at("2024-03-30T00:00:00"));
+        assertThat(previous("0 0 0 31 * ?", "2024-07-01T00:00:00")).isEqualTo(at("2024-05-31T00:00:00"));
+    }
+
+    @Test
+    void leapDayOnlyInLeapYears() {
+        assertThat(next("0 0 0 29 2 ?", "2024-03-01T00:00:00")).isEqualTo(at("2028-02-29T00:00:00"));
+        assertThat(previous("0 0 0 29 2 ?", "2024-02-29T00:00:00")).isEqualTo(at("2020-02-29T00:00:00"));
+        // 2100년은 윤년이 아님 (연도 범위 밖)
+        assertThat(next("0 0 0 29 2 ? 2097-2099", "2024-01-01T00:00:00")).isNull();
+    }
+
+    @Test
+    void impossibleDatesHaveNoFireTime() {
+        assertThat(next("0 0 0 30 2 ?", "2024-01-01T00:00:00")).isNull();
+        assertThat(next("0 0 0 1 1 ? 2025", "2025-01-01T00:00:00")).isNull();
+    }
+
+    @Test
+    void daylightSavingGapMovesForward() {
+        // 2024-03-10 02:00 EST -> 03:00 EDT: 02:30은 없는 시각이므로 03:30으로 밀림
+        CompiledCron cron = CompiledCron.compile("0 30 2 * * ?");
+        ZonedDateTime after = ZonedDateTime.of(2024, 3, 9, 3, 0, 0, 0, NEW_YORK);
+
+        ZonedDateTime fire = cron.nextFireTime(after);
+
+        assertThat(fire.toLocalDateTime()).isEqualTo(LocalDateTime.parse("2024-03-10T03:30:00"));
+        assertThat(fire.getOffset()).isEqualTo(ZoneOffset.ofHours(-4));
+        assertThat(cron.nextFireTime(fire).toLocalDateTime()).isEqualTo(LocalDateTime.parse("2024-03-11T02:30:00"));
+    }
+
+    @Test
+    void daylightSavingOverlapFiresOnce() {
+        // 2024-11-03 02:00 EDT -> 01:00 EST: 01:30이 두 번 오지만 한 번만 실행
+        CompiledCron cron = CompiledCron.compile("0 30 1 * * ?");
+        ZonedDateTime after = ZonedDateTime.of(2024, 11, 3, 0, 0, 0, 0, NEW_YORK);
+
+        ZonedDateTime first = cron.nextFireTime(after);
+        ZonedDateTime second = cron.nextFireTime(first);
+
+        assertThat(first.toLocalDateTime()).isEqualTo(LocalDateTime.parse("2024-11-03T01:30:00"));
+        assertThat(first.getOffset()).isEqualTo(ZoneOffset.ofHours(-4));
+        assertThat(second.toLocalDateTime()).isEqualTo(LocalDateTime.parse("2024-11-04T01:30:00"));
+    }
+
+    @Test
+    void hourlyScheduleFollowsLocalTimeAcrossTheOverlap() {
+        // 벽시계 기준으로 계산하므로 되돌아온 01:00(EST)은 다시 실행하지 않음
+        CompiledCron cron = CompiledCron.compile("0 0 * * * ?");
+        ZonedDateTime after = ZonedDateTime.of(2024, 11, 3, 0, 30, 0, 0, NEW_YORK);
+
+        ZonedDateTime one = cron.nextFireTime(after);
+        ZonedDateTime two = cron.nextFireTime(one);
+
+        assertThat(one.toOffsetDateTime()).isEqualTo(LocalDateTime.parse("2024-11-03T01:00:00").atOffset(ZoneOffset.ofHours(-4)));
+        assertThat(two.toOffsetDateTime()).isEqualTo(LocalDateTime.parse("2024-11-03T02:00:00").atOffset(ZoneOffset.ofHours(-5)));
+    }
+
+    @Test
+    void rejectsMalformedExpressions() {
+        assertThatThrownBy(() -> CompiledCron.compile("0 0 * * *")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledCron.compile("0 0 0 1 * MON")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledCron.compile("0 60 0 * * ?")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledCron.compile("0 0 0 ? * 8")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
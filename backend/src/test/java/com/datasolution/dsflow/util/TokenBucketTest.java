@@ -0,0 +1,97 @@
+package com.datasolution.dsflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * MILLIS);
+
+    private TokenBucket bucket(double permitsPerSecond, int burst) {
+        return new TokenBucket(permitsPerSecond, burst, now::get);
+    }
+
+    @Test
+    void tryAcquireUsesBurstThenRefillsAtRate() {
+        TokenBucket bucket = bucket(10, 2);
+
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        now.addAndGet(100 * MILLIS);
+        assertThat(bucket.tryAcquire(1)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        TokenBucket bucket = bucket(10, 2);
+        now.addAndGet(10_000 * MILLIS);
+
+        assertThat(bucket.getAvailablePermits()).isEqualTo(2.0);
+    }
+
+    @Test
+    void reserveQueuesCallersInOrder() {
+        TokenBucket bucket = bucket(10, 1);
+
+        assertThat(bucket.reserve(1)).isZero();
+        assertThat(bucket.reserve(1)).isEqualTo(100 * MILLIS);
+        assertThat(bucket.reserve(1)).isEqualTo(200 * MILLIS);
+
+        now.addAndGet(200 * MILLIS);
+        assertThat(bucket.reserve(1)).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void refundReturnsCancelledReservation() {
+        TokenBucket bucket = bucket(10, 1);
+        bucket.reserve(1);
+        bucket.reserve(1);
+        bucket.reserve(1);
+
+        bucket.refund(1);
+
+        // 취소된 예약 1건만큼 다음 예약의 대기 시간이 줄어듦
+        assertThat(bucket.reserve(1)).isEqualTo(200 * MILLIS);
+    }
+
+    @Test
+    void refundIsCappedAtBurst() {
+        TokenBucket bucket = bucket(10, 2);
+
+        bucket.refund(5);
+
+        assertThat(bucket.getAvailablePermits()).isEqualTo(2.0);
+    }
+
+    @Test
+    void reconfigureTruncatesStoredPermitsAndChangesRate() {
+        TokenBucket bucket = bucket(10, 5);
+
+        bucket.reconfigure(2, 1);
+
+        assertThat(bucket.getAvailablePermits()).isEqualTo(1.0);
+        assertThat(bucket.getBurst()).isEqualTo(1);
+        assertThat(bucket.reserve(1)).isZero();
+        assertThat(bucket.reserve(1)).isEqualTo(500 * MILLIS);
+
+        now.addAndGet(250 * MILLIS);
+        assertThat(bucket.getAvailablePermits()).isCloseTo(-0.5, within(1e-9));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.datasolution.dsflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XmlRecordReaderTest {
+
+    private static final String XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <response>
+              <header><resultCode>00</resultCode></header>
+              <body>
+                <items>
+                  <item>
+                    <거래금액>  82,000 </거래금액>
+                    <법정동> 역삼동</법정동>
+                    <name><![CDATA[A&B <타워>]]></name>
+                    <memo>&lt;비고&gt; &amp; 메모</memo>
+                    <empty/>
+                    <blank>   </blank>
+                    <tag>a</tag><tag>b</tag>
+                    <detail><code>11680</code><unit>원</unit></detail>
+                    <group><code>1</code></group><group><code>2</code></group>
+                    <ns:prefixed xmlns:ns="urn:test">값</ns:prefixed>
+                    <skipped><deep>무시</deep></skipped>
+                  </item>
+                  <item>
+                    <거래금액>91,500</거래금액>
+                  </item>
+                  <item>11110</item>
+                </items>
+                <numOfRows>3</numOfRows>
+              </body>
+            </response>
+            """;
+
+    @Test
+    void forEachRowMatchesRecordPathValuesOfRecords() throws Exception {
+        List<RecordPath> fields = paths("거래금액", "법정동", "name", "memo", "empty", "blank", "tag",
+                "detail", "detail.code", "group.code", "prefixed", "missing", "거래금액");
+        List<RecordPath> leafFields = paths("거래금액", "법정동", "name", "memo", "empty", "blank", "tag",
+                "detail.code", "group.code", "prefixed", "missing", "거래금액");
+
+        // detail과 detail.code가 함께 있으면 레코드 객체를 만들어 읽는 경로, 없으면 값 배열에 바로 담는 경로
+        assertThat(rows(fields)).isEqualTo(expected(fields));
+        assertThat(rows(leafFields)).isEqualTo(expected(leafFields));
+    }
+
+    @Test
+    void forEachRowConvertsValuesLikeJsonRecords() throws Exception {
+        List<RecordPath> fields = paths("거래금액", "법정동", "name", "memo", "empty", "blank", "tag",
+                "detail", "group.code", "prefixed");
+
+        List<List<Object>> rows = rows(fields);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsExactly("82,000", "역삼동", "A&B <타워>", "<비고> & 메모", null, null,
+                "[\"a\",\"b\"]", "{\"code\":\"11680\",\"unit\":\"원\"}", null, "값");
+        assertThat(rows.get(1)).containsExactly("91,500", null, null, null, null, null, null, null, null, null);
+        assertThat(rows.get(2)).containsOnlyNulls();
+    }
+
+    @Test
+    void forEachSkipsElementsOutsideRecordPath() throws Exception {
+        XmlRecordReader reader = new XmlRecordReader(RecordPath.of("response.body.items.item"));
+
+        List<String> records = new ArrayList<>();
+        try (InputStream in = stream()) {
+            reader.forEach(in, record -> records.add(record.toString()));
+        }
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(2)).isEqualTo("\"11110\"");
+    }
+
+    private List<List<Object>> rows(List<RecordPath> fields) throws Exception {
+        XmlRecordReader reader = new XmlRecordReader(RecordPath.of("response.body.items.item"), fields);
+        List<List<Object>> rows = new ArrayList<>();
+        try (InputStream in = stream()) {
+            int count = reader.forEachRow(in, values -> rows.add(Arrays.asList(values.clone())));
+            assertThat(count).isEqualTo(rows.size());
+        }
+        return rows;
+    }
+
+    private List<List<Object>> expected(List<RecordPath> fields) throws Exception {
+        XmlRecordReader reader = new XmlRecordReader(RecordPath.of("response.body.items.item"));
+        List<List<Object>> rows = new ArrayList<>();
+        try (InputStream in = stream()) {
+            reader.forEach(in, record -> rows.add(fields.stream().map(field -> field.value(record)).toList()));
+        }
+        return rows;
+    }
+
+    private static List<RecordPath> paths(String... expressions) {
+        return Arrays.stream(expressions).map(RecordPath::of).toList();
+    }
+
+    private static InputStream stream() {
+        return new ByteArrayInputStream(XML.strip().getBytes(StandardCharsets.UTF_8));
+    }
+}